@@ -0,0 +1,32 @@
+package mineopoly_three.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Mine-opoly benchmarks with the GC profiler always attached, so every result reports bytes
+ *  allocated per operation (gc.alloc.rate.norm) next to ops/s.
+ * Any normal JMH command line option can be passed, e.g. a regex to pick benchmarks or -p boardSize=32
+ */
+public class BenchmarkMain {
+    public static void main(String[] args) throws RunnerException {
+        CommandLineOptions commandLineOptions;
+        try {
+            commandLineOptions = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Could not parse the benchmark options: " + e.getMessage());
+            return;
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,48 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures selling a full inventory, which happens every time a player steps on their own market with items
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EconomyBenchmark {
+    private Economy economy;
+    private List<InventoryItem> fullInventory;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        economy = new Economy(Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new));
+        fullInventory = Arrays.asList(new InventoryItem(ItemType.DIAMOND), new InventoryItem(ItemType.DIAMOND),
+                                      new InventoryItem(ItemType.EMERALD), new InventoryItem(ItemType.RUBY),
+                                      new InventoryItem(ItemType.AUTOMINER));
+    }
+
+    @Benchmark
+    public int sellResources() {
+        // Raise prices back up every call so the sale never degenerates into selling at a price of 0
+        economy.increaseDemand();
+        return economy.sellResources(fullInventory);
+    }
+}
@@ -0,0 +1,58 @@
+package mineopoly_three.game;
+
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the two GameBoard methods the engine calls every turn: update() once per turn and
+ *  convertToView() once per player per turn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBoardBenchmark {
+    private static final long WORLD_SEED = 126;
+
+    @Param({"14", "32", "64", "128", "256", "512"})
+    private int boardSize;
+
+    private GameBoard board;
+    private MinePlayer redPlayer;
+    private MinePlayer bluePlayer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // Autominers change the board on every update, so start each iteration from a freshly generated world
+        GameEngine engine = new GameEngine(boardSize, new RandomStrategy(), new RandomStrategy(), WORLD_SEED);
+        board = engine.getBoard();
+        redPlayer = engine.getRedPlayer();
+        bluePlayer = engine.getBluePlayer();
+    }
+
+    @Benchmark
+    public void update() {
+        board.update();
+    }
+
+    @Benchmark
+    public PlayerBoardView convertToView() {
+        return board.convertToView(redPlayer, bluePlayer);
+    }
+}
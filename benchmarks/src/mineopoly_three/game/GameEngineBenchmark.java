@@ -0,0 +1,55 @@
+package mineopoly_three.game;
+
+import mineopoly_three.strategy.MyStrategy;
+import mineopoly_three.strategy.RandomStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole headless game from world generation to the end of the last round.
+ * A single game is orders of magnitude slower than the individual hot paths, so this stops at smaller boards
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GameEngineBenchmark {
+    private static final long WORLD_SEED = 126;
+
+    @Param({"14", "20", "26", "32", "64"})
+    private int boardSize;
+
+    private GameEngine reusedEngine;
+
+    @Setup
+    public void createReusedEngine() {
+        reusedEngine = new GameEngine(boardSize, new MyStrategy(), new RandomStrategy(), WORLD_SEED);
+    }
+
+    @Benchmark
+    public int runGame() {
+        GameEngine engine = new GameEngine(boardSize, new MyStrategy(), new RandomStrategy(), WORLD_SEED);
+        engine.runGame();
+        return engine.getRedPlayerScore();
+    }
+
+    @Benchmark
+    public int resetAndRunGame() {
+        reusedEngine.reset(boardSize, WORLD_SEED, new MyStrategy(), new RandomStrategy());
+        reusedEngine.runGame();
+        return reusedEngine.getRedPlayerScore();
+    }
+}
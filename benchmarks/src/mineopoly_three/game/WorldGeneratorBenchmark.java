@@ -0,0 +1,37 @@
+package mineopoly_three.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorldGeneratorBenchmark {
+    private static final long WORLD_SEED = 126;
+
+    @Param({"14", "32", "64", "128", "256", "512"})
+    private int boardSize;
+
+    @Param({"SAMPLED", "SHUFFLED"})
+    private ResourcePlacement resourcePlacement;
+
+    @Benchmark
+    public GameBoard generateBoard() {
+        // Use the same seed every time so each operation generates the exact same world
+        WorldGenerator worldGenerator = new WorldGenerator(WORLD_SEED, resourcePlacement);
+        return worldGenerator.generateBoard(boardSize);
+    }
+}
@@ -0,0 +1,61 @@
+package mineopoly_three.strategy;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.Economy;
+import mineopoly_three.game.GameBoard;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.util.GameRandomStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one decision of MyStrategy on the first turn of a freshly generated world
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MyStrategyBenchmark {
+    private static final long WORLD_SEED = 126;
+    // The same limits MinePlayer gives every strategy
+    private static final int MAX_INVENTORY_SIZE = 5;
+    private static final int MAX_CHARGE = 80;
+
+    @Param({"14", "32", "64", "128", "256", "512"})
+    private int boardSize;
+
+    private MyStrategy strategy;
+    private PlayerBoardView boardView;
+    private Economy economy;
+
+    @Setup
+    public void setUp() {
+        GameEngine engine = new GameEngine(boardSize, new RandomStrategy(), new RandomStrategy(), WORLD_SEED);
+        GameBoard board = engine.getBoard();
+        boardView = board.convertToView(engine.getRedPlayer(), engine.getBluePlayer());
+        economy = engine.getEconomy();
+
+        strategy = new MyStrategy();
+        strategy.initialize(boardSize, MAX_INVENTORY_SIZE, MAX_CHARGE, engine.getMinScoreToWin(), boardView,
+                            boardView.getYourLocation(), true,
+                            GameRandomStreams.forStrategy(WORLD_SEED, GameRandomStreams.RED_PLAYER));
+    }
+
+    @Benchmark
+    public TurnAction getTurnAction() {
+        return strategy.getTurnAction(boardView, economy, MAX_CHARGE, true);
+    }
+}
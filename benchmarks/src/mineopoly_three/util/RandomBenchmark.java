@@ -0,0 +1,57 @@
+package mineopoly_three.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one draw from java.util.Random against one from the SplitMixRandom streams the engine uses
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomBenchmark {
+    private static final long SEED = 126;
+
+    private Random javaUtilRandom;
+    private SplitMixRandom splitMixRandom;
+
+    @Setup
+    public void setUp() {
+        javaUtilRandom = new Random(SEED);
+        splitMixRandom = GameRandomStreams.forPlayer(SEED, GameRandomStreams.RED_PLAYER);
+    }
+
+    @Benchmark
+    public double javaUtilRandomNextDouble() {
+        return javaUtilRandom.nextDouble();
+    }
+
+    @Benchmark
+    public double splitMixRandomNextDouble() {
+        return splitMixRandom.nextDouble();
+    }
+
+    @Benchmark
+    public int javaUtilRandomNextInt() {
+        return javaUtilRandom.nextInt(100);
+    }
+
+    @Benchmark
+    public int splitMixRandomNextInt() {
+        return splitMixRandom.nextInt(100);
+    }
+}
@@ -4,7 +4,7 @@ import mineopoly_three.game.GameBoard;
 import mineopoly_three.game.MinePlayer;
 import mineopoly_three.tiles.Tile;
 
-import java.awt.*;
+import java.awt.Point;
 import java.util.Random;
 
 /**
@@ -12,7 +12,7 @@ import java.util.Random;
  * This Action moves the player one tile in the direction specified by xChange and yChange.
  */
 public class MoveAction extends Action {
-    private static final double NO_ENERGY_MOVE_CHANCE = 0.25;
+    public static final double NO_ENERGY_MOVE_CHANCE = 0.25;
     private int xChange;
     private int yChange;
 
@@ -21,6 +21,14 @@ public class MoveAction extends Action {
         this.yChange = yChange;
     }
 
+    public int getXChange() {
+        return xChange;
+    }
+
+    public int getYChange() {
+        return yChange;
+    }
+
     @Override
     public void performAction(GameBoard board, MinePlayer player, TurnAction action) {
         Tile currentTile = player.getCurrentTile();
@@ -50,6 +58,8 @@ public class MoveAction extends Action {
             nextTile.onEnter(player);
             player.setCurrentTile(nextTile);
             player.useEnergy();
+            board.trackActiveTile(currentTile);
+            board.trackActiveTile(nextTile);
         }
     }
 }
\ No newline at end of file
@@ -26,5 +26,7 @@ public class TileInteractAction extends Action {
         }
 
         board.trackItemsOnPoint(tileAfterAction.getLocation(), tileAfterAction.getItemsOnTile());
+        // Placing or picking up an autominer changes whether the board has to update this tile
+        board.trackActiveTile(tileAfterAction);
     }
 }
@@ -0,0 +1,82 @@
+package mineopoly_three.env;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.GameState;
+
+/**
+ * Lets code outside the engine, like a training loop, a debugger or a search algorithm, play a game one turn at a
+ *  time instead of handing strategies to a GameEngine that runs the whole game. The game is played on a
+ *  GameState by the same rules as GameEngine, so stepping with the actions a GameEngine game took plays the same
+ *  game. Observations are the PlayerBoardView each strategy would have been given, encoded into int arrays as
+ *  described in Observation.
+ * Nothing is allocated per step beyond what the game itself needs, and the board part of an observation is only
+ *  encoded again when a tile or the items on the ground change
+ */
+public class MineopolyEnv {
+    private GameState state;
+    private ObservationEncoder redEncoder;
+    private ObservationEncoder blueEncoder;
+    private final StepResult stepResult;
+
+    public MineopolyEnv() {
+        this.stepResult = new StepResult();
+    }
+
+    /**
+     * Starts a new game, the same one a GameEngine plays for the same board size and seed
+     *
+     * @param randomSeed The random seed for world generation
+     * @param boardSize The size of the board to generate
+     * @return The observations at the start of the game, with no reward
+     */
+    public StepResult reset(long randomSeed, int boardSize) {
+        this.state = GameState.newGame(boardSize, randomSeed);
+        if (redEncoder == null || redEncoder.getBoardSize() != boardSize) {
+            this.redEncoder = new ObservationEncoder(boardSize);
+            this.blueEncoder = new ObservationEncoder(boardSize);
+        } else {
+            redEncoder.invalidate();
+            blueEncoder.invalidate();
+        }
+        return setStepResult(0, 0);
+    }
+
+    /**
+     * Plays one turn. The player whose turn it is acts first, so they win any tile both players move onto
+     *
+     * @param redAction The action for the red player to take, or null to do nothing
+     * @param blueAction The action for the blue player to take, or null to do nothing
+     * @return The observations after the turn, how much each player scored and whether the game is over
+     */
+    public StepResult step(TurnAction redAction, TurnAction blueAction) {
+        if (state == null) {
+            throw new IllegalStateException("reset() has to be called before the first step");
+        } else if (state.isGameOver()) {
+            throw new IllegalStateException("The game is over, reset() has to be called to start a new one");
+        }
+
+        int redScoreBefore = state.getRedPlayerScore();
+        int blueScoreBefore = state.getBluePlayerScore();
+        state.step(redAction, blueAction);
+        return setStepResult(state.getRedPlayerScore() - redScoreBefore, state.getBluePlayerScore() - blueScoreBefore);
+    }
+
+    private StepResult setStepResult(int redReward, int blueReward) {
+        int turnNumber = state.getTurnNumber();
+        boolean isRedTurn = state.isRedTurn();
+        int[] redObservation = redEncoder.encode(state.getPlayerBoardView(true), state.getRedPlayer(),
+                                                 state.getEconomy(), turnNumber, isRedTurn);
+        int[] blueObservation = blueEncoder.encode(state.getPlayerBoardView(false), state.getBluePlayer(),
+                                                   state.getEconomy(), turnNumber, isRedTurn);
+        stepResult.set(redObservation, blueObservation, redReward, blueReward, state.isGameOver());
+        return stepResult;
+    }
+
+    /**
+     * @return The game being played, to look at anything the observations leave out. Stepping it directly
+     *          skips the rewards for that turn
+     */
+    public GameState getState() {
+        return state;
+    }
+}
@@ -0,0 +1,84 @@
+package mineopoly_three.env;
+
+import mineopoly_three.item.ItemType;
+import mineopoly_three.tiles.TileType;
+
+/**
+ * The layout of the int arrays a MineopolyEnv encodes PlayerBoardViews into. An observation is a fixed length
+ *  header followed by one int for every cell of the board:
+ *  header: board size, turn number, is red turn (0 or 1), is red player (0 or 1), your x, y, energy and score,
+ *          the other player's x, y and score, then your inventory as a count for every ItemType by ordinal and
+ *          the price of every ItemType by ordinal (0 for items that can't be sold)
+ *  cells: row-major from the top left, the same order GameBoard and PackedGameBoard store tiles in. Each cell is
+ *          the TileType ordinal in the lowest CELL_TILE_BITS bits, then a count of CELL_ITEM_BITS bits for every
+ *          ItemType by ordinal with the number of those items on the ground, capped at MAX_CELL_ITEM_COUNT
+ * The items on the ground are the ones a PlayerBoardView shows, so like the view they only change when a player
+ *  picks something up or mines a tile
+ */
+public final class Observation {
+    private static final int NUM_ITEM_TYPES = ItemType.values().length;
+    private static final TileType[] TILE_TYPES = TileType.values();
+
+    public static final int BOARD_SIZE = 0;
+    public static final int TURN_NUMBER = 1;
+    public static final int IS_RED_TURN = 2;
+    public static final int IS_RED_PLAYER = 3;
+    public static final int YOUR_X = 4;
+    public static final int YOUR_Y = 5;
+    public static final int YOUR_ENERGY = 6;
+    public static final int YOUR_SCORE = 7;
+    public static final int OTHER_X = 8;
+    public static final int OTHER_Y = 9;
+    public static final int OTHER_SCORE = 10;
+    public static final int INVENTORY = 11;
+    public static final int PRICES = INVENTORY + NUM_ITEM_TYPES;
+    public static final int CELLS = PRICES + NUM_ITEM_TYPES;
+
+    public static final int CELL_TILE_BITS = 4;
+    public static final int CELL_ITEM_BITS = 4;
+    public static final int MAX_CELL_ITEM_COUNT = (1 << CELL_ITEM_BITS) - 1;
+    private static final int CELL_TILE_MASK = (1 << CELL_TILE_BITS) - 1;
+
+    private Observation() {
+    }
+
+    /**
+     * @param boardSize The length and width of the board
+     * @return The length of an observation of a board of that size
+     */
+    public static int getLength(int boardSize) {
+        return CELLS + boardSize * boardSize;
+    }
+
+    /**
+     * @return The index in an observation of the cell at (x, y), in Cartesian coordinates like everywhere else
+     */
+    public static int getCellIndex(int boardSize, int x, int y) {
+        return CELLS + ((boardSize - 1) - y) * boardSize + x;
+    }
+
+    static int encodeCell(TileType tileType, int[] itemCounts) {
+        int cell = tileType.ordinal();
+        for (int i = 0; i < NUM_ITEM_TYPES; i++) {
+            int itemCount = Math.min(itemCounts[i], MAX_CELL_ITEM_COUNT);
+            cell |= itemCount << (CELL_TILE_BITS + i * CELL_ITEM_BITS);
+        }
+        return cell;
+    }
+
+    /**
+     * @return The type of the tile at (x, y) in an observation
+     */
+    public static TileType getTileType(int[] observation, int x, int y) {
+        int cell = observation[getCellIndex(observation[BOARD_SIZE], x, y)];
+        return TILE_TYPES[cell & CELL_TILE_MASK];
+    }
+
+    /**
+     * @return The number of items of one type on the ground at (x, y) in an observation
+     */
+    public static int getItemCount(int[] observation, int x, int y, ItemType itemType) {
+        int cell = observation[getCellIndex(observation[BOARD_SIZE], x, y)];
+        return (cell >>> (CELL_TILE_BITS + itemType.ordinal() * CELL_ITEM_BITS)) & MAX_CELL_ITEM_COUNT;
+    }
+}
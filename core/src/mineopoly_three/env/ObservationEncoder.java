@@ -0,0 +1,104 @@
+package mineopoly_three.env;
+
+import mineopoly_three.game.Economy;
+import mineopoly_three.game.MinePlayer;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.PlayerBoardView;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes one player's PlayerBoardViews into the same observation array every turn. The cells are only encoded
+ *  again when the view's board version changes, so most turns only rewrite the header
+ */
+final class ObservationEncoder {
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+
+    private final int boardSize;
+    private final int[] observation;
+    // Item counts for cells with nothing on them
+    private final int[] noItems;
+    private final int[][] cellItemCounts;
+    private boolean cellsEncoded;
+    private int encodedBoardVersion;
+
+    ObservationEncoder(int boardSize) {
+        this.boardSize = boardSize;
+        this.observation = new int[Observation.getLength(boardSize)];
+        this.noItems = new int[ITEM_TYPES.length];
+        this.cellItemCounts = new int[boardSize * boardSize][];
+        this.cellsEncoded = false;
+    }
+
+    int getBoardSize() {
+        return boardSize;
+    }
+
+    int[] getObservation() {
+        return observation;
+    }
+
+    /**
+     * Makes the next encode() write every cell, for when the view comes from a different game than the last one
+     */
+    void invalidate() {
+        cellsEncoded = false;
+    }
+
+    int[] encode(PlayerBoardView view, MinePlayer player, Economy economy, int turnNumber, boolean isRedTurn) {
+        Point yourLocation = view.getYourLocation();
+        Point otherLocation = view.getOtherPlayerLocation();
+        observation[Observation.BOARD_SIZE] = boardSize;
+        observation[Observation.TURN_NUMBER] = turnNumber;
+        observation[Observation.IS_RED_TURN] = isRedTurn ? 1 : 0;
+        observation[Observation.IS_RED_PLAYER] = player.isRedPlayer() ? 1 : 0;
+        observation[Observation.YOUR_X] = yourLocation.x;
+        observation[Observation.YOUR_Y] = yourLocation.y;
+        observation[Observation.YOUR_ENERGY] = player.getCurrentEnergy();
+        observation[Observation.YOUR_SCORE] = player.getScore();
+        observation[Observation.OTHER_X] = otherLocation.x;
+        observation[Observation.OTHER_Y] = otherLocation.y;
+        observation[Observation.OTHER_SCORE] = view.getOtherPlayerScore();
+
+        Arrays.fill(observation, Observation.INVENTORY, Observation.INVENTORY + ITEM_TYPES.length, 0);
+        List<InventoryItem> inventory = player.getInventory();
+        for (int i = 0; i < inventory.size(); i++) {
+            observation[Observation.INVENTORY + inventory.get(i).getItemType().ordinal()]++;
+        }
+        for (ItemType itemType : ITEM_TYPES) {
+            observation[Observation.PRICES + itemType.ordinal()] = economy.getCurrentPrice(itemType);
+        }
+
+        if (!cellsEncoded || view.getBoardVersion() != encodedBoardVersion) {
+            encodeCells(view);
+            cellsEncoded = true;
+            encodedBoardVersion = view.getBoardVersion();
+        }
+        return observation;
+    }
+
+    private void encodeCells(PlayerBoardView view) {
+        Arrays.fill(cellItemCounts, null);
+        for (Map.Entry<Point, List<InventoryItem>> itemsOnPoint : view.getItemsOnGround().entrySet()) {
+            Point location = itemsOnPoint.getKey();
+            int[] counts = new int[ITEM_TYPES.length];
+            for (InventoryItem item : itemsOnPoint.getValue()) {
+                counts[item.getItemType().ordinal()]++;
+            }
+            cellItemCounts[Observation.getCellIndex(boardSize, location.x, location.y) - Observation.CELLS] = counts;
+        }
+
+        for (int y = 0; y < boardSize; y++) {
+            for (int x = 0; x < boardSize; x++) {
+                int cellIndex = Observation.getCellIndex(boardSize, x, y);
+                int[] counts = cellItemCounts[cellIndex - Observation.CELLS];
+                observation[cellIndex] = Observation.encodeCell(view.getTileTypeAtLocation(x, y),
+                                                                (counts == null) ? noItems : counts);
+            }
+        }
+    }
+}
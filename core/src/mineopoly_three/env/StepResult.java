@@ -0,0 +1,60 @@
+package mineopoly_three.env;
+
+/**
+ * What a MineopolyEnv returns from reset() and step(): both players' observations, the points each player scored
+ *  during the step and whether the game is over. A MineopolyEnv reuses its StepResult and observation arrays for
+ *  every step, so copy anything that needs to outlive the next step
+ */
+public class StepResult {
+    private int[] redObservation;
+    private int[] blueObservation;
+    private int redReward;
+    private int blueReward;
+    private boolean done;
+
+    StepResult() {
+    }
+
+    void set(int[] redObservation, int[] blueObservation, int redReward, int blueReward, boolean done) {
+        this.redObservation = redObservation;
+        this.blueObservation = blueObservation;
+        this.redReward = redReward;
+        this.blueReward = blueReward;
+        this.done = done;
+    }
+
+    /**
+     * @return The red player's view after the step, laid out as described in Observation
+     */
+    public int[] getRedObservation() {
+        return redObservation;
+    }
+
+    /**
+     * @return The blue player's view after the step, laid out as described in Observation
+     */
+    public int[] getBlueObservation() {
+        return blueObservation;
+    }
+
+    /**
+     * @return How much the red player's score went up during the step
+     */
+    public int getRedReward() {
+        return redReward;
+    }
+
+    /**
+     * @return How much the blue player's score went up during the step
+     */
+    public int getBlueReward() {
+        return blueReward;
+    }
+
+    /**
+     * @return True if the game ended on this step, after which the environment has to be reset
+     */
+    public boolean isDone() {
+        return done;
+    }
+}
@@ -0,0 +1,126 @@
+package mineopoly_three.env;
+
+import mineopoly_three.action.TurnAction;
+
+/**
+ * Steps many MineopolyEnvs together with one call, for training loops that play a batch of games at once.
+ * Every environment plays on a board of the same size. When a game ends it is reset right away with the next
+ *  unused seed, so every step plays a turn in every environment. The step that ends a game reports it as done,
+ *  with its last rewards but the first observations of the new game
+ */
+public class VectorMineopolyEnv {
+    private final MineopolyEnv[] envs;
+    private final int boardSize;
+    private final int[][] redObservations;
+    private final int[][] blueObservations;
+    private final int[] redRewards;
+    private final int[] blueRewards;
+    private final boolean[] dones;
+    private final long[] randomSeeds;
+    private long nextRandomSeed;
+    private long gamesCompleted;
+
+    /**
+     * @param numEnvs The number of games to play at once
+     * @param boardSize The size of every game's board
+     */
+    public VectorMineopolyEnv(int numEnvs, int boardSize) {
+        this.envs = new MineopolyEnv[numEnvs];
+        for (int i = 0; i < numEnvs; i++) {
+            envs[i] = new MineopolyEnv();
+        }
+        this.boardSize = boardSize;
+        this.redObservations = new int[numEnvs][];
+        this.blueObservations = new int[numEnvs][];
+        this.redRewards = new int[numEnvs];
+        this.blueRewards = new int[numEnvs];
+        this.dones = new boolean[numEnvs];
+        this.randomSeeds = new long[numEnvs];
+    }
+
+    /**
+     * Starts a new game in every environment, environment i gets the seed firstRandomSeed + i
+     *
+     * @param firstRandomSeed The seed of the first environment's game
+     */
+    public void reset(long firstRandomSeed) {
+        for (int i = 0; i < envs.length; i++) {
+            StepResult stepResult = envs[i].reset(firstRandomSeed + i, boardSize);
+            randomSeeds[i] = firstRandomSeed + i;
+            copyStepResult(i, stepResult);
+        }
+        this.nextRandomSeed = firstRandomSeed + envs.length;
+        this.gamesCompleted = 0;
+    }
+
+    /**
+     * Plays one turn in every environment. The results are read back with the getters, which return the same
+     *  arrays every step
+     *
+     * @param redActions The red player's action in every environment, by index
+     * @param blueActions The blue player's action in every environment, by index
+     */
+    public void step(TurnAction[] redActions, TurnAction[] blueActions) {
+        for (int i = 0; i < envs.length; i++) {
+            StepResult stepResult = envs[i].step(redActions[i], blueActions[i]);
+            copyStepResult(i, stepResult);
+            if (stepResult.isDone()) {
+                gamesCompleted++;
+                randomSeeds[i] = nextRandomSeed++;
+                stepResult = envs[i].reset(randomSeeds[i], boardSize);
+                redObservations[i] = stepResult.getRedObservation();
+                blueObservations[i] = stepResult.getBlueObservation();
+            }
+        }
+    }
+
+    private void copyStepResult(int envIndex, StepResult stepResult) {
+        redObservations[envIndex] = stepResult.getRedObservation();
+        blueObservations[envIndex] = stepResult.getBlueObservation();
+        redRewards[envIndex] = stepResult.getRedReward();
+        blueRewards[envIndex] = stepResult.getBlueReward();
+        dones[envIndex] = stepResult.isDone();
+    }
+
+    public int getNumEnvs() {
+        return envs.length;
+    }
+
+    public MineopolyEnv getEnv(int envIndex) {
+        return envs[envIndex];
+    }
+
+    public int[][] getRedObservations() {
+        return redObservations;
+    }
+
+    public int[][] getBlueObservations() {
+        return blueObservations;
+    }
+
+    public int[] getRedRewards() {
+        return redRewards;
+    }
+
+    public int[] getBlueRewards() {
+        return blueRewards;
+    }
+
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    /**
+     * @return The seed of the game each environment is playing now
+     */
+    public long[] getRandomSeeds() {
+        return randomSeeds;
+    }
+
+    /**
+     * @return The number of games that have ended since the last reset
+     */
+    public long getGamesCompleted() {
+        return gamesCompleted;
+    }
+}
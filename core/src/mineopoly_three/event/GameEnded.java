@@ -0,0 +1,43 @@
+package mineopoly_three.event;
+
+/**
+ * Published once at the end of every game, whether it ended normally or because a strategy threw an exception
+ */
+public class GameEnded {
+    private final int turnsPlayed;
+    private final int redScore;
+    private final int blueScore;
+    private final Exception exceptionThrown;
+
+    public GameEnded(int turnsPlayed, int redScore, int blueScore, Exception exceptionThrown) {
+        this.turnsPlayed = turnsPlayed;
+        this.redScore = redScore;
+        this.blueScore = blueScore;
+        this.exceptionThrown = exceptionThrown;
+    }
+
+    public int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * @return The red player's final score, -1 if the red strategy threw an exception
+     */
+    public int getRedScore() {
+        return redScore;
+    }
+
+    /**
+     * @return The blue player's final score, -1 if the blue strategy threw an exception
+     */
+    public int getBlueScore() {
+        return blueScore;
+    }
+
+    /**
+     * @return The exception that ended the game early, or null if it ended normally
+     */
+    public Exception getExceptionThrown() {
+        return exceptionThrown;
+    }
+}
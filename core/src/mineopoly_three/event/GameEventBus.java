@@ -0,0 +1,80 @@
+package mineopoly_three.event;
+
+import java.util.Arrays;
+
+/**
+ * Delivers typed game events to the listeners subscribed to them. Publishers check hasListeners() before creating
+ *  an event, so events nobody listens to are never created and a game with no listeners, like a headless
+ *  tournament game, pays for one array read per place an event could have been published.
+ * Listeners are kept in arrays that are replaced instead of modified, so subscribing from another thread, like the
+ *  Swing event thread, never blocks or disturbs a game that is publishing
+ */
+public class GameEventBus {
+    private static final GameEventListener<?>[] NO_LISTENERS = new GameEventListener<?>[0];
+
+    // Indexed by GameEventType index, the outer array is replaced whenever any listener is added or removed
+    private volatile GameEventListener<?>[][] listenersByType;
+
+    public GameEventBus() {
+        GameEventListener<?>[][] emptyListeners = new GameEventListener<?>[GameEventType.COUNT][];
+        Arrays.fill(emptyListeners, NO_LISTENERS);
+        this.listenersByType = emptyListeners;
+    }
+
+    /**
+     * @param eventType The type of event to listen for
+     * @param listener The listener to call with every event of that type published from now on
+     */
+    public synchronized <E> void subscribe(GameEventType<E> eventType, GameEventListener<? super E> listener) {
+        GameEventListener<?>[] typeListeners = listenersByType[eventType.getIndex()];
+        GameEventListener<?>[] newTypeListeners = Arrays.copyOf(typeListeners, typeListeners.length + 1);
+        newTypeListeners[typeListeners.length] = listener;
+        replaceListeners(eventType, newTypeListeners);
+    }
+
+    /**
+     * @param eventType The type of event the listener was subscribed to
+     * @param listener The listener to stop calling
+     * @return True if the listener was subscribed to that type of event, false otherwise
+     */
+    public synchronized <E> boolean unsubscribe(GameEventType<E> eventType, GameEventListener<? super E> listener) {
+        GameEventListener<?>[] typeListeners = listenersByType[eventType.getIndex()];
+        for (int i = 0; i < typeListeners.length; i++) {
+            if (typeListeners[i] == listener) {
+                GameEventListener<?>[] newTypeListeners = new GameEventListener<?>[typeListeners.length - 1];
+                System.arraycopy(typeListeners, 0, newTypeListeners, 0, i);
+                System.arraycopy(typeListeners, i + 1, newTypeListeners, i, typeListeners.length - i - 1);
+                replaceListeners(eventType, (newTypeListeners.length == 0) ? NO_LISTENERS : newTypeListeners);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void replaceListeners(GameEventType<?> eventType, GameEventListener<?>[] newTypeListeners) {
+        GameEventListener<?>[][] newListenersByType = listenersByType.clone();
+        newListenersByType[eventType.getIndex()] = newTypeListeners;
+        listenersByType = newListenersByType;
+    }
+
+    /**
+     * @param eventType The type of event about to be published
+     * @return True if anything would receive an event of that type, publishers should skip creating it otherwise
+     */
+    public boolean hasListeners(GameEventType<?> eventType) {
+        return listenersByType[eventType.getIndex()].length != 0;
+    }
+
+    /**
+     * Calls every listener subscribed to an event type, in the order they subscribed
+     *
+     * @param eventType The type of the event
+     * @param event The event to hand to each listener
+     */
+    @SuppressWarnings("unchecked")
+    public <E> void publish(GameEventType<E> eventType, E event) {
+        for (GameEventListener<?> listener : listenersByType[eventType.getIndex()]) {
+            ((GameEventListener<E>) listener).onEvent(event);
+        }
+    }
+}
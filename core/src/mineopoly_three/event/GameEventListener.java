@@ -0,0 +1,17 @@
+package mineopoly_three.event;
+
+/**
+ * Receives one type of event from a GameEventBus
+ *
+ * @param <E> The type of event this listener receives
+ */
+@FunctionalInterface
+public interface GameEventListener<E> {
+
+    /**
+     * Called on the thread that published the event, usually the thread running the game
+     *
+     * @param event The event that happened
+     */
+    void onEvent(E event);
+}
@@ -0,0 +1,35 @@
+package mineopoly_three.event;
+
+/**
+ * Identifies one type of event on a GameEventBus and the class of the events published for it. The bus keeps its
+ *  listeners in an array indexed by the type, so checking whether a type has listeners is a single array read
+ *
+ * @param <E> The class of the events published for this type
+ */
+public final class GameEventType<E> {
+    /**The number of event types, every type's index is below this*/
+    static final int COUNT = 5;
+
+    public static final GameEventType<TurnCompleted> TURN_COMPLETED = new GameEventType<>(0, "TurnCompleted");
+    public static final GameEventType<TileChanged> TILE_CHANGED = new GameEventType<>(1, "TileChanged");
+    public static final GameEventType<ItemSold> ITEM_SOLD = new GameEventType<>(2, "ItemSold");
+    public static final GameEventType<PriceChanged> PRICE_CHANGED = new GameEventType<>(3, "PriceChanged");
+    public static final GameEventType<GameEnded> GAME_ENDED = new GameEventType<>(4, "GameEnded");
+
+    private final int index;
+    private final String name;
+
+    private GameEventType(int index, String name) {
+        this.index = index;
+        this.name = name;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,40 @@
+package mineopoly_three.event;
+
+import mineopoly_three.item.ItemType;
+
+/**
+ * Published for every type of resource sold at a market, before the Economy lowers its price for the sale
+ */
+public class ItemSold {
+    private final ItemType itemType;
+    private final int quantity;
+    private final int unitPrice;
+
+    public ItemSold(ItemType itemType, int quantity, int unitPrice) {
+        this.itemType = itemType;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+
+    public ItemType getItemType() {
+        return itemType;
+    }
+
+    /**
+     * @return How many of this type were sold at once
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * @return The price each one sold for
+     */
+    public int getUnitPrice() {
+        return unitPrice;
+    }
+
+    public int getTotalPrice() {
+        return quantity * unitPrice;
+    }
+}
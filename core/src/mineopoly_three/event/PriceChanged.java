@@ -0,0 +1,31 @@
+package mineopoly_three.event;
+
+import mineopoly_three.item.ItemType;
+
+/**
+ * Published when the Economy's price for a resource changes, either from demand rising at the end of a turn or
+ *  from the resource being sold
+ */
+public class PriceChanged {
+    private final ItemType itemType;
+    private final int oldPrice;
+    private final int newPrice;
+
+    public PriceChanged(ItemType itemType, int oldPrice, int newPrice) {
+        this.itemType = itemType;
+        this.oldPrice = oldPrice;
+        this.newPrice = newPrice;
+    }
+
+    public ItemType getItemType() {
+        return itemType;
+    }
+
+    public int getOldPrice() {
+        return oldPrice;
+    }
+
+    public int getNewPrice() {
+        return newPrice;
+    }
+}
@@ -0,0 +1,36 @@
+package mineopoly_three.event;
+
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+
+/**
+ * Published when a tile on the board is replaced by another, like a mined resource turning into an empty tile.
+ *  Generating a new world into a board that is being reused replaces tiles too
+ */
+public class TileChanged {
+    private final Point location;
+    private final TileType oldType;
+    private final TileType newType;
+
+    public TileChanged(Point location, TileType oldType, TileType newType) {
+        this.location = new Point(location);
+        this.oldType = oldType;
+        this.newType = newType;
+    }
+
+    /**
+     * @return A copy of the (x, y) location of the tile that changed
+     */
+    public Point getLocation() {
+        return new Point(location);
+    }
+
+    public TileType getOldType() {
+        return oldType;
+    }
+
+    public TileType getNewType() {
+        return newType;
+    }
+}
@@ -0,0 +1,31 @@
+package mineopoly_three.event;
+
+/**
+ * Published after both players have acted and the board and economy have been updated for a turn
+ */
+public class TurnCompleted {
+    private final int turnsPlayed;
+    private final int redScore;
+    private final int blueScore;
+
+    public TurnCompleted(int turnsPlayed, int redScore, int blueScore) {
+        this.turnsPlayed = turnsPlayed;
+        this.redScore = redScore;
+        this.blueScore = blueScore;
+    }
+
+    /**
+     * @return The number of turns played so far, including this one
+     */
+    public int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    public int getRedScore() {
+        return redScore;
+    }
+
+    public int getBlueScore() {
+        return blueScore;
+    }
+}
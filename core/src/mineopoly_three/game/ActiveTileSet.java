@@ -0,0 +1,66 @@
+package mineopoly_three.game;
+
+import java.util.Arrays;
+
+/**
+ * A sorted set of board cell indices (row * boardSize + column) for the tiles that GameBoard.update() has to
+ *  visit. Only a handful of tiles are ever active at once, so a sorted int array beats hashing here, and
+ *  iterating it in order visits tiles in the same order as a full scan of the board would
+ */
+class ActiveTileSet {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] cells;
+    private int size;
+
+    ActiveTileSet() {
+        this.cells = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    ActiveTileSet(ActiveTileSet setToCopy) {
+        this.cells = setToCopy.cells.clone();
+        this.size = setToCopy.size;
+    }
+
+    void add(int cell) {
+        int insertionIndex = Arrays.binarySearch(cells, 0, size, cell);
+        if (insertionIndex >= 0) {
+            // Already active
+            return;
+        }
+
+        insertionIndex = -(insertionIndex + 1);
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, cells.length * 2);
+        }
+        System.arraycopy(cells, insertionIndex, cells, insertionIndex + 1, size - insertionIndex);
+        cells[insertionIndex] = cell;
+        size++;
+    }
+
+    void remove(int cell) {
+        int removalIndex = Arrays.binarySearch(cells, 0, size, cell);
+        if (removalIndex < 0) {
+            return;
+        }
+        System.arraycopy(cells, removalIndex + 1, cells, removalIndex, size - removalIndex - 1);
+        size--;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param index An index in [0, size())
+     * @return The cell at that position in ascending order
+     */
+    int get(int index) {
+        return cells[index];
+    }
+}
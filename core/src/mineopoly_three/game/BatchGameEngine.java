@@ -0,0 +1,357 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.replay.Replay;
+import mineopoly_three.strategy.BatchStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.util.GameRandomStreams;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Plays a batch of independent headless games in lockstep between two BatchStrategies, one turn of every game at a
+ *  time. Each player's BatchStrategy is asked for the actions of all running games in one call, so a strategy
+ *  can choose them together instead of being called once per game.
+ * Every game plays by exactly the same rules and turn order as a GameEngine with the same seed: the first player
+ *  of a turn acts in every game before the second player's views are built. A game ends when it runs out of
+ *  turns or a player reaches the score needed to win, and the other games carry on without it.
+ * If a BatchStrategy throws an exception while choosing actions, its player scores -1 in every game that was
+ *  still running. If it throws while being told about one game, only that game ends
+ */
+public class BatchGameEngine {
+    private final long[] randomSeeds;
+    private final int boardSize;
+    private final BatchStrategy redStrategy;
+    private final BatchStrategy blueStrategy;
+    private final GameBoard[] boards;
+    private final Economy[] economies;
+    private final MinePlayer[] redPlayers;
+    private final MinePlayer[] bluePlayers;
+    private final int minScoreToWin;
+    private int turnNumber;
+    private boolean isRedTurn;
+
+    // The indices of the games still running, in order, and how many there are
+    private final int[] activeGameIndices;
+    private int numActiveGames;
+    private final int[] turnsPlayed;
+
+    // Reused for every batch call, only the first numActiveGames entries are ever filled in
+    private final PlayerBoardView[] batchViews;
+    private final Economy[] batchEconomies;
+    private final int[] batchCharges;
+    private final TurnAction[] batchActions;
+
+    private final MinePlayer[] playerWhoThrewException;
+    private final Exception[] exceptionThrown;
+
+    /**
+     * @param boardSize The size of every game's board
+     * @param randomSeeds The random seed of every game, one game is played for each seed
+     * @param redStrategy The strategy of the red player in every game
+     * @param blueStrategy The strategy of the blue player in every game
+     */
+    public BatchGameEngine(int boardSize, long[] randomSeeds, BatchStrategy redStrategy, BatchStrategy blueStrategy) {
+        int numGames = randomSeeds.length;
+        this.randomSeeds = randomSeeds.clone();
+        this.boardSize = boardSize;
+        this.redStrategy = redStrategy;
+        this.blueStrategy = blueStrategy;
+        this.boards = new GameBoard[numGames];
+        this.economies = new Economy[numGames];
+        this.redPlayers = new MinePlayer[numGames];
+        this.bluePlayers = new MinePlayer[numGames];
+        this.minScoreToWin = GameConfig.DEFAULT.getMinScoreToWin(boardSize);
+        this.turnNumber = 0;
+        this.isRedTurn = true;
+
+        WorldGenerator worldGenerator = new WorldGenerator(0);
+        for (int i = 0; i < numGames; i++) {
+            worldGenerator.setSeed(randomSeeds[i]);
+            boards[i] = worldGenerator.generateBoard(boardSize);
+            economies[i] = new Economy(Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new));
+            Tile redStartTile = boards[i].getTileAtLocation(boards[i].getRedStartTileLocation());
+            Tile blueStartTile = boards[i].getTileAtLocation(boards[i].getBlueStartTileLocation());
+            // Batch strategies are only ever asked for actions in batches, so the players have no strategy of
+            //  their own and only pass their items and sales on to the BatchStrategy
+            redPlayers[i] = new MinePlayer(null, redStartTile, economies[i], randomSeeds[i], true);
+            redPlayers[i].setInventoryListener(new GameInventoryListener(redStrategy, i));
+            bluePlayers[i] = new MinePlayer(null, blueStartTile, economies[i], randomSeeds[i], false);
+            bluePlayers[i].setInventoryListener(new GameInventoryListener(blueStrategy, i));
+        }
+
+        this.activeGameIndices = new int[numGames];
+        this.numActiveGames = 0;
+        this.turnsPlayed = new int[numGames];
+        this.batchViews = new PlayerBoardView[numGames];
+        this.batchEconomies = new Economy[numGames];
+        this.batchCharges = new int[numGames];
+        this.batchActions = new TurnAction[numGames];
+        this.playerWhoThrewException = new MinePlayer[numGames];
+        this.exceptionThrown = new Exception[numGames];
+    }
+
+    public int getNumGames() {
+        return randomSeeds.length;
+    }
+
+    public GameBoard getBoard(int gameIndex) {
+        return boards[gameIndex];
+    }
+
+    public Economy getEconomy(int gameIndex) {
+        return economies[gameIndex];
+    }
+
+    public MinePlayer getRedPlayer(int gameIndex) {
+        return redPlayers[gameIndex];
+    }
+
+    public MinePlayer getBluePlayer(int gameIndex) {
+        return bluePlayers[gameIndex];
+    }
+
+    public int getRedPlayerScore(int gameIndex) {
+        return redPlayers[gameIndex].getScore();
+    }
+
+    public int getBluePlayerScore(int gameIndex) {
+        return bluePlayers[gameIndex].getScore();
+    }
+
+    public int getMinScoreToWin() {
+        return minScoreToWin;
+    }
+
+    /**
+     * @return The number of turns one game lasted, or has lasted so far
+     */
+    public int getTurnsPlayed(int gameIndex) {
+        return turnsPlayed[gameIndex];
+    }
+
+    public long getRandomSeed(int gameIndex) {
+        return randomSeeds[gameIndex];
+    }
+
+    public Exception getExceptionThrown(int gameIndex) {
+        return exceptionThrown[gameIndex];
+    }
+
+    public Replay getReplay(int gameIndex) {
+        MinePlayer redPlayer = redPlayers[gameIndex];
+        MinePlayer bluePlayer = bluePlayers[gameIndex];
+        boolean redThrewException = (playerWhoThrewException[gameIndex] == redPlayer);
+        boolean blueThrewException = (playerWhoThrewException[gameIndex] == bluePlayer);
+        return new Replay(boardSize, randomSeeds[gameIndex], redPlayer.getAllTurnActions(),
+                          bluePlayer.getAllTurnActions(), redThrewException, blueThrewException);
+    }
+
+    /**
+     * Plays every game in the batch until all of them have ended
+     */
+    public void runGames() {
+        numActiveGames = randomSeeds.length;
+        for (int i = 0; i < numActiveGames; i++) {
+            activeGameIndices[i] = i;
+        }
+
+        initializePlayers(redStrategy, redPlayers, true);
+        initializePlayers(blueStrategy, bluePlayers, false);
+
+        while (numActiveGames > 0) {
+            if (isRedTurn) {
+                processBatchTurn(redStrategy, redPlayers, bluePlayers);
+                processBatchTurn(blueStrategy, bluePlayers, redPlayers);
+            } else {
+                processBatchTurn(blueStrategy, bluePlayers, redPlayers);
+                processBatchTurn(redStrategy, redPlayers, bluePlayers);
+            }
+
+            isRedTurn = !isRedTurn;
+            turnNumber++;
+            int numStillActive = 0;
+            for (int i = 0; i < numActiveGames; i++) {
+                int gameIndex = activeGameIndices[i];
+                if (finishTurn(gameIndex)) {
+                    activeGameIndices[numStillActive++] = gameIndex;
+                }
+            }
+            numActiveGames = numStillActive;
+        }
+    }
+
+    private void initializePlayers(BatchStrategy strategy, MinePlayer[] players, boolean isRedPlayer) {
+        int numGames = randomSeeds.length;
+        PlayerBoardView[] startingBoards = new PlayerBoardView[numGames];
+        Point[] startTileLocations = new Point[numGames];
+        Random[] randoms = new Random[numGames];
+        for (int i = 0; i < numGames; i++) {
+            GameBoard board = boards[i];
+            Point opponentStartTile = isRedPlayer ? board.getBlueStartTileLocation() : board.getRedStartTileLocation();
+            Point playerStartLocation = players[i].getCurrentTile().getLocation();
+            startingBoards[i] = board.convertToView(players[i], opponentStartTile, 0);
+            startTileLocations[i] = new Point(playerStartLocation.x, playerStartLocation.y);
+            randoms[i] = GameRandomStreams.forStrategy(randomSeeds[i], GameRandomStreams.getPlayerIndex(isRedPlayer));
+        }
+
+        try {
+            strategy.initialize(numGames, boardSize, MinePlayer.MAX_ITEMS, MinePlayer.MAX_ENERGY, minScoreToWin,
+                                startingBoards, startTileLocations, isRedPlayer, randoms);
+        } catch (Exception e) {
+            failActiveGames(players, e);
+            return;
+        }
+
+        for (int i = 0; i < numActiveGames; i++) {
+            int gameIndex = activeGameIndices[i];
+            try {
+                Tile startTile = players[gameIndex].getCurrentTile();
+                startTile.onEnter(players[gameIndex]);
+                boards[gameIndex].trackActiveTile(startTile);
+            } catch (Exception e) {
+                failGame(gameIndex, players[gameIndex], e);
+            }
+        }
+        removeFailedGames();
+    }
+
+    private void processBatchTurn(BatchStrategy strategy, MinePlayer[] players, MinePlayer[] otherPlayers) {
+        if (numActiveGames == 0) {
+            return;
+        }
+
+        for (int i = 0; i < numActiveGames; i++) {
+            int gameIndex = activeGameIndices[i];
+            MinePlayer currentPlayer = players[gameIndex];
+            batchViews[i] = boards[gameIndex].convertToView(currentPlayer, otherPlayers[gameIndex]);
+            batchEconomies[i] = economies[gameIndex];
+            batchCharges[i] = currentPlayer.getCurrentEnergy();
+        }
+
+        try {
+            strategy.getTurnActions(numActiveGames, activeGameIndices, batchViews, batchEconomies, batchCharges,
+                                    isRedTurn, batchActions);
+        } catch (Exception e) {
+            failActiveGames(players, e);
+            return;
+        }
+
+        for (int i = 0; i < numActiveGames; i++) {
+            int gameIndex = activeGameIndices[i];
+            MinePlayer currentPlayer = players[gameIndex];
+            TurnAction playerAction = batchActions[i];
+            // Don't hold on to views and actions of games that might end this turn
+            batchViews[i] = null;
+            batchActions[i] = null;
+            currentPlayer.addTurnAction(playerAction);
+            if (playerAction == null) {
+                continue;
+            }
+            try {
+                playerAction.getActionToPerform().performAction(boards[gameIndex], currentPlayer, playerAction);
+            } catch (Exception e) {
+                failGame(gameIndex, currentPlayer, e);
+            }
+        }
+        removeFailedGames();
+    }
+
+    /**
+     * Updates one game after both players have acted and ends it if it is over
+     *
+     * @return True if the game is still running
+     */
+    private boolean finishTurn(int gameIndex) {
+        GameBoard board = boards[gameIndex];
+        MinePlayer redPlayer = redPlayers[gameIndex];
+        MinePlayer bluePlayer = bluePlayers[gameIndex];
+        board.update();
+        redPlayer.setCurrentTile(board.getTileAtLocation(redPlayer.getCurrentTile().getLocation()));
+        bluePlayer.setCurrentTile(board.getTileAtLocation(bluePlayer.getCurrentTile().getLocation()));
+        economies[gameIndex].increaseDemand();
+        turnsPlayed[gameIndex] = turnNumber;
+
+        boolean roundHasWinner = (redPlayer.getScore() >= minScoreToWin) || (bluePlayer.getScore() >= minScoreToWin);
+        if (turnNumber < GameEngine.MAX_TURNS_PER_GAME && !roundHasWinner) {
+            return true;
+        }
+        endRound(gameIndex);
+        return false;
+    }
+
+    private void endRound(int gameIndex) {
+        int redPlayerScore = redPlayers[gameIndex].getScore();
+        int bluePlayerScore = bluePlayers[gameIndex].getScore();
+        try {
+            playerWhoThrewException[gameIndex] = redPlayers[gameIndex];
+            redStrategy.endRound(gameIndex, redPlayerScore, bluePlayerScore);
+            playerWhoThrewException[gameIndex] = bluePlayers[gameIndex];
+            blueStrategy.endRound(gameIndex, bluePlayerScore, redPlayerScore);
+            playerWhoThrewException[gameIndex] = null;
+        } catch (Exception e) {
+            failGame(gameIndex, playerWhoThrewException[gameIndex], e);
+        }
+    }
+
+    private void failActiveGames(MinePlayer[] players, Exception e) {
+        // It's generally bad practice to catch generic Exceptions, but because a strategy can throw an exception
+        // of any type, it's unavoidable here
+        e.printStackTrace();
+        for (int i = 0; i < numActiveGames; i++) {
+            int gameIndex = activeGameIndices[i];
+            players[gameIndex].setScore(-1);
+            playerWhoThrewException[gameIndex] = players[gameIndex];
+            exceptionThrown[gameIndex] = e;
+        }
+        numActiveGames = 0;
+    }
+
+    private void failGame(int gameIndex, MinePlayer player, Exception e) {
+        e.printStackTrace();
+        player.setScore(-1);
+        playerWhoThrewException[gameIndex] = player;
+        exceptionThrown[gameIndex] = e;
+    }
+
+    private void removeFailedGames() {
+        int numStillActive = 0;
+        for (int i = 0; i < numActiveGames; i++) {
+            int gameIndex = activeGameIndices[i];
+            if (exceptionThrown[gameIndex] == null) {
+                activeGameIndices[numStillActive++] = gameIndex;
+            } else {
+                turnsPlayed[gameIndex] = turnNumber;
+            }
+        }
+        numActiveGames = numStillActive;
+    }
+
+    /**
+     * Tells the BatchStrategy about the items and sales of one player in one game
+     */
+    private static class GameInventoryListener implements MinePlayer.InventoryListener {
+        private final BatchStrategy batchStrategy;
+        private final int gameIndex;
+
+        private GameInventoryListener(BatchStrategy batchStrategy, int gameIndex) {
+            this.batchStrategy = batchStrategy;
+            this.gameIndex = gameIndex;
+        }
+
+        @Override
+        public void onReceiveItem(InventoryItem itemReceived) {
+            batchStrategy.onReceiveItem(gameIndex, itemReceived);
+        }
+
+        @Override
+        public void onSoldInventory(int totalSellPrice) {
+            batchStrategy.onSoldInventory(gameIndex, totalSellPrice);
+        }
+    }
+}
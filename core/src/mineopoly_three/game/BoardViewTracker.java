@@ -0,0 +1,219 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the tile types and items on the ground that are handed to every PlayerBoardView.
+ * Views share the tile rows instead of copying them, so once a view has been handed out they are copied on the next
+ *  write (one row at a time) and older views keep seeing the version they were given. The items on the ground are
+ *  looked up in a map that is never handed out. Views get a snapshot of it with copies of its Point keys, which is
+ *  taken again when the items change or when a strategy has changed one of the snapshot's keys, so a strategy
+ *  changing a key can't break the engine's lookups or what the next view shows
+ */
+class BoardViewTracker {
+    private TileType[][] tileView;
+    private final boolean[] ownedTileViewRows;
+    private boolean tileViewShared;
+    // Only locations that actually have items on them are kept in here, shared with copies of this tracker until
+    //  either one writes to it
+    private Map<Point, List<InventoryItem>> itemsOnGround;
+    private Map<Point, List<InventoryItem>> itemsOnGroundReadOnly;
+    private boolean itemsOnGroundShared;
+    // The snapshot of itemsOnGround handed to views, null when the items have changed since it was taken
+    private Map<Point, List<InventoryItem>> itemsOnGroundView;
+    // The snapshot's keys and the x and y each of them had when it was taken
+    private Point[] viewKeys;
+    private int[] viewKeyCoordinates;
+    private int viewVersion;
+    // Work counters for EngineMetrics
+    private long viewsBuilt;
+    private long itemsCopied;
+
+    /**
+     * @param tileView The starting tile types indexed [row][column], this tracker takes ownership of the array
+     */
+    BoardViewTracker(TileType[][] tileView) {
+        this.tileView = tileView;
+        this.ownedTileViewRows = new boolean[tileView.length];
+        Arrays.fill(ownedTileViewRows, true);
+        this.tileViewShared = false;
+        this.itemsOnGround = new HashMap<>();
+        this.itemsOnGroundReadOnly = Collections.unmodifiableMap(itemsOnGround);
+        this.itemsOnGroundShared = false;
+        this.itemsOnGroundView = Collections.emptyMap();
+        this.viewKeys = new Point[0];
+        this.viewKeyCoordinates = new int[0];
+        this.viewVersion = 0;
+    }
+
+    private BoardViewTracker(BoardViewTracker trackerToCopy) {
+        this.tileView = trackerToCopy.tileView;
+        this.ownedTileViewRows = new boolean[tileView.length];
+        this.tileViewShared = true;
+        this.itemsOnGround = trackerToCopy.itemsOnGround;
+        this.itemsOnGroundReadOnly = trackerToCopy.itemsOnGroundReadOnly;
+        this.itemsOnGroundShared = true;
+        // The copy takes its own snapshot, since the keys of this one can still be changed by this tracker's views
+        this.itemsOnGroundView = null;
+        this.viewVersion = trackerToCopy.viewVersion;
+    }
+
+    /**
+     * @return A tracker that starts out sharing this tracker's tiles and items, both are copied on their next write
+     */
+    BoardViewTracker copy() {
+        tileViewShared = true;
+        itemsOnGroundShared = true;
+        return new BoardViewTracker(this);
+    }
+
+    int getViewVersion() {
+        return viewVersion;
+    }
+
+    long getViewsBuilt() {
+        return viewsBuilt;
+    }
+
+    long getItemsCopied() {
+        return itemsCopied;
+    }
+
+    /**
+     * @return A read-only view of the tracked items on the ground, which only change when trackItemsOnPoint() is
+     *          called. This is the engine's own map, so it must never be handed to a strategy
+     */
+    Map<Point, List<InventoryItem>> getItemsOnGround() {
+        return itemsOnGroundReadOnly;
+    }
+
+    /**
+     * @return The snapshot of the items on the ground for views, taken again if the items or its keys changed
+     */
+    private Map<Point, List<InventoryItem>> getItemsOnGroundView() {
+        if (itemsOnGroundView != null && !haveViewKeysChanged()) {
+            return itemsOnGroundView;
+        }
+
+        Map<Point, List<InventoryItem>> snapshot = new HashMap<>();
+        viewKeys = new Point[itemsOnGround.size()];
+        viewKeyCoordinates = new int[viewKeys.length * 2];
+        int keyIndex = 0;
+        for (Map.Entry<Point, List<InventoryItem>> itemsOnPoint : itemsOnGround.entrySet()) {
+            Point location = itemsOnPoint.getKey();
+            Point locationCopy = new Point(location.x, location.y);
+            // The lists are never modified after being tracked, so only the keys need copying
+            snapshot.put(locationCopy, itemsOnPoint.getValue());
+            viewKeys[keyIndex] = locationCopy;
+            viewKeyCoordinates[keyIndex * 2] = location.x;
+            viewKeyCoordinates[keyIndex * 2 + 1] = location.y;
+            keyIndex++;
+        }
+        itemsOnGroundView = Collections.unmodifiableMap(snapshot);
+        return itemsOnGroundView;
+    }
+
+    private boolean haveViewKeysChanged() {
+        for (int i = 0; i < viewKeys.length; i++) {
+            if (viewKeys[i].x != viewKeyCoordinates[i * 2] || viewKeys[i].y != viewKeyCoordinates[i * 2 + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void trackTileType(int rowIndex, int columnIndex, TileType newType) {
+        if (tileView[rowIndex][columnIndex] == newType) {
+            return;
+        }
+
+        if (tileViewShared) {
+            // A view still references the current rows, start a new outer array that shares them until written to
+            tileView = tileView.clone();
+            Arrays.fill(ownedTileViewRows, false);
+            tileViewShared = false;
+        }
+        if (!ownedTileViewRows[rowIndex]) {
+            tileView[rowIndex] = tileView[rowIndex].clone();
+            ownedTileViewRows[rowIndex] = true;
+        }
+
+        tileView[rowIndex][columnIndex] = newType;
+        viewVersion++;
+    }
+
+    void trackItemsOnPoint(Point pointWithItem, List<InventoryItem> itemsOnPoint) {
+        List<InventoryItem> trackedItems = itemsOnGround.getOrDefault(pointWithItem, Collections.emptyList());
+        if (haveSameItemTypes(trackedItems, itemsOnPoint)) {
+            return;
+        }
+
+        if (itemsOnGroundShared) {
+            // A copy of this tracker still references the current map, leave it alone and continue with a copy
+            itemsOnGround = new HashMap<>(itemsOnGround);
+            itemsOnGroundReadOnly = Collections.unmodifiableMap(itemsOnGround);
+            itemsOnGroundShared = false;
+        }
+        itemsOnGroundView = null;
+
+        if (itemsOnPoint.isEmpty()) {
+            itemsOnGround.remove(pointWithItem);
+        } else {
+            Point pointCopy = new Point(pointWithItem.x, pointWithItem.y);
+            itemsOnGround.put(pointCopy, Collections.unmodifiableList(new ArrayList<>(itemsOnPoint)));
+            itemsCopied += itemsOnPoint.size();
+        }
+        viewVersion++;
+    }
+
+    private static boolean haveSameItemTypes(List<InventoryItem> firstItems, List<InventoryItem> secondItems) {
+        if (firstItems.size() != secondItems.size()) {
+            return false;
+        }
+        for (int i = 0; i < firstItems.size(); i++) {
+            if (firstItems.get(i).getItemType() != secondItems.get(i).getItemType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param thisPlayerLocation A copy of the location of the player receiving the view
+     * @param otherPlayerLocation A copy of the location of the opposing player
+     * @param otherPlayerScore The opposing player's current score
+     * @return A view sharing the current tiles and items on the ground
+     */
+    PlayerBoardView createView(Point thisPlayerLocation, Point otherPlayerLocation, int otherPlayerScore) {
+        return createView(thisPlayerLocation, otherPlayerLocation, otherPlayerScore, null);
+    }
+
+    /**
+     * @param allPlayerLocations The locations of every player shared by every view this turn, or null in a two
+     *                            player game
+     * @return A view sharing the current tiles and items on the ground
+     */
+    PlayerBoardView createView(Point thisPlayerLocation, Point otherPlayerLocation, int otherPlayerScore,
+                               List<Point> allPlayerLocations) {
+        // Both players share the same tiles and items, which are never modified after being handed out
+        tileViewShared = true;
+        viewsBuilt++;
+        Map<Point, List<InventoryItem>> itemsView = getItemsOnGroundView();
+        if (allPlayerLocations == null) {
+            return new PlayerBoardView(tileView, itemsView, thisPlayerLocation, otherPlayerLocation,
+                                       otherPlayerScore, viewVersion);
+        }
+        return new PlayerBoardView(tileView, itemsView, thisPlayerLocation, otherPlayerLocation,
+                                   otherPlayerScore, viewVersion, allPlayerLocations);
+    }
+}
@@ -0,0 +1,76 @@
+package mineopoly_three.game;
+
+import java.util.Arrays;
+
+/**
+ * A map from board cell indices to int counters, kept as two sorted primitive arrays so looking up or bumping
+ *  a counter never boxes an Integer. Only the few cells around autominers ever get a counter, so the arrays stay
+ *  tiny and a binary search is all a lookup needs
+ */
+class CellCounterMap {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] cells;
+    private int[] counters;
+    private int size;
+
+    CellCounterMap() {
+        this.cells = new int[INITIAL_CAPACITY];
+        this.counters = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    CellCounterMap(CellCounterMap mapToCopy) {
+        this.cells = mapToCopy.cells.clone();
+        this.counters = mapToCopy.counters.clone();
+        this.size = mapToCopy.size;
+    }
+
+    /**
+     * @param cell The cell to get the counter for
+     * @return The counter for the cell, or 0 if it was never set
+     */
+    int get(int cell) {
+        int index = Arrays.binarySearch(cells, 0, size, cell);
+        return (index >= 0) ? counters[index] : 0;
+    }
+
+    void put(int cell, int counter) {
+        int index = Arrays.binarySearch(cells, 0, size, cell);
+        if (index >= 0) {
+            counters[index] = counter;
+            return;
+        }
+
+        index = -(index + 1);
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, cells.length * 2);
+            counters = Arrays.copyOf(counters, counters.length * 2);
+        }
+        System.arraycopy(cells, index, cells, index + 1, size - index);
+        System.arraycopy(counters, index, counters, index + 1, size - index);
+        cells[index] = cell;
+        counters[index] = counter;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param index An index in [0, size())
+     * @return The cell at that position in ascending order
+     */
+    int getCell(int index) {
+        return cells[index];
+    }
+
+    /**
+     * @param index An index in [0, size())
+     * @return The counter of the cell at that position in ascending order
+     */
+    int getCounter(int index) {
+        return counters[index];
+    }
+}
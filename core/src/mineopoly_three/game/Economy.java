@@ -0,0 +1,184 @@
+package mineopoly_three.game;
+
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.GameEventType;
+import mineopoly_three.event.ItemSold;
+import mineopoly_three.event.PriceChanged;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.jfr.GameFlightRecorder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class Economy {
+    private final ItemType[] sellableResourceTypes;
+    private Map<ItemType, Integer> resourcePrices;
+    private GameEventBus eventBus;
+    private GameFlightRecorder flightRecorder;
+    // Sales counters for EngineMetrics
+    private long salesExecuted;
+    private long itemsSold;
+
+    public Economy(ItemType[] resourceTypes) {
+        this.sellableResourceTypes = resourceTypes;
+        resourcePrices = new HashMap<>();
+        this.eventBus = new GameEventBus();
+        this.flightRecorder = GameFlightRecorder.DISABLED;
+        this.reset();
+    }
+
+    /**
+     * Copies the prices of another Economy. The copy gets its own GameEventBus, listeners of the original are not copied
+     *
+     * @param economyToCopy The Economy to copy
+     */
+    Economy(Economy economyToCopy) {
+        this.sellableResourceTypes = economyToCopy.sellableResourceTypes;
+        this.resourcePrices = new HashMap<>(economyToCopy.resourcePrices);
+        this.eventBus = new GameEventBus();
+        this.flightRecorder = GameFlightRecorder.DISABLED;
+        this.salesExecuted = economyToCopy.salesExecuted;
+        this.itemsSold = economyToCopy.itemsSold;
+    }
+
+    /**
+     * Puts every price back to its starting price for a new game. Listeners, like the GUI, stay subscribed
+     */
+    void reset() {
+        for (ItemType resourceType : sellableResourceTypes) {
+            resourcePrices.put(resourceType, resourceType.getStartingPrice());
+        }
+        this.salesExecuted = 0;
+        this.itemsSold = 0;
+    }
+
+    /**
+     * @param eventBus The bus to publish ItemSold and PriceChanged events to
+     */
+    void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * @param flightRecorder The recorder to record a flight recorder event for every sale with, when enabled
+     */
+    void setFlightRecorder(GameFlightRecorder flightRecorder) {
+        this.flightRecorder = flightRecorder;
+    }
+
+    /**
+     * Gets a copy of the current prices for each ResourceType
+     *
+     * @return A Map from each ResourceType to its price
+     */
+    public Map<ItemType, Integer> getCurrentPrices() {
+        // Nothing outside this class should be able to modify prices, need to make a copy
+        Map<ItemType, Integer> resourcePricesCopy = new HashMap<>();
+        for (ItemType resourceType : resourcePrices.keySet()) {
+            resourcePricesCopy.put(resourceType, resourcePrices.get(resourceType));
+        }
+        return resourcePricesCopy;
+    }
+
+    /**
+     * Gets the current price of one resource without copying every price
+     *
+     * @param resourceType The resource to get the price of
+     * @return The current price of the resource, or 0 if it can't be sold
+     */
+    public int getCurrentPrice(ItemType resourceType) {
+        Integer price = resourcePrices.get(resourceType);
+        return (price == null) ? 0 : price;
+    }
+
+    /**
+     * Sets the price of one resource, for restoring a checkpoint
+     */
+    void setPrice(ItemType resourceType, int price) {
+        resourcePrices.put(resourceType, price);
+    }
+
+    /**
+     * Increments the price for each ResourceType by its priceIncreasePerTurn value.
+     * Publishes a PriceChanged event for every price that went up
+     */
+    protected void increaseDemand() {
+        for (ItemType resourceType : sellableResourceTypes) {
+            Integer currentPrice = resourcePrices.getOrDefault(resourceType, 0);
+            Integer nextPrice = currentPrice + resourceType.getPriceIncreasePerTurn();
+            if (nextPrice >= resourceType.getMaxPrice()) {
+                nextPrice = resourceType.getMaxPrice();
+            }
+            resourcePrices.put(resourceType, nextPrice);
+            publishPriceChange(resourceType, currentPrice, nextPrice);
+        }
+    }
+
+    /**
+     * Calculates the total price for all InventoryItems in the passed in Collection.
+     * Decreases the price for each resource according to newPrice = oldPrice * (1 - (numSold / 8)).
+     * Publishes an ItemSold event for each resource type sold, followed by a PriceChanged event for its new price.
+     *
+     * @param itemsToSell The entire Collection of InventoryItems to be sold
+     * @return The total price that all InventoryItems were sold for
+     */
+    protected int sellResources(Collection<InventoryItem> itemsToSell) {
+        flightRecorder.beginSale();
+
+        // Count the number of each resource type being sold
+        Map<ItemType, Integer> resourcesToNumSold = new HashMap<>();
+        int numResourcesSold = 0;
+        for (InventoryItem itemToSell : itemsToSell) {
+            ItemType currentType = itemToSell.getItemType();
+
+            if(currentType.isResource()) {
+                int numSold = resourcesToNumSold.getOrDefault(currentType, 0);
+                resourcesToNumSold.put(currentType, numSold + 1);
+                numResourcesSold++;
+            }
+        }
+
+        // We now know how many of each type are being sold, need to calculate how much they are all worth
+        // A long, since a big enough inventory could be worth more than an int can hold
+        long totalSellPrice = 0;
+        for (ItemType sellableResourceType : sellableResourceTypes) {
+            int numSoldOfType = resourcesToNumSold.getOrDefault(sellableResourceType, 0);
+            int priceForResource = resourcePrices.getOrDefault(sellableResourceType, 0);
+            totalSellPrice += (long) numSoldOfType * priceForResource;
+            if (numSoldOfType > 0 && eventBus.hasListeners(GameEventType.ITEM_SOLD)) {
+                eventBus.publish(GameEventType.ITEM_SOLD,
+                                 new ItemSold(sellableResourceType, numSoldOfType, priceForResource));
+            }
+
+            // Supply has gone up, decrease the sell price according to oldPrice * (1 - (numSold / 8)). Selling more
+            //  than 8 at once is only possible with a bigger inventory than normal, and bottoms the price out at 0
+            int newResourcePrice = Math.max(0, (int) (priceForResource * (1.0 - (numSoldOfType / 8.0))));
+            resourcePrices.put(sellableResourceType, newResourcePrice);
+            publishPriceChange(sellableResourceType, priceForResource, newResourcePrice);
+        }
+
+        if (numResourcesSold > 0) {
+            salesExecuted++;
+            itemsSold += numResourcesSold;
+        }
+        int clampedSellPrice = (int) Math.min(totalSellPrice, Integer.MAX_VALUE);
+        flightRecorder.endSale(numResourcesSold, clampedSellPrice);
+        return clampedSellPrice;
+    }
+
+    long getSalesExecuted() {
+        return salesExecuted;
+    }
+
+    long getItemsSold() {
+        return itemsSold;
+    }
+
+    private void publishPriceChange(ItemType resourceType, int oldPrice, int newPrice) {
+        if (oldPrice != newPrice && eventBus.hasListeners(GameEventType.PRICE_CHANGED)) {
+            eventBus.publish(GameEventType.PRICE_CHANGED, new PriceChanged(resourceType, oldPrice, newPrice));
+        }
+    }
+}
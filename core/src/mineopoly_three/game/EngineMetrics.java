@@ -0,0 +1,184 @@
+package mineopoly_three.game;
+
+import mineopoly_three.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects how long each phase of a game takes and counts how much work the engine did, over every game it is
+ *  given. A disabled EngineMetrics ignores everything it is given without reading the clock, so an engine can
+ *  always report to one at almost no cost. One EngineMetrics can collect from several engines on different
+ *  threads, like every game of a tournament
+ */
+public class EngineMetrics {
+    public enum Phase {
+        /**Every call into a strategy: initialize, getTurnAction and endRound*/
+        STRATEGY,
+        /**Performing the TurnAction a strategy returned*/
+        PERFORM_ACTION,
+        /**GameBoard.update() at the end of every turn*/
+        BOARD_UPDATE,
+        /**Building the PlayerBoardView handed to a strategy*/
+        CONVERT_TO_VIEW,
+        /**Economy.increaseDemand() at the end of every turn*/
+        ECONOMY_UPDATE,
+        /**A whole turn for both players, including everything above*/
+        TURN
+    }
+
+    public enum Counter {
+        GAMES_PLAYED,
+        TURNS_PLAYED,
+        /**Tiles visited by GameBoard.update(), both active tiles and tiles next to autominers*/
+        TILES_SCANNED,
+        VIEWS_BUILT,
+        /**Turns a player followed their ActionPlan without a view being built or their strategy being called*/
+        PLANNED_ACTIONS,
+        /**Items copied into the items on the ground shared with views*/
+        ITEMS_COPIED,
+        /**Times a player sold at least one resource at a market*/
+        SALES_EXECUTED,
+        ITEMS_SOLD
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final Counter[] COUNTERS = Counter.values();
+
+    /**A shared EngineMetrics that never collects anything, used by engines that don't have metrics turned on*/
+    public static final EngineMetrics DISABLED = new EngineMetrics(false);
+
+    private final boolean enabled;
+    private final LatencyHistogram[] phaseLatencies;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param enabled False to create an EngineMetrics that ignores everything, like DISABLED
+     */
+    public EngineMetrics(boolean enabled) {
+        this.enabled = enabled;
+        this.phaseLatencies = new LatencyHistogram[PHASES.length];
+        for (int i = 0; i < phaseLatencies.length; i++) {
+            phaseLatencies[i] = new LatencyHistogram();
+        }
+        this.counters = new AtomicLongArray(COUNTERS.length);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The time a phase started to pass to stopTimer(), or 0 without reading the clock if disabled
+     */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records how long a phase took
+     *
+     * @param phase The phase that just finished
+     * @param startTime What startTimer() returned when the phase started
+     */
+    public void stopTimer(Phase phase, long startTime) {
+        if (enabled) {
+            phaseLatencies[phase.ordinal()].record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Adds durations measured somewhere else to a phase, like the strategy latencies a StrategyCallTimer collects
+     */
+    public void recordPhase(Phase phase, LatencyHistogram latencies) {
+        if (enabled) {
+            phaseLatencies[phase.ordinal()].merge(latencies);
+        }
+    }
+
+    public void addCount(Counter counter, long amount) {
+        if (enabled) {
+            counters.addAndGet(counter.ordinal(), amount);
+        }
+    }
+
+    /**
+     * Adds everything another EngineMetrics collected to this one
+     *
+     * @param otherMetrics The EngineMetrics to add, it is not changed
+     */
+    public void merge(EngineMetrics otherMetrics) {
+        if (!enabled) {
+            return;
+        }
+        for (Phase phase : PHASES) {
+            phaseLatencies[phase.ordinal()].merge(otherMetrics.phaseLatencies[phase.ordinal()]);
+        }
+        for (Counter counter : COUNTERS) {
+            counters.addAndGet(counter.ordinal(), otherMetrics.counters.get(counter.ordinal()));
+        }
+    }
+
+    public LatencyHistogram getPhaseLatencies(Phase phase) {
+        return phaseLatencies[phase.ordinal()];
+    }
+
+    public long getCount(Counter counter) {
+        return counters.get(counter.ordinal());
+    }
+
+    /**
+     * Writes every phase's latencies in nanoseconds and every counter as one JSON object
+     *
+     * @param writer The Writer to write the JSON to, it will not be closed
+     * @throws IOException If there is an issue writing to the Writer
+     */
+    public void writeJson(Writer writer) throws IOException {
+        writer.write("{\n  \"phases\": {\n");
+        for (int i = 0; i < PHASES.length; i++) {
+            LatencyHistogram latencies = phaseLatencies[i];
+            writer.write("    \"" + getMetricName(PHASES[i]) + "\": {\"count\": " + latencies.getCount()
+                         + ", \"mean_ns\": " + formatMean(latencies)
+                         + ", \"p50_ns\": " + latencies.getPercentileNanos(50)
+                         + ", \"p90_ns\": " + latencies.getPercentileNanos(90)
+                         + ", \"p99_ns\": " + latencies.getPercentileNanos(99)
+                         + ", \"max_ns\": " + latencies.getMaxNanos() + "}"
+                         + (i < PHASES.length - 1 ? ",\n" : "\n"));
+        }
+        writer.write("  },\n  \"counters\": {\n");
+        for (int i = 0; i < COUNTERS.length; i++) {
+            writer.write("    \"" + getMetricName(COUNTERS[i]) + "\": " + counters.get(i)
+                         + (i < COUNTERS.length - 1 ? ",\n" : "\n"));
+        }
+        writer.write("  }\n}\n");
+    }
+
+    /**
+     * Writes one CSV row per phase and per counter. Counters only fill in the count column
+     *
+     * @param writer The Writer to write the CSV to, it will not be closed
+     * @throws IOException If there is an issue writing to the Writer
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write("metric,kind,count,mean_ns,p50_ns,p90_ns,p99_ns,max_ns\n");
+        for (int i = 0; i < PHASES.length; i++) {
+            LatencyHistogram latencies = phaseLatencies[i];
+            writer.write(getMetricName(PHASES[i]) + ",phase," + latencies.getCount() + "," + formatMean(latencies)
+                         + "," + latencies.getPercentileNanos(50) + "," + latencies.getPercentileNanos(90)
+                         + "," + latencies.getPercentileNanos(99) + "," + latencies.getMaxNanos() + "\n");
+        }
+        for (int i = 0; i < COUNTERS.length; i++) {
+            writer.write(getMetricName(COUNTERS[i]) + ",counter," + counters.get(i) + ",,,,,\n");
+        }
+    }
+
+    private static String getMetricName(Enum<?> metric) {
+        return metric.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String formatMean(LatencyHistogram latencies) {
+        return String.format(Locale.ROOT, "%.1f", latencies.getMeanNanos());
+    }
+}
@@ -0,0 +1,434 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.GameEventType;
+import mineopoly_three.event.TileChanged;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.jfr.GameFlightRecorder;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.EmptyTile;
+import mineopoly_three.tiles.ResourceTile;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GameBoard {
+
+    /**How much longer it takes an autominer to mine a resource compared to a player*/
+    public static final int AUTOMINER_MULTIPLIER = 4;
+
+    private Tile[][] board;
+    private Point redStartLocation;
+    private Point blueStartLocation;
+
+    // A map of tile locations affected by an autominer to the number of turns they have been mined
+    private Map<Point, Integer> autominerTiles;
+
+    // Tiles that need to be visited on update(), either because they tick or because they hold an autominer
+    private ActiveTileSet activeTiles;
+
+    // The tiles and items on the ground handed to each PlayerBoardView
+    private BoardViewTracker viewTracker;
+
+    // What each player sees and remembers in a game with a vision radius, empty when players see the whole board
+    private List<PlayerVision> playerVisions;
+
+    // The number of tiles update() has visited, for EngineMetrics
+    private long tilesScanned;
+
+    // Where TileChanged events are published
+    private GameEventBus eventBus;
+
+    // Records a flight recorder event for every update(), when enabled
+    private GameFlightRecorder flightRecorder;
+
+    public GameBoard(Tile[][] tiles) {
+        board = tiles;
+
+        autominerTiles = new HashMap<>();
+        activeTiles = new ActiveTileSet();
+        playerVisions = new ArrayList<>();
+        eventBus = new GameEventBus();
+        flightRecorder = GameFlightRecorder.DISABLED;
+
+        // Pre-compute the intensive variables to give to a PlayerBoardView
+        TileType[][] tileView = new TileType[board.length][board.length];
+        viewTracker = new BoardViewTracker(tileView);
+        for (int i = 0; i < tileView.length; i++) {
+            for (int j = 0; j < tileView[i].length; j++) {
+                tileView[i][j] = board[i][j].getType();
+                if (!board[i][j].getItemsOnTile().isEmpty()) {
+                    viewTracker.trackItemsOnPoint(board[i][j].getLocation(), board[i][j].getItemsOnTile());
+                }
+
+                if (isActive(board[i][j])) {
+                    activeTiles.add(getCellIndex(i, j));
+                }
+            }
+        }
+    }
+
+    /**
+     * @param eventBus The bus to publish TileChanged events to
+     */
+    void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * @param flightRecorder The recorder of the game this board is part of
+     */
+    void setFlightRecorder(GameFlightRecorder flightRecorder) {
+        this.flightRecorder = flightRecorder;
+    }
+
+    /**
+     * Empties this board so a new world can be generated into it. The tile grid and every EmptyTile on it are
+     *  reused, so only the tiles that were changed last game are created again
+     */
+    void clearForNewWorld() {
+        TileType[][] tileView = new TileType[board.length][board.length];
+        for (int i = 0; i < board.length; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                Tile currentTile = board[i][j];
+                if (currentTile.getClass() == EmptyTile.class) {
+                    currentTile.getItemsOnTile().clear();
+                    currentTile.setPlayerOnTile(null);
+                } else {
+                    board[i][j] = new EmptyTile(currentTile.getLocation());
+                }
+                tileView[i][j] = TileType.EMPTY;
+            }
+        }
+
+        // Views from the last game may still hold the old tile view, so the tracker always starts over
+        viewTracker = new BoardViewTracker(tileView);
+        autominerTiles.clear();
+        activeTiles.clear();
+        playerVisions.clear();
+        tilesScanned = 0;
+        redStartLocation = null;
+        blueStartLocation = null;
+    }
+
+    public int getSize() {
+        return board.length;
+    }
+
+    public Point getRedStartTileLocation() {
+        return redStartLocation;
+    }
+
+    public Point getBlueStartTileLocation() {
+        return blueStartLocation;
+    }
+
+    public void setRedStartLocation(Point redStartLocation) {
+        this.redStartLocation = redStartLocation;
+    }
+
+    public void setBlueStartLocation(Point blueStartLocation) {
+        this.blueStartLocation = blueStartLocation;
+    }
+
+    /**
+     * Records the items on the ground at a location so they show up in the next PlayerBoardView.
+     * The view only changes version if the items are actually different from what was recorded before
+     *
+     * @param pointWithItem The location of the tile the items are on
+     * @param itemsOnPoint All items currently on the tile at that location
+     */
+    public void trackItemsOnPoint(Point pointWithItem, List<InventoryItem> itemsOnPoint) {
+        viewTracker.trackItemsOnPoint(pointWithItem, itemsOnPoint);
+        for (int i = 0; i < playerVisions.size(); i++) {
+            playerVisions.get(i).onItemsChanged(pointWithItem, itemsOnPoint);
+        }
+    }
+
+    /**
+     * Passes every change to a tile or to the items on the ground to a player's vision from now on
+     */
+    void addPlayerVision(PlayerVision playerVision) {
+        playerVisions.add(playerVision);
+    }
+
+    /**
+     * @return A number that changes every time the tiles or items given to a PlayerBoardView change
+     */
+    public int getViewVersion() {
+        return viewTracker.getViewVersion();
+    }
+
+    /**
+     * @return The number of active and autominer tiles update() has visited during this game
+     */
+    long getTilesScanned() {
+        return tilesScanned;
+    }
+
+    /**
+     * @return The number of PlayerBoardViews built from this board during this game
+     */
+    long getViewsBuilt() {
+        return viewTracker.getViewsBuilt();
+    }
+
+    /**
+     * @return The number of items copied into the items on the ground handed to views during this game
+     */
+    long getItemsCopied() {
+        return viewTracker.getItemsCopied();
+    }
+
+    /**
+     * @return A copy of the tiles and items on the ground handed to views, for copying this board's state
+     */
+    BoardViewTracker copyViewTracker() {
+        return viewTracker.copy();
+    }
+
+    /**
+     * @return The items on the ground handed to views. They are only updated when players interact with tiles,
+     *          so they can be different from the items actually on the tiles
+     */
+    Map<Point, List<InventoryItem>> getTrackedItemsOnGround() {
+        return viewTracker.getItemsOnGround();
+    }
+
+    /**
+     * @return The locations affected by an autominer mapped to the number of turns they have been mined
+     */
+    Map<Point, Integer> getAutominerTiles() {
+        return autominerTiles;
+    }
+
+    /**
+     * Re-checks whether a tile needs to be visited on every update(). This must be called whenever a player enters
+     *  or exits the tile or items are placed on or picked up from it, so update() never has to scan the whole board
+     *
+     * @param tile The tile that may have started or stopped being active
+     */
+    public void trackActiveTile(Tile tile) {
+        int x = tile.getLocation().x;
+        int y = tile.getLocation().y;
+        if (!isValidLocation(x, y) || board[(board.length - 1) - y][x] != tile) {
+            // Not a tile that is currently on this board
+            return;
+        }
+
+        int cell = getCellIndex((board.length - 1) - y, x);
+        if (isActive(tile)) {
+            activeTiles.add(cell);
+        } else {
+            activeTiles.remove(cell);
+        }
+    }
+
+    private static boolean isActive(Tile tile) {
+        return tile.isTicking() || tile.hasAutominer();
+    }
+
+    private int getCellIndex(int rowIndex, int columnIndex) {
+        return rowIndex * board.length + columnIndex;
+    }
+
+    /**
+     * Gets the tile at the specified location in Cartesian (x, y) coordinates with (0, 0) as the bottom left tile
+     *  and (boardSize - 1, boardSize - 1) as the top right tile
+     *
+     * @param location A Point representing (x, y) coordinates of the tile to get
+     * @return The Tile at the specified location on the board
+     */
+    public Tile getTileAtLocation(Point location) {
+        return getTileAtLocation(location.x, location.y);
+    }
+
+    /**
+     * Gets the tile at the specified location in Cartesian (x, y) coordinates with (0, 0) as the bottom left tile
+     *  and (boardSize - 1, boardSize - 1) as the top right tile
+     *
+     * @param x The x coordinate of the tile to get
+     * @param y The y coordinate of the tile to get
+     * @return The Tile at the specified location on the board
+     */
+    public Tile getTileAtLocation(int x, int y) {
+        if (isValidLocation(x, y)) {
+            return board[(board.length - 1) - y][x];
+        }
+        return null;
+    }
+
+    /**
+     * Sums up a tile for checking whether it changed, as PlanFollower does for the tiles a plan watches
+     *
+     * @return A number that changes whenever the type of the tile at (x, y) or the number of items on it changes,
+     *          or -1 if the location is outside the board
+     */
+    int getTileState(int x, int y) {
+        Tile tile = getTileAtLocation(x, y);
+        if (tile == null) {
+            return -1;
+        }
+        return tile.getType().ordinal() | (tile.getItemsOnTile().size() << 8);
+    }
+
+    /**
+     * Updates the Tile at the parameter tile's location to be the parameter tile. This function handles
+     *  logic like calling Tile.onEnter() if necessary
+     *
+     * @param newTile The Tile that will be set at the Point specified by newTile.getLocation()
+     */
+    public void setTileAtTileLocation(Tile newTile) {
+        // Because tiles know their location, we don't need to pass it in
+        int x = newTile.getLocation().x;
+        int y = newTile.getLocation().y;
+
+        if (isValidLocation(x, y)) {
+            Tile oldTile = board[(board.length - 1) - y][x];
+            MinePlayer playerOnTile = oldTile.getPlayerOnTile();
+
+            if (playerOnTile != null) {
+                oldTile.onExit(playerOnTile);
+                newTile.onEnter(playerOnTile);
+                playerOnTile.setCurrentTile(newTile);
+            }
+            board[(board.length - 1) - y][x] = newTile;
+            viewTracker.trackTileType((board.length - 1) - y, x, newTile.getType());
+            for (int i = 0; i < playerVisions.size(); i++) {
+                playerVisions.get(i).onTileChanged(x, y, newTile.getType());
+            }
+            trackActiveTile(newTile);
+            if (eventBus.hasListeners(GameEventType.TILE_CHANGED)) {
+                eventBus.publish(GameEventType.TILE_CHANGED,
+                                 new TileChanged(newTile.getLocation(), oldTile.getType(), newTile.getType()));
+            }
+        }
+    }
+
+    private boolean isValidLocation(Point location) {
+        return isValidLocation(location.x, location.y);
+    }
+
+    private boolean isValidLocation(int x, int y) {
+        int xIndex = x;
+        int yIndex = (board.length - 1) - y;
+
+        boolean xIndexInBounds = (xIndex >= 0 && xIndex < board.length);
+        boolean yIndexInBounds = (yIndex >= 0 && yIndex < board.length);
+        return xIndexInBounds && yIndexInBounds;
+    }
+
+    /**
+     * Called every turn for the board to update its internal state. Only the tiles tracked as active are visited,
+     *  so the cost of a turn scales with the number of active tiles instead of the area of the board
+     */
+    public void update() {
+        flightRecorder.beginBoardUpdate();
+
+        List<Point> autominers = new ArrayList<>();
+
+        // Only active tiles can tick or hold an autominer, and they are visited in the same order as a full scan
+        for (int i = 0; i < activeTiles.size(); i++) {
+            int cell = activeTiles.get(i);
+            Tile currentTile = board[cell / board.length][cell % board.length];
+            currentTile.update();
+
+            if (currentTile.hasAutominer()) {
+                autominers.add(currentTile.getLocation());
+            }
+        }
+
+        // All tiles that are affected by at least one autominer
+        List<Point> affectedTiles = new ArrayList<>();
+
+        for(Point miner : autominers) {
+            affectedTiles.add(new Point(miner.x, miner.y));
+            if(miner.x > 0) affectedTiles.add(new Point(miner.x - 1, miner.y));
+            if(miner.x < board.length - 1) affectedTiles.add(new Point(miner.x + 1, miner.y));
+            if(miner.y > 0) affectedTiles.add(new Point(miner.x, miner.y - 1));
+            if(miner.y < board.length - 1) affectedTiles.add(new Point(miner.x, miner.y + 1));
+        }
+
+        tilesScanned += activeTiles.size() + affectedTiles.size();
+        for(Point p : affectedTiles) {
+            int turnsMined = autominerTiles.getOrDefault(p, 0);
+
+            Tile tile = getTileAtLocation(p);
+
+            if(tile instanceof EmptyTile) {
+                tile = tile.interact(null, TurnAction.MINE);
+            } else if(turnsMined > 0 && tile instanceof ResourceTile) {
+                if(turnsMined % AUTOMINER_MULTIPLIER == 0) {
+                    tile = tile.interact(null, TurnAction.MINE);
+                }
+            }
+
+            setTileAtTileLocation(tile);
+
+            autominerTiles.put(p, turnsMined + 1);
+        }
+
+        flightRecorder.endBoardUpdate();
+    }
+
+    /**
+     * Converts this GameBoard into a restricted information view of the board relative to what one player is
+     *  allowed to know
+     *
+     * @param playerReceivingView The player who will receive this restricted information view
+     * @param otherPlayer The other player, so the player receiving the view can know score information
+     * @return A PlayerBoardView that contains all the information about this GameBoard for this turn which a
+     *          player strategy is allowed to know
+     */
+    public PlayerBoardView convertToView(MinePlayer playerReceivingView, MinePlayer otherPlayer) {
+        Point otherPlayerLocation = otherPlayer.getCurrentTile().getLocation();
+        int otherPlayerScore = otherPlayer.getScore();
+        return this.convertToView(playerReceivingView, otherPlayerLocation, otherPlayerScore);
+    }
+
+    /**
+     * Converts this GameBoard into a restricted information view of the board relative to what one player is
+     *  allowed to know
+     *
+     * @param playerReceivingView The player who will receive this restricted information view
+     * @param otherPlayerLocation The opposing player's location
+     * @param otherPlayerScore The opposing player's current score
+     * @return A PlayerBoardView that contains all the information about this GameBoard for this turn which a
+     *          player strategy is allowed to know
+     */
+    public PlayerBoardView convertToView(MinePlayer playerReceivingView, Point otherPlayerLocation,
+                                         int otherPlayerScore) {
+        // Make copies of these locations so they may not be modified by a strategy
+        Point playerLocation = playerReceivingView.getCurrentTile().getLocation();
+        Point playerLocationCopy = new Point(playerLocation.x, playerLocation.y);
+        Point otherLocationCopy = new Point(otherPlayerLocation.x, otherPlayerLocation.y);
+        // The tiles and items on the ground are shared with the other player, they are never modified once handed out
+        return viewTracker.createView(playerLocationCopy, otherLocationCopy, otherPlayerScore);
+    }
+
+    /**
+     * Converts this GameBoard into a view for a game with more than two players. Every view on the same turn
+     *  shares one list of player locations, so building a view for each player doesn't cost O(N^2). Views only
+     *  hand out copies of it, so one strategy can't change what the players after it see
+     *
+     * @param playerReceivingView The player who will receive this restricted information view
+     * @param otherPlayerLocation The location of the leading opposing player
+     * @param otherPlayerScore The score of the leading opposing player
+     * @param allPlayerLocations Copies of every player's location, shared by every view built this turn
+     * @return A PlayerBoardView that contains all the information about this GameBoard for this turn which a
+     *          player strategy is allowed to know
+     */
+    PlayerBoardView convertToView(MinePlayer playerReceivingView, Point otherPlayerLocation, int otherPlayerScore,
+                                  List<Point> allPlayerLocations) {
+        Point playerLocation = playerReceivingView.getCurrentTile().getLocation();
+        Point playerLocationCopy = new Point(playerLocation.x, playerLocation.y);
+        Point otherLocationCopy = new Point(otherPlayerLocation.x, otherPlayerLocation.y);
+        return viewTracker.createView(playerLocationCopy, otherLocationCopy, otherPlayerScore, allPlayerLocations);
+    }
+}
@@ -0,0 +1,345 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.tiles.CrackedTile;
+import mineopoly_three.tiles.EmptyTile;
+import mineopoly_three.tiles.MarketTile;
+import mineopoly_three.tiles.RechargeTile;
+import mineopoly_three.tiles.ResourceTile;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the binary checkpoint format used by GameEngine.writeCheckpoint() and readCheckpoint().
+ * The format is, with every number big-endian as written by DataOutput:
+ *  header: magic int, version short, then the GameConfig as max turns int, turns per second double, max energy int,
+ *          max items int, winning score per tile int and resource placement ordinal byte. Then the random seed
+ *          long, min score to win int, turn number int and is red turn boolean
+ *  board: size int, red and blue start locations, then every tile in row-major order as a tile kind byte
+ *          (followed by the resource ordinal byte and times mined int for resource tiles) and its items.
+ *          Then the autominer tiles map and the items on the ground handed to views, which only change when
+ *          players interact with tiles and so can differ from the items actually on the tiles
+ *  economy: the number of prices, then an item ordinal byte and a price int for each
+ *  players: red then blue, each a location, score, energy, last move ordinal, random generator state,
+ *            inventory and every TurnAction taken so far
+ * Locations are two ints (x, y) and item lists are an int count followed by one item ordinal byte per item
+ */
+final class GameCheckpoint {
+    private static final int MAGIC = 0x4D4F4350; // "MOCP"
+    // Bumped whenever the layout above changes, checkpoints from other versions are rejected instead of misread
+    private static final short VERSION = 1;
+    // Lists are only presized up to this, so a corrupt count fails on the missing data instead of on allocation
+    private static final int MAX_PRESIZED_LIST = 1024;
+
+    private static final int EMPTY_TILE = 0;
+    private static final int CRACKED_TILE = 1;
+    private static final int RED_MARKET_TILE = 2;
+    private static final int BLUE_MARKET_TILE = 3;
+    private static final int RECHARGE_TILE = 4;
+    private static final int RESOURCE_TILE = 5;
+
+    // Written in place of a TurnAction ordinal for turns a strategy returned null
+    private static final int NO_ACTION = -1;
+
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+    private static final ResourcePlacement[] RESOURCE_PLACEMENTS = ResourcePlacement.values();
+    private static final TurnAction[] TURN_ACTIONS = TurnAction.values();
+
+    private GameCheckpoint() {
+    }
+
+    static void writeMagicAndVersion(DataOutput output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+    }
+
+    /**
+     * Checks the magic number and version at the start of a checkpoint
+     *
+     * @throws IOException If the data is not a checkpoint this version can read
+     */
+    static void readMagicAndVersion(DataInput input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a Mine-opoly checkpoint");
+        }
+        short version = input.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint version " + version);
+        }
+    }
+
+    static void writeConfig(DataOutput output, GameConfig config) throws IOException {
+        output.writeInt(config.getMaxTurns());
+        output.writeDouble(config.getTurnsPerSecond());
+        output.writeInt(config.getMaxEnergy());
+        output.writeInt(config.getMaxItems());
+        output.writeInt(config.getWinningScorePerTile());
+        output.writeByte(config.getResourcePlacement().ordinal());
+    }
+
+    static GameConfig readConfig(DataInput input) throws IOException {
+        try {
+            return GameConfig.DEFAULT.withMaxTurns(input.readInt())
+                                     .withTurnsPerSecond(input.readDouble())
+                                     .withMaxEnergy(input.readInt())
+                                     .withMaxItems(input.readInt())
+                                     .withWinningScorePerTile(input.readInt())
+                                     .withResourcePlacement(readResourcePlacement(input));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid game config in checkpoint", e);
+        }
+    }
+
+    static void writeBoard(DataOutput output, GameBoard board) throws IOException {
+        int boardSize = board.getSize();
+        output.writeInt(boardSize);
+        writePoint(output, board.getRedStartTileLocation());
+        writePoint(output, board.getBlueStartTileLocation());
+
+        // Row-major from the top left, the same order the board stores its tiles in
+        for (int y = boardSize - 1; y >= 0; y--) {
+            for (int x = 0; x < boardSize; x++) {
+                Tile tile = board.getTileAtLocation(x, y);
+                writeTile(output, tile);
+                writeItems(output, tile.getItemsOnTile());
+            }
+        }
+
+        Map<Point, Integer> autominerTiles = board.getAutominerTiles();
+        output.writeInt(autominerTiles.size());
+        for (Map.Entry<Point, Integer> autominerTile : autominerTiles.entrySet()) {
+            writePoint(output, autominerTile.getKey());
+            output.writeInt(autominerTile.getValue());
+        }
+
+        Map<Point, List<InventoryItem>> trackedItemsOnGround = board.getTrackedItemsOnGround();
+        output.writeInt(trackedItemsOnGround.size());
+        for (Map.Entry<Point, List<InventoryItem>> trackedItems : trackedItemsOnGround.entrySet()) {
+            writePoint(output, trackedItems.getKey());
+            writeItems(output, trackedItems.getValue());
+        }
+    }
+
+    static GameBoard readBoard(DataInput input) throws IOException {
+        int boardSize = input.readInt();
+        if (boardSize <= 0) {
+            throw new IOException("Invalid board size " + boardSize);
+        }
+        Point redStartLocation = readPoint(input);
+        Point blueStartLocation = readPoint(input);
+
+        // Items are added once the board exists, so it can track which tiles are active because of them
+        Tile[][] tiles = new Tile[boardSize][boardSize];
+        List<List<InventoryItem>> itemsOnTiles = new ArrayList<>(boardSize * boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            for (int j = 0; j < boardSize; j++) {
+                tiles[i][j] = readTile(input, new Point(j, (boardSize - 1) - i));
+                itemsOnTiles.add(readItems(input));
+            }
+        }
+        GameBoard board = new GameBoard(tiles);
+        board.setRedStartLocation(redStartLocation);
+        board.setBlueStartLocation(blueStartLocation);
+        for (int i = 0; i < boardSize; i++) {
+            for (int j = 0; j < boardSize; j++) {
+                List<InventoryItem> itemsOnTile = itemsOnTiles.get(i * boardSize + j);
+                if (!itemsOnTile.isEmpty()) {
+                    tiles[i][j].getItemsOnTile().addAll(itemsOnTile);
+                    board.trackActiveTile(tiles[i][j]);
+                }
+            }
+        }
+
+        int numAutominerTiles = input.readInt();
+        for (int i = 0; i < numAutominerTiles; i++) {
+            Point autominerTile = readPoint(input);
+            board.getAutominerTiles().put(autominerTile, input.readInt());
+        }
+
+        int numTrackedLocations = input.readInt();
+        for (int i = 0; i < numTrackedLocations; i++) {
+            Point trackedLocation = readPoint(input);
+            board.trackItemsOnPoint(trackedLocation, readItems(input));
+        }
+        return board;
+    }
+
+    private static void writeTile(DataOutput output, Tile tile) throws IOException {
+        Class<?> tileClass = tile.getClass();
+        if (tileClass == EmptyTile.class) {
+            output.writeByte(EMPTY_TILE);
+        } else if (tileClass == CrackedTile.class) {
+            output.writeByte(CRACKED_TILE);
+        } else if (tileClass == MarketTile.class) {
+            output.writeByte((tile.getType() == TileType.RED_MARKET) ? RED_MARKET_TILE : BLUE_MARKET_TILE);
+        } else if (tileClass == RechargeTile.class) {
+            output.writeByte(RECHARGE_TILE);
+        } else if (tileClass == ResourceTile.class) {
+            ResourceTile resourceTile = (ResourceTile) tile;
+            output.writeByte(RESOURCE_TILE);
+            output.writeByte(resourceTile.getTileResource().ordinal());
+            output.writeInt(resourceTile.getNumTimesMined());
+        } else {
+            throw new IllegalStateException("Can't checkpoint a " + tileClass.getSimpleName());
+        }
+    }
+
+    private static Tile readTile(DataInput input, Point tileLocation) throws IOException {
+        int tileKind = input.readByte();
+        switch (tileKind) {
+            case EMPTY_TILE:
+                return new EmptyTile(tileLocation);
+            case CRACKED_TILE:
+                return new CrackedTile(tileLocation);
+            case RED_MARKET_TILE:
+                return new MarketTile(tileLocation, true);
+            case BLUE_MARKET_TILE:
+                return new MarketTile(tileLocation, false);
+            case RECHARGE_TILE:
+                return new RechargeTile(tileLocation);
+            case RESOURCE_TILE:
+                ItemType tileResource = readItemType(input);
+                if (!tileResource.isResource()) {
+                    throw new IOException("Resource tile holding " + tileResource);
+                }
+                return new ResourceTile(tileLocation, tileResource, input.readInt());
+            default:
+                throw new IOException("Unknown tile kind " + tileKind);
+        }
+    }
+
+    static void writeEconomy(DataOutput output, Economy economy) throws IOException {
+        Map<ItemType, Integer> resourcePrices = economy.getCurrentPrices();
+        output.writeInt(resourcePrices.size());
+        for (Map.Entry<ItemType, Integer> resourcePrice : resourcePrices.entrySet()) {
+            output.writeByte(resourcePrice.getKey().ordinal());
+            output.writeInt(resourcePrice.getValue());
+        }
+    }
+
+    static void readEconomy(DataInput input, Economy economy) throws IOException {
+        int numPrices = input.readInt();
+        for (int i = 0; i < numPrices; i++) {
+            ItemType resourceType = readItemType(input);
+            economy.setPrice(resourceType, input.readInt());
+        }
+    }
+
+    static void writePlayer(DataOutput output, MinePlayer player) throws IOException {
+        writePoint(output, player.getCurrentTile().getLocation());
+        output.writeInt(player.getScore());
+        output.writeInt(player.getCurrentEnergy());
+        output.writeByte(player.getLastMove().ordinal());
+        output.writeLong(player.getRandomState());
+        writeItems(output, player.getInventory());
+
+        List<TurnAction> actions = player.getAllTurnActions();
+        output.writeInt(actions.size());
+        for (TurnAction action : actions) {
+            output.writeByte((action == null) ? NO_ACTION : action.ordinal());
+        }
+    }
+
+    /**
+     * Reads a player's state into a player created for the board it was read with, and puts the player on their
+     *  tile without calling onEnter(), since they were already standing there when the checkpoint was written
+     */
+    static void readPlayer(DataInput input, MinePlayer player, GameBoard board) throws IOException {
+        Point location = readPoint(input);
+        int score = input.readInt();
+        int energy = input.readInt();
+        TurnAction lastMove = readTurnAction(input);
+        long randomState = input.readLong();
+        List<InventoryItem> inventory = readItems(input, player.getMaxItems());
+
+        int numActions = input.readInt();
+        if (numActions < 0) {
+            throw new IOException("Invalid number of turn actions " + numActions);
+        }
+        List<TurnAction> actions = new ArrayList<>(Math.min(numActions, MAX_PRESIZED_LIST));
+        for (int i = 0; i < numActions; i++) {
+            actions.add(readTurnAction(input));
+        }
+
+        Tile currentTile = board.getTileAtLocation(location);
+        if (currentTile == null || lastMove == null) {
+            throw new IOException("Invalid player state at " + location);
+        }
+        player.restore(currentTile, score, energy, lastMove, randomState, inventory, actions);
+        currentTile.setPlayerOnTile(player);
+        board.trackActiveTile(currentTile);
+    }
+
+    private static void writePoint(DataOutput output, Point point) throws IOException {
+        output.writeInt(point.x);
+        output.writeInt(point.y);
+    }
+
+    private static Point readPoint(DataInput input) throws IOException {
+        int x = input.readInt();
+        int y = input.readInt();
+        return new Point(x, y);
+    }
+
+    private static void writeItems(DataOutput output, List<InventoryItem> items) throws IOException {
+        output.writeInt(items.size());
+        for (InventoryItem item : items) {
+            output.writeByte(item.getItemType().ordinal());
+        }
+    }
+
+    private static List<InventoryItem> readItems(DataInput input) throws IOException {
+        return readItems(input, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxItems The most items the list can hold, like the inventory size of the player it belongs to
+     */
+    private static List<InventoryItem> readItems(DataInput input, int maxItems) throws IOException {
+        int numItems = input.readInt();
+        if (numItems < 0 || numItems > maxItems) {
+            throw new IOException("Invalid number of items " + numItems);
+        }
+        List<InventoryItem> items = new ArrayList<>(Math.min(numItems, MAX_PRESIZED_LIST));
+        for (int i = 0; i < numItems; i++) {
+            items.add(new InventoryItem(readItemType(input)));
+        }
+        return items;
+    }
+
+    private static ResourcePlacement readResourcePlacement(DataInput input) throws IOException {
+        int placementOrdinal = input.readUnsignedByte();
+        if (placementOrdinal >= RESOURCE_PLACEMENTS.length) {
+            throw new IOException("Unknown resource placement " + placementOrdinal);
+        }
+        return RESOURCE_PLACEMENTS[placementOrdinal];
+    }
+
+    private static ItemType readItemType(DataInput input) throws IOException {
+        int itemOrdinal = input.readUnsignedByte();
+        if (itemOrdinal >= ITEM_TYPES.length) {
+            throw new IOException("Unknown item type " + itemOrdinal);
+        }
+        return ITEM_TYPES[itemOrdinal];
+    }
+
+    private static TurnAction readTurnAction(DataInput input) throws IOException {
+        int actionOrdinal = input.readByte();
+        if (actionOrdinal == NO_ACTION) {
+            return null;
+        } else if (actionOrdinal < 0 || actionOrdinal >= TURN_ACTIONS.length) {
+            throw new IOException("Unknown turn action " + actionOrdinal);
+        }
+        return TURN_ACTIONS[actionOrdinal];
+    }
+}
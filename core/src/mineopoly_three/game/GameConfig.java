@@ -0,0 +1,135 @@
+package mineopoly_three.game;
+
+/**
+ * The limits a game is played with. DEFAULT is the normal rules of Mine-opoly, and the with methods make a copy
+ *  with one limit changed, for stress testing the engine at sizes the normal rules never reach:
+ *  GameConfig.DEFAULT.withMaxTurns(1_000_000).withMaxItems(10_000)
+ * Boards can be anywhere from MIN_BOARD_SIZE to MAX_BOARD_SIZE tiles across. Above MAX_BOARD_SIZE the per-cell
+ *  arrays of a PackedGameBoard would need more elements than a Java array can hold
+ */
+public final class GameConfig {
+    public static final int MIN_BOARD_SIZE = 10;
+    // The largest size where every item count of every cell can still be indexed with an int
+    public static final int MAX_BOARD_SIZE = 23170;
+    public static final GameConfig DEFAULT = new GameConfig(GameEngine.MAX_TURNS_PER_GAME, 20, MinePlayer.MAX_ENERGY,
+                                                            MinePlayer.MAX_ITEMS, 30, ResourcePlacement.SAMPLED);
+
+    private final int maxTurns;
+    private final double turnsPerSecond;
+    private final int maxEnergy;
+    private final int maxItems;
+    private final int winningScorePerTile;
+    private final ResourcePlacement resourcePlacement;
+
+    private GameConfig(int maxTurns, double turnsPerSecond, int maxEnergy, int maxItems, int winningScorePerTile,
+                       ResourcePlacement resourcePlacement) {
+        this.maxTurns = maxTurns;
+        this.turnsPerSecond = turnsPerSecond;
+        this.maxEnergy = maxEnergy;
+        this.maxItems = maxItems;
+        this.winningScorePerTile = winningScorePerTile;
+        this.resourcePlacement = resourcePlacement;
+    }
+
+    /**
+     * @param maxTurns The number of turns after which a game ends even if nobody has won
+     */
+    public GameConfig withMaxTurns(int maxTurns) {
+        checkPositive("Max turns", maxTurns);
+        return new GameConfig(maxTurns, turnsPerSecond, maxEnergy, maxItems, winningScorePerTile, resourcePlacement);
+    }
+
+    /**
+     * @param turnsPerSecond How fast turns are played while the GUI is showing the game
+     */
+    public GameConfig withTurnsPerSecond(double turnsPerSecond) {
+        if (!(turnsPerSecond > 0)) {
+            throw new IllegalArgumentException("Turns per second must be positive");
+        }
+        return new GameConfig(maxTurns, turnsPerSecond, maxEnergy, maxItems, winningScorePerTile, resourcePlacement);
+    }
+
+    /**
+     * @param maxEnergy The charge robots start with and recharge up to
+     */
+    public GameConfig withMaxEnergy(int maxEnergy) {
+        checkPositive("Max energy", maxEnergy);
+        return new GameConfig(maxTurns, turnsPerSecond, maxEnergy, maxItems, winningScorePerTile, resourcePlacement);
+    }
+
+    /**
+     * @param maxItems The most items a player can carry at once
+     */
+    public GameConfig withMaxItems(int maxItems) {
+        checkPositive("Max items", maxItems);
+        return new GameConfig(maxTurns, turnsPerSecond, maxEnergy, maxItems, winningScorePerTile, resourcePlacement);
+    }
+
+    /**
+     * @param winningScorePerTile The score needed to win for every tile on the board
+     */
+    public GameConfig withWinningScorePerTile(int winningScorePerTile) {
+        checkPositive("Winning score per tile", winningScorePerTile);
+        return new GameConfig(maxTurns, turnsPerSecond, maxEnergy, maxItems, winningScorePerTile, resourcePlacement);
+    }
+
+    /**
+     * @param resourcePlacement How new worlds pick their resource tiles, SHUFFLED is much faster on huge boards
+     */
+    public GameConfig withResourcePlacement(ResourcePlacement resourcePlacement) {
+        if (resourcePlacement == null) {
+            throw new IllegalArgumentException("Resource placement can't be null");
+        }
+        return new GameConfig(maxTurns, turnsPerSecond, maxEnergy, maxItems, winningScorePerTile, resourcePlacement);
+    }
+
+    private static void checkPositive(String limitName, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(limitName + " must be positive, not " + value);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException If a board of this size can't be played on
+     */
+    static void checkBoardSize(int boardSize) {
+        if (boardSize < MIN_BOARD_SIZE || boardSize > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Board size must be between " + MIN_BOARD_SIZE + " and "
+                                               + MAX_BOARD_SIZE + ", not " + boardSize);
+        }
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public double getTurnsPerSecond() {
+        return turnsPerSecond;
+    }
+
+    public int getMaxEnergy() {
+        return maxEnergy;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public int getWinningScorePerTile() {
+        return winningScorePerTile;
+    }
+
+    public ResourcePlacement getResourcePlacement() {
+        return resourcePlacement;
+    }
+
+    /**
+     * @param boardSize The length and width of the board
+     * @return The score needed to win on a board of that size. Big enough boards would need a score higher than
+     *          a player's score can go, so it stops at Integer.MAX_VALUE
+     */
+    public int getMinScoreToWin(int boardSize) {
+        long minScoreToWin = (long) winningScorePerTile * boardSize * boardSize;
+        return (int) Math.min(minScoreToWin, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,819 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.Action;
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.event.GameEnded;
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.GameEventType;
+import mineopoly_three.event.TurnCompleted;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.jfr.GameFlightRecorder;
+import mineopoly_three.replay.Replay;
+import mineopoly_three.strategy.ActionPlan;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlanningStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.util.DistanceUtil;
+import mineopoly_three.util.GameRandomStreams;
+import mineopoly_three.util.LatencyHistogram;
+import mineopoly_three.util.VirtualThreads;
+
+import java.awt.Point;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntBinaryOperator;
+
+@SuppressWarnings("unused")
+public class GameEngine {
+    static final int MAX_TURNS_PER_GAME = 1000;
+
+    private final GameConfig config;
+    private long randomSeed;
+    private WorldGenerator worldGenerator;
+    private GameBoard board;
+    private MinePlayer redPlayer;
+    private MinePlayer bluePlayer;
+    private Economy economy;
+    private boolean guiEnabled;
+    private int minScoreToWin;
+    private int turnNumber;
+    private boolean isRedTurn;
+    private StrategyTimeBudget timeBudget;
+    private StrategyCallTimer redCallTimer;
+    private StrategyCallTimer blueCallTimer;
+    private EngineMetrics metrics;
+    // Created before anything else so the board and economy can publish to it from the first game on
+    private final GameEventBus eventBus = new GameEventBus();
+    private final GameFlightRecorder flightRecorder = new GameFlightRecorder();
+    private boolean simultaneousTurns;
+    private boolean virtualStrategyThreads;
+    // Asks the second player for their action during simultaneous turns, only created once it is needed
+    private ExecutorService turnExecutor;
+    // The rest of the plans of PlanningStrategy players, which aren't part of checkpoints
+    private final PlanFollower redPlan = new PlanFollower();
+    private final PlanFollower bluePlan = new PlanFollower();
+    private final IntBinaryOperator tileStates = (x, y) -> board.getTileState(x, y);
+    private int plannedActions;
+    private int visionRadius = -1;
+    private PlayerVision redVision;
+    private PlayerVision blueVision;
+
+    // True until the strategies of a game read from a checkpoint have been initialized
+    private boolean resumingFromCheckpoint;
+
+    // Variables to greatly simplify exception flow logic
+    private MinePlayer playerWhoThrewException;
+    private Exception exceptionThrown;
+
+    public GameEngine(int boardSize, MinePlayerStrategy redPlayerStrategy, MinePlayerStrategy bluePlayerStrategy) {
+        this(boardSize, redPlayerStrategy, bluePlayerStrategy, System.currentTimeMillis());
+    }
+
+    public GameEngine(int boardSize, MinePlayerStrategy redPlayerStrategy, MinePlayerStrategy bluePlayerStrategy, long randomSeed) {
+        this(boardSize, redPlayerStrategy, bluePlayerStrategy, randomSeed, GameConfig.DEFAULT);
+    }
+
+    /**
+     * @param config The limits to play with instead of the normal rules, like a bigger inventory for stress tests
+     */
+    public GameEngine(int boardSize, MinePlayerStrategy redPlayerStrategy, MinePlayerStrategy bluePlayerStrategy,
+                      long randomSeed, GameConfig config) {
+        this.config = config;
+        // Generate a random GameBoard and set player start tiles
+        this.setupEngineForGame(boardSize, randomSeed);
+
+        Tile redStartTile = board.getTileAtLocation(board.getRedStartTileLocation());
+        Tile blueStartTile = board.getTileAtLocation(board.getBlueStartTileLocation());
+        this.redPlayer = new MinePlayer(redPlayerStrategy, redStartTile, economy, randomSeed, true, config);
+        this.bluePlayer = new MinePlayer(bluePlayerStrategy, blueStartTile, economy, randomSeed, false, config);
+        this.guiEnabled = false;
+        this.timeBudget = StrategyTimeBudget.UNLIMITED;
+        this.metrics = EngineMetrics.DISABLED;
+        this.createCallTimers();
+    }
+
+    private GameEngine(DataInput checkpointInput, MinePlayerStrategy redPlayerStrategy,
+                       MinePlayerStrategy bluePlayerStrategy) throws IOException {
+        GameCheckpoint.readMagicAndVersion(checkpointInput);
+        this.config = GameCheckpoint.readConfig(checkpointInput);
+        this.randomSeed = checkpointInput.readLong();
+        this.minScoreToWin = checkpointInput.readInt();
+        this.turnNumber = checkpointInput.readInt();
+        this.isRedTurn = checkpointInput.readBoolean();
+        this.board = GameCheckpoint.readBoard(checkpointInput);
+        this.economy = createEconomy();
+        GameCheckpoint.readEconomy(checkpointInput, economy);
+        board.setEventBus(eventBus);
+        economy.setEventBus(eventBus);
+        board.setFlightRecorder(flightRecorder);
+        economy.setFlightRecorder(flightRecorder);
+
+        Tile redStartTile = board.getTileAtLocation(board.getRedStartTileLocation());
+        Tile blueStartTile = board.getTileAtLocation(board.getBlueStartTileLocation());
+        this.redPlayer = new MinePlayer(redPlayerStrategy, redStartTile, economy, randomSeed, true, config);
+        this.bluePlayer = new MinePlayer(bluePlayerStrategy, blueStartTile, economy, randomSeed, false, config);
+        GameCheckpoint.readPlayer(checkpointInput, redPlayer, board);
+        GameCheckpoint.readPlayer(checkpointInput, bluePlayer, board);
+        this.guiEnabled = false;
+        this.timeBudget = StrategyTimeBudget.UNLIMITED;
+        this.metrics = EngineMetrics.DISABLED;
+        this.createCallTimers();
+        this.resumingFromCheckpoint = true;
+    }
+
+    /**
+     * Reads a game written by writeCheckpoint() into a new engine, which continues the game from the same turn when
+     *  runGame() is called. The strategies are initialized with a view of the board at that turn instead of the
+     *  starting board. Any state a strategy kept between turns is not part of a checkpoint, so the game continues
+     *  exactly as it would have if the strategies decide from what they are given, like a ReplayStrategy playing
+     *  the actions after the checkpoint
+     *
+     * @param inputStream The stream to read the checkpoint from, it will not be closed
+     * @param redPlayerStrategy The strategy to continue the game as the red player
+     * @param bluePlayerStrategy The strategy to continue the game as the blue player
+     * @return A GameEngine in the state the checkpoint was written in
+     * @throws IOException If there is an issue reading the stream or it does not hold a valid checkpoint
+     */
+    public static GameEngine readCheckpoint(InputStream inputStream, MinePlayerStrategy redPlayerStrategy,
+                                            MinePlayerStrategy bluePlayerStrategy) throws IOException {
+        return new GameEngine(new DataInputStream(new BufferedInputStream(inputStream)), redPlayerStrategy,
+                              bluePlayerStrategy);
+    }
+
+    /**
+     * Writes the whole state of this game in a compact binary format: the GameConfig, the board's tiles, mining
+     *  progress and items, the autominers, both players, the economy's prices and the turn counter. Meant to be
+     *  called between turns, like from a TurnCompleted listener, so the game can be continued later with
+     *  readCheckpoint()
+     *
+     * @param outputStream The stream to write the checkpoint to, it will be flushed but not closed
+     * @throws IOException If there is an issue writing to the stream
+     */
+    public void writeCheckpoint(OutputStream outputStream) throws IOException {
+        DataOutputStream checkpointOutput = new DataOutputStream(new BufferedOutputStream(outputStream));
+        GameCheckpoint.writeMagicAndVersion(checkpointOutput);
+        GameCheckpoint.writeConfig(checkpointOutput, config);
+        checkpointOutput.writeLong(randomSeed);
+        checkpointOutput.writeInt(minScoreToWin);
+        checkpointOutput.writeInt(turnNumber);
+        checkpointOutput.writeBoolean(isRedTurn);
+        GameCheckpoint.writeBoard(checkpointOutput, board);
+        GameCheckpoint.writeEconomy(checkpointOutput, economy);
+        GameCheckpoint.writePlayer(checkpointOutput, redPlayer);
+        GameCheckpoint.writePlayer(checkpointOutput, bluePlayer);
+        checkpointOutput.flush();
+    }
+
+    private static Economy createEconomy() {
+        return new Economy(Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new));
+    }
+
+    private void setupEngineForGame(int boardSize, long randomSeed) {
+        this.randomSeed = randomSeed;
+        if (worldGenerator == null) {
+            this.worldGenerator = new WorldGenerator(randomSeed, config.getResourcePlacement());
+        } else {
+            worldGenerator.setSeed(randomSeed);
+        }
+
+        // Boards and the Economy are reused between games instead of being thrown away
+        if (board != null && board.getSize() == boardSize) {
+            worldGenerator.regenerateBoard(board);
+        } else {
+            this.board = worldGenerator.generateBoard(boardSize);
+        }
+        if (economy == null) {
+            this.economy = createEconomy();
+        } else {
+            economy.reset();
+        }
+        board.setEventBus(eventBus);
+        economy.setEventBus(eventBus);
+        board.setFlightRecorder(flightRecorder);
+        economy.setFlightRecorder(flightRecorder);
+
+        this.minScoreToWin = config.getMinScoreToWin(boardSize);
+        this.turnNumber = 0;
+        this.isRedTurn = true;
+        this.resumingFromCheckpoint = false;
+        // Anything left over from the last game on this engine belonged to the old board
+        redPlan.cancel();
+        bluePlan.cancel();
+        this.plannedActions = 0;
+        this.redVision = null;
+        this.blueVision = null;
+
+        this.playerWhoThrewException = null;
+        this.exceptionThrown = null;
+    }
+
+    /**
+     * Allows the same GameEngine object to be used for multiple games. The board, players and Economy are reset in
+     *  place, so games on the same board size as the last one create very little garbage
+     *
+     * @param newBoardSize The size of the new game board to be generated
+     * @param newSeed The new random seed value for world generation and the strategies to use
+     * @param swapPlayers If true, the last red player will be the next blue player and vice versa
+     */
+    public void reset(int newBoardSize, long newSeed, boolean swapPlayers) {
+        MinePlayerStrategy redPlayerStrategy = this.redPlayer.getStrategy();
+        MinePlayerStrategy bluePlayerStrategy = this.bluePlayer.getStrategy();
+        if (swapPlayers) {
+            this.reset(newBoardSize, newSeed, bluePlayerStrategy, redPlayerStrategy);
+        } else {
+            this.reset(newBoardSize, newSeed, redPlayerStrategy, bluePlayerStrategy);
+        }
+    }
+
+    /**
+     * Allows the same GameEngine object to be used for multiple games with new strategies
+     *
+     * @param newBoardSize The size of the new game board to be generated
+     * @param newSeed The new random seed value for world generation and the strategies to use
+     * @param redPlayerStrategy The strategy of the red player in the new game
+     * @param bluePlayerStrategy The strategy of the blue player in the new game
+     */
+    public void reset(int newBoardSize, long newSeed, MinePlayerStrategy redPlayerStrategy,
+                      MinePlayerStrategy bluePlayerStrategy) {
+        this.setupEngineForGame(newBoardSize, newSeed);
+
+        Tile redStartTile = board.getTileAtLocation(board.getRedStartTileLocation());
+        Tile blueStartTile = board.getTileAtLocation(board.getBlueStartTileLocation());
+        redPlayer.reset(redPlayerStrategy, redStartTile, randomSeed);
+        bluePlayer.reset(bluePlayerStrategy, blueStartTile, randomSeed);
+        redCallTimer.reset();
+        blueCallTimer.reset();
+    }
+
+    private void createCallTimers() {
+        this.redCallTimer = new StrategyCallTimer(timeBudget, "Red", virtualStrategyThreads);
+        this.blueCallTimer = new StrategyCallTimer(timeBudget, "Blue", virtualStrategyThreads);
+    }
+
+    public GameBoard getBoard() {
+        return board;
+    }
+
+    public MinePlayer getRedPlayer() {
+        return redPlayer;
+    }
+
+    public MinePlayer getBluePlayer() {
+        return bluePlayer;
+    }
+
+    public Economy getEconomy() {
+        return economy;
+    }
+
+    public int getRedPlayerScore() {
+        return redPlayer.getScore();
+    }
+
+    public int getBluePlayerScore() {
+        return bluePlayer.getScore();
+    }
+
+    public int getMinScoreToWin() {
+        // The minimum score to immediately end the game without finishing 1000 turns
+        return minScoreToWin;
+    }
+
+    public Exception getExceptionThrown() {
+        return exceptionThrown;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    public boolean isGuiEnabled() {
+        return this.guiEnabled;
+    }
+
+    public void setGuiEnabled(boolean guiEnabled) {
+        this.guiEnabled = guiEnabled;
+    }
+
+    /**
+     * Copies the state of this game into a GameState that can be stepped forward without affecting this game.
+     *  Meant to be called between turns, like from a TurnCompleted listener
+     *
+     * @return A GameState snapshot of this game
+     */
+    public GameState createSnapshot() {
+        return GameState.copyOf(board, economy, redPlayer, bluePlayer, minScoreToWin, config.getMaxTurns(), turnNumber,
+                                isRedTurn);
+    }
+
+    public StrategyTimeBudget getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Sets how long the strategies may take to respond, starting with the next game this engine runs.
+     *  A strategy that goes over its budget gets a score of -1, just like a strategy that throws an exception
+     *
+     * @param timeBudget The time budget for each strategy
+     */
+    public void setTimeBudget(StrategyTimeBudget timeBudget) {
+        this.timeBudget = timeBudget;
+        this.createCallTimers();
+    }
+
+    /**
+     * @return How long each of the red strategy's calls took in the last game, in nanoseconds. The same histogram
+     *          is cleared and reused by reset()
+     */
+    public LatencyHistogram getRedStrategyLatencies() {
+        return redCallTimer.getCallLatencies();
+    }
+
+    /**
+     * @return How long each of the blue strategy's calls took in the last game, in nanoseconds. The same histogram
+     *          is cleared and reused by reset()
+     */
+    public LatencyHistogram getBlueStrategyLatencies() {
+        return blueCallTimer.getCallLatencies();
+    }
+
+    /**
+     * @return The bus this engine, its board and its economy publish game events to. Listeners stay subscribed
+     *          when the engine is reset for another game
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    public EngineMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets where this engine reports how long each phase of a game takes and how much work it did.
+     *  Metrics are added to at the end of every game this engine runs until they are changed again
+     *
+     * @param metrics The EngineMetrics to report to, or EngineMetrics.DISABLED to stop collecting metrics
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public boolean isSimultaneousTurns() {
+        return simultaneousTurns;
+    }
+
+    /**
+     * Sets whether both players choose their action at the same time. With simultaneous turns both players get a
+     *  view of the board from before anyone moved and their getTurnAction() calls run at the same time on different
+     *  threads. The actions are then performed in turn order, so when both players move onto the same tile the
+     *  player whose turn it is gets it and the other player does nothing, as described for isRedTurn in
+     *  MinePlayerStrategy. Turned off by default, where the second player sees the first player's action
+     *
+     * @param simultaneousTurns True to ask both players for their actions at the same time
+     */
+    public void setSimultaneousTurns(boolean simultaneousTurns) {
+        this.simultaneousTurns = simultaneousTurns;
+    }
+
+    public int getVisionRadius() {
+        return visionRadius;
+    }
+
+    /**
+     * Limits how much of the board each player can see, starting with the next game this engine runs. Players see
+     *  every tile within the radius of their robot in both directions and remember the rest as they last saw it,
+     *  tiles they have never seen show up as TileType.UNKNOWN. Markets and recharge tiles are always known, and the
+     *  other player's location is null while they are out of view. Checkpoints don't save what players remember,
+     *  so a resumed game starts with only the markets and recharge tiles known again
+     *
+     * @param visionRadius How many tiles away from their robot players can see, or a negative number to see the
+     *                      whole board, which is the default
+     */
+    public void setVisionRadius(int visionRadius) {
+        this.visionRadius = visionRadius;
+    }
+
+    public boolean isVirtualStrategyThreads() {
+        return virtualStrategyThreads;
+    }
+
+    /**
+     * Sets whether strategy calls that can't run on the engine's own thread use virtual threads, starting with the
+     *  next game this engine runs. That is every call under a limited StrategyTimeBudget and the second player's
+     *  calls during simultaneous turns. Falls back to platform threads on JVMs without virtual threads
+     *
+     * @param virtualStrategyThreads True to make strategy calls on virtual threads
+     */
+    public void setVirtualStrategyThreads(boolean virtualStrategyThreads) {
+        this.virtualStrategyThreads = virtualStrategyThreads;
+        this.createCallTimers();
+    }
+
+    public Replay getReplay() {
+        boolean redThrewException = (playerWhoThrewException == redPlayer);
+        boolean blueThrewException = (playerWhoThrewException == bluePlayer);
+        return new Replay(board.getSize(), randomSeed, redPlayer.getAllTurnActions(), bluePlayer.getAllTurnActions(),
+                          redThrewException, blueThrewException);
+    }
+
+    /**
+     * Runs through a round of Mine-opoly until either the maximum number of turns is reached
+     *  or a player achieves the score needed to win. If either player strategy throws an exception at any time,
+     *  that strategy will receive a score of -1 and the game will end
+     */
+    public void runGame() {
+        // Wait a few seconds at the start for graphical components to load
+        delayBetweenGuiFrames(2000);
+
+        flightRecorder.beginGame(randomSeed, board.getSize(), turnNumber, redPlayer.getStrategy(),
+                                 bluePlayer.getStrategy());
+        try {
+            runGameLoop();
+        } catch (Exception e) {
+            // It's generally bad practice to catch generic Exceptions, but because a strategy can throw an exception
+            // of any type, it's unavoidable here
+            playerWhoThrewException.setScore(-1);
+            this.exceptionThrown = e;
+            e.printStackTrace();
+        } finally {
+            redCallTimer.shutdown();
+            blueCallTimer.shutdown();
+            shutdownTurnExecutor();
+            recordGameMetrics();
+        }
+        flightRecorder.endGame(redPlayer.getScore(), bluePlayer.getScore());
+
+        // Let anything listening, like the GUI, know the final scores
+        if (eventBus.hasListeners(GameEventType.GAME_ENDED)) {
+            eventBus.publish(GameEventType.GAME_ENDED, new GameEnded(turnNumber, redPlayer.getScore(),
+                                                                     bluePlayer.getScore(), exceptionThrown));
+        }
+    }
+
+    private void recordGameMetrics() {
+        if (!metrics.isEnabled()) {
+            return;
+        }
+
+        // Strategy calls were already timed for their time budgets, so those latencies are reused here
+        metrics.recordPhase(EngineMetrics.Phase.STRATEGY, redCallTimer.getCallLatencies());
+        metrics.recordPhase(EngineMetrics.Phase.STRATEGY, blueCallTimer.getCallLatencies());
+        metrics.addCount(EngineMetrics.Counter.GAMES_PLAYED, 1);
+        metrics.addCount(EngineMetrics.Counter.TURNS_PLAYED, turnNumber);
+        metrics.addCount(EngineMetrics.Counter.TILES_SCANNED, board.getTilesScanned());
+        metrics.addCount(EngineMetrics.Counter.VIEWS_BUILT, board.getViewsBuilt());
+        if (redVision != null) {
+            metrics.addCount(EngineMetrics.Counter.VIEWS_BUILT, redVision.getViewsBuilt());
+            metrics.addCount(EngineMetrics.Counter.VIEWS_BUILT, blueVision.getViewsBuilt());
+        }
+        metrics.addCount(EngineMetrics.Counter.PLANNED_ACTIONS, plannedActions);
+        metrics.addCount(EngineMetrics.Counter.ITEMS_COPIED, board.getItemsCopied());
+        metrics.addCount(EngineMetrics.Counter.SALES_EXECUTED, economy.getSalesExecuted());
+        metrics.addCount(EngineMetrics.Counter.ITEMS_SOLD, economy.getItemsSold());
+    }
+
+    private StrategyCallTimer getCallTimer(MinePlayer player) {
+        return (player == redPlayer) ? redCallTimer : blueCallTimer;
+    }
+
+    private void runGameLoop() {
+        if (visionRadius >= 0) {
+            this.redVision = new PlayerVision(board, visionRadius);
+            this.blueVision = new PlayerVision(board, visionRadius);
+            board.addPlayerVision(redVision);
+            board.addPlayerVision(blueVision);
+            redVision.moveTo(redPlayer.getCurrentTile().getLocation());
+            blueVision.moveTo(bluePlayer.getCurrentTile().getLocation());
+        }
+        initializePlayer(redPlayer, true);
+        initializePlayer(bluePlayer, false);
+        resumingFromCheckpoint = false;
+
+        MinePlayer firstPlayer;
+        MinePlayer secondPlayer;
+        // Only a game resumed from a checkpoint can already have a winner here
+        boolean roundHasWinner = (redPlayer.getScore() >= minScoreToWin) || (bluePlayer.getScore() >= minScoreToWin);
+
+        int maxTurns = config.getMaxTurns();
+        while (turnNumber < maxTurns && !roundHasWinner) {
+            delayBetweenGuiFrames((long) (1000 / config.getTurnsPerSecond()));
+            long turnStartTime = metrics.startTimer();
+            flightRecorder.beginTurn(turnNumber, isRedTurn);
+
+            if (isRedTurn) {
+                firstPlayer = redPlayer;
+                secondPlayer = bluePlayer;
+            } else {
+                firstPlayer = bluePlayer;
+                secondPlayer = redPlayer;
+            }
+
+            if (simultaneousTurns) {
+                processSimultaneousTurn(firstPlayer, secondPlayer, isRedTurn);
+            } else {
+                processTurn(firstPlayer, secondPlayer, isRedTurn);
+                processTurn(secondPlayer, firstPlayer, isRedTurn);
+            }
+
+            long boardUpdateStartTime = metrics.startTimer();
+            board.update();
+            metrics.stopTimer(EngineMetrics.Phase.BOARD_UPDATE, boardUpdateStartTime);
+
+            firstPlayer.setCurrentTile(board.getTileAtLocation(firstPlayer.getCurrentTile().getLocation()));
+            secondPlayer.setCurrentTile(board.getTileAtLocation(secondPlayer.getCurrentTile().getLocation()));
+
+            long economyUpdateStartTime = metrics.startTimer();
+            economy.increaseDemand();
+            metrics.stopTimer(EngineMetrics.Phase.ECONOMY_UPDATE, economyUpdateStartTime);
+            flightRecorder.endTurn();
+
+            isRedTurn = !isRedTurn;
+            turnNumber++;
+            roundHasWinner = (redPlayer.getScore() >= minScoreToWin) || (bluePlayer.getScore() >= minScoreToWin);
+            metrics.stopTimer(EngineMetrics.Phase.TURN, turnStartTime);
+            // The state of the engine has changed, let anything listening (like the GUI) know
+            if (eventBus.hasListeners(GameEventType.TURN_COMPLETED)) {
+                eventBus.publish(GameEventType.TURN_COMPLETED, new TurnCompleted(turnNumber, redPlayer.getScore(),
+                                                                                 bluePlayer.getScore()));
+            }
+        }
+
+        endRound();
+    }
+
+    private void initializePlayer(MinePlayer playerToInitialize, boolean isRedPlayer) {
+        playerWhoThrewException = playerToInitialize; // If an exception gets thrown, we know who did it
+
+        int boardSize = board.getSize();
+        int maxInventorySize = config.getMaxItems();
+        int maxCharge = config.getMaxEnergy();
+        Point playerStartLocation = playerToInitialize.getCurrentTile().getLocation();
+        Point playerStartCopy = new Point(playerStartLocation.x, playerStartLocation.y);
+
+        // Figure out start tiles based on color
+        Point startTileLocation;
+        Point opponentStartTile;
+        int opponentScore = 0;
+        if (playerToInitialize.isRedPlayer()) {
+            startTileLocation = board.getRedStartTileLocation();
+            opponentStartTile = board.getBlueStartTileLocation();
+        } else {
+            startTileLocation = board.getBlueStartTileLocation();
+            opponentStartTile = board.getRedStartTileLocation();
+        }
+        if (resumingFromCheckpoint) {
+            // Both players are already somewhere on the board, the strategies start from there
+            MinePlayer opponent = (playerToInitialize == redPlayer) ? bluePlayer : redPlayer;
+            opponentStartTile = opponent.getCurrentTile().getLocation();
+            opponentScore = opponent.getScore();
+        }
+
+        // Get the initial view of the board and finally initialize the strategy
+        PlayerBoardView startingBoard = convertToView(playerToInitialize, opponentStartTile, opponentScore);
+        MinePlayerStrategy playerStrategy = playerToInitialize.getStrategy();
+        StrategyCallTimer callTimer = getCallTimer(playerToInitialize);
+        long callLimitNanos = callTimer.getNextCallLimitNanos();
+        long gameNanosRemaining = callTimer.getGameNanosRemaining();
+        callTimer.call(() -> {
+            playerStrategy.onTimeBudget(callLimitNanos, gameNanosRemaining);
+            playerStrategy.initialize(boardSize, maxInventorySize, maxCharge, minScoreToWin, startingBoard,
+                                      playerStartCopy, isRedPlayer,
+                                      GameRandomStreams.forStrategy(randomSeed,
+                                                                    GameRandomStreams.getPlayerIndex(isRedPlayer)));
+            return null;
+        }, "initialize");
+        if (!resumingFromCheckpoint) {
+            Tile startTile = board.getTileAtLocation(startTileLocation);
+            startTile.onEnter(playerToInitialize);
+            board.trackActiveTile(startTile);
+        }
+    }
+
+    private void processTurn(MinePlayer currentPlayer, MinePlayer otherPlayer, boolean isRedTurn) {
+        playerWhoThrewException = currentPlayer; // If an exception gets thrown, we know who did it
+
+        // Follow the player's plan if they have one, otherwise ask them what they want to do
+        TurnAction playerAction;
+        PlanFollower plan = getPlan(currentPlayer);
+        if (hasPlannedAction(currentPlayer, otherPlayer)) {
+            playerAction = plan.nextAction();
+        } else {
+            PlayerBoardView boardView = createPlayerView(currentPlayer, otherPlayer);
+            playerAction = askForTurnAction(currentPlayer, boardView, isRedTurn);
+        }
+        currentPlayer.addTurnAction(playerAction);
+        performTurnAction(currentPlayer, playerAction);
+        updateVision(currentPlayer);
+        plan.recordTileStates(tileStates, getVision(currentPlayer));
+    }
+
+    private void processSimultaneousTurn(MinePlayer firstPlayer, MinePlayer secondPlayer, boolean isRedTurn) {
+        // Plans are checked and views are built before anyone acts, so neither player gets to see what the other
+        // one did this turn
+        playerWhoThrewException = firstPlayer;
+        boolean firstPlayerHasPlan = hasPlannedAction(firstPlayer, secondPlayer);
+        boolean secondPlayerHasPlan = hasPlannedAction(secondPlayer, firstPlayer);
+        PlayerBoardView firstPlayerView = firstPlayerHasPlan ? null : createPlayerView(firstPlayer, secondPlayer);
+        PlayerBoardView secondPlayerView = secondPlayerHasPlan ? null : createPlayerView(secondPlayer, firstPlayer);
+
+        Future<TurnAction> secondPlayerResult = null;
+        if (!secondPlayerHasPlan) {
+            secondPlayerResult = getTurnExecutor().submit(
+                    () -> askForTurnAction(secondPlayer, secondPlayerView, isRedTurn));
+        }
+        TurnAction firstPlayerAction;
+        try {
+            firstPlayerAction = firstPlayerHasPlan ? getPlan(firstPlayer).nextAction()
+                                                   : askForTurnAction(firstPlayer, firstPlayerView, isRedTurn);
+        } catch (RuntimeException | Error e) {
+            if (secondPlayerResult != null) {
+                secondPlayerResult.cancel(true);
+            }
+            throw e;
+        }
+
+        playerWhoThrewException = secondPlayer;
+        TurnAction secondPlayerAction;
+        try {
+            secondPlayerAction = secondPlayerHasPlan ? getPlan(secondPlayer).nextAction() : secondPlayerResult.get();
+        } catch (ExecutionException e) {
+            throw StrategyCallTimer.rethrowStrategyException(e);
+        } catch (InterruptedException e) {
+            secondPlayerResult.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the second player's action", e);
+        }
+
+        // Going in turn order breaks ties: a move onto an occupied tile does nothing, so the first player wins it
+        firstPlayer.addTurnAction(firstPlayerAction);
+        secondPlayer.addTurnAction(secondPlayerAction);
+        performTurnAction(firstPlayer, firstPlayerAction);
+        updateVision(firstPlayer);
+        getPlan(firstPlayer).recordTileStates(tileStates, getVision(firstPlayer));
+        performTurnAction(secondPlayer, secondPlayerAction);
+        updateVision(secondPlayer);
+        getPlan(secondPlayer).recordTileStates(tileStates, getVision(secondPlayer));
+    }
+
+    private PlanFollower getPlan(MinePlayer player) {
+        return (player == redPlayer) ? redPlan : bluePlan;
+    }
+
+    /**
+     * @return The player's vision, or null if players can see the whole board
+     */
+    private PlayerVision getVision(MinePlayer player) {
+        return (player == redPlayer) ? redVision : blueVision;
+    }
+
+    private void updateVision(MinePlayer player) {
+        PlayerVision vision = getVision(player);
+        if (vision != null) {
+            vision.moveTo(player.getCurrentTile().getLocation());
+        }
+    }
+
+    /**
+     * @return True if the player is following a plan that still has an action for this turn
+     */
+    private boolean hasPlannedAction(MinePlayer currentPlayer, MinePlayer otherPlayer) {
+        Point playerLocation = currentPlayer.getCurrentTile().getLocation();
+        Point otherLocation = otherPlayer.getCurrentTile().getLocation();
+        int distanceToOpponent = DistanceUtil.getManhattanDistance(playerLocation, otherLocation);
+        PlayerVision vision = getVision(currentPlayer);
+        if (vision != null && !vision.isVisible(otherLocation.x, otherLocation.y)) {
+            // A plan can't be cancelled by an opponent the player can't see
+            distanceToOpponent = Integer.MAX_VALUE;
+        }
+        if (getPlan(currentPlayer).hasNextAction(currentPlayer.getCurrentEnergy(), distanceToOpponent, tileStates,
+                                                 vision)) {
+            plannedActions++;
+            return true;
+        }
+        return false;
+    }
+
+    private PlayerBoardView createPlayerView(MinePlayer currentPlayer, MinePlayer otherPlayer) {
+        long convertToViewStartTime = metrics.startTimer();
+        PlayerBoardView boardView = convertToView(currentPlayer, otherPlayer.getCurrentTile().getLocation(),
+                                                  otherPlayer.getScore());
+        metrics.stopTimer(EngineMetrics.Phase.CONVERT_TO_VIEW, convertToViewStartTime);
+        return boardView;
+    }
+
+    private PlayerBoardView convertToView(MinePlayer playerReceivingView, Point otherPlayerLocation,
+                                          int otherPlayerScore) {
+        PlayerVision vision = getVision(playerReceivingView);
+        if (vision == null) {
+            return board.convertToView(playerReceivingView, otherPlayerLocation, otherPlayerScore);
+        }
+        return vision.createView(playerReceivingView.getCurrentTile().getLocation(), otherPlayerLocation,
+                                 otherPlayerScore);
+    }
+
+    private TurnAction askForTurnAction(MinePlayer currentPlayer, PlayerBoardView boardView, boolean isRedTurn) {
+        MinePlayerStrategy playerStrategy = currentPlayer.getStrategy();
+        int robotCharge = currentPlayer.getCurrentEnergy();
+        StrategyCallTimer callTimer = getCallTimer(currentPlayer);
+        long callLimitNanos = callTimer.getNextCallLimitNanos();
+        long gameNanosRemaining = callTimer.getGameNanosRemaining();
+        boolean isRedPlayer = currentPlayer.isRedPlayer();
+        flightRecorder.beginStrategyCall(isRedPlayer);
+        TurnAction playerAction;
+        // onTimeBudget() is part of the timed call, so a strategy can't get around its budget by stalling in it
+        if (playerStrategy instanceof PlanningStrategy) {
+            PlanningStrategy planningStrategy = (PlanningStrategy) playerStrategy;
+            ActionPlan plan = callTimer.call(() -> {
+                planningStrategy.onTimeBudget(callLimitNanos, gameNanosRemaining);
+                return planningStrategy.getActionPlan(boardView, economy, robotCharge, isRedTurn);
+            }, "getActionPlan");
+            playerAction = getPlan(currentPlayer).start(plan, tileStates);
+        } else {
+            playerAction = callTimer.call(() -> {
+                playerStrategy.onTimeBudget(callLimitNanos, gameNanosRemaining);
+                return playerStrategy.getTurnAction(boardView, economy, robotCharge, isRedTurn);
+            }, "getTurnAction");
+        }
+        flightRecorder.endStrategyCall(isRedPlayer, playerAction);
+        return playerAction;
+    }
+
+    private void performTurnAction(MinePlayer currentPlayer, TurnAction playerAction) {
+        if (playerAction == null) {
+            return;
+        }
+
+        long performActionStartTime = metrics.startTimer();
+        flightRecorder.setActingPlayer(currentPlayer.isRedPlayer());
+        Action actionToPerform = playerAction.getActionToPerform();
+        actionToPerform.performAction(board, currentPlayer, playerAction);
+        metrics.stopTimer(EngineMetrics.Phase.PERFORM_ACTION, performActionStartTime);
+    }
+
+    private ExecutorService getTurnExecutor() {
+        if (turnExecutor == null) {
+            if (virtualStrategyThreads) {
+                turnExecutor = Executors.newSingleThreadExecutor(VirtualThreads.newThreadFactory("Simultaneous turn"));
+            } else {
+                turnExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread turnThread = new Thread(runnable, "Simultaneous turn");
+                    turnThread.setDaemon(true);
+                    return turnThread;
+                });
+            }
+        }
+        return turnExecutor;
+    }
+
+    private void shutdownTurnExecutor() {
+        if (turnExecutor != null) {
+            turnExecutor.shutdownNow();
+            turnExecutor = null;
+        }
+    }
+
+    private void endRound() {
+        int redPlayerScore = redPlayer.getScore();
+        int bluePlayerScore = bluePlayer.getScore();
+        playerWhoThrewException = redPlayer;
+        redCallTimer.call(() -> {
+            redPlayer.getStrategy().endRound(redPlayerScore, bluePlayerScore);
+            return null;
+        }, "endRound");
+        playerWhoThrewException = bluePlayer;
+        blueCallTimer.call(() -> {
+            bluePlayer.getStrategy().endRound(bluePlayerScore, redPlayerScore);
+            return null;
+        }, "endRound");
+        playerWhoThrewException = null;
+    }
+
+    private void delayBetweenGuiFrames(long millisecondsToWait) {
+        if (!guiEnabled) {
+            return;
+        }
+
+        try {
+            Thread.sleep(millisecondsToWait);
+        } catch (InterruptedException e) {
+            System.err.println("Sleeping in between turns failed");
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.PlayerBoardView;
+
+import java.awt.Point;
+
+/**
+ * A standalone copy of a game between turns: the board with its items and autominer counters, both players'
+ *  locations, energy, inventories and scores, and the Economy's prices.
+ * A GameState shares nothing that changes with the game it was taken from or with its forks, so it can be stepped
+ *  forward with hypothetical TurnActions for lookahead search without touching the live game. The players in a
+ *  GameState have no strategies, so nobody is told about items received or sold while stepping
+ */
+public class GameState {
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+    // The FNV-1a 64 bit offset basis and prime, applied to whole ints instead of single bytes
+    private static final long HASH_START = 0xCBF29CE484222325L;
+    private static final long HASH_PRIME = 0x100000001B3L;
+
+    private final PackedGameBoard board;
+    private final Economy economy;
+    private final MinePlayer redPlayer;
+    private final MinePlayer bluePlayer;
+    private final int minScoreToWin;
+    private final int maxTurns;
+    private int turnNumber;
+    private boolean isRedTurn;
+
+    private GameState(PackedGameBoard board, Economy economy, MinePlayer redPlayer, MinePlayer bluePlayer,
+                      int minScoreToWin, int maxTurns, int turnNumber, boolean isRedTurn) {
+        this.board = board;
+        this.economy = economy;
+        this.redPlayer = redPlayer;
+        this.bluePlayer = bluePlayer;
+        this.minScoreToWin = minScoreToWin;
+        this.maxTurns = maxTurns;
+        this.turnNumber = turnNumber;
+        this.isRedTurn = isRedTurn;
+    }
+
+    /**
+     * Starts a new game, the same one a GameEngine plays for the same board size and seed
+     *
+     * @param boardSize The size of the board to generate
+     * @param randomSeed The random seed for world generation
+     * @return A GameState at the start of the game, before either player has acted
+     */
+    public static GameState newGame(int boardSize, long randomSeed) {
+        return new PackedGameEngine(boardSize, null, null, randomSeed).createSnapshot();
+    }
+
+    /**
+     * Copies the state of a game played on a GameBoard
+     */
+    static GameState copyOf(GameBoard board, Economy economy, MinePlayer redPlayer, MinePlayer bluePlayer,
+                            int minScoreToWin, int maxTurns, int turnNumber, boolean isRedTurn) {
+        Economy economyCopy = new Economy(economy);
+        MinePlayer redCopy = new MinePlayer(redPlayer, economyCopy);
+        MinePlayer blueCopy = new MinePlayer(bluePlayer, economyCopy);
+        Point[] playerLocations = {redPlayer.getCurrentTile().getLocation(), bluePlayer.getCurrentTile().getLocation()};
+        PackedGameBoard boardCopy = PackedGameBoard.copyOf(board, new MinePlayer[] {redCopy, blueCopy}, playerLocations);
+        return new GameState(boardCopy, economyCopy, redCopy, blueCopy, minScoreToWin, maxTurns, turnNumber,
+                             isRedTurn);
+    }
+
+    /**
+     * Copies the state of a game played on a PackedGameBoard, the red player must have been added to it first
+     */
+    static GameState copyOf(PackedGameBoard board, Economy economy, MinePlayer redPlayer, MinePlayer bluePlayer,
+                            int minScoreToWin, int maxTurns, int turnNumber, boolean isRedTurn) {
+        Economy economyCopy = new Economy(economy);
+        MinePlayer redCopy = new MinePlayer(redPlayer, economyCopy);
+        MinePlayer blueCopy = new MinePlayer(bluePlayer, economyCopy);
+        PackedGameBoard boardCopy = board.copy(new MinePlayer[] {redCopy, blueCopy});
+        return new GameState(boardCopy, economyCopy, redCopy, blueCopy, minScoreToWin, maxTurns, turnNumber,
+                             isRedTurn);
+    }
+
+    /**
+     * @return A copy of this GameState that can be stepped forward without affecting this one
+     */
+    public GameState fork() {
+        return copyOf(board, economy, redPlayer, bluePlayer, minScoreToWin, maxTurns, turnNumber, isRedTurn);
+    }
+
+    /**
+     * Plays one turn the same way the GameEngine does: the player whose turn it is acts first, then the other
+     *  player acts, then the board and the Economy update
+     *
+     * @param redAction The action for the red player to take, or null to do nothing
+     * @param blueAction The action for the blue player to take, or null to do nothing
+     */
+    public void step(TurnAction redAction, TurnAction blueAction) {
+        if (isRedTurn) {
+            performAction(redPlayer, redAction);
+            performAction(bluePlayer, blueAction);
+        } else {
+            performAction(bluePlayer, blueAction);
+            performAction(redPlayer, redAction);
+        }
+
+        board.update();
+        economy.increaseDemand();
+
+        isRedTurn = !isRedTurn;
+        turnNumber++;
+    }
+
+    private void performAction(MinePlayer player, TurnAction action) {
+        if (action != null) {
+            board.performAction(player, action);
+        }
+    }
+
+    /**
+     * @return True if the game this state came from would have ended by now
+     */
+    public boolean isGameOver() {
+        boolean roundHasWinner = (redPlayer.getScore() >= minScoreToWin) || (bluePlayer.getScore() >= minScoreToWin);
+        return roundHasWinner || turnNumber >= maxTurns;
+    }
+
+    /**
+     * Gets what a player's strategy would be shown at this point of the game
+     *
+     * @param forRedPlayer True for the red player's view, false for the blue player's view
+     * @return A PlayerBoardView of this state for that player
+     */
+    public PlayerBoardView getPlayerBoardView(boolean forRedPlayer) {
+        MinePlayer playerReceivingView = forRedPlayer ? redPlayer : bluePlayer;
+        MinePlayer otherPlayer = forRedPlayer ? bluePlayer : redPlayer;
+        return board.convertToView(playerReceivingView, board.getPlayerLocation(otherPlayer), otherPlayer.getScore());
+    }
+
+    /**
+     * Hashes everything that decides how the game continues: the turn, every tile's type, mining progress, items
+     *  and autominer counter, both players' locations, energy, scores and inventories, and the prices.
+     * Two engines playing the same game by the same rules have equal hashes after every turn, so comparing them
+     *  finds the first turn where an engine's rules changed
+     *
+     * @return A 64 bit hash of this state
+     */
+    public long computeStateHash() {
+        long hash = HASH_START;
+        hash = mixHash(hash, turnNumber);
+        hash = mixHash(hash, isRedTurn ? 1 : 0);
+
+        int boardSize = board.getSize();
+        for (int y = 0; y < boardSize; y++) {
+            for (int x = 0; x < boardSize; x++) {
+                hash = mixHash(hash, board.getTileTypeAtLocation(x, y).ordinal());
+                hash = mixHash(hash, board.isCracked(x, y) ? 1 : 0);
+                hash = mixHash(hash, board.getMineProgress(x, y));
+                hash = mixHash(hash, board.getAutominerTurns(x, y));
+                for (ItemType itemType : ITEM_TYPES) {
+                    hash = mixHash(hash, board.getItemCount(x, y, itemType));
+                }
+            }
+        }
+
+        for (MinePlayer player : new MinePlayer[] {redPlayer, bluePlayer}) {
+            Point playerLocation = board.getPlayerLocation(player);
+            hash = mixHash(hash, playerLocation.x);
+            hash = mixHash(hash, playerLocation.y);
+            hash = mixHash(hash, player.getScore());
+            hash = mixHash(hash, player.getCurrentEnergy());
+            hash = mixHash(hash, player.getInventory().size());
+            for (InventoryItem item : player.getInventory()) {
+                hash = mixHash(hash, item.getItemType().ordinal());
+            }
+        }
+
+        for (ItemType itemType : ITEM_TYPES) {
+            hash = mixHash(hash, economy.getCurrentPrice(itemType));
+        }
+        return hash;
+    }
+
+    private static long mixHash(long hash, int value) {
+        return (hash ^ value) * HASH_PRIME;
+    }
+
+    public PackedGameBoard getBoard() {
+        return board;
+    }
+
+    public Economy getEconomy() {
+        return economy;
+    }
+
+    public MinePlayer getRedPlayer() {
+        return redPlayer;
+    }
+
+    public MinePlayer getBluePlayer() {
+        return bluePlayer;
+    }
+
+    public Point getRedPlayerLocation() {
+        return board.getPlayerLocation(redPlayer);
+    }
+
+    public Point getBluePlayerLocation() {
+        return board.getPlayerLocation(bluePlayer);
+    }
+
+    public int getRedPlayerScore() {
+        return redPlayer.getScore();
+    }
+
+    public int getBluePlayerScore() {
+        return bluePlayer.getScore();
+    }
+
+    public int getMinScoreToWin() {
+        return minScoreToWin;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    public boolean isRedTurn() {
+        return isRedTurn;
+    }
+}
@@ -0,0 +1,282 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.util.GameRandomStreams;
+import mineopoly_three.util.SplitMixRandom;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.List;
+
+/**
+ * This is the GameEngine's internal representation of all data it needs to know about a player.
+ * Therefore, do not try to use this class in your strategy.
+ */
+public class MinePlayer {
+    protected static final int MAX_ENERGY = 80;
+    protected static final int MAX_ITEMS = 5;
+    private static final Map<TurnAction, String> moveToDirectionMap = new HashMap<>();
+    static {
+        moveToDirectionMap.put(TurnAction.MOVE_UP, "back");
+        moveToDirectionMap.put(TurnAction.MOVE_DOWN, "front");
+        moveToDirectionMap.put(TurnAction.MOVE_LEFT, "left");
+        moveToDirectionMap.put(TurnAction.MOVE_RIGHT, "right");
+    }
+
+    /**
+     * Told about the items a player receives and sells, for players that are not controlled by a
+     *  MinePlayerStrategy of their own, like the players of a BatchGameEngine
+     */
+    interface InventoryListener {
+        void onReceiveItem(InventoryItem itemReceived);
+
+        void onSoldInventory(int totalSellPrice);
+    }
+
+    private MinePlayerStrategy strategy;
+    private InventoryListener inventoryListener;
+    private List<InventoryItem> inventory;
+    private Tile currentTile;
+    private boolean isRedPlayer;
+    private int score;
+    private TurnAction lastMove;
+    private List<TurnAction> actions;
+    private Economy economy;
+    private int currentEnergy;
+    private SplitMixRandom randomNumberGenerator;
+    private final int maxEnergy;
+    private final int maxItems;
+
+    protected MinePlayer(MinePlayerStrategy strategy, Tile startingTile, Economy economy,
+                         long randomSeed, boolean isRedPlayer) {
+        this(strategy, startingTile, economy, randomSeed, isRedPlayer, GameConfig.DEFAULT);
+    }
+
+    protected MinePlayer(MinePlayerStrategy strategy, Tile startingTile, Economy economy,
+                         long randomSeed, boolean isRedPlayer, GameConfig config) {
+        this(strategy, startingTile, economy,
+             GameRandomStreams.forPlayer(randomSeed, GameRandomStreams.getPlayerIndex(isRedPlayer)), isRedPlayer,
+             config);
+    }
+
+    /**
+     * @param randomNumberGenerator This player's stream from GameRandomStreams
+     * @param config The game's limits, this player uses its max energy and max items
+     */
+    protected MinePlayer(MinePlayerStrategy strategy, Tile startingTile, Economy economy,
+                         SplitMixRandom randomNumberGenerator, boolean isRedPlayer, GameConfig config) {
+        this.maxEnergy = config.getMaxEnergy();
+        this.maxItems = config.getMaxItems();
+        this.strategy = strategy;
+        // A stress test can allow far more items than a player ever ends up carrying, so let the list grow instead
+        this.inventory = new ArrayList<>(Math.min(maxItems, MAX_ITEMS));
+        this.currentTile = startingTile;
+        this.isRedPlayer = isRedPlayer;
+        this.score = 0;
+        this.lastMove = TurnAction.MOVE_DOWN;
+        this.actions = new ArrayList<>();
+        this.economy = economy;
+        this.currentEnergy = maxEnergy;
+        this.randomNumberGenerator = randomNumberGenerator;
+    }
+
+    /**
+     * Copies a player for a GameState. The copy has no strategy, no current tile and no turn history, but the
+     *  same inventory, score, energy and random number sequence as the player it copies
+     *
+     * @param playerToCopy The player to copy
+     * @param economy The Economy the copy sells its items to
+     */
+    MinePlayer(MinePlayer playerToCopy, Economy economy) {
+        this.maxEnergy = playerToCopy.maxEnergy;
+        this.maxItems = playerToCopy.maxItems;
+        this.strategy = null;
+        this.inventory = new ArrayList<>(playerToCopy.inventory);
+        this.currentTile = null;
+        this.isRedPlayer = playerToCopy.isRedPlayer;
+        this.score = playerToCopy.score;
+        this.lastMove = playerToCopy.lastMove;
+        this.actions = new ArrayList<>();
+        this.economy = economy;
+        this.currentEnergy = playerToCopy.currentEnergy;
+        this.randomNumberGenerator = playerToCopy.randomNumberGenerator.copy();
+    }
+
+    /**
+     * Gets this player ready for a new game with the same Economy, reusing its inventory instead of creating a new
+     *  one
+     *
+     * @param strategy The strategy controlling this player in the new game
+     * @param startingTile The tile this player starts the new game on
+     * @param randomSeed The random seed of the new game
+     */
+    void reset(MinePlayerStrategy strategy, Tile startingTile, long randomSeed) {
+        this.strategy = strategy;
+        this.inventory.clear();
+        this.currentTile = startingTile;
+        this.score = 0;
+        this.lastMove = TurnAction.MOVE_DOWN;
+        // The Replay of the last game keeps the old list, so this one can't be cleared
+        this.actions = new ArrayList<>();
+        this.currentEnergy = maxEnergy;
+        this.randomNumberGenerator = GameRandomStreams.forPlayer(randomSeed,
+                                                                 GameRandomStreams.getPlayerIndex(isRedPlayer));
+    }
+
+    /**
+     * Puts this player back into the state it was in when a checkpoint was written
+     *
+     * @param currentTile The tile the player was standing on
+     * @param score The player's score
+     * @param currentEnergy The player's energy
+     * @param lastMove The last direction the player moved in
+     * @param randomState The state of the player's random number generator, from getRandomState()
+     * @param inventory The items the player was carrying
+     * @param actions Every TurnAction the player took before the checkpoint
+     */
+    void restore(Tile currentTile, int score, int currentEnergy, TurnAction lastMove, long randomState,
+                 List<InventoryItem> inventory, List<TurnAction> actions) {
+        this.currentTile = currentTile;
+        this.score = score;
+        this.currentEnergy = currentEnergy;
+        this.lastMove = lastMove;
+        this.randomNumberGenerator.setState(randomState);
+        this.inventory.clear();
+        this.inventory.addAll(inventory);
+        this.actions = new ArrayList<>(actions);
+    }
+
+    public MinePlayerStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @param inventoryListener Told about every item this player receives and sells, after its strategy
+     */
+    void setInventoryListener(InventoryListener inventoryListener) {
+        this.inventoryListener = inventoryListener;
+    }
+
+    public Tile getCurrentTile() {
+        return currentTile;
+    }
+
+    public void setCurrentTile(Tile newTile) {
+        this.currentTile = newTile;
+    }
+
+    public List<InventoryItem> getInventory() {
+        return inventory;
+    }
+
+    /**
+     * Adds an item to the player's inventory, if the inventory isn't full
+     *
+     * @param itemToAdd The item to be added to the inventory
+     * @return True if the item is successfully added, false otherwise
+     */
+    public boolean addItemToInventory(InventoryItem itemToAdd) {
+        if (inventory.size() >= maxItems) {
+            // Inventory full, could not add the item
+            return false;
+        }
+
+        // Let the strategy know this player received an item
+        if (strategy != null) {
+            strategy.onReceiveItem(itemToAdd);
+        }
+        if (inventoryListener != null) {
+            inventoryListener.onReceiveItem(itemToAdd);
+        }
+        inventory.add(itemToAdd);
+        return true;
+    }
+
+    public void sellItems() {
+        int totalItemSellPrice = economy.sellResources(inventory);
+        inventory.removeIf(x -> x.getItemType().isResource());
+
+        if (totalItemSellPrice > 0) {
+            // Only a stress test with a huge inventory gets near the limit, but a score shouldn't wrap around
+            score = (int) Math.min((long) score + totalItemSellPrice, Integer.MAX_VALUE);
+            // Let the strategy know this player sold all items
+            if (strategy != null) {
+                strategy.onSoldInventory(totalItemSellPrice);
+            }
+            if (inventoryListener != null) {
+                inventoryListener.onSoldInventory(totalItemSellPrice);
+            }
+        }
+    }
+
+    public boolean isRedPlayer() {
+        return isRedPlayer;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int newScore) {
+        this.score = newScore;
+    }
+
+    public void addTurnAction(TurnAction actionTaken) {
+        actions.add(actionTaken);
+        if (moveToDirectionMap.containsKey(actionTaken)) {
+            lastMove = actionTaken;
+        }
+    }
+
+    public List<TurnAction> getAllTurnActions() {
+        return actions;
+    }
+
+    public float getChargePercent() {
+        return ((float) currentEnergy) / maxEnergy;
+    }
+
+    public int getMaxEnergy() {
+        return maxEnergy;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public int getCurrentEnergy() {
+        return currentEnergy;
+    }
+
+    public void useEnergy() {
+        if (currentEnergy > 0) {
+            currentEnergy--;
+        }
+    }
+
+    public void rechargeEnergy(float percentToRecharge) {
+        assert percentToRecharge >= 0;
+        currentEnergy += (maxEnergy * percentToRecharge);
+        if (currentEnergy > maxEnergy) {
+            currentEnergy = maxEnergy;
+        }
+    }
+
+    public Random getRandomNumberGenerator() {
+        return randomNumberGenerator;
+    }
+
+    long getRandomState() {
+        return randomNumberGenerator.getState();
+    }
+
+    /**
+     * @return The last direction the player moved in, which is the direction the player is facing
+     */
+    public TurnAction getLastMove() {
+        return lastMove;
+    }
+}
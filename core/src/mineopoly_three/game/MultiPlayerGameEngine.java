@@ -0,0 +1,296 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.replay.MultiPlayerReplay;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+import mineopoly_three.util.GameRandomStreams;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs a headless game of Mine-opoly between any number of players on one board. Players alternate between the
+ *  red and blue team by index (0 is red, 1 is blue, 2 is red and so on) and every team shares its markets, so
+ *  the existing tiles and strategies work unchanged. Each team's players start on and around their markets.
+ * Every turn all players choose their action from the same board, then the actions happen in a turn order that
+ *  rotates by one player each turn. A move onto an occupied tile does nothing, so a player earlier in the turn
+ *  order wins any tile two players want. Views share one list of player locations per turn, so a turn costs
+ *  O(N) instead of O(N^2) for N players
+ */
+public class MultiPlayerGameEngine {
+    private final long randomSeed;
+    private final GameBoard board;
+    private final Economy economy;
+    private final MinePlayer[] players;
+    private final int minScoreToWin;
+    private int turnNumber;
+
+    private MinePlayer playerWhoThrewException;
+    private Exception exceptionThrown;
+
+    /**
+     * @param boardSize The size of the board to generate, larger boards leave more room for more players
+     * @param playerStrategies The strategy of every player in turn order, at least two
+     * @param randomSeed The random seed for world generation and the players' random numbers
+     */
+    public MultiPlayerGameEngine(int boardSize, MinePlayerStrategy[] playerStrategies, long randomSeed) {
+        if (playerStrategies.length < 2) {
+            throw new IllegalArgumentException("A game needs at least two players");
+        }
+        this.randomSeed = randomSeed;
+        this.board = new WorldGenerator(randomSeed).generateBoard(boardSize);
+        this.economy = new Economy(Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new));
+        this.minScoreToWin = GameConfig.DEFAULT.getMinScoreToWin(boardSize);
+        this.turnNumber = 0;
+
+        List<Point> redMarkets = findMarkets(TileType.RED_MARKET, board.getRedStartTileLocation());
+        List<Point> blueMarkets = findMarkets(TileType.BLUE_MARKET, board.getBlueStartTileLocation());
+        Set<Point> takenStartLocations = new HashSet<>();
+        this.players = new MinePlayer[playerStrategies.length];
+        for (int i = 0; i < players.length; i++) {
+            boolean isRedPlayer = (i % 2 == 0);
+            List<Point> teamMarkets = isRedPlayer ? redMarkets : blueMarkets;
+            // Spread each team's players across their markets before doubling up around any one market
+            Point marketLocation = teamMarkets.get((i / 2) % teamMarkets.size());
+            Point startLocation = findStartLocation(marketLocation, takenStartLocations);
+            takenStartLocations.add(startLocation);
+            players[i] = new MinePlayer(playerStrategies[i], board.getTileAtLocation(startLocation), economy,
+                                        GameRandomStreams.forPlayer(randomSeed, i), isRedPlayer, GameConfig.DEFAULT);
+        }
+    }
+
+    /**
+     * @return The location of every market of one color, starting with the team's start location
+     */
+    private List<Point> findMarkets(TileType marketType, Point teamStartLocation) {
+        List<Point> markets = new ArrayList<>();
+        markets.add(teamStartLocation);
+        for (int y = board.getSize() - 1; y >= 0; y--) {
+            for (int x = 0; x < board.getSize(); x++) {
+                Tile tile = board.getTileAtLocation(x, y);
+                if (tile.getType() == marketType && !tile.getLocation().equals(teamStartLocation)) {
+                    markets.add(tile.getLocation());
+                }
+            }
+        }
+        return markets;
+    }
+
+    /**
+     * Finds the closest free start location to a market, searching rings of tiles around it in a fixed order
+     */
+    private Point findStartLocation(Point marketLocation, Set<Point> takenStartLocations) {
+        if (!takenStartLocations.contains(marketLocation)) {
+            return marketLocation;
+        }
+        for (int radius = 1; radius < board.getSize(); radius++) {
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dx = -radius; dx <= radius; dx++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dy)) != radius) {
+                        continue;
+                    }
+                    Tile tile = board.getTileAtLocation(marketLocation.x + dx, marketLocation.y + dy);
+                    if (tile != null && tile.getType() == TileType.EMPTY
+                            && !takenStartLocations.contains(tile.getLocation())) {
+                        return tile.getLocation();
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("The board is too small for " + players.length + " players");
+    }
+
+    public GameBoard getBoard() {
+        return board;
+    }
+
+    public Economy getEconomy() {
+        return economy;
+    }
+
+    public int getNumPlayers() {
+        return players.length;
+    }
+
+    public MinePlayer getPlayer(int playerIndex) {
+        return players[playerIndex];
+    }
+
+    public int getPlayerScore(int playerIndex) {
+        return players[playerIndex].getScore();
+    }
+
+    /**
+     * @param isRedTeam True for the red team's total, false for the blue team's
+     * @return The combined score of every player on a team
+     */
+    public int getTeamScore(boolean isRedTeam) {
+        int teamScore = 0;
+        for (MinePlayer player : players) {
+            if (player.isRedPlayer() == isRedTeam) {
+                teamScore += player.getScore();
+            }
+        }
+        return teamScore;
+    }
+
+    public int getMinScoreToWin() {
+        return minScoreToWin;
+    }
+
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public Exception getExceptionThrown() {
+        return exceptionThrown;
+    }
+
+    public MultiPlayerReplay getReplay() {
+        List<List<TurnAction>> playerActions = new ArrayList<>(players.length);
+        int playerWhoThrewExceptionIndex = -1;
+        for (int i = 0; i < players.length; i++) {
+            playerActions.add(players[i].getAllTurnActions());
+            if (players[i] == playerWhoThrewException) {
+                playerWhoThrewExceptionIndex = i;
+            }
+        }
+        return new MultiPlayerReplay(board.getSize(), randomSeed, playerActions, playerWhoThrewExceptionIndex);
+    }
+
+    /**
+     * Runs through a round of Mine-opoly until either the maximum number of turns is reached or a player achieves
+     *  the score needed to win. If any player strategy throws an exception at any time, that strategy will receive
+     *  a score of -1 and the game will end
+     */
+    public void runGame() {
+        try {
+            runGameLoop();
+        } catch (Exception e) {
+            // A strategy can throw an exception of any type, so catching generic Exceptions is unavoidable here
+            playerWhoThrewException.setScore(-1);
+            this.exceptionThrown = e;
+            e.printStackTrace();
+        }
+    }
+
+    private void runGameLoop() {
+        for (int i = 0; i < players.length; i++) {
+            initializePlayer(i);
+        }
+
+        TurnAction[] chosenActions = new TurnAction[players.length];
+        boolean roundHasWinner = false;
+        while (turnNumber < GameEngine.MAX_TURNS_PER_GAME && !roundHasWinner) {
+            int firstPlayerIndex = turnNumber % players.length;
+            // Lets two player strategies written around isRedTurn know which team goes first this turn
+            boolean isRedTurn = players[firstPlayerIndex].isRedPlayer();
+
+            // Everyone decides from the board as it was at the start of the turn
+            List<Point> allPlayerLocations = copyPlayerLocations();
+            MinePlayer redLeader = findLeader(true);
+            MinePlayer blueLeader = findLeader(false);
+            for (int i = 0; i < players.length; i++) {
+                MinePlayer currentPlayer = players[i];
+                MinePlayer leadingOpponent = currentPlayer.isRedPlayer() ? blueLeader : redLeader;
+                playerWhoThrewException = currentPlayer;
+                PlayerBoardView boardView = board.convertToView(currentPlayer,
+                                                                leadingOpponent.getCurrentTile().getLocation(),
+                                                                leadingOpponent.getScore(), allPlayerLocations);
+                chosenActions[i] = currentPlayer.getStrategy().getTurnAction(boardView, economy,
+                                                                             currentPlayer.getCurrentEnergy(),
+                                                                             isRedTurn);
+            }
+
+            // Then the actions happen in this turn's order
+            for (int k = 0; k < players.length; k++) {
+                int playerIndex = (firstPlayerIndex + k) % players.length;
+                MinePlayer currentPlayer = players[playerIndex];
+                TurnAction playerAction = chosenActions[playerIndex];
+                playerWhoThrewException = currentPlayer;
+                currentPlayer.addTurnAction(playerAction);
+                if (playerAction != null) {
+                    playerAction.getActionToPerform().performAction(board, currentPlayer, playerAction);
+                }
+            }
+
+            board.update();
+            for (MinePlayer player : players) {
+                player.setCurrentTile(board.getTileAtLocation(player.getCurrentTile().getLocation()));
+            }
+            economy.increaseDemand();
+
+            turnNumber++;
+            for (MinePlayer player : players) {
+                roundHasWinner |= (player.getScore() >= minScoreToWin);
+            }
+        }
+
+        endRound();
+    }
+
+    private void initializePlayer(int playerIndex) {
+        MinePlayer playerToInitialize = players[playerIndex];
+        playerWhoThrewException = playerToInitialize;
+
+        Point startLocation = playerToInitialize.getCurrentTile().getLocation();
+        Point startLocationCopy = new Point(startLocation.x, startLocation.y);
+        MinePlayer firstOpponent = players[playerToInitialize.isRedPlayer() ? 1 : 0];
+        PlayerBoardView startingBoard = board.convertToView(playerToInitialize,
+                                                            firstOpponent.getCurrentTile().getLocation(), 0,
+                                                            copyPlayerLocations());
+        playerToInitialize.getStrategy().initialize(board.getSize(), MinePlayer.MAX_ITEMS, MinePlayer.MAX_ENERGY,
+                                                    minScoreToWin, startingBoard, startLocationCopy,
+                                                    playerToInitialize.isRedPlayer(),
+                                                    GameRandomStreams.forStrategy(randomSeed, playerIndex));
+        Tile startTile = playerToInitialize.getCurrentTile();
+        startTile.onEnter(playerToInitialize);
+        board.trackActiveTile(startTile);
+    }
+
+    private List<Point> copyPlayerLocations() {
+        Point[] playerLocations = new Point[players.length];
+        for (int i = 0; i < players.length; i++) {
+            Point playerLocation = players[i].getCurrentTile().getLocation();
+            playerLocations[i] = new Point(playerLocation.x, playerLocation.y);
+        }
+        return Collections.unmodifiableList(Arrays.asList(playerLocations));
+    }
+
+    /**
+     * @return The player with the highest score on a team, the earliest in turn order if tied
+     */
+    private MinePlayer findLeader(boolean isRedTeam) {
+        MinePlayer leader = null;
+        for (MinePlayer player : players) {
+            if (player.isRedPlayer() == isRedTeam && (leader == null || player.getScore() > leader.getScore())) {
+                leader = player;
+            }
+        }
+        return leader;
+    }
+
+    private void endRound() {
+        MinePlayer redLeader = findLeader(true);
+        MinePlayer blueLeader = findLeader(false);
+        for (MinePlayer player : players) {
+            playerWhoThrewException = player;
+            MinePlayer leadingOpponent = player.isRedPlayer() ? blueLeader : redLeader;
+            player.getStrategy().endRound(player.getScore(), leadingOpponent.getScore());
+        }
+        playerWhoThrewException = null;
+    }
+}
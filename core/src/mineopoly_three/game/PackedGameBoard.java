@@ -0,0 +1,570 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.Action;
+import mineopoly_three.action.MoveAction;
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.CrackedTile;
+import mineopoly_three.tiles.EmptyTile;
+import mineopoly_three.tiles.MarketTile;
+import mineopoly_three.tiles.RechargeTile;
+import mineopoly_three.tiles.ResourceTile;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * An alternative to GameBoard that keeps the whole board in primitive arrays indexed by a single int cell id,
+ *  row * boardSize + column, with row 0 at the top just like the rows of GameBoard's Tile[][].
+ * No Tile objects exist while a game is played on this board. getTileAtLocation() builds a throwaway Tile view
+ *  for the GUI and older callers, and changes made to that view are not written back.
+ * The rules are the same as GameBoard, the Actions and the Tile classes, so a PackedGameEngine plays the exact
+ *  same game as a GameEngine with the same seed and strategies
+ */
+public class PackedGameBoard {
+    private static final TileType[] TILE_TYPES = TileType.values();
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+    private static final int NUM_ITEM_TYPES = ITEM_TYPES.length;
+    private static final int AUTOMINER_INDEX = ItemType.AUTOMINER.ordinal();
+    // Cracked tiles are EMPTY to everyone else, but autominers don't crack them again
+    private static final byte CRACKED = (byte) TILE_TYPES.length;
+    private static final ItemType[] RESOURCE_FOR_TILE_TYPE = new ItemType[TILE_TYPES.length];
+    static {
+        for (ItemType itemType : ITEM_TYPES) {
+            if (itemType.isResource()) {
+                RESOURCE_FOR_TILE_TYPE[itemType.getResourceTileType().ordinal()] = itemType;
+            }
+        }
+    }
+
+    private final int size;
+    // A TileType ordinal for every cell, or CRACKED
+    private final byte[] tileKinds;
+    // How many times the resource tile in every cell has been mined
+    private final byte[] mineProgress;
+    // The number of items of every ItemType on every cell, indexed cell * NUM_ITEM_TYPES + ItemType ordinal
+    private final byte[] itemCounts;
+    // Cells with an autominer on them, in the same order a full scan of the board would find them
+    private final ActiveTileSet autominerCells;
+    // The number of turns each cell around an autominer has been mined
+    private final CellCounterMap autominerTurns;
+    private final BoardViewTracker viewTracker;
+
+    private MinePlayer[] playersOnBoard;
+    private int[] playerCells;
+    private int numPlayersOnBoard;
+
+    private Point redStartLocation;
+    private Point blueStartLocation;
+
+    /**
+     * Creates a board of the given size filled with EMPTY tiles
+     *
+     * @param boardSize The length and width of the board
+     */
+    public PackedGameBoard(int boardSize) {
+        this(boardSize, new BoardViewTracker(createEmptyTileView(boardSize)));
+    }
+
+    private PackedGameBoard(int boardSize, BoardViewTracker viewTracker) {
+        this.size = boardSize;
+        int numCells = boardSize * boardSize;
+        this.tileKinds = new byte[numCells];
+        this.mineProgress = new byte[numCells];
+        this.itemCounts = new byte[numCells * NUM_ITEM_TYPES];
+        this.autominerCells = new ActiveTileSet();
+        this.autominerTurns = new CellCounterMap();
+        this.viewTracker = viewTracker;
+
+        this.playersOnBoard = new MinePlayer[2];
+        this.playerCells = new int[2];
+        this.numPlayersOnBoard = 0;
+    }
+
+    private PackedGameBoard(PackedGameBoard boardToCopy, MinePlayer[] playerCopies) {
+        this.size = boardToCopy.size;
+        this.tileKinds = boardToCopy.tileKinds.clone();
+        this.mineProgress = boardToCopy.mineProgress.clone();
+        this.itemCounts = boardToCopy.itemCounts.clone();
+        this.autominerCells = new ActiveTileSet(boardToCopy.autominerCells);
+        this.autominerTurns = new CellCounterMap(boardToCopy.autominerTurns);
+        this.viewTracker = boardToCopy.viewTracker.copy();
+
+        this.playersOnBoard = Arrays.copyOf(playerCopies, boardToCopy.playersOnBoard.length);
+        this.playerCells = boardToCopy.playerCells.clone();
+        this.numPlayersOnBoard = boardToCopy.numPlayersOnBoard;
+
+        this.redStartLocation = new Point(boardToCopy.redStartLocation);
+        this.blueStartLocation = new Point(boardToCopy.blueStartLocation);
+    }
+
+    private static TileType[][] createEmptyTileView(int boardSize) {
+        TileType[][] tileView = new TileType[boardSize][boardSize];
+        for (TileType[] tileViewRow : tileView) {
+            Arrays.fill(tileViewRow, TileType.EMPTY);
+        }
+        return tileView;
+    }
+
+    /**
+     * Copies this board, swapping its players for copies of them. Nothing done to the copy changes this board
+     *
+     * @param playerCopies A copy of every player on this board, in the order they were added
+     * @return The copy of this board
+     */
+    PackedGameBoard copy(MinePlayer[] playerCopies) {
+        return new PackedGameBoard(this, playerCopies);
+    }
+
+    /**
+     * Copies the current state of a GameBoard into a new PackedGameBoard
+     *
+     * @param gameBoard The GameBoard to copy
+     * @param playerCopies Copies of the players on the GameBoard, they are put on the new board in this order
+     * @param playerLocations The location of each player on the GameBoard, in the same order as playerCopies
+     * @return A PackedGameBoard in the same state as the GameBoard
+     */
+    static PackedGameBoard copyOf(GameBoard gameBoard, MinePlayer[] playerCopies, Point[] playerLocations) {
+        int boardSize = gameBoard.getSize();
+        PackedGameBoard packedBoard = new PackedGameBoard(boardSize, gameBoard.copyViewTracker());
+        for (int y = 0; y < boardSize; y++) {
+            for (int x = 0; x < boardSize; x++) {
+                Tile tile = gameBoard.getTileAtLocation(x, y);
+                int cell = packedBoard.getCell(x, y);
+                packedBoard.tileKinds[cell] = (tile instanceof CrackedTile) ? CRACKED : (byte) tile.getType().ordinal();
+                if (tile instanceof ResourceTile) {
+                    packedBoard.mineProgress[cell] = (byte) ((ResourceTile) tile).getNumTimesMined();
+                }
+                for (InventoryItem item : tile.getItemsOnTile()) {
+                    packedBoard.itemCounts[cell * NUM_ITEM_TYPES + item.getItemType().ordinal()]++;
+                    if (item.getItemType() == ItemType.AUTOMINER) {
+                        packedBoard.autominerCells.add(cell);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<Point, Integer> autominerTile : gameBoard.getAutominerTiles().entrySet()) {
+            Point location = autominerTile.getKey();
+            packedBoard.autominerTurns.put(packedBoard.getCell(location.x, location.y), autominerTile.getValue());
+        }
+        for (int i = 0; i < playerCopies.length; i++) {
+            packedBoard.placePlayer(playerCopies[i], packedBoard.getCell(playerLocations[i].x, playerLocations[i].y));
+        }
+
+        packedBoard.setRedStartLocation(new Point(gameBoard.getRedStartTileLocation()));
+        packedBoard.setBlueStartLocation(new Point(gameBoard.getBlueStartTileLocation()));
+        return packedBoard;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Point getRedStartTileLocation() {
+        return redStartLocation;
+    }
+
+    public Point getBlueStartTileLocation() {
+        return blueStartLocation;
+    }
+
+    void setRedStartLocation(Point redStartLocation) {
+        this.redStartLocation = redStartLocation;
+    }
+
+    void setBlueStartLocation(Point blueStartLocation) {
+        this.blueStartLocation = blueStartLocation;
+    }
+
+    /**
+     * @return A number that changes every time the tiles or items given to a PlayerBoardView change
+     */
+    public int getViewVersion() {
+        return viewTracker.getViewVersion();
+    }
+
+    /**
+     * Converts a location in Cartesian (x, y) coordinates to the cell id used to index this board's arrays
+     *
+     * @param x The x coordinate of the location
+     * @param y The y coordinate of the location
+     * @return The cell id of the location, or -1 if it is outside the board
+     */
+    public int getCell(int x, int y) {
+        if (x < 0 || x >= size || y < 0 || y >= size) {
+            return -1;
+        }
+        return ((size - 1) - y) * size + x;
+    }
+
+    private int getX(int cell) {
+        return cell % size;
+    }
+
+    private int getY(int cell) {
+        return (size - 1) - (cell / size);
+    }
+
+    /**
+     * @param x The x coordinate of the tile
+     * @param y The y coordinate of the tile
+     * @return The type of the tile at (x, y), or null if the location is outside the board
+     */
+    public TileType getTileTypeAtLocation(int x, int y) {
+        int cell = getCell(x, y);
+        return (cell < 0) ? null : getTileType(cell);
+    }
+
+    private TileType getTileType(int cell) {
+        byte tileKind = tileKinds[cell];
+        return (tileKind == CRACKED) ? TileType.EMPTY : TILE_TYPES[tileKind];
+    }
+
+    /**
+     * @return A number that changes whenever the type of the tile at (x, y) or the number of items on it changes,
+     *          or -1 if the location is outside the board, the same as GameBoard.getTileState()
+     */
+    int getTileState(int x, int y) {
+        int cell = getCell(x, y);
+        if (cell < 0) {
+            return -1;
+        }
+        int numItems = 0;
+        for (int i = 0; i < NUM_ITEM_TYPES; i++) {
+            numItems += itemCounts[cell * NUM_ITEM_TYPES + i];
+        }
+        return getTileType(cell).ordinal() | (numItems << 8);
+    }
+
+    public int getMineProgress(int x, int y) {
+        return mineProgress[getCell(x, y)];
+    }
+
+    public int getItemCount(int x, int y, ItemType itemType) {
+        return itemCounts[getCell(x, y) * NUM_ITEM_TYPES + itemType.ordinal()];
+    }
+
+    public int getAutominerTurns(int x, int y) {
+        return autominerTurns.get(getCell(x, y));
+    }
+
+    public boolean isCracked(int x, int y) {
+        return tileKinds[getCell(x, y)] == CRACKED;
+    }
+
+    /**
+     * Sets the type of a tile while the world is being generated, like GameBoard.setTileAtTileLocation() does with
+     *  a new Tile of that type
+     */
+    void setTileType(int x, int y, TileType tileType) {
+        int cell = getCell(x, y);
+        tileKinds[cell] = (byte) tileType.ordinal();
+        mineProgress[cell] = 0;
+        viewTracker.trackTileType(cell / size, cell % size, tileType);
+    }
+
+    /**
+     * Drops an item on a tile while the world is being generated. Just like items added to a Tile by the
+     *  WorldGenerator, strategies won't see it on the ground until a player interacts with the tile
+     */
+    void addItem(int x, int y, ItemType itemType) {
+        int cell = getCell(x, y);
+        itemCounts[cell * NUM_ITEM_TYPES + itemType.ordinal()]++;
+        if (itemType == ItemType.AUTOMINER) {
+            autominerCells.add(cell);
+        }
+    }
+
+    /**
+     * @param player A player on this board
+     * @return The location of the player in (x, y) coordinates
+     */
+    public Point getPlayerLocation(MinePlayer player) {
+        int cell = getPlayerCell(player);
+        return new Point(getX(cell), getY(cell));
+    }
+
+    private int getPlayerCell(MinePlayer player) {
+        return playerCells[getPlayerIndex(player)];
+    }
+
+    private MinePlayer getPlayerInCell(int cell) {
+        for (int i = 0; i < numPlayersOnBoard; i++) {
+            if (playerCells[i] == cell) {
+                return playersOnBoard[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Puts a player on the board for the first time, like calling onEnter() on their start tile
+     *
+     * @param player The player entering the board
+     * @param startLocation The location of the tile the player starts on
+     */
+    public void addPlayer(MinePlayer player, Point startLocation) {
+        int startCell = getCell(startLocation.x, startLocation.y);
+        placePlayer(player, startCell);
+        onEnter(player, startCell);
+    }
+
+    private void placePlayer(MinePlayer player, int cell) {
+        if (numPlayersOnBoard == playersOnBoard.length) {
+            playersOnBoard = Arrays.copyOf(playersOnBoard, numPlayersOnBoard * 2);
+            playerCells = Arrays.copyOf(playerCells, numPlayersOnBoard * 2);
+        }
+        playersOnBoard[numPlayersOnBoard] = player;
+        playerCells[numPlayersOnBoard] = cell;
+        numPlayersOnBoard++;
+    }
+
+    private void onEnter(MinePlayer player, int cell) {
+        byte tileKind = tileKinds[cell];
+        boolean isRedPlayerOnRedMarket = (tileKind == TileType.RED_MARKET.ordinal()) && player.isRedPlayer();
+        boolean isBluePlayerOnBlueMarket = (tileKind == TileType.BLUE_MARKET.ordinal()) && !player.isRedPlayer();
+        if (isRedPlayerOnRedMarket || isBluePlayerOnBlueMarket) {
+            player.sellItems();
+        }
+    }
+
+    /**
+     * Performs a TurnAction for a player, with the same result as calling
+     *  action.getActionToPerform().performAction() on a GameBoard
+     *
+     * @param player The player performing the action
+     * @param action The TurnAction to perform, must not be null
+     */
+    public void performAction(MinePlayer player, TurnAction action) {
+        Action actionToPerform = action.getActionToPerform();
+        if (actionToPerform instanceof MoveAction) {
+            MoveAction moveAction = (MoveAction) actionToPerform;
+            movePlayer(player, moveAction.getXChange(), moveAction.getYChange());
+        } else {
+            interact(player, action);
+        }
+    }
+
+    private void movePlayer(MinePlayer player, int xChange, int yChange) {
+        int playerIndex = getPlayerIndex(player);
+        int currentCell = playerCells[playerIndex];
+        int nextCell = getCell(getX(currentCell) + xChange, getY(currentCell) + yChange);
+        if (nextCell < 0) {
+            // Can't step outside the world
+            return;
+        }
+        if (getPlayerInCell(nextCell) != null) {
+            // Can't step on a tile if there's another player there
+            return;
+        }
+
+        Random playerRNG = player.getRandomNumberGenerator();
+        boolean hasEnergyLeft = (player.getCurrentEnergy() > 0);
+        boolean canMoveWithNoEnergyLeft = (playerRNG.nextDouble() < MoveAction.NO_ENERGY_MOVE_CHANCE);
+        if (hasEnergyLeft || canMoveWithNoEnergyLeft) {
+            playerCells[playerIndex] = nextCell;
+            onEnter(player, nextCell);
+            player.useEnergy();
+        }
+    }
+
+    private int getPlayerIndex(MinePlayer player) {
+        for (int i = 0; i < numPlayersOnBoard; i++) {
+            if (playersOnBoard[i] == player) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Player is not on this board");
+    }
+
+    private void interact(MinePlayer player, TurnAction action) {
+        int cell = getPlayerCell(player);
+        int itemIndex = cell * NUM_ITEM_TYPES;
+        ItemType resourceOnTile = getFirstResource(cell);
+        boolean autominerOnTile = itemCounts[itemIndex + AUTOMINER_INDEX] > 0;
+
+        if (action == TurnAction.PLACE_AUTOMINER && !autominerOnTile) {
+            List<InventoryItem> inventory = player.getInventory();
+            for (int i = 0; i < inventory.size(); i++) {
+                if (inventory.get(i).getItemType() == ItemType.AUTOMINER) {
+                    inventory.remove(i);
+                    itemCounts[itemIndex + AUTOMINER_INDEX]++;
+                    autominerCells.add(cell);
+                    break;
+                }
+            }
+        } else {
+            ItemType typeToPickUp = null;
+            if (action == TurnAction.PICK_UP_RESOURCE && resourceOnTile != null) {
+                typeToPickUp = resourceOnTile;
+            } else if (action == TurnAction.PICK_UP_AUTOMINER && autominerOnTile) {
+                typeToPickUp = ItemType.AUTOMINER;
+            }
+
+            if (typeToPickUp != null && player.addItemToInventory(new InventoryItem(typeToPickUp))) {
+                itemCounts[itemIndex + typeToPickUp.ordinal()]--;
+                if (typeToPickUp == ItemType.AUTOMINER) {
+                    autominerCells.remove(cell);
+                }
+            }
+        }
+
+        if (action == TurnAction.MINE) {
+            mine(cell);
+        }
+
+        viewTracker.trackItemsOnPoint(new Point(getX(cell), getY(cell)), getItemsInCell(cell));
+    }
+
+    private ItemType getFirstResource(int cell) {
+        int itemIndex = cell * NUM_ITEM_TYPES;
+        for (ItemType itemType : ITEM_TYPES) {
+            if (itemType.isResource() && itemCounts[itemIndex + itemType.ordinal()] > 0) {
+                return itemType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mines the tile in a cell once, cracking empty tiles and turning fully mined resource tiles into a cracked
+     *  tile with the resource on it
+     */
+    private void mine(int cell) {
+        byte tileKind = tileKinds[cell];
+        if (tileKind == TileType.EMPTY.ordinal()) {
+            tileKinds[cell] = CRACKED;
+            return;
+        }
+
+        if (tileKind == CRACKED || RESOURCE_FOR_TILE_TYPE[tileKind] == null) {
+            // Only empty and resource tiles change when mined
+            return;
+        }
+        ItemType tileResource = RESOURCE_FOR_TILE_TYPE[tileKind];
+        mineProgress[cell]++;
+        if (mineProgress[cell] >= tileResource.getTurnsToMine()) {
+            tileKinds[cell] = CRACKED;
+            mineProgress[cell] = 0;
+            itemCounts[cell * NUM_ITEM_TYPES + tileResource.ordinal()]++;
+            viewTracker.trackTileType(cell / size, cell % size, TileType.EMPTY);
+        }
+    }
+
+    private List<InventoryItem> getItemsInCell(int cell) {
+        List<InventoryItem> items = new ArrayList<>();
+        int itemIndex = cell * NUM_ITEM_TYPES;
+        for (ItemType itemType : ITEM_TYPES) {
+            for (int i = 0; i < itemCounts[itemIndex + itemType.ordinal()]; i++) {
+                items.add(new InventoryItem(itemType));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Called every turn for the board to update its internal state, with the same result as GameBoard.update()
+     */
+    public void update() {
+        // Recharge tiles are the only tiles that tick, and only when a player is standing on them
+        for (int i = 0; i < numPlayersOnBoard; i++) {
+            if (tileKinds[playerCells[i]] == TileType.RECHARGE.ordinal()) {
+                playersOnBoard[i].rechargeEnergy(RechargeTile.RECHARGE_PERCENT_PER_TURN);
+            }
+        }
+
+        // Autominers never move during an update, so they can be walked directly in the same order as a full scan
+        for (int i = 0; i < autominerCells.size(); i++) {
+            int minerCell = autominerCells.get(i);
+            int minerX = getX(minerCell);
+            int minerY = getY(minerCell);
+
+            updateAutominedCell(minerCell);
+            if (minerX > 0) updateAutominedCell(minerCell - 1);
+            if (minerX < size - 1) updateAutominedCell(minerCell + 1);
+            if (minerY > 0) updateAutominedCell(minerCell + size);
+            if (minerY < size - 1) updateAutominedCell(minerCell - size);
+        }
+    }
+
+    private void updateAutominedCell(int cell) {
+        int turnsMined = autominerTurns.get(cell);
+        byte tileKind = tileKinds[cell];
+
+        if (tileKind == TileType.EMPTY.ordinal()) {
+            mine(cell);
+        } else if (turnsMined > 0 && tileKind != CRACKED && RESOURCE_FOR_TILE_TYPE[tileKind] != null) {
+            if (turnsMined % GameBoard.AUTOMINER_MULTIPLIER == 0) {
+                mine(cell);
+            }
+        }
+
+        // GameBoard re-enters the tile of any player standing on an autominer's tile, which sells at markets
+        MinePlayer playerInCell = getPlayerInCell(cell);
+        if (playerInCell != null) {
+            onEnter(playerInCell, cell);
+        }
+
+        autominerTurns.put(cell, turnsMined + 1);
+    }
+
+    /**
+     * Converts this board into a restricted information view of the board relative to what one player is
+     *  allowed to know, the same as GameBoard.convertToView()
+     *
+     * @param playerReceivingView The player who will receive this restricted information view
+     * @param otherPlayerLocation The opposing player's location
+     * @param otherPlayerScore The opposing player's current score
+     * @return A PlayerBoardView that contains all the information about this board for this turn which a
+     *          player strategy is allowed to know
+     */
+    public PlayerBoardView convertToView(MinePlayer playerReceivingView, Point otherPlayerLocation,
+                                         int otherPlayerScore) {
+        Point playerLocation = getPlayerLocation(playerReceivingView);
+        Point otherLocationCopy = new Point(otherPlayerLocation.x, otherPlayerLocation.y);
+        return viewTracker.createView(playerLocation, otherLocationCopy, otherPlayerScore);
+    }
+
+    /**
+     * Builds a Tile object with the current state of a location. The Tile is a copy, so nothing done to it
+     *  changes this board
+     *
+     * @param x The x coordinate of the tile to get
+     * @param y The y coordinate of the tile to get
+     * @return A new Tile for the location, or null if the location is outside the board
+     */
+    public Tile getTileAtLocation(int x, int y) {
+        int cell = getCell(x, y);
+        if (cell < 0) {
+            return null;
+        }
+
+        Point location = new Point(x, y);
+        byte tileKind = tileKinds[cell];
+        Tile tile;
+        if (tileKind == CRACKED) {
+            tile = new CrackedTile(location);
+        } else if (tileKind == TileType.EMPTY.ordinal()) {
+            tile = new EmptyTile(location);
+        } else if (tileKind == TileType.RECHARGE.ordinal()) {
+            tile = new RechargeTile(location);
+        } else if (tileKind == TileType.RED_MARKET.ordinal() || tileKind == TileType.BLUE_MARKET.ordinal()) {
+            tile = new MarketTile(location, tileKind == TileType.RED_MARKET.ordinal());
+        } else {
+            tile = new ResourceTile(location, RESOURCE_FOR_TILE_TYPE[tileKind], mineProgress[cell]);
+        }
+
+        tile.getItemsOnTile().addAll(getItemsInCell(cell));
+        tile.setPlayerOnTile(getPlayerInCell(cell));
+        return tile;
+    }
+}
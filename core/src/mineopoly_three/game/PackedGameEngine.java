@@ -0,0 +1,247 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.GameEventType;
+import mineopoly_three.event.TurnCompleted;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.replay.Replay;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlanningStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.util.DistanceUtil;
+import mineopoly_three.util.GameRandomStreams;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * A headless GameEngine that plays on a PackedGameBoard, so a game never creates Tile objects and the board of
+ *  even a 1024x1024 game is a handful of primitive arrays. It plays by exactly the same rules and turn order as
+ *  GameEngine, so both engines produce the same scores and replays for the same seed and strategies
+ */
+public class PackedGameEngine {
+    private final GameConfig config;
+    private long randomSeed;
+    private PackedGameBoard board;
+    private MinePlayer redPlayer;
+    private MinePlayer bluePlayer;
+    private Economy economy;
+    private int minScoreToWin;
+    private int turnNumber;
+    private boolean isRedTurn;
+    private final GameEventBus eventBus = new GameEventBus();
+    private final PlanFollower redPlan = new PlanFollower();
+    private final PlanFollower bluePlan = new PlanFollower();
+    private final IntBinaryOperator tileStates = (x, y) -> board.getTileState(x, y);
+
+    // Variables to greatly simplify exception flow logic
+    private MinePlayer playerWhoThrewException;
+    private Exception exceptionThrown;
+
+    public PackedGameEngine(int boardSize, MinePlayerStrategy redPlayerStrategy,
+                            MinePlayerStrategy bluePlayerStrategy, long randomSeed) {
+        this(boardSize, redPlayerStrategy, bluePlayerStrategy, randomSeed, GameConfig.DEFAULT);
+    }
+
+    /**
+     * @param config The limits to play with instead of the normal rules, like a bigger inventory for stress tests
+     */
+    public PackedGameEngine(int boardSize, MinePlayerStrategy redPlayerStrategy,
+                            MinePlayerStrategy bluePlayerStrategy, long randomSeed, GameConfig config) {
+        this.config = config;
+        this.randomSeed = randomSeed;
+        WorldGenerator worldGenerator = new WorldGenerator(randomSeed, config.getResourcePlacement());
+        this.board = worldGenerator.generatePackedBoard(boardSize);
+        this.economy = new Economy(Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new));
+        this.minScoreToWin = config.getMinScoreToWin(boardSize);
+
+        // MinePlayer needs a starting Tile, but nothing in this engine reads it so a throwaway copy is enough
+        Point redStart = board.getRedStartTileLocation();
+        Point blueStart = board.getBlueStartTileLocation();
+        this.redPlayer = new MinePlayer(redPlayerStrategy, board.getTileAtLocation(redStart.x, redStart.y),
+                                        economy, randomSeed, true, config);
+        this.bluePlayer = new MinePlayer(bluePlayerStrategy, board.getTileAtLocation(blueStart.x, blueStart.y),
+                                         economy, randomSeed, false, config);
+        // Entering a start tile never changes anything, so the players can be put on the board right away
+        board.addPlayer(redPlayer, redStart);
+        board.addPlayer(bluePlayer, blueStart);
+        this.turnNumber = 0;
+        this.isRedTurn = true;
+
+        this.playerWhoThrewException = null;
+        this.exceptionThrown = null;
+    }
+
+    public PackedGameBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * @return The red player, whose current tile is refreshed from the packed board first
+     */
+    public MinePlayer getRedPlayer() {
+        syncCurrentTile(redPlayer);
+        return redPlayer;
+    }
+
+    /**
+     * @return The blue player, whose current tile is refreshed from the packed board first
+     */
+    public MinePlayer getBluePlayer() {
+        syncCurrentTile(bluePlayer);
+        return bluePlayer;
+    }
+
+    private void syncCurrentTile(MinePlayer player) {
+        Point playerLocation = board.getPlayerLocation(player);
+        player.setCurrentTile(board.getTileAtLocation(playerLocation.x, playerLocation.y));
+    }
+
+    /**
+     * @return The bus this engine publishes a TurnCompleted event to after every turn
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    public Economy getEconomy() {
+        return economy;
+    }
+
+    public int getRedPlayerScore() {
+        return redPlayer.getScore();
+    }
+
+    public int getBluePlayerScore() {
+        return bluePlayer.getScore();
+    }
+
+    public int getMinScoreToWin() {
+        return minScoreToWin;
+    }
+
+    public Exception getExceptionThrown() {
+        return exceptionThrown;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Copies the state of this game into a GameState that can be stepped forward without affecting this game
+     *
+     * @return A GameState snapshot of this game
+     */
+    public GameState createSnapshot() {
+        return GameState.copyOf(board, economy, redPlayer, bluePlayer, minScoreToWin, config.getMaxTurns(), turnNumber,
+                                isRedTurn);
+    }
+
+    public Replay getReplay() {
+        boolean redThrewException = (playerWhoThrewException == redPlayer);
+        boolean blueThrewException = (playerWhoThrewException == bluePlayer);
+        return new Replay(board.getSize(), randomSeed, redPlayer.getAllTurnActions(), bluePlayer.getAllTurnActions(),
+                          redThrewException, blueThrewException);
+    }
+
+    /**
+     * Runs through a round of Mine-opoly exactly like GameEngine.runGame(), without any GUI
+     */
+    public void runGame() {
+        try {
+            runGameLoop();
+        } catch (Exception e) {
+            // A strategy can throw an exception of any type, so it's unavoidable to catch generic Exceptions here
+            playerWhoThrewException.setScore(-1);
+            this.exceptionThrown = e;
+            e.printStackTrace();
+        }
+    }
+
+    private void runGameLoop() {
+        initializePlayer(redPlayer, true);
+        initializePlayer(bluePlayer, false);
+
+        boolean roundHasWinner = false;
+
+        int maxTurns = config.getMaxTurns();
+        while (turnNumber < maxTurns && !roundHasWinner) {
+            MinePlayer firstPlayer = isRedTurn ? redPlayer : bluePlayer;
+            MinePlayer secondPlayer = isRedTurn ? bluePlayer : redPlayer;
+
+            processTurn(firstPlayer, secondPlayer, isRedTurn);
+            processTurn(secondPlayer, firstPlayer, isRedTurn);
+
+            board.update();
+            economy.increaseDemand();
+
+            isRedTurn = !isRedTurn;
+            turnNumber++;
+            roundHasWinner = (redPlayer.getScore() >= minScoreToWin) || (bluePlayer.getScore() >= minScoreToWin);
+            if (eventBus.hasListeners(GameEventType.TURN_COMPLETED)) {
+                eventBus.publish(GameEventType.TURN_COMPLETED, new TurnCompleted(turnNumber, redPlayer.getScore(),
+                                                                                 bluePlayer.getScore()));
+            }
+        }
+
+        endRound();
+    }
+
+    private void initializePlayer(MinePlayer playerToInitialize, boolean isRedPlayer) {
+        playerWhoThrewException = playerToInitialize; // If an exception gets thrown, we know who did it
+
+        Point playerStartCopy = board.getPlayerLocation(playerToInitialize);
+        Point opponentStartTile = isRedPlayer ? board.getBlueStartTileLocation() : board.getRedStartTileLocation();
+
+        PlayerBoardView startingBoard = board.convertToView(playerToInitialize, opponentStartTile, 0);
+        playerToInitialize.getStrategy().initialize(board.getSize(), config.getMaxItems(), config.getMaxEnergy(),
+                                                    minScoreToWin, startingBoard, playerStartCopy, isRedPlayer,
+                                                    GameRandomStreams.forStrategy(randomSeed,
+                                                            GameRandomStreams.getPlayerIndex(isRedPlayer)));
+    }
+
+    private void processTurn(MinePlayer currentPlayer, MinePlayer otherPlayer, boolean isRedTurn) {
+        playerWhoThrewException = currentPlayer; // If an exception gets thrown, we know who did it
+
+        // Follow the player's plan if they have one, otherwise ask them what they want to do
+        PlanFollower plan = (currentPlayer == redPlayer) ? redPlan : bluePlan;
+        Point otherLocation = board.getPlayerLocation(otherPlayer);
+        int robotCharge = currentPlayer.getCurrentEnergy();
+        int distanceToOpponent = DistanceUtil.getManhattanDistance(board.getPlayerLocation(currentPlayer),
+                                                                   otherLocation);
+        TurnAction playerAction;
+        if (plan.hasNextAction(robotCharge, distanceToOpponent, tileStates, null)) {
+            playerAction = plan.nextAction();
+        } else {
+            PlayerBoardView boardView = board.convertToView(currentPlayer, otherLocation, otherPlayer.getScore());
+            MinePlayerStrategy playerStrategy = currentPlayer.getStrategy();
+            if (playerStrategy instanceof PlanningStrategy) {
+                PlanningStrategy planningStrategy = (PlanningStrategy) playerStrategy;
+                playerAction = plan.start(planningStrategy.getActionPlan(boardView, economy, robotCharge, isRedTurn),
+                                          tileStates);
+            } else {
+                playerAction = playerStrategy.getTurnAction(boardView, economy, robotCharge, isRedTurn);
+            }
+        }
+        currentPlayer.addTurnAction(playerAction);
+        if (playerAction == null) {
+            return;
+        }
+
+        board.performAction(currentPlayer, playerAction);
+        plan.recordTileStates(tileStates, null);
+    }
+
+    private void endRound() {
+        int redPlayerScore = redPlayer.getScore();
+        int bluePlayerScore = bluePlayer.getScore();
+        playerWhoThrewException = redPlayer;
+        redPlayer.getStrategy().endRound(redPlayerScore, bluePlayerScore);
+        playerWhoThrewException = bluePlayer;
+        bluePlayer.getStrategy().endRound(bluePlayerScore, redPlayerScore);
+        playerWhoThrewException = null;
+    }
+}
@@ -0,0 +1,133 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.strategy.ActionPlan;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * The rest of the ActionPlan one player is following. Engines ask this for the player's next action before
+ *  building a view, and only call the strategy when it has none
+ */
+final class PlanFollower {
+    private TurnAction[] actions;
+    private int numActions;
+    private int nextActionIndex;
+    private int[] watchedX;
+    private int[] watchedY;
+    private int[] watchedTileStates;
+    private int numWatchedTiles;
+    private int opponentDistance;
+    private int minCharge;
+
+    PlanFollower() {
+        this.actions = new TurnAction[0];
+        this.watchedX = new int[0];
+        this.watchedY = new int[0];
+        this.watchedTileStates = new int[0];
+    }
+
+    /**
+     * Starts following a plan the strategy just returned
+     *
+     * @param plan The plan, or null if the strategy chose to do nothing
+     * @param tileStates Gets the state of the tile at (x, y), see GameBoard.getTileState()
+     * @return The action to take on this turn
+     */
+    TurnAction start(ActionPlan plan, IntBinaryOperator tileStates) {
+        if (plan == null) {
+            cancel();
+            return null;
+        }
+
+        List<TurnAction> planActions = plan.getActions();
+        numActions = planActions.size();
+        if (actions.length < numActions) {
+            actions = new TurnAction[numActions];
+        }
+        planActions.toArray(actions);
+        nextActionIndex = 1;
+
+        List<Point> watchedTiles = plan.getWatchedTiles();
+        numWatchedTiles = watchedTiles.size();
+        if (watchedX.length < numWatchedTiles) {
+            watchedX = new int[numWatchedTiles];
+            watchedY = new int[numWatchedTiles];
+            watchedTileStates = new int[numWatchedTiles];
+        }
+        for (int i = 0; i < numWatchedTiles; i++) {
+            Point tileLocation = watchedTiles.get(i);
+            watchedX[i] = tileLocation.x;
+            watchedY[i] = tileLocation.y;
+        }
+        // Watched tiles start from their current state even out of view, so a change the player hasn't seen yet
+        //  still ends the plan once it comes into view
+        recordTileStates(tileStates, null);
+        opponentDistance = plan.getOpponentDistance();
+        minCharge = plan.getMinCharge();
+        return actions[0];
+    }
+
+    /**
+     * Checks whether the plan has another action and none of its conditions are met, and forgets the plan if not
+     *
+     * @param currentCharge The player's charge at the start of their turn
+     * @param distanceToOpponent The Manhattan distance between the player and the other player
+     * @param tileStates Gets the state of the tile at (x, y), see GameBoard.getTileState()
+     * @param vision What the player can see, or null if they can see the whole board. Watched tiles out of view
+     *                count as unchanged, since the player has no way of seeing them change
+     * @return True if nextAction() can be called instead of asking the strategy
+     */
+    boolean hasNextAction(int currentCharge, int distanceToOpponent, IntBinaryOperator tileStates,
+                          PlayerVision vision) {
+        if (nextActionIndex >= numActions) {
+            return false;
+        }
+
+        boolean isValid = currentCharge >= minCharge && distanceToOpponent > opponentDistance;
+        for (int i = 0; i < numWatchedTiles && isValid; i++) {
+            if (vision == null || vision.isVisible(watchedX[i], watchedY[i])) {
+                isValid = tileStates.applyAsInt(watchedX[i], watchedY[i]) == watchedTileStates[i];
+            }
+        }
+        if (!isValid) {
+            cancel();
+        }
+        return isValid;
+    }
+
+    TurnAction nextAction() {
+        TurnAction action = actions[nextActionIndex];
+        actions[nextActionIndex++] = null;
+        return action;
+    }
+
+    /**
+     * Remembers the watched tiles as they are now, called after the player acts so their own actions never end
+     *  their plan
+     *
+     * @param vision What the player can see, or null if they can see the whole board. Tiles out of view keep the
+     *                state the player last saw, so a change made out of view ends the plan once it comes into view
+     */
+    void recordTileStates(IntBinaryOperator tileStates, PlayerVision vision) {
+        if (nextActionIndex >= numActions) {
+            return;
+        }
+        for (int i = 0; i < numWatchedTiles; i++) {
+            if (vision == null || vision.isVisible(watchedX[i], watchedY[i])) {
+                watchedTileStates[i] = tileStates.applyAsInt(watchedX[i], watchedY[i]);
+            }
+        }
+    }
+
+    void cancel() {
+        for (int i = nextActionIndex; i < numActions; i++) {
+            actions[i] = null;
+        }
+        numActions = 0;
+        nextActionIndex = 0;
+        numWatchedTiles = 0;
+    }
+}
@@ -0,0 +1,141 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What one player can see and remembers in a game with a vision radius. The player sees every tile within the
+ *  radius of their robot in both directions, and remembers tiles and items as they last saw them everywhere else.
+ *  Markets and recharge tiles never change, so they are known from the start.
+ * The remembered board is kept up to date incrementally: moving only reveals the row or column of tiles that came
+ *  into view, and changes to tiles already in view are passed on by the GameBoard as they happen. Views share the
+ *  remembered board the same way normal views share the whole board, so building one never copies it
+ */
+final class PlayerVision {
+    private final GameBoard board;
+    private final int visionRadius;
+    private final BoardViewTracker memory;
+    private boolean hasLocation;
+    private int centerX;
+    private int centerY;
+
+    /**
+     * @param board The board being played on, this vision has to be added to it with addPlayerVision()
+     * @param visionRadius How many tiles away from the robot the player can see, 0 for only the robot's own tile
+     */
+    PlayerVision(GameBoard board, int visionRadius) {
+        this.board = board;
+        this.visionRadius = visionRadius;
+
+        int boardSize = board.getSize();
+        TileType[][] rememberedTiles = new TileType[boardSize][boardSize];
+        for (int y = 0; y < boardSize; y++) {
+            int rowIndex = (boardSize - 1) - y;
+            Arrays.fill(rememberedTiles[rowIndex], TileType.UNKNOWN);
+            for (int x = 0; x < boardSize; x++) {
+                TileType tileType = board.getTileAtLocation(x, y).getType();
+                if (tileType == TileType.RED_MARKET || tileType == TileType.BLUE_MARKET
+                        || tileType == TileType.RECHARGE) {
+                    rememberedTiles[rowIndex][x] = tileType;
+                }
+            }
+        }
+        this.memory = new BoardViewTracker(rememberedTiles);
+        this.hasLocation = false;
+    }
+
+    long getViewsBuilt() {
+        return memory.getViewsBuilt();
+    }
+
+    boolean isVisible(int x, int y) {
+        return hasLocation && Math.abs(x - centerX) <= visionRadius && Math.abs(y - centerY) <= visionRadius;
+    }
+
+    /**
+     * Called by the GameBoard whenever a tile changes type
+     */
+    void onTileChanged(int x, int y, TileType newType) {
+        if (isVisible(x, y)) {
+            memory.trackTileType((board.getSize() - 1) - y, x, newType);
+        }
+    }
+
+    /**
+     * Called by the GameBoard whenever the items on the ground handed to views change
+     */
+    void onItemsChanged(Point pointWithItems, List<InventoryItem> itemsOnPoint) {
+        if (isVisible(pointWithItems.x, pointWithItems.y)) {
+            memory.trackItemsOnPoint(pointWithItems, itemsOnPoint);
+        }
+    }
+
+    /**
+     * Moves the center of the player's vision to where their robot is now, revealing the tiles that came into view
+     */
+    void moveTo(Point robotLocation) {
+        int newX = robotLocation.x;
+        int newY = robotLocation.y;
+        if (hasLocation && newX == centerX && newY == centerY) {
+            return;
+        }
+
+        int maxIndex = board.getSize() - 1;
+        int minRevealY = Math.max(0, newY - visionRadius);
+        int maxRevealY = Math.min(maxIndex, newY + visionRadius);
+        int minRevealX = Math.max(0, newX - visionRadius);
+        int maxRevealX = Math.min(maxIndex, newX + visionRadius);
+        for (int y = minRevealY; y <= maxRevealY; y++) {
+            if (hasLocation && Math.abs(y - centerY) <= visionRadius) {
+                // Part of this row was already in view, only the columns outside the old view are new
+                int oldMinX = centerX - visionRadius;
+                int oldMaxX = centerX + visionRadius;
+                for (int x = minRevealX; x <= Math.min(maxRevealX, oldMinX - 1); x++) {
+                    reveal(x, y);
+                }
+                for (int x = Math.max(minRevealX, oldMaxX + 1); x <= maxRevealX; x++) {
+                    reveal(x, y);
+                }
+            } else {
+                for (int x = minRevealX; x <= maxRevealX; x++) {
+                    reveal(x, y);
+                }
+            }
+        }
+
+        hasLocation = true;
+        centerX = newX;
+        centerY = newY;
+    }
+
+    private void reveal(int x, int y) {
+        Tile tile = board.getTileAtLocation(x, y);
+        memory.trackTileType((board.getSize() - 1) - y, x, tile.getType());
+        Map<Point, List<InventoryItem>> itemsOnGround = board.getTrackedItemsOnGround();
+        Point location = tile.getLocation();
+        memory.trackItemsOnPoint(location, itemsOnGround.getOrDefault(location, Collections.emptyList()));
+    }
+
+    /**
+     * @param playerLocation The location of the player receiving the view
+     * @param otherPlayerLocation The opposing player's location, which is only shown if it is in view
+     * @param otherPlayerScore The opposing player's current score
+     * @return A view of the tiles and items this player can see or remembers
+     */
+    PlayerBoardView createView(Point playerLocation, Point otherPlayerLocation, int otherPlayerScore) {
+        Point playerLocationCopy = new Point(playerLocation.x, playerLocation.y);
+        Point otherLocationCopy = null;
+        if (isVisible(otherPlayerLocation.x, otherPlayerLocation.y)) {
+            otherLocationCopy = new Point(otherPlayerLocation.x, otherPlayerLocation.y);
+        }
+        return memory.createView(playerLocationCopy, otherLocationCopy, otherPlayerScore);
+    }
+}
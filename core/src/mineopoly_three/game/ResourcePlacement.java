@@ -0,0 +1,19 @@
+package mineopoly_three.game;
+
+/**
+ * How WorldGenerator picks the tiles in each ring of resources. Both place the same number of each resource in
+ *  the same rings, but they use the random sequence differently, so the same seed gives a different world in each
+ */
+public enum ResourcePlacement {
+    /**
+     * The original placement: a random angle and radius for every resource, retried up to 50 times until it lands
+     *  on an empty tile and skipped if it never does. Every existing seed and replay depends on it
+     */
+    SAMPLED,
+
+    /**
+     * Lists the empty tiles of each ring once and picks from them with a partial Fisher-Yates shuffle, so board
+     *  generation takes time linear in the number of tiles and only skips a resource when its whole ring is full
+     */
+    SHUFFLED
+}
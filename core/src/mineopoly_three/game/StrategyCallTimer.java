@@ -0,0 +1,148 @@
+package mineopoly_three.game;
+
+import mineopoly_three.util.LatencyHistogram;
+import mineopoly_three.util.VirtualThreads;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Times every call the GameEngine makes into one player's strategy and enforces the StrategyTimeBudget.
+ * With an unlimited budget calls run directly on the engine's thread. Otherwise they run on a daemon thread
+ *  owned by this timer so the engine can stop waiting once the budget runs out. A strategy that ignores being
+ *  interrupted keeps that thread busy, but it can no longer hold up the game. That thread can be a virtual thread,
+ *  so thousands of games running at once don't each need two OS threads for their strategies
+ */
+class StrategyCallTimer {
+    private final StrategyTimeBudget timeBudget;
+    private final String playerName;
+    private final boolean useVirtualThreads;
+    private final LatencyHistogram callLatencies;
+    private long gameNanosUsed;
+    private ExecutorService strategyExecutor;
+
+    StrategyCallTimer(StrategyTimeBudget timeBudget, String playerName, boolean useVirtualThreads) {
+        this.timeBudget = timeBudget;
+        this.playerName = playerName;
+        this.useVirtualThreads = useVirtualThreads;
+        this.callLatencies = new LatencyHistogram();
+        this.gameNanosUsed = 0;
+        this.strategyExecutor = null;
+    }
+
+    /**
+     * Gets this timer ready for a new game with the same budget
+     */
+    void reset() {
+        shutdown();
+        callLatencies.clear();
+        gameNanosUsed = 0;
+    }
+
+    LatencyHistogram getCallLatencies() {
+        return callLatencies;
+    }
+
+    /**
+     * @return How long the next strategy call may take in nanoseconds, Long.MAX_VALUE if there is no limit
+     */
+    long getNextCallLimitNanos() {
+        if (timeBudget.isUnlimited()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, Math.min(timeBudget.getPerCallNanos(), getGameNanosRemaining()));
+    }
+
+    /**
+     * @return How much of the game budget is left in nanoseconds, Long.MAX_VALUE if there is no limit
+     */
+    long getGameNanosRemaining() {
+        if (timeBudget.getPerGameNanos() == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, timeBudget.getPerGameNanos() - gameNanosUsed);
+    }
+
+    /**
+     * Makes a strategy call under this timer's budget
+     *
+     * @param strategyCall The call to make into the strategy
+     * @param callName The name of the strategy method being called, for the timeout message
+     * @return Whatever the strategy call returned
+     * @throws StrategyTimeoutException If the call went over the budget
+     */
+    <T> T call(Supplier<T> strategyCall, String callName) {
+        long callLimitNanos = getNextCallLimitNanos();
+        long startTime = System.nanoTime();
+        try {
+            if (callLimitNanos == Long.MAX_VALUE) {
+                return strategyCall.get();
+            }
+            return callWithDeadline(strategyCall, callName, callLimitNanos);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startTime;
+            gameNanosUsed += elapsedNanos;
+            callLatencies.record(elapsedNanos);
+        }
+    }
+
+    private <T> T callWithDeadline(Supplier<T> strategyCall, String callName, long callLimitNanos) {
+        if (strategyExecutor == null) {
+            if (useVirtualThreads) {
+                strategyExecutor = Executors.newSingleThreadExecutor(
+                        VirtualThreads.newThreadFactory(playerName + " strategy"));
+            } else {
+                strategyExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread strategyThread = new Thread(runnable, playerName + " strategy");
+                    strategyThread.setDaemon(true);
+                    return strategyThread;
+                });
+            }
+        }
+
+        Future<T> callResult = strategyExecutor.submit(strategyCall::get);
+        try {
+            return callResult.get(callLimitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            callResult.cancel(true);
+            throw new StrategyTimeoutException(playerName + " strategy went over its time budget in " + callName);
+        } catch (ExecutionException e) {
+            throw rethrowStrategyException(e);
+        } catch (InterruptedException e) {
+            callResult.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the " + playerName + " strategy", e);
+        }
+    }
+
+    /**
+     * Rethrows whatever a strategy call running on another thread threw, as if it had been called directly
+     *
+     * @param e The ExecutionException wrapping what the strategy threw
+     * @return Never returns, the return type only lets callers write "throw rethrowStrategyException(e)"
+     */
+    static RuntimeException rethrowStrategyException(ExecutionException e) {
+        Throwable strategyException = e.getCause();
+        if (strategyException instanceof RuntimeException) {
+            throw (RuntimeException) strategyException;
+        } else if (strategyException instanceof Error) {
+            throw (Error) strategyException;
+        }
+        throw new IllegalStateException(strategyException);
+    }
+
+    /**
+     * Stops the thread strategy calls ran on, if there was one
+     */
+    void shutdown() {
+        if (strategyExecutor != null) {
+            strategyExecutor.shutdownNow();
+            strategyExecutor = null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package mineopoly_three.game;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long a strategy may take in its initialize(), getTurnAction() and endRound() calls. A strategy that goes
+ *  over either limit is treated the same as a strategy that threw an exception
+ */
+public class StrategyTimeBudget {
+    /**A budget that never times a strategy out, strategy calls are still timed for their latencies*/
+    public static final StrategyTimeBudget UNLIMITED = new StrategyTimeBudget(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final long perCallNanos;
+    private final long perGameNanos;
+
+    private StrategyTimeBudget(long perCallNanos, long perGameNanos) {
+        this.perCallNanos = perCallNanos;
+        this.perGameNanos = perGameNanos;
+    }
+
+    /**
+     * @param perCallMillis The most milliseconds a single strategy call may take
+     * @param perGameMillis The most milliseconds all of one strategy's calls in a game may take together
+     * @return A budget with those limits
+     */
+    public static StrategyTimeBudget ofMillis(long perCallMillis, long perGameMillis) {
+        if (perCallMillis <= 0 || perGameMillis <= 0) {
+            throw new IllegalArgumentException("Time limits must be positive");
+        }
+        return new StrategyTimeBudget(TimeUnit.MILLISECONDS.toNanos(perCallMillis),
+                                      TimeUnit.MILLISECONDS.toNanos(perGameMillis));
+    }
+
+    public long getPerCallNanos() {
+        return perCallNanos;
+    }
+
+    public long getPerGameNanos() {
+        return perGameNanos;
+    }
+
+    public boolean isUnlimited() {
+        return perCallNanos == Long.MAX_VALUE && perGameNanos == Long.MAX_VALUE;
+    }
+}
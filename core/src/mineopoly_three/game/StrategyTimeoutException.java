@@ -0,0 +1,10 @@
+package mineopoly_three.game;
+
+/**
+ * Thrown in place of a strategy call that went over its StrategyTimeBudget
+ */
+public class StrategyTimeoutException extends RuntimeException {
+    public StrategyTimeoutException(String message) {
+        super(message);
+    }
+}
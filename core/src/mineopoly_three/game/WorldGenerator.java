@@ -0,0 +1,361 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.tiles.EmptyTile;
+import mineopoly_three.tiles.MarketTile;
+import mineopoly_three.tiles.RechargeTile;
+import mineopoly_three.tiles.ResourceTile;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+import mineopoly_three.util.GameRandomStreams;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A class to generate a random GameBoard based on an initial seed value. Giving a random number generator
+ *  a seed value means that it will always generate the same "random" sequence whenever it is provided
+ *  with the same seed value later. This allows us to generate an unpredictable GameBoard, but also
+ *  generate that same exact GameBoard if necessary for replaying a match / reproducing bugs / other purposes
+ */
+public class WorldGenerator {
+    private static final float RANDOM_RESOURCE_CHANCE = 0.2f;
+    private static final int MAX_EMPTY_TILE_SEARCHES = 50;
+    private Random randomGenerator;
+    private final ResourcePlacement resourcePlacement;
+    // The empty tiles of the ring being filled during SHUFFLED placement, kept between boards of the same size
+    private int[] candidateCells;
+
+    public WorldGenerator(long rngSeedValue) {
+        this(rngSeedValue, ResourcePlacement.SAMPLED);
+    }
+
+    /**
+     * @param rngSeedValue The seed value for the worlds generated
+     * @param resourcePlacement How each ring of resources picks its tiles
+     */
+    public WorldGenerator(long rngSeedValue, ResourcePlacement resourcePlacement) {
+        this.randomGenerator = GameRandomStreams.forWorld(rngSeedValue);
+        this.resourcePlacement = resourcePlacement;
+    }
+
+    /**
+     * Generates a GameBoard by filling it with empty tiles, adding market tiles, and then generating the resources
+     *
+     * @param boardSize The size of the board to generate
+     * @return A GameBoard object ready for use in a round of Mine-opoly
+     * @throws IllegalArgumentException If the size is outside the sizes GameConfig allows
+     */
+    protected GameBoard generateBoard(int boardSize) {
+        GameConfig.checkBoardSize(boardSize);
+        // Fill board with empty tiles to begin with
+        Tile[][] tilesOnBoard = new Tile[boardSize][boardSize];
+        for (int i = 0; i < tilesOnBoard.length; i++) {
+            for (int j = 0; j < tilesOnBoard[i].length; j++) {
+                // The top left corner is index (0, 0) but location (0, maxY)
+                // This is so MOVE_UP actually moves up relative to the bottom of the screen
+                Point tileLocation = new Point(j, (boardSize - 1) - i);
+                tilesOnBoard[i][j] = new EmptyTile(tileLocation);
+            }
+        }
+
+        GameBoard board = new GameBoard(tilesOnBoard);
+        this.generateWorld(new ObjectWorldLayout(board));
+        return board;
+    }
+
+    /**
+     * Starts generating worlds from a new seed, the same as creating a new WorldGenerator with that seed
+     *
+     * @param rngSeedValue The new seed value
+     */
+    protected void setSeed(long rngSeedValue) {
+        this.randomGenerator = GameRandomStreams.forWorld(rngSeedValue);
+    }
+
+    /**
+     * Generates a new world into an existing GameBoard, reusing its tiles where possible. The world is the same
+     *  one generateBoard() would generate for the board's size
+     *
+     * @param board The GameBoard to generate the new world into
+     */
+    protected void regenerateBoard(GameBoard board) {
+        board.clearForNewWorld();
+        this.generateWorld(new ObjectWorldLayout(board));
+    }
+
+    /**
+     * Generates the same world generateBoard() would for the same seed, but into a PackedGameBoard so no Tile
+     *  objects are ever created
+     *
+     * @param boardSize The size of the board to generate
+     * @return A PackedGameBoard object ready for use in a round of Mine-opoly
+     * @throws IllegalArgumentException If the size is outside the sizes GameConfig allows
+     */
+    protected PackedGameBoard generatePackedBoard(int boardSize) {
+        GameConfig.checkBoardSize(boardSize);
+        PackedGameBoard board = new PackedGameBoard(boardSize);
+        this.generateWorld(new PackedWorldLayout(board));
+        return board;
+    }
+
+    private void generateWorld(WorldLayout board) {
+        this.addChargingTiles(board);
+        this.addMarketTiles(board);
+        this.generateResources(board);
+        this.addAutominerTiles(board);
+    }
+
+    private void addChargingTiles(WorldLayout board) {
+        // Create a square of charging tiles right at the center of the board
+        int halfBoardSize = board.getSize() / 2;
+        for (int y = halfBoardSize - 1; y <= halfBoardSize; y++) {
+            for (int x = halfBoardSize - 1; x <= halfBoardSize; x++) {
+                board.placeRechargeTile(x, y);
+            }
+        }
+    }
+
+    private void addMarketTiles(WorldLayout board) {
+        int boardSize = board.getSize();
+        Point redLowerMarketPoint = new Point(boardSize / 4, boardSize * 3 / 4);
+        Point redUpperMarketPoint = new Point(boardSize * 3 / 4, boardSize / 4);
+        Point blueLowerMarketPoint = new Point(boardSize * 3 / 4, boardSize * 3 / 4);
+        Point blueUpperMarketPoint = new Point(boardSize / 4, boardSize / 4);
+
+        board.placeMarketTile(redLowerMarketPoint, true);
+        board.placeMarketTile(redUpperMarketPoint, true);
+        board.placeMarketTile(blueLowerMarketPoint, false);
+        board.placeMarketTile(blueUpperMarketPoint, false);
+
+        // Set the start points for both players to be their lower market
+        board.setStartLocations(redLowerMarketPoint, blueLowerMarketPoint);
+    }
+
+    private void generateResources(WorldLayout board) {
+        final ItemType[] resourceTypes = Arrays.stream(ItemType.values()).filter(ItemType::isResource).toArray(ItemType[]::new);
+        if (resourcePlacement == ResourcePlacement.SHUFFLED) {
+            this.shuffleResources(board, resourceTypes);
+        } else {
+            this.sampleResources(board, resourceTypes);
+        }
+    }
+
+    private void sampleResources(WorldLayout board, ItemType[] resourceTypes) {
+        final int numTilesOnBoard = board.getSize() * board.getSize();
+        final int halfBoardSize = board.getSize() / 2;
+
+        // Spawn rings of resources at increasing distances around the center of the board
+        for (ItemType currentResourceType : resourceTypes) {
+            int numResourceTilesToSpawn = (int) (numTilesOnBoard * currentResourceType.getSpawnCountRatio());
+            double minRadius = halfBoardSize * currentResourceType.getMinSpawnDistanceRatio();
+            double maxRadius = halfBoardSize * currentResourceType.getMaxSpawnDistanceRatio();
+
+            for (int i = 0; i < numResourceTilesToSpawn; i++) {
+                // Get a random empty tile location, unless we can't find one
+                int randomX;
+                int randomY;
+                boolean tileEmpty;
+                int numAttempts = 0;
+                do {
+                    double randomAngle = randomGenerator.nextDouble() * (2 * Math.PI);
+                    double randomRadius = randomGenerator.nextDouble() * (maxRadius - minRadius) + minRadius;
+                    randomX = (int) (randomRadius * Math.cos(randomAngle)) + halfBoardSize;
+                    randomY = (int) (randomRadius * Math.sin(randomAngle)) + halfBoardSize;
+
+                    numAttempts++;
+                    tileEmpty = (board.getTileType(randomX, randomY) == TileType.EMPTY);
+                } while (!tileEmpty && (numAttempts <= MAX_EMPTY_TILE_SEARCHES));
+
+                if (!tileEmpty) {
+                    // Could not find an empty tile in a lot of random attempts, skip this iteration
+                    continue;
+                }
+
+                // Plop this resource down at the random empty tile
+                board.placeResourceTile(randomX, randomY, pickTypeToSpawn(currentResourceType, resourceTypes));
+            }
+        }
+    }
+
+    private void shuffleResources(WorldLayout board, ItemType[] resourceTypes) {
+        final int boardSize = board.getSize();
+        final int numTilesOnBoard = boardSize * boardSize;
+        final int halfBoardSize = boardSize / 2;
+        if (candidateCells == null || candidateCells.length < numTilesOnBoard) {
+            candidateCells = new int[numTilesOnBoard];
+        }
+
+        // Spawn rings of resources at increasing distances around the center of the board
+        for (ItemType currentResourceType : resourceTypes) {
+            int numResourceTilesToSpawn = (int) (numTilesOnBoard * currentResourceType.getSpawnCountRatio());
+            double minRadius = halfBoardSize * currentResourceType.getMinSpawnDistanceRatio();
+            double maxRadius = halfBoardSize * currentResourceType.getMaxSpawnDistanceRatio();
+            double minRadiusSquared = minRadius * minRadius;
+            double maxRadiusSquared = maxRadius * maxRadius;
+
+            // List every empty tile in the ring, only looking at the rows and columns the ring can reach
+            int ringExtent = (int) Math.ceil(maxRadius);
+            int minX = Math.max(0, halfBoardSize - ringExtent);
+            int maxX = Math.min(boardSize - 1, halfBoardSize + ringExtent);
+            int minY = Math.max(0, halfBoardSize - ringExtent);
+            int maxY = Math.min(boardSize - 1, halfBoardSize + ringExtent);
+            int numCandidates = 0;
+            for (int y = minY; y <= maxY; y++) {
+                long offsetY = y - halfBoardSize;
+                for (int x = minX; x <= maxX; x++) {
+                    long offsetX = x - halfBoardSize;
+                    double distanceSquared = offsetX * offsetX + offsetY * offsetY;
+                    if (distanceSquared >= minRadiusSquared && distanceSquared < maxRadiusSquared
+                            && board.getTileType(x, y) == TileType.EMPTY) {
+                        candidateCells[numCandidates++] = y * boardSize + x;
+                    }
+                }
+            }
+
+            // A partial Fisher-Yates shuffle, each pick swaps a random remaining candidate to the front
+            int numToSpawn = Math.min(numResourceTilesToSpawn, numCandidates);
+            for (int i = 0; i < numToSpawn; i++) {
+                int randomIndex = i + randomGenerator.nextInt(numCandidates - i);
+                int cell = candidateCells[randomIndex];
+                candidateCells[randomIndex] = candidateCells[i];
+                candidateCells[i] = cell;
+
+                board.placeResourceTile(cell % boardSize, cell / boardSize,
+                                        pickTypeToSpawn(currentResourceType, resourceTypes));
+            }
+        }
+    }
+
+    /**
+     * Rarely spawns a resource of a different type than the ring it is in
+     */
+    private ItemType pickTypeToSpawn(ItemType ringResourceType, ItemType[] resourceTypes) {
+        if (randomGenerator.nextFloat() <= RANDOM_RESOURCE_CHANCE) {
+            int randomIndex = randomGenerator.nextInt(resourceTypes.length);
+            return resourceTypes[randomIndex];
+        }
+        return ringResourceType;
+    }
+
+    private void addAutominerTiles(WorldLayout board) {
+        board.placeItem(1, board.getSize() - 2, ItemType.AUTOMINER);
+        board.placeItem(board.getSize() - 2, board.getSize() - 2, ItemType.AUTOMINER);
+    }
+
+    /**
+     * The few operations world generation needs, so the same random sequence can lay out either kind of board
+     */
+    private interface WorldLayout {
+        int getSize();
+
+        TileType getTileType(int x, int y);
+
+        void placeRechargeTile(int x, int y);
+
+        void placeMarketTile(Point location, boolean isRedMarket);
+
+        void placeResourceTile(int x, int y, ItemType resourceType);
+
+        void placeItem(int x, int y, ItemType itemType);
+
+        void setStartLocations(Point redStartLocation, Point blueStartLocation);
+    }
+
+    private static class ObjectWorldLayout implements WorldLayout {
+        private final GameBoard board;
+
+        private ObjectWorldLayout(GameBoard board) {
+            this.board = board;
+        }
+
+        @Override
+        public int getSize() {
+            return board.getSize();
+        }
+
+        @Override
+        public TileType getTileType(int x, int y) {
+            return board.getTileAtLocation(x, y).getType();
+        }
+
+        @Override
+        public void placeRechargeTile(int x, int y) {
+            board.setTileAtTileLocation(new RechargeTile(getLocation(x, y)));
+        }
+
+        @Override
+        public void placeMarketTile(Point location, boolean isRedMarket) {
+            board.setTileAtTileLocation(new MarketTile(location, isRedMarket));
+        }
+
+        @Override
+        public void placeResourceTile(int x, int y, ItemType resourceType) {
+            board.setTileAtTileLocation(new ResourceTile(getLocation(x, y), resourceType));
+        }
+
+        private Point getLocation(int x, int y) {
+            // Tile locations never change, so the new tile can share the location of the tile it replaces
+            return board.getTileAtLocation(x, y).getLocation();
+        }
+
+        @Override
+        public void placeItem(int x, int y, ItemType itemType) {
+            Tile tile = board.getTileAtLocation(x, y);
+            tile.getItemsOnTile().add(new InventoryItem(itemType));
+            board.trackActiveTile(tile);
+        }
+
+        @Override
+        public void setStartLocations(Point redStartLocation, Point blueStartLocation) {
+            board.setRedStartLocation(redStartLocation);
+            board.setBlueStartLocation(blueStartLocation);
+        }
+    }
+
+    private static class PackedWorldLayout implements WorldLayout {
+        private final PackedGameBoard board;
+
+        private PackedWorldLayout(PackedGameBoard board) {
+            this.board = board;
+        }
+
+        @Override
+        public int getSize() {
+            return board.getSize();
+        }
+
+        @Override
+        public TileType getTileType(int x, int y) {
+            return board.getTileTypeAtLocation(x, y);
+        }
+
+        @Override
+        public void placeRechargeTile(int x, int y) {
+            board.setTileType(x, y, TileType.RECHARGE);
+        }
+
+        @Override
+        public void placeMarketTile(Point location, boolean isRedMarket) {
+            board.setTileType(location.x, location.y, isRedMarket ? TileType.RED_MARKET : TileType.BLUE_MARKET);
+        }
+
+        @Override
+        public void placeResourceTile(int x, int y, ItemType resourceType) {
+            board.setTileType(x, y, resourceType.getResourceTileType());
+        }
+
+        @Override
+        public void placeItem(int x, int y, ItemType itemType) {
+            board.addItem(x, y, itemType);
+        }
+
+        @Override
+        public void setStartLocations(Point redStartLocation, Point blueStartLocation) {
+            board.setRedStartLocation(redStartLocation);
+            board.setBlueStartLocation(blueStartLocation);
+        }
+    }
+}
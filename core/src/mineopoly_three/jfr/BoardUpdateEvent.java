@@ -0,0 +1,12 @@
+package mineopoly_three.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(BoardUpdateEvent.NAME)
+@Label("Board Update")
+@Description("The board updating its autominers and active tiles at the end of a turn")
+class BoardUpdateEvent extends GameFlightEvent {
+    static final String NAME = "mineopoly.BoardUpdate";
+}
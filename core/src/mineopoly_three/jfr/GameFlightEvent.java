@@ -0,0 +1,31 @@
+package mineopoly_three.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * The fields every Mine-opoly flight recorder event has, so a recording can be sliced by game.
+ * Every event is disabled until a recording turns it on, see GameFlightRecorder
+ */
+@Category("Mine-opoly")
+@Enabled(false)
+@StackTrace(false)
+abstract class GameFlightEvent extends Event {
+    @Label("Seed")
+    long seed;
+
+    @Label("Board Size")
+    int boardSize;
+
+    @Label("Turn")
+    int turn;
+
+    void setGame(long seed, int boardSize, int turn) {
+        this.seed = seed;
+        this.boardSize = boardSize;
+        this.turn = turn;
+    }
+}
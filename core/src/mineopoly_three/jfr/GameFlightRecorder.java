@@ -0,0 +1,264 @@
+package mineopoly_three.jfr;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.strategy.MinePlayerStrategy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Paths;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+
+/**
+ * Emits Java Flight Recorder events for one game at a time: the whole game, every turn, every getTurnAction() call,
+ *  every board update and every sale, each with the game's seed, board size and turn so a recording can be sliced
+ *  by game and by strategy.
+ * The events are disabled by default. They are recorded when a recording enables them by name (mineopoly.Game,
+ *  mineopoly.Turn, mineopoly.StrategyCall, mineopoly.BoardUpdate and mineopoly.Sale), for example with
+ *  startRecording(). While they are disabled every method returns after reading a flag, without allocating.
+ * The project still compiles for Java 8, and JVMs before 8u262 have no flight recorder API, so nothing here
+ *  touches jdk.jfr unless the JVM has it. Events are only ever handled as their own classes here, never as
+ *  their superclass, so verifying this class doesn't load them either
+ */
+public final class GameFlightRecorder {
+    private static final boolean AVAILABLE;
+
+    static {
+        boolean available;
+        try {
+            Class.forName("jdk.jfr.Event");
+            available = true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            available = false;
+        }
+        AVAILABLE = available;
+    }
+
+    /**
+     * A recorder that never emits anything, for boards and economies that aren't part of a GameEngine's game
+     */
+    public static final GameFlightRecorder DISABLED = new GameFlightRecorder(false);
+
+    private final boolean available;
+    private long seed;
+    private int boardSize;
+    private int turn;
+    private MinePlayerStrategy redStrategy;
+    private MinePlayerStrategy blueStrategy;
+    // Strategy names are only looked up once an event needs them
+    private String redStrategyName;
+    private String blueStrategyName;
+    private boolean actingPlayerIsRed;
+
+    // Events that have begun and not been committed yet, only ever set while their event type is enabled
+    private GameRunEvent gameEvent;
+    private TurnEvent turnEvent;
+    private BoardUpdateEvent boardUpdateEvent;
+    private StrategyCallEvent redCallEvent;
+    private StrategyCallEvent blueCallEvent;
+    private SaleEvent saleEvent;
+
+    public GameFlightRecorder() {
+        this(AVAILABLE);
+    }
+
+    private GameFlightRecorder(boolean available) {
+        this.available = available;
+    }
+
+    /**
+     * @return True if this JVM has the flight recorder API
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Starts recording every Mine-opoly event to a file, which is written when the returned Closeable is closed
+     *
+     * @param filePath The .jfr file to write the recording to
+     * @return A Closeable that stops the recording and writes the file
+     * @throws IOException If the recording can't be set up to write to the file
+     * @throws IllegalStateException If this JVM has no flight recorder
+     */
+    public static Closeable startRecording(String filePath) throws IOException {
+        if (!AVAILABLE) {
+            throw new IllegalStateException("This JVM has no flight recorder");
+        }
+
+        Recording recording = new Recording();
+        recording.setName("Mine-opoly");
+        recording.enable(GameRunEvent.NAME);
+        recording.enable(TurnEvent.NAME);
+        recording.enable(StrategyCallEvent.NAME);
+        recording.enable(BoardUpdateEvent.NAME);
+        recording.enable(SaleEvent.NAME);
+        recording.setDestination(Paths.get(filePath));
+        recording.start();
+        return () -> {
+            recording.stop();
+            recording.close();
+        };
+    }
+
+    /**
+     * Sets the game that events are recorded for and begins its game event
+     */
+    public void beginGame(long seed, int boardSize, int turn, MinePlayerStrategy redStrategy,
+                          MinePlayerStrategy blueStrategy) {
+        this.seed = seed;
+        this.boardSize = boardSize;
+        this.turn = turn;
+        this.redStrategy = redStrategy;
+        this.blueStrategy = blueStrategy;
+        this.redStrategyName = null;
+        this.blueStrategyName = null;
+        this.gameEvent = null;
+        if (available && EventTypes.GAME.isEnabled()) {
+            gameEvent = new GameRunEvent();
+            gameEvent.begin();
+        }
+    }
+
+    public void endGame(int redScore, int blueScore) {
+        GameRunEvent event = gameEvent;
+        if (event != null) {
+            gameEvent = null;
+            event.setGame(seed, boardSize, turn);
+            event.redStrategy = getStrategyName(true);
+            event.blueStrategy = getStrategyName(false);
+            event.redScore = redScore;
+            event.blueScore = blueScore;
+            event.commit();
+        }
+    }
+
+    /**
+     * @param turn The turn that is about to be played, events from now on are recorded for this turn
+     */
+    public void beginTurn(int turn, boolean isRedTurn) {
+        this.turn = turn;
+        if (available && EventTypes.TURN.isEnabled()) {
+            turnEvent = new TurnEvent();
+            turnEvent.redTurn = isRedTurn;
+            turnEvent.begin();
+        }
+    }
+
+    public void endTurn() {
+        TurnEvent event = turnEvent;
+        if (event != null) {
+            turnEvent = null;
+            event.setGame(seed, boardSize, turn);
+            event.commit();
+        }
+    }
+
+    public void beginBoardUpdate() {
+        if (available && EventTypes.BOARD_UPDATE.isEnabled()) {
+            boardUpdateEvent = new BoardUpdateEvent();
+            boardUpdateEvent.begin();
+        }
+    }
+
+    public void endBoardUpdate() {
+        BoardUpdateEvent event = boardUpdateEvent;
+        if (event != null) {
+            boardUpdateEvent = null;
+            event.setGame(seed, boardSize, turn);
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins a getTurnAction() call. Red and blue calls are tracked separately, since simultaneous turns make
+     *  both calls at once on different threads
+     */
+    public void beginStrategyCall(boolean isRedPlayer) {
+        if (available && EventTypes.STRATEGY_CALL.isEnabled()) {
+            StrategyCallEvent event = new StrategyCallEvent();
+            event.redPlayer = isRedPlayer;
+            event.begin();
+            if (isRedPlayer) {
+                redCallEvent = event;
+            } else {
+                blueCallEvent = event;
+            }
+        }
+    }
+
+    /**
+     * @param action The action the strategy chose, or null if it chose nothing
+     */
+    public void endStrategyCall(boolean isRedPlayer, TurnAction action) {
+        StrategyCallEvent event = isRedPlayer ? redCallEvent : blueCallEvent;
+        if (event != null) {
+            if (isRedPlayer) {
+                redCallEvent = null;
+            } else {
+                blueCallEvent = null;
+            }
+            event.setGame(seed, boardSize, turn);
+            event.strategy = getStrategyName(isRedPlayer);
+            event.action = (action == null) ? null : action.name();
+            event.commit();
+        }
+    }
+
+    /**
+     * @param isRedPlayer True if the red player is about to act, sales from now on are recorded for them
+     */
+    public void setActingPlayer(boolean isRedPlayer) {
+        this.actingPlayerIsRed = isRedPlayer;
+    }
+
+    public void beginSale() {
+        if (available && EventTypes.SALE.isEnabled()) {
+            saleEvent = new SaleEvent();
+            saleEvent.begin();
+        }
+    }
+
+    /**
+     * Commits the sale begun by beginSale() if anything was actually sold
+     */
+    public void endSale(int itemsSold, int totalPrice) {
+        SaleEvent event = saleEvent;
+        if (event != null) {
+            saleEvent = null;
+            if (itemsSold == 0) {
+                return;
+            }
+            event.setGame(seed, boardSize, turn);
+            event.redPlayer = actingPlayerIsRed;
+            event.strategy = getStrategyName(actingPlayerIsRed);
+            event.itemsSold = itemsSold;
+            event.totalPrice = totalPrice;
+            event.commit();
+        }
+    }
+
+    private String getStrategyName(boolean isRedPlayer) {
+        if (isRedPlayer) {
+            if (redStrategyName == null && redStrategy != null) {
+                redStrategyName = redStrategy.getName();
+            }
+            return redStrategyName;
+        }
+        if (blueStrategyName == null && blueStrategy != null) {
+            blueStrategyName = blueStrategy.getName();
+        }
+        return blueStrategyName;
+    }
+
+    /**
+     * Looked up the first time an event might be emitted, so JVMs without jdk.jfr never load it
+     */
+    private static final class EventTypes {
+        static final EventType GAME = EventType.getEventType(GameRunEvent.class);
+        static final EventType TURN = EventType.getEventType(TurnEvent.class);
+        static final EventType STRATEGY_CALL = EventType.getEventType(StrategyCallEvent.class);
+        static final EventType BOARD_UPDATE = EventType.getEventType(BoardUpdateEvent.class);
+        static final EventType SALE = EventType.getEventType(SaleEvent.class);
+    }
+}
@@ -0,0 +1,24 @@
+package mineopoly_three.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(GameRunEvent.NAME)
+@Label("Game")
+@Description("A whole game, from initializing the strategies to the end of the last turn")
+class GameRunEvent extends GameFlightEvent {
+    static final String NAME = "mineopoly.Game";
+
+    @Label("Red Strategy")
+    String redStrategy;
+
+    @Label("Blue Strategy")
+    String blueStrategy;
+
+    @Label("Red Score")
+    int redScore;
+
+    @Label("Blue Score")
+    int blueScore;
+}
@@ -0,0 +1,24 @@
+package mineopoly_three.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(SaleEvent.NAME)
+@Label("Sale")
+@Description("A player selling their inventory at a market")
+class SaleEvent extends GameFlightEvent {
+    static final String NAME = "mineopoly.Sale";
+
+    @Label("Red Player")
+    boolean redPlayer;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Items Sold")
+    int itemsSold;
+
+    @Label("Total Price")
+    int totalPrice;
+}
@@ -0,0 +1,21 @@
+package mineopoly_three.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(StrategyCallEvent.NAME)
+@Label("Strategy Call")
+@Description("One call to a strategy's getTurnAction()")
+class StrategyCallEvent extends GameFlightEvent {
+    static final String NAME = "mineopoly.StrategyCall";
+
+    @Label("Red Player")
+    boolean redPlayer;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Action")
+    String action;
+}
@@ -0,0 +1,15 @@
+package mineopoly_three.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(TurnEvent.NAME)
+@Label("Turn")
+@Description("One turn of both players, including the board and economy updates after it")
+class TurnEvent extends GameFlightEvent {
+    static final String NAME = "mineopoly.Turn";
+
+    @Label("Red Turn")
+    boolean redTurn;
+}
@@ -0,0 +1,139 @@
+package mineopoly_three.replay;
+
+import mineopoly_three.action.TurnAction;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * A Replay of a game with any number of players, as played by a MultiPlayerGameEngine
+ */
+public class MultiPlayerReplay {
+    private int boardSize;
+    private long worldSeed;
+    private List<List<TurnAction>> playerActions;
+    // The index of the player whose strategy threw an exception, or -1 if none did
+    private int playerWhoThrewException;
+
+    public MultiPlayerReplay(int boardSize, long worldSeed, List<List<TurnAction>> playerActions,
+                             int playerWhoThrewException) {
+        this.boardSize = boardSize;
+        this.worldSeed = worldSeed;
+        this.playerActions = playerActions;
+        this.playerWhoThrewException = playerWhoThrewException;
+    }
+
+    /**
+     * Decodes the file containing replay information into a Java MultiPlayerReplay object
+     * The file format is:
+     * [board size]\r\n
+     * [world seed]\r\n
+     * [number of players]\r\n
+     * [player actions]\r\n for every player in turn order
+     * (where player actions are encoded the same way as in a two player Replay file)
+     *
+     * @param replayFilePathToRead The file path to the file containing replay information
+     * @return A MultiPlayerReplay object consisting of the information read from the file
+     * @throws FileNotFoundException If Java cannot find the file at the specified path
+     * @throws NumberFormatException If there is an issue parsing any numbers in the replay file
+     */
+    public static MultiPlayerReplay decodeReplayFile(String replayFilePathToRead) throws FileNotFoundException {
+        Scanner replayFileReader = new Scanner(new File(replayFilePathToRead));
+        int boardSize = Integer.parseInt(replayFileReader.nextLine().trim());
+        long worldSeed = Long.parseLong(replayFileReader.nextLine().trim());
+        int numPlayers = Integer.parseInt(replayFileReader.nextLine().trim());
+
+        List<List<TurnAction>> playerActions = new ArrayList<>(numPlayers);
+        int playerWhoThrewException = -1;
+        for (int i = 0; i < numPlayers; i++) {
+            // An empty last line is lost at the end of the file, so running out of lines means an empty one
+            String encodedActions = replayFileReader.hasNextLine() ? replayFileReader.nextLine().trim() : "";
+            if (encodedActions.isEmpty()) {
+                // The game ended before this player took a turn
+                playerActions.add(new ArrayList<>());
+                continue;
+            }
+
+            String[] actionEncoding = encodedActions.split(",");
+            playerActions.add(Replay.decodeActionList(actionEncoding));
+            if (Integer.parseInt(actionEncoding[actionEncoding.length - 1]) < 0) {
+                playerWhoThrewException = i;
+            }
+        }
+        replayFileReader.close();
+        return new MultiPlayerReplay(boardSize, worldSeed, playerActions, playerWhoThrewException);
+    }
+
+    /**
+     * Writes a replay file from a given MultiPlayerReplay object
+     *
+     * @param replay The MultiPlayerReplay object to encode into a replay file
+     * @param replayFilePathToWrite The file path of the replay file that will be written, if a file exists at this
+     *                               path, it will be overwritten
+     * @throws IOException If there is an issue writing to the file at the specified path
+     */
+    public static void encodeReplayFile(MultiPlayerReplay replay, String replayFilePathToWrite) throws IOException {
+        FileWriter replayWriter = new FileWriter(new File(replayFilePathToWrite));
+        replayWriter.write(replay.toString());
+        replayWriter.close();
+    }
+
+    @Override
+    public String toString() {
+        List<String> lines = new ArrayList<>(playerActions.size() + 3);
+        lines.add(String.valueOf(boardSize));
+        lines.add(String.valueOf(worldSeed));
+        lines.add(String.valueOf(playerActions.size()));
+        for (int i = 0; i < playerActions.size(); i++) {
+            boolean threwException = (i == playerWhoThrewException);
+            if (playerActions.get(i).isEmpty() && !threwException) {
+                lines.add("");
+            } else {
+                lines.add(Replay.encodeActionList(playerActions.get(i), threwException));
+            }
+        }
+        return String.join("\r\n", lines);
+    }
+
+    /**
+     * Creates a strategy that replays one player's actions, to play this game back in a MultiPlayerGameEngine
+     *
+     * @param playerIndex The index of the player in turn order
+     * @return A ReplayStrategy that does exactly what that player did in this game
+     */
+    public ReplayStrategy createReplayStrategy(int playerIndex) {
+        // A ReplayStrategy picks the red or blue actions by its color, so give it this player's actions as both
+        List<TurnAction> actions = playerActions.get(playerIndex);
+        boolean threwException = (playerIndex == playerWhoThrewException);
+        return new ReplayStrategy(new Replay(boardSize, worldSeed, actions, actions, threwException, threwException));
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public long getWorldSeed() {
+        return worldSeed;
+    }
+
+    public int getNumPlayers() {
+        return playerActions.size();
+    }
+
+    public List<TurnAction> getPlayerActions(int playerIndex) {
+        return Collections.unmodifiableList(playerActions.get(playerIndex));
+    }
+
+    /**
+     * @return The index of the player whose strategy threw an exception, or -1 if none did
+     */
+    public int getPlayerWhoThrewException() {
+        return playerWhoThrewException;
+    }
+}
@@ -84,7 +84,7 @@ public class Replay {
                            encodedRedActions, encodedBlueActions);
     }
 
-    private static String encodeActionList(List<TurnAction> actionList, boolean exceptionThrown) {
+    static String encodeActionList(List<TurnAction> actionList, boolean exceptionThrown) {
         StringBuilder actionListEncoder = new StringBuilder();
         for (TurnAction action : actionList) {
             if (action == null) {
@@ -106,7 +106,7 @@ public class Replay {
         return actionListEncoder.toString();
     }
 
-    private static List<TurnAction> decodeActionList(String[] encodedList) {
+    static List<TurnAction> decodeActionList(String[] encodedList) {
         List<TurnAction> turnActions = new LinkedList<>();
 
         for (String encodedAction : encodedList) {
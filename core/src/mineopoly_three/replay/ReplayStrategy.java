@@ -6,7 +6,7 @@ import mineopoly_three.item.InventoryItem;
 import mineopoly_three.strategy.PlayerBoardView;
 import mineopoly_three.strategy.MinePlayerStrategy;
 
-import java.awt.*;
+import java.awt.Point;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Random;
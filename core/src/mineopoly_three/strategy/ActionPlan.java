@@ -0,0 +1,105 @@
+package mineopoly_three.strategy;
+
+import mineopoly_three.action.TurnAction;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A sequence of TurnActions for a PlanningStrategy's player to take on its next turns, one per turn, along with
+ *  the conditions that end it early. The engine takes the planned actions without calling the strategy or
+ *  building a PlayerBoardView, and asks the strategy again as soon as the plan runs out or a condition is met.
+ * Conditions are checked at the start of each of the player's turns after the first, against the board the
+ *  player would have been shown:
+ *  invalidateOnTileChange: a watched tile changed type or had items put down or picked up by anything other than
+ *                          this player's own actions, like the other player or an autominer
+ *  invalidateWhenOpponentWithin: the other player is within that Manhattan distance, 1 for adjacent
+ *  invalidateWhenChargeBelow: this player has less than that much charge
+ */
+public class ActionPlan {
+    private final List<TurnAction> actions;
+    private final List<Point> watchedTiles;
+    private int opponentDistance;
+    private int minCharge;
+
+    /**
+     * @param actions The actions to take, starting with this turn's action
+     */
+    public ActionPlan(TurnAction... actions) {
+        this(Arrays.asList(actions));
+    }
+
+    /**
+     * @param actions The actions to take, starting with this turn's action
+     */
+    public ActionPlan(List<TurnAction> actions) {
+        if (actions.isEmpty() || actions.contains(null)) {
+            throw new IllegalArgumentException("A plan needs at least one action and can't contain null");
+        }
+        this.actions = new ArrayList<>(actions);
+        this.watchedTiles = new ArrayList<>();
+        this.opponentDistance = -1;
+        this.minCharge = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Ends the plan when any of these tiles changes, for example every tile on a path and the tile at its end
+     *
+     * @param tileLocations The locations of the tiles to watch in (x, y) coordinates
+     * @return This plan
+     */
+    public ActionPlan invalidateOnTileChange(Collection<Point> tileLocations) {
+        for (Point tileLocation : tileLocations) {
+            watchedTiles.add(new Point(tileLocation.x, tileLocation.y));
+        }
+        return this;
+    }
+
+    /**
+     * Ends the plan when the other player comes within a Manhattan distance of this player
+     *
+     * @param distance The distance, 1 to end the plan when the other player is adjacent
+     * @return This plan
+     */
+    public ActionPlan invalidateWhenOpponentWithin(int distance) {
+        this.opponentDistance = distance;
+        return this;
+    }
+
+    /**
+     * Ends the plan when this player's charge drops below a minimum
+     *
+     * @param minCharge The least charge this player can have to keep following the plan
+     * @return This plan
+     */
+    public ActionPlan invalidateWhenChargeBelow(int minCharge) {
+        this.minCharge = minCharge;
+        return this;
+    }
+
+    public List<TurnAction> getActions() {
+        return Collections.unmodifiableList(actions);
+    }
+
+    public List<Point> getWatchedTiles() {
+        return Collections.unmodifiableList(watchedTiles);
+    }
+
+    /**
+     * @return The opponent distance that ends this plan, or -1 if the opponent's location doesn't matter
+     */
+    public int getOpponentDistance() {
+        return opponentDistance;
+    }
+
+    /**
+     * @return The least charge to keep following this plan, or Integer.MIN_VALUE if charge doesn't matter
+     */
+    public int getMinCharge() {
+        return minCharge;
+    }
+}
@@ -0,0 +1,79 @@
+package mineopoly_three.strategy;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.Economy;
+import mineopoly_three.item.InventoryItem;
+
+import java.awt.Point;
+import java.util.Random;
+
+/**
+ * A strategy that plays the same color in many games at once, as driven by a BatchGameEngine. Every turn it gets
+ *  the views of all games still running in one call and chooses all of their actions together, so it can work
+ *  through the games in one pass over its own arrays instead of being called once per game.
+ * Games are identified by their index in the batch, which never changes while the batch runs
+ */
+public interface BatchStrategy {
+
+    /**
+     * Called once at the start of the batch, with the start of every game
+     *
+     * @param numGames The number of games in the batch
+     * @param boardSize The length and width of every game's square game board
+     * @param maxInventorySize The maximum number of items that your player can carry at one time
+     * @param maxCharge The amount of charge your robot starts with (number of tile moves before needing to recharge)
+     * @param winningScore The first player to reach this score wins that game
+     * @param startingBoards A view of every game's board at the start of the game, by game index
+     * @param startTileLocations Your starting location in every game in (x, y) coordinates, by game index
+     * @param isRedPlayer True if this strategy is the red player in every game, false if it is always blue
+     * @param randoms A random number generator for every game, by game index
+     */
+    void initialize(int numGames, int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                    PlayerBoardView[] startingBoards, Point[] startTileLocations, boolean isRedPlayer,
+                    Random[] randoms);
+
+    /**
+     * Chooses the actions of this turn for every game still running. Only the first numActiveGames entries of each
+     *  array are used, and the arrays are reused between turns, so copy anything you want to keep
+     *
+     * @param numActiveGames The number of games still running
+     * @param gameIndices The index in the batch of each running game
+     * @param boardViews The view of the board of each running game
+     * @param economies The economy of each running game
+     * @param currentCharges The charge your robot has in each running game
+     * @param isRedTurn The same for every game, see MinePlayerStrategy.getTurnAction()
+     * @param actionsToPerform Where to put the action to perform in each running game
+     */
+    void getTurnActions(int numActiveGames, int[] gameIndices, PlayerBoardView[] boardViews, Economy[] economies,
+                        int[] currentCharges, boolean isRedTurn, TurnAction[] actionsToPerform);
+
+    /**
+     * Called when the player receives an item in one of the games
+     *
+     * @param gameIndex The index in the batch of the game the item was received in
+     * @param itemReceived The item received from the player's TurnAction on their last turn
+     */
+    void onReceiveItem(int gameIndex, InventoryItem itemReceived);
+
+    /**
+     * Called when the player sells their inventory in one of the games
+     *
+     * @param gameIndex The index in the batch of the game the inventory was sold in
+     * @param totalSellPrice The combined sell price for all items in your strategy's inventory
+     */
+    void onSoldInventory(int gameIndex, int totalSellPrice);
+
+    /**
+     * @return The name of this strategy
+     */
+    String getName();
+
+    /**
+     * Called when one of the games ends without a strategy throwing an exception
+     *
+     * @param gameIndex The index in the batch of the game that ended
+     * @param pointsScored The total number of points this strategy scored in that game
+     * @param opponentPointsScored The total number of points the opponent's strategy scored in that game
+     */
+    void endRound(int gameIndex, int pointsScored, int opponentPointsScored);
+}
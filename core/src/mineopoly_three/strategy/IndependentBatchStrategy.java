@@ -0,0 +1,70 @@
+package mineopoly_three.strategy;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.Economy;
+import mineopoly_three.item.InventoryItem;
+
+import java.awt.Point;
+import java.util.Random;
+
+/**
+ * Plays a batch of games with a separate MinePlayerStrategy for each game, so any existing strategy can run in a
+ *  BatchGameEngine. Every game plays exactly as it would in a GameEngine with the same seed
+ */
+public class IndependentBatchStrategy implements BatchStrategy {
+    private final MinePlayerStrategy[] gameStrategies;
+
+    /**
+     * @param gameStrategies The strategy for each game by game index, there must be one for every game in the batch
+     */
+    public IndependentBatchStrategy(MinePlayerStrategy... gameStrategies) {
+        if (gameStrategies.length == 0) {
+            throw new IllegalArgumentException("At least one strategy is needed");
+        }
+        this.gameStrategies = gameStrategies;
+    }
+
+    @Override
+    public void initialize(int numGames, int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                           PlayerBoardView[] startingBoards, Point[] startTileLocations, boolean isRedPlayer,
+                           Random[] randoms) {
+        if (numGames > gameStrategies.length) {
+            throw new IllegalArgumentException("Only " + gameStrategies.length + " strategies for " + numGames
+                                               + " games");
+        }
+        for (int i = 0; i < numGames; i++) {
+            gameStrategies[i].initialize(boardSize, maxInventorySize, maxCharge, winningScore, startingBoards[i],
+                                         startTileLocations[i], isRedPlayer, randoms[i]);
+        }
+    }
+
+    @Override
+    public void getTurnActions(int numActiveGames, int[] gameIndices, PlayerBoardView[] boardViews,
+                               Economy[] economies, int[] currentCharges, boolean isRedTurn,
+                               TurnAction[] actionsToPerform) {
+        for (int i = 0; i < numActiveGames; i++) {
+            actionsToPerform[i] = gameStrategies[gameIndices[i]].getTurnAction(boardViews[i], economies[i],
+                                                                               currentCharges[i], isRedTurn);
+        }
+    }
+
+    @Override
+    public void onReceiveItem(int gameIndex, InventoryItem itemReceived) {
+        gameStrategies[gameIndex].onReceiveItem(itemReceived);
+    }
+
+    @Override
+    public void onSoldInventory(int gameIndex, int totalSellPrice) {
+        gameStrategies[gameIndex].onSoldInventory(totalSellPrice);
+    }
+
+    @Override
+    public String getName() {
+        return gameStrategies[0].getName();
+    }
+
+    @Override
+    public void endRound(int gameIndex, int pointsScored, int opponentPointsScored) {
+        gameStrategies[gameIndex].endRound(pointsScored, opponentPointsScored);
+    }
+}
@@ -4,7 +4,7 @@ import mineopoly_three.game.Economy;
 import mineopoly_three.action.TurnAction;
 import mineopoly_three.item.InventoryItem;
 
-import java.awt.*;
+import java.awt.Point;
 import java.util.Random;
 
 public interface MinePlayerStrategy {
@@ -40,6 +40,19 @@ public interface MinePlayerStrategy {
      */
     TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge, boolean isRedTurn);
 
+    /**
+     * Called right before initialize() and every getTurnAction() with how much time your strategy has left.
+     *  A strategy that goes over its time is treated the same as a strategy that threw an exception, so a strategy
+     *  that searches can use this to know when to stop. Time spent in this method counts against the call that
+     *  follows it. Does nothing unless overridden
+     *
+     * @param callTimeLimitNanos The most nanoseconds the next call may take, Long.MAX_VALUE if there is no limit
+     * @param gameTimeRemainingNanos The nanoseconds left for all of your strategy's calls for the rest of the game,
+     *                                Long.MAX_VALUE if there is no limit
+     */
+    default void onTimeBudget(long callTimeLimitNanos, long gameTimeRemainingNanos) {
+    }
+
     /**
      * Called when the player receives an item from performing a TurnAction that gives an item.
      * At the moment this is only from using PICK_UP on top of a mined resource
@@ -9,6 +9,7 @@ import java.lang.Math;
 
 import java.awt.Point;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -108,7 +109,7 @@ public class MyStrategy implements MinePlayerStrategy {
             // Full inventory, go to the nearest market and sell everything
             Point togo = getNearestFromList(marketPosition, currentPosition);
             return getNextStep(boardView, currentPosition, togo, null, economy, isRedTurn);
-        } else if (boardView.getItemsOnGround().get(currentPosition).size() != 0) {
+        } else if (!boardView.getItemsOnGround().getOrDefault(currentPosition, Collections.emptyList()).isEmpty()) {
             // Item on ground waiting to be picked
             return getNextStep(boardView, currentPosition, currentPosition,
                     TurnAction.PICK_UP_RESOURCE, economy, isRedTurn);
@@ -141,6 +142,10 @@ public class MyStrategy implements MinePlayerStrategy {
             target = getNearestFromList(this.chargerPosition, current);
         }
         Point other = boardView.getOtherPlayerLocation();
+        if (other == null) {
+            // The other player is out of view, so they can't be in the way
+            other = new Point(-1, -1);
+        }
         // While chasing a target position, the robot will go horizontal first then vertical
         if (current.x < target.x && (isRedTurn || !(other.x == current.x + 1 && other.y == current.y))) {
             return TurnAction.MOVE_RIGHT;
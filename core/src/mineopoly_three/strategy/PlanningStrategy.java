@@ -0,0 +1,29 @@
+package mineopoly_three.strategy;
+
+import mineopoly_three.game.Economy;
+
+/**
+ * A strategy that can choose several turns' worth of actions at once. GameEngine and PackedGameEngine call
+ *  getActionPlan() instead of getTurnAction() for these strategies, then take the planned actions on the
+ *  following turns without calling the strategy or building a PlayerBoardView until the plan runs out or one of
+ *  its conditions ends it. onReceiveItem() and onSoldInventory() are still called as usual while a plan runs.
+ * Engines that don't run plans, like MultiPlayerGameEngine and BatchGameEngine, still call getTurnAction(), which
+ *  can just return the first action of getActionPlan(). Plans aren't saved in a GameCheckpoint, so a resumed game
+ *  asks the strategy again
+ */
+public interface PlanningStrategy extends MinePlayerStrategy {
+
+    /**
+     * Chooses what to do on this turn and, optionally, on the next few turns
+     *
+     * @param boardView A PlayerBoardView object representing all the information about the board and the other player
+     *                   that your strategy is allowed to access
+     * @param economy The GameEngine's economy object which holds current prices for resources
+     * @param currentCharge The amount of charge your robot has (number of tile moves before needing to recharge)
+     * @param isRedTurn For use when two players attempt to move to the same spot on the same turn, the same as for
+     *                   getTurnAction(). It flips every turn, so a plan that relies on it should end after one turn
+     *                   or watch the other player's distance
+     * @return The plan whose first action is taken on this turn, or null to do nothing this turn
+     */
+    ActionPlan getActionPlan(PlayerBoardView boardView, Economy economy, int currentCharge, boolean isRedTurn);
+}
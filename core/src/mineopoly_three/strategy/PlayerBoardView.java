@@ -0,0 +1,157 @@
+package mineopoly_three.strategy;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.tiles.TileType;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class PlayerBoardView {
+    private TileType[][] tiles;
+    private Map<Point, List<InventoryItem>> itemsOnGround;
+    private Point thisPlayerLocation;
+    private Point otherPlayerLocation;
+    private int otherPlayerScore;
+    private int boardVersion;
+    private List<Point> allPlayerLocations;
+
+    public PlayerBoardView(TileType[][] tiles, Map<Point, List<InventoryItem>> itemsOnGround,
+                           Point thisPlayerLocation, Point otherPlayerLocation, int otherPlayerScore) {
+        this(tiles, itemsOnGround, thisPlayerLocation, otherPlayerLocation, otherPlayerScore, 0);
+    }
+
+    /**
+     * The tiles and itemsOnGround passed in are shared with the other player's view and with views from earlier
+     *  turns, so they are never modified after a view is created from them
+     */
+    public PlayerBoardView(TileType[][] tiles, Map<Point, List<InventoryItem>> itemsOnGround,
+                           Point thisPlayerLocation, Point otherPlayerLocation, int otherPlayerScore,
+                           int boardVersion) {
+        this.tiles = tiles;
+        this.itemsOnGround = itemsOnGround;
+        this.thisPlayerLocation = thisPlayerLocation;
+        this.otherPlayerLocation = otherPlayerLocation;
+        this.otherPlayerScore = otherPlayerScore;
+        this.boardVersion = boardVersion;
+    }
+
+    /**
+     * A view for games with more than two players, where the other player is the leading opponent and every
+     *  player's location is passed in as well. allPlayerLocations is shared with every other player's view on the
+     *  same turn, so it is never modified after a view is created from it and only copies of it are handed out
+     */
+    public PlayerBoardView(TileType[][] tiles, Map<Point, List<InventoryItem>> itemsOnGround,
+                           Point thisPlayerLocation, Point otherPlayerLocation, int otherPlayerScore,
+                           int boardVersion, List<Point> allPlayerLocations) {
+        this(tiles, itemsOnGround, thisPlayerLocation, otherPlayerLocation, otherPlayerScore, boardVersion);
+        this.allPlayerLocations = allPlayerLocations;
+    }
+
+    /**
+     * Gets the type of tile at the specified location
+     *
+     * @param location The Point at which to get the type of the tile
+     * @return The type of tile at the location, or null if the location is outside the board
+     */
+    public TileType getTileTypeAtLocation(Point location) {
+        return this.getTileTypeAtLocation(location.x, location.y);
+    }
+
+    /**
+     * Gets the type of tile at the specified (x, y) coordinates
+     *
+     * @param x The x coordinate of the tile to get
+     * @param y The y coordinate of the tile to get
+     * @return The type of tile at the (x, y) Cartesian coordinates, or null if the coordinates are outside the board
+     */
+    public TileType getTileTypeAtLocation(int x, int y) {
+        // The index on the board, and the Cartesian coordinates are mirror opposites in the y direction
+        int xIndex = x;
+        int yIndex = (tiles.length - 1) - y;
+
+        boolean xIndexInBounds = (xIndex >= 0 && xIndex < tiles.length);
+        boolean yIndexInBounds = (yIndex >= 0 && yIndex < tiles.length);
+        if (xIndexInBounds && yIndexInBounds) {
+            return tiles[yIndex][xIndex];
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets a map from every Point with an item on the ground to the InventoryItem on the ground.
+     * Locations without any items are not in the map. The map is shared with the other player, so it can't be
+     *  modified. Its Point keys are copies the engine never looks anything up with, so changing one only breaks
+     *  lookups in this view's map
+     *
+     * @return The mapping for all locations with InventoryItems to those items
+     */
+    public Map<Point, List<InventoryItem>> getItemsOnGround() {
+        return itemsOnGround;
+    }
+
+    /**
+     * Gets the version of the tiles and items in this view. Two views with the same version have exactly the same
+     *  tiles and items on the ground, so anything computed from them on an earlier turn can be reused
+     *
+     * @return A number that changes whenever a tile type or the items on the ground change
+     */
+    public int getBoardVersion() {
+        return boardVersion;
+    }
+
+    /**
+     * Gives you your location so you don't have to keep track of when you actually successfully move or not
+     *
+     * @return A Point representing your player's location, (0, 0) is the bottom left of the board
+     */
+    public Point getYourLocation() {
+        return this.thisPlayerLocation;
+    }
+
+    /**
+     * Gets the other player's exact location but only if they are within viewing range of your player.
+     *
+     * @return A Point representing your opponent's location, or null if they are outside viewing range
+     */
+    public Point getOtherPlayerLocation() {
+        // Viewing range is the whole board unless the game was started with a vision radius
+        return otherPlayerLocation;
+    }
+
+    /**
+     * Gets the locations of every player in the game, including yours. In a two player game that is just your
+     *  location and the other player's location, or only your location while the other player is out of view.
+     *  The list can't be modified. With more than two players every call copies the locations, since the
+     *  other players' views are built from the same ones
+     *
+     * @return A list with the location of every player
+     */
+    public List<Point> getAllPlayerLocations() {
+        if (allPlayerLocations == null) {
+            if (otherPlayerLocation == null) {
+                return Collections.singletonList(thisPlayerLocation);
+            }
+            return Collections.unmodifiableList(Arrays.asList(thisPlayerLocation, otherPlayerLocation));
+        }
+        Point[] locationCopies = new Point[allPlayerLocations.size()];
+        for (int i = 0; i < locationCopies.length; i++) {
+            locationCopies[i] = new Point(allPlayerLocations.get(i));
+        }
+        return Collections.unmodifiableList(Arrays.asList(locationCopies));
+    }
+
+    /**
+     * Gets the score of the other player.
+     * If you want to know your score you have to track that for yourself
+     *
+     * @return The current score of the other player
+     */
+    public int getOtherPlayerScore() {
+        return otherPlayerScore;
+    }
+}
\ No newline at end of file
@@ -4,7 +4,7 @@ import mineopoly_three.game.Economy;
 import mineopoly_three.action.TurnAction;
 import mineopoly_three.item.InventoryItem;
 
-import java.awt.*;
+import java.awt.Point;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -0,0 +1,14 @@
+package mineopoly_three.tiles;
+
+import java.awt.Point;
+
+public class CrackedTile extends StoneTile {
+    public CrackedTile(Point tileLocation) {
+        super(tileLocation);
+    }
+
+    @Override
+    public TileType getType() {
+        return TileType.EMPTY;
+    }
+}
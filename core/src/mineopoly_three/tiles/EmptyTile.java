@@ -3,7 +3,7 @@ package mineopoly_three.tiles;
 import mineopoly_three.game.MinePlayer;
 import mineopoly_three.action.TurnAction;
 
-import java.awt.*;
+import java.awt.Point;
 
 public class EmptyTile extends StoneTile {
 
@@ -0,0 +1,30 @@
+package mineopoly_three.tiles;
+
+import mineopoly_three.game.MinePlayer;
+
+import java.awt.Point;
+
+public class MarketTile extends Tile {
+    private boolean isRedMarket;
+
+    public MarketTile(Point tileLocation, boolean isRedMarket) {
+        super(tileLocation);
+        this.isRedMarket = isRedMarket;
+    }
+
+    @Override
+    public TileType getType() {
+        return (isRedMarket) ? (TileType.RED_MARKET) : (TileType.BLUE_MARKET);
+    }
+
+    @Override
+    public void onEnter(MinePlayer playerEnteringTile) {
+        super.onEnter(playerEnteringTile);
+
+        boolean isRedPlayerOnRedMarket = isRedMarket && playerEnteringTile.isRedPlayer();
+        boolean isBluePlayerOnBlueMarket = !isRedMarket && !playerEnteringTile.isRedPlayer();
+        if (isRedPlayerOnRedMarket || isBluePlayerOnBlueMarket) {
+            playerEnteringTile.sellItems();
+        }
+    }
+}
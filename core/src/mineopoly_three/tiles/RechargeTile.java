@@ -0,0 +1,29 @@
+package mineopoly_three.tiles;
+
+import java.awt.Point;
+
+public class RechargeTile extends StoneTile {
+    public static final float RECHARGE_PERCENT_PER_TURN = 0.1f;
+
+    public RechargeTile(Point tileLocation) {
+        super(tileLocation);
+    }
+
+    @Override
+    public TileType getType() {
+        return TileType.RECHARGE;
+    }
+
+    @Override
+    public void update() {
+        if (super.playerOnTile != null) {
+            super.playerOnTile.rechargeEnergy(RECHARGE_PERCENT_PER_TURN);
+        }
+    }
+
+    @Override
+    public boolean isTicking() {
+        // Only recharges a player standing on it
+        return super.playerOnTile != null;
+    }
+}
@@ -2,22 +2,24 @@ package mineopoly_three.tiles;
 
 import mineopoly_three.game.MinePlayer;
 import mineopoly_three.action.TurnAction;
-import mineopoly_three.graphics.ImageManager;
-import mineopoly_three.graphics.TileRenderLayer;
 import mineopoly_three.item.InventoryItem;
 import mineopoly_three.item.ItemType;
 
-import java.awt.*;
+import java.awt.Point;
 
 public class ResourceTile extends StoneTile {
     private ItemType tileResource;
     private int numTimesMined;
 
     public ResourceTile(Point tileLocation, ItemType tileResource) {
+        this(tileLocation, tileResource, 0);
+    }
+
+    public ResourceTile(Point tileLocation, ItemType tileResource, int numTimesMined) {
         super(tileLocation);
         assert(tileResource.isResource());
         this.tileResource = tileResource;
-        this.numTimesMined = 0;
+        this.numTimesMined = numTimesMined;
     }
 
     @Override
@@ -29,6 +31,10 @@ public class ResourceTile extends StoneTile {
         return tileResource;
     }
 
+    public int getNumTimesMined() {
+        return numTimesMined;
+    }
+
     @Override
     public Tile interact(MinePlayer playerOnTile, TurnAction actionOnTile) {
         super.interact(playerOnTile, actionOnTile);
@@ -46,20 +52,4 @@ public class ResourceTile extends StoneTile {
 
         return this;
     }
-
-    @Override
-    protected Image[] getImageOverlays(ImageManager imageManager) {
-        Image[] imageOverlays = super.getImageOverlays(imageManager);
-
-        // Add texture for resource
-        Image resourceTileOverlay = imageManager.getScaledImage(tileResource.getTileImageName());
-        int resourceTypeLayerIndex = TileRenderLayer.LAYER_RESOURCE_TYPE.ordinal();
-        imageOverlays[resourceTypeLayerIndex] = resourceTileOverlay;
-
-        // Add crack textures if this has been mined
-        Image crackOverlay = imageManager.getScaledImage("crack_" + numTimesMined);
-        int crackLayerIndex = TileRenderLayer.LAYER_CRACK.ordinal();
-        imageOverlays[crackLayerIndex] = crackOverlay;
-        return imageOverlays;
-    }
 }
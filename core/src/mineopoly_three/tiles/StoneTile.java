@@ -0,0 +1,9 @@
+package mineopoly_three.tiles;
+
+import java.awt.Point;
+
+public abstract class StoneTile extends Tile {
+    public StoneTile(Point tileLocation) {
+        super(tileLocation);
+    }
+}
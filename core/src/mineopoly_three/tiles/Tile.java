@@ -2,18 +2,15 @@ package mineopoly_three.tiles;
 
 import mineopoly_three.game.MinePlayer;
 import mineopoly_three.action.TurnAction;
-import mineopoly_three.graphics.ImageManager;
-import mineopoly_three.graphics.TileRenderLayer;
 import mineopoly_three.item.InventoryItem;
 import mineopoly_three.item.ItemType;
 
-import java.awt.*;
+import java.awt.Point;
 import java.util.ArrayList;
 import java.util.List;
 
 
 public abstract class Tile {
-    private static final int NUM_RENDER_LAYERS = TileRenderLayer.values().length;
     protected MinePlayer playerOnTile;
     protected List<InventoryItem> itemsOnTile;
     protected Point location;
@@ -28,6 +25,16 @@ public abstract class Tile {
         return playerOnTile;
     }
 
+    /**
+     * Places a player on this tile without calling onEnter(), for building a copy of a tile that a player is
+     *  already standing on. Use onEnter() for players actually moving onto the tile
+     *
+     * @param player The player standing on this tile, or null if nobody is
+     */
+    public void setPlayerOnTile(MinePlayer player) {
+        playerOnTile = player;
+    }
+
     public Point getLocation() {
         return location;
     }
@@ -36,6 +43,18 @@ public abstract class Tile {
         return itemsOnTile;
     }
 
+    /**
+     * @return True if there is an autominer among the items on this tile
+     */
+    public boolean hasAutominer() {
+        for (InventoryItem item : itemsOnTile) {
+            if (item.getItemType() == ItemType.AUTOMINER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * @return The TileType enum that represents this Tile
      */
@@ -82,12 +101,20 @@ public abstract class Tile {
     }
 
     /**
-     * Called every turn for tiles to update their internal state, if they need to do so
+     * Called every turn for tiles to update their internal state, if they need to do so.
+     * The board only calls this on tiles where isTicking() returns true
      */
     public void update() {
         // By default tiles don't do anything
     }
 
+    /**
+     * @return True if update() would do something on this tile right now
+     */
+    public boolean isTicking() {
+        return false;
+    }
+
     /**
      * Called when a player enters this tile on a turn
      *
@@ -105,67 +132,4 @@ public abstract class Tile {
     public void onExit(MinePlayer playerExitingTile) {
         playerOnTile = null;
     }
-
-    /**
-     * Gets the Image[] that encodes how to render this Tile
-     * Images with later TileRenderLayer values will be rendered on top of Images with earlier values
-     *
-     * @param imageManager The ImageManager object that manages all images for the JPanel component rendering this Tile
-     * @return The Image[] specifying the overlays to render in the order to render them
-     */
-    protected Image[] getImageOverlays(ImageManager imageManager) {
-        Image[] imageOverlays = new Image[NUM_RENDER_LAYERS];
-
-        // Draw players if they're standing on this tile
-        if (playerOnTile != null) {
-            Image playerImage = playerOnTile.getImage(imageManager);
-            int playerOverlayIndex = TileRenderLayer.LAYER_PLAYER.ordinal();
-            imageOverlays[playerOverlayIndex] = playerImage;
-        }
-
-        // Draw the items that could be on this tile
-        for(InventoryItem item : itemsOnTile) {
-            String itemImageName = item.getItemType().getItemImageName();
-            Image itemImage = imageManager.getScaledImage(itemImageName);
-            int itemOverlayIndex = item.getItemType() == ItemType.AUTOMINER ?
-                    TileRenderLayer.LAYER_AUTOMINER.ordinal() : TileRenderLayer.LAYER_ITEM.ordinal();
-            imageOverlays[itemOverlayIndex] = itemImage;
-        }
-
-        return imageOverlays;
-    }
-
-    /**
-     * Specifies how to render this Tile on the Graphics object passed in
-     *
-     * @param brush The Graphics object on which to render this Tile
-     * @param boardSize The size of the board for use in finding the starting point on the screen to render
-     * @param imageManager The ImageManager object that manages all images for the JPanel component rendering this Tile
-     */
-    public void paint(Graphics2D brush, int boardSize, ImageManager imageManager) {
-        int imageWidth = imageManager.getImageWidth();
-        int imageHeight = imageManager.getImageHeight();
-        Point screenIndex = this.getScreenIndexFromLocation(imageWidth, imageHeight, boardSize);
-
-        // Draw overlays as specified by Tile subclasses
-        Image[] imageOverlays = this.getImageOverlays(imageManager);
-        for (Image layerImage : imageOverlays) {
-            // Nothing is drawn if layerImage is null
-            brush.drawImage(layerImage, screenIndex.x, screenIndex.y, null);
-        }
-    }
-
-    /**
-     * Computes the (x, y) coordinates of the pixel on the screen corresponding to the top left of this Tile
-     *
-     * @param imageWidth The width of the image to be rendered
-     * @param imageHeight The height of the image to be rendered
-     * @param boardSize The size of the board
-     * @return The (x, y) coordinates on the screen of the top left image pixel
-     */
-    protected Point getScreenIndexFromLocation(int imageWidth, int imageHeight, int boardSize) {
-        int xScreenIndex = this.location.x * imageWidth;
-        int yScreenIndex = ((boardSize - 1) - location.y) * imageHeight;
-        return new Point(xScreenIndex, yScreenIndex);
-    }
 }
@@ -7,5 +7,7 @@ public enum TileType {
     RECHARGE,
     RESOURCE_DIAMOND,
     RESOURCE_EMERALD,
-    RESOURCE_RUBY
+    RESOURCE_RUBY,
+    /**A tile a player has never seen, only shown in games with a vision radius*/
+    UNKNOWN
 }
@@ -1,6 +1,6 @@
 package mineopoly_three.util;
 
-import java.awt.*;
+import java.awt.Point;
 
 public class DistanceUtil {
     /**
@@ -0,0 +1,57 @@
+package mineopoly_three.util;
+
+/**
+ * Every source of randomness in a game, all split off from the game's seed:
+ *  world: the WorldGenerator laying out markets, recharge tiles and resources
+ *  player: one for each player, for the engine's own rolls on their behalf like moving with no charge left
+ *  strategy: one for each player, handed to their strategy's initialize()
+ *  render: the GUI's stone textures, split again for each tile
+ * Each stream only depends on the seed and which stream it is, so any one of them can be reproduced on its own no
+ *  matter what the others were used for, and no two of them ever share a generator between threads
+ */
+public final class GameRandomStreams {
+    public static final int RED_PLAYER = 0;
+    public static final int BLUE_PLAYER = 1;
+
+    private static final long WORLD_STREAM = 1;
+    private static final long PLAYER_STREAMS = 2;
+    private static final long STRATEGY_STREAMS = 3;
+    private static final long RENDER_STREAMS = 4;
+
+    private GameRandomStreams() {
+    }
+
+    public static int getPlayerIndex(boolean isRedPlayer) {
+        return isRedPlayer ? RED_PLAYER : BLUE_PLAYER;
+    }
+
+    public static SplitMixRandom forWorld(long gameSeed) {
+        return new SplitMixRandom(gameSeed).split(WORLD_STREAM);
+    }
+
+    /**
+     * @param gameSeed The random seed of the game
+     * @param playerIndex RED_PLAYER or BLUE_PLAYER in a two player game, or the player's index in a bigger one
+     * @return The generator the engine uses for this player's moves
+     */
+    public static SplitMixRandom forPlayer(long gameSeed, int playerIndex) {
+        return new SplitMixRandom(gameSeed).split(PLAYER_STREAMS).split(playerIndex);
+    }
+
+    /**
+     * @param gameSeed The random seed of the game
+     * @param playerIndex RED_PLAYER or BLUE_PLAYER in a two player game, or the player's index in a bigger one
+     * @return The generator to hand to this player's strategy
+     */
+    public static SplitMixRandom forStrategy(long gameSeed, int playerIndex) {
+        return new SplitMixRandom(gameSeed).split(STRATEGY_STREAMS).split(playerIndex);
+    }
+
+    /**
+     * @param gameSeed The random seed of the game
+     * @return The parent of the render streams, split it by tile so each tile looks the same however it is drawn
+     */
+    public static SplitMixRandom forRender(long gameSeed) {
+        return new SplitMixRandom(gameSeed).split(RENDER_STREAMS);
+    }
+}
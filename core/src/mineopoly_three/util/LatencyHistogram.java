@@ -0,0 +1,130 @@
+package mineopoly_three.util;
+
+import java.util.Arrays;
+
+/**
+ * Counts durations in nanoseconds in logarithmic buckets, so percentiles can be read back with about 6% precision
+ *  no matter how many durations have been recorded. Every bucket covers a power of two range split into
+ *  SUB_BUCKET_COUNT / 2 equal parts, which keeps the whole histogram under a thousand longs.
+ * All methods are synchronized so one histogram can collect durations from several threads
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    // Values below SUB_BUCKET_COUNT get a bucket each, every larger power of two gets HALF_SUB_BUCKET_COUNT buckets
+    private static final int NUM_BUCKETS = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+    private final long[] bucketCounts;
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    public LatencyHistogram() {
+        this.bucketCounts = new long[NUM_BUCKETS];
+        this.count = 0;
+        this.totalNanos = 0;
+        this.maxNanos = 0;
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Shift the value down so it lands in [HALF_SUB_BUCKET_COUNT, SUB_BUCKET_COUNT)
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long getHighestValueInBucket(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (bucketIndex - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * @param nanos A duration in nanoseconds, negative durations are counted as 0
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        bucketCounts[getBucketIndex(value)]++;
+        count++;
+        totalNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    /**
+     * Removes every recorded duration
+     */
+    public synchronized void clear() {
+        Arrays.fill(bucketCounts, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Adds every duration recorded in another histogram to this one
+     *
+     * @param otherHistogram The histogram to add, it is not changed
+     */
+    public void merge(LatencyHistogram otherHistogram) {
+        long[] otherBucketCounts;
+        long otherCount;
+        long otherTotalNanos;
+        long otherMaxNanos;
+        // Copy the other histogram first so the two locks are never held at the same time
+        synchronized (otherHistogram) {
+            otherBucketCounts = otherHistogram.bucketCounts.clone();
+            otherCount = otherHistogram.count;
+            otherTotalNanos = otherHistogram.totalNanos;
+            otherMaxNanos = otherHistogram.maxNanos;
+        }
+
+        synchronized (this) {
+            for (int i = 0; i < NUM_BUCKETS; i++) {
+                bucketCounts[i] += otherBucketCounts[i];
+            }
+            count += otherCount;
+            totalNanos += otherTotalNanos;
+            maxNanos = Math.max(maxNanos, otherMaxNanos);
+        }
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public synchronized double getMeanNanos() {
+        return (count == 0) ? 0 : ((double) totalNanos) / count;
+    }
+
+    /**
+     * @param percentile A percentile between 0 and 100, like 50 for the median or 99 for the 99th percentile
+     * @return An upper bound on the duration that percentile of all recorded durations were at most,
+     *          or 0 if nothing has been recorded
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long countAtPercentile = Math.max(1, (long) Math.ceil((percentile / 100.0) * count));
+        long countSoFar = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            countSoFar += bucketCounts[i];
+            if (countSoFar >= countAtPercentile) {
+                return Math.min(getHighestValueInBucket(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
@@ -0,0 +1,144 @@
+package mineopoly_three.util;
+
+import java.util.Random;
+
+/**
+ * A java.util.Random built on SplitMix64, the generator behind java.util.SplittableRandom. The state is a plain
+ *  long instead of the AtomicLong java.util.Random updates with a compare-and-set on every draw, so a number costs a
+ *  few multiplies and shifts and games on different threads never contend over anything.
+ * Unlike SplittableRandom the state can be copied and saved, and split() hands out child generators by id:
+ *  splitting the same generator with the same id always gives the same child, whatever order the children are
+ *  split off in. GameRandomStreams builds every stream of a game this way.
+ * A single generator is not meant to be shared between threads, and the Gaussian value cached by nextGaussian()
+ *  is not copied
+ */
+public class SplitMixRandom extends Random {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+    private long state;
+    private long gamma;
+
+    public SplitMixRandom(long seed) {
+        // The Random constructor calls setSeed(), which is how the starting state gets set
+        super(seed);
+    }
+
+    private SplitMixRandom(long state, long gamma) {
+        super(0);
+        this.state = state;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Creates an independent generator for one stream. Splitting doesn't use up any numbers from this generator,
+     *  and the child only depends on this generator's current state and the stream id
+     *
+     * @param streamId Which child to create, different ids give unrelated sequences
+     * @return A new generator for that stream
+     */
+    public SplitMixRandom split(long streamId) {
+        long childState = mix64(state ^ mix64(gamma + streamId * GOLDEN_GAMMA));
+        long childGamma = mixGamma(childState + GOLDEN_GAMMA);
+        return new SplitMixRandom(childState, childGamma);
+    }
+
+    /**
+     * @return A new SplitMixRandom that will produce the same numbers this one would from this point on
+     */
+    public SplitMixRandom copy() {
+        return new SplitMixRandom(state, gamma);
+    }
+
+    /**
+     * @return The position of this generator in its sequence, which setState() can later continue from
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Continues the sequence from a state returned by getState(), unlike setSeed() which starts a new sequence.
+     *  The state only makes sense for a generator of the same stream it was taken from
+     *
+     * @param state A state returned by getState()
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        this.state = seed;
+        this.gamma = GOLDEN_GAMMA;
+        // Clears the cached Gaussian, the seed Random keeps for itself is never used
+        super.setSeed(seed);
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        state += gamma;
+        return mix64(state);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int boundMask = bound - 1;
+        int result = nextInt();
+        if ((bound & boundMask) == 0) {
+            return result & boundMask;
+        }
+        // Rejects the values at the top that would make the smaller results slightly more likely
+        int unsigned = result >>> 1;
+        while (unsigned + boundMask - (result = unsigned % bound) < 0) {
+            unsigned = nextInt() >>> 1;
+        }
+        return result;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextInt() >>> 8) * FLOAT_UNIT;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The same gamma mixing as SplittableRandom, which makes sure the gamma is odd and has enough bit transitions
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int numTransitions = Long.bitCount(z ^ (z >>> 1));
+        return (numTransitions < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
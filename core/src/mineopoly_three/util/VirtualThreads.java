@@ -0,0 +1,71 @@
+package mineopoly_three.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates virtual threads when the JVM running the game has them (Java 21 and later), and daemon platform threads
+ *  otherwise. The project still compiles for Java 8, so virtual threads are found through reflection instead of
+ *  calling Thread.ofVirtual() directly.
+ * Virtual threads are cheap to block, so thousands of games or strategy calls waiting on sleeps or other processes
+ *  can each have their own thread while only using as many OS threads as there are cores
+ */
+public final class VirtualThreads {
+    // Thread.ofVirtual(), Thread.Builder.name(String, long) and Thread.Builder.factory(), or null if not available
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            // Java 19 and 20 have the methods, but they throw unless preview features are turned on
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return True if this JVM can create virtual threads
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * @param namePrefix The start of every thread's name, followed by a dash and a counter
+     * @return A ThreadFactory creating virtual threads if they are supported, or daemon platform threads if not
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        if (isSupported()) {
+            try {
+                Object threadBuilder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix + "-", 0L);
+                return (ThreadFactory) BUILDER_FACTORY.invoke(threadBuilder);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Could not create a virtual thread factory", e);
+            }
+        }
+
+        AtomicLong threadCount = new AtomicLong();
+        return runnable -> {
+            Thread platformThread = new Thread(runnable, namePrefix + "-" + threadCount.getAndIncrement());
+            platformThread.setDaemon(true);
+            return platformThread;
+        };
+    }
+}
@@ -0,0 +1,255 @@
+package mineopoly_three.env;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.Economy;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.MyStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tiles.TileType;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class MineopolyEnvTest {
+    private static final int BOARD_SIZE = 14;
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+
+    /**
+     * What a strategy was shown on a turn where it moved first, copied so later turns can't change it
+     */
+    private static class TurnSnapshot {
+        private final TileType[][] tileTypes = new TileType[BOARD_SIZE][BOARD_SIZE];
+        private final int[][][] itemCounts = new int[BOARD_SIZE][BOARD_SIZE][ITEM_TYPES.length];
+        private final Point yourLocation;
+        private final Point otherLocation;
+        private final int otherScore;
+        private final int currentCharge;
+        private final int[] prices = new int[ITEM_TYPES.length];
+
+        private TurnSnapshot(PlayerBoardView boardView, Economy economy, int currentCharge) {
+            for (int x = 0; x < BOARD_SIZE; x++) {
+                for (int y = 0; y < BOARD_SIZE; y++) {
+                    tileTypes[x][y] = boardView.getTileTypeAtLocation(x, y);
+                }
+            }
+            for (Map.Entry<Point, List<InventoryItem>> itemsOnPoint : boardView.getItemsOnGround().entrySet()) {
+                Point location = itemsOnPoint.getKey();
+                for (InventoryItem item : itemsOnPoint.getValue()) {
+                    itemCounts[location.x][location.y][item.getItemType().ordinal()]++;
+                }
+            }
+            this.yourLocation = new Point(boardView.getYourLocation());
+            this.otherLocation = new Point(boardView.getOtherPlayerLocation());
+            this.otherScore = boardView.getOtherPlayerScore();
+            this.currentCharge = currentCharge;
+            for (ItemType itemType : ITEM_TYPES) {
+                prices[itemType.ordinal()] = economy.getCurrentPrice(itemType);
+            }
+        }
+    }
+
+    /**
+     * Plays like another strategy, keeping a TurnSnapshot of every turn this player moves first
+     */
+    private static class RecordingStrategy implements MinePlayerStrategy {
+        private final MinePlayerStrategy strategy;
+        private final List<TurnSnapshot> firstMoveSnapshots = new ArrayList<>();
+        private boolean isRedPlayer;
+
+        private RecordingStrategy(MinePlayerStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        @Override
+        public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                               PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                               Random random) {
+            this.isRedPlayer = isRedPlayer;
+            strategy.initialize(boardSize, maxInventorySize, maxCharge, winningScore, startingBoard,
+                                startTileLocation, isRedPlayer, random);
+        }
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            // Turn by turn, the first player's view is the one a MineopolyEnv observation matches
+            firstMoveSnapshots.add((isRedTurn == isRedPlayer) ? new TurnSnapshot(boardView, economy, currentCharge)
+                                                              : null);
+            return strategy.getTurnAction(boardView, economy, currentCharge, isRedTurn);
+        }
+
+        @Override
+        public void onReceiveItem(InventoryItem itemReceived) {
+            strategy.onReceiveItem(itemReceived);
+        }
+
+        @Override
+        public void onSoldInventory(int totalSellPrice) {
+            strategy.onSoldInventory(totalSellPrice);
+        }
+
+        @Override
+        public String getName() {
+            return strategy.getName();
+        }
+
+        @Override
+        public void endRound(int pointsScored, int opponentPointsScored) {
+            strategy.endRound(pointsScored, opponentPointsScored);
+        }
+    }
+
+    private static void assertObservationMatches(String turn, TurnSnapshot snapshot, int[] observation) {
+        assertEquals(turn, snapshot.yourLocation.x, observation[Observation.YOUR_X]);
+        assertEquals(turn, snapshot.yourLocation.y, observation[Observation.YOUR_Y]);
+        assertEquals(turn, snapshot.otherLocation.x, observation[Observation.OTHER_X]);
+        assertEquals(turn, snapshot.otherLocation.y, observation[Observation.OTHER_Y]);
+        assertEquals(turn, snapshot.otherScore, observation[Observation.OTHER_SCORE]);
+        assertEquals(turn, snapshot.currentCharge, observation[Observation.YOUR_ENERGY]);
+        assertArrayEquals(turn, snapshot.prices, Arrays.copyOfRange(observation, Observation.PRICES,
+                                                                    Observation.PRICES + ITEM_TYPES.length));
+        for (int x = 0; x < BOARD_SIZE; x++) {
+            for (int y = 0; y < BOARD_SIZE; y++) {
+                assertEquals(turn, snapshot.tileTypes[x][y], Observation.getTileType(observation, x, y));
+                for (ItemType itemType : ITEM_TYPES) {
+                    int expectedCount = Math.min(snapshot.itemCounts[x][y][itemType.ordinal()],
+                                                 Observation.MAX_CELL_ITEM_COUNT);
+                    assertEquals(turn, expectedCount, Observation.getItemCount(observation, x, y, itemType));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void steppingWithGameEngineActionsPlaysTheSameGame() {
+        for (long seed = 0; seed < 4; seed++) {
+            RecordingStrategy redStrategy = new RecordingStrategy(new MyStrategy());
+            RecordingStrategy blueStrategy = new RecordingStrategy(new RandomStrategy());
+            GameEngine engine = new GameEngine(BOARD_SIZE, redStrategy, blueStrategy, seed);
+            engine.runGame();
+            List<TurnAction> redActions = engine.getRedPlayer().getAllTurnActions();
+            List<TurnAction> blueActions = engine.getBluePlayer().getAllTurnActions();
+
+            MineopolyEnv env = new MineopolyEnv();
+            StepResult stepResult = env.reset(seed, BOARD_SIZE);
+            int redScore = 0;
+            int blueScore = 0;
+            for (int turn = 0; turn < redActions.size(); turn++) {
+                String turnName = "seed " + seed + ", turn " + turn;
+                boolean isRedTurn = (turn % 2 == 0);
+                int[] firstObservation = isRedTurn ? stepResult.getRedObservation()
+                                                   : stepResult.getBlueObservation();
+                TurnSnapshot snapshot = (isRedTurn ? redStrategy : blueStrategy).firstMoveSnapshots.get(turn);
+                assertNotNull(turnName, snapshot);
+                assertEquals(turnName, turn, firstObservation[Observation.TURN_NUMBER]);
+                assertEquals(turnName, isRedTurn ? 1 : 0, firstObservation[Observation.IS_RED_TURN]);
+                assertObservationMatches(turnName, snapshot, firstObservation);
+                assertFalse(turnName, stepResult.isDone());
+
+                stepResult = env.step(redActions.get(turn), blueActions.get(turn));
+                redScore += stepResult.getRedReward();
+                blueScore += stepResult.getBlueReward();
+            }
+            assertTrue(stepResult.isDone());
+            assertEquals(engine.getRedPlayerScore(), redScore);
+            assertEquals(engine.getBluePlayerScore(), blueScore);
+            assertEquals(redScore, stepResult.getRedObservation()[Observation.YOUR_SCORE]);
+            assertEquals(blueScore, stepResult.getBlueObservation()[Observation.YOUR_SCORE]);
+        }
+    }
+
+    @Test
+    public void cellsDecodeToWhatWasEncoded() {
+        int[] observation = new int[Observation.getLength(BOARD_SIZE)];
+        observation[Observation.BOARD_SIZE] = BOARD_SIZE;
+        int[] itemCounts = new int[ITEM_TYPES.length];
+        for (int i = 0; i < itemCounts.length; i++) {
+            itemCounts[i] = i + 1;
+        }
+        for (TileType tileType : TileType.values()) {
+            int x = tileType.ordinal();
+            int y = BOARD_SIZE - 1 - tileType.ordinal();
+            observation[Observation.getCellIndex(BOARD_SIZE, x, y)] = Observation.encodeCell(tileType, itemCounts);
+            assertEquals(tileType, Observation.getTileType(observation, x, y));
+            for (ItemType itemType : ITEM_TYPES) {
+                assertEquals(itemType.ordinal() + 1, Observation.getItemCount(observation, x, y, itemType));
+            }
+        }
+        // Every other cell is still an empty tile with nothing on it
+        assertEquals(TileType.EMPTY, Observation.getTileType(observation, 0, 0));
+        assertEquals(0, Observation.getItemCount(observation, 0, 0, ItemType.DIAMOND));
+    }
+
+    @Test
+    public void itemCountsStopAtTheCap() {
+        int[] observation = new int[Observation.getLength(BOARD_SIZE)];
+        observation[Observation.BOARD_SIZE] = BOARD_SIZE;
+        int[] itemCounts = new int[ITEM_TYPES.length];
+        itemCounts[ItemType.EMERALD.ordinal()] = 1000;
+        itemCounts[ItemType.RUBY.ordinal()] = Observation.MAX_CELL_ITEM_COUNT;
+        observation[Observation.getCellIndex(BOARD_SIZE, 3, 4)] =
+                Observation.encodeCell(TileType.RESOURCE_RUBY, itemCounts);
+
+        assertEquals(15, Observation.MAX_CELL_ITEM_COUNT);
+        assertEquals(TileType.RESOURCE_RUBY, Observation.getTileType(observation, 3, 4));
+        assertEquals(Observation.MAX_CELL_ITEM_COUNT, Observation.getItemCount(observation, 3, 4, ItemType.EMERALD));
+        assertEquals(Observation.MAX_CELL_ITEM_COUNT, Observation.getItemCount(observation, 3, 4, ItemType.RUBY));
+        // A capped count doesn't spill into the counts next to it
+        assertEquals(0, Observation.getItemCount(observation, 3, 4, ItemType.DIAMOND));
+        assertEquals(0, Observation.getItemCount(observation, 3, 4, ItemType.AUTOMINER));
+    }
+
+    @Test
+    public void vectorEnvResetsFinishedGames() {
+        int numEnvs = 3;
+        long firstSeed = 100;
+        VectorMineopolyEnv vectorEnv = new VectorMineopolyEnv(numEnvs, BOARD_SIZE);
+        vectorEnv.reset(firstSeed);
+        TurnAction[] noActions = new TurnAction[numEnvs];
+
+        // Nobody scores without acting, so every game lasts until it runs out of turns
+        int turnsPlayed = 0;
+        boolean[] dones = vectorEnv.getDones();
+        while (!dones[0]) {
+            for (int i = 0; i < numEnvs; i++) {
+                assertEquals(firstSeed + i, vectorEnv.getRandomSeeds()[i]);
+            }
+            vectorEnv.step(noActions, noActions);
+            turnsPlayed++;
+        }
+        assertEquals(vectorEnv.getEnv(0).getState().getMaxTurns(), turnsPlayed);
+        assertEquals(numEnvs, vectorEnv.getGamesCompleted());
+
+        MineopolyEnv freshEnv = new MineopolyEnv();
+        for (int i = 0; i < numEnvs; i++) {
+            assertTrue(dones[i]);
+            long newSeed = firstSeed + numEnvs + i;
+            assertEquals(newSeed, vectorEnv.getRandomSeeds()[i]);
+            StepResult firstStep = freshEnv.reset(newSeed, BOARD_SIZE);
+            assertArrayEquals(firstStep.getRedObservation(), vectorEnv.getRedObservations()[i]);
+            assertArrayEquals(firstStep.getBlueObservation(), vectorEnv.getBlueObservations()[i]);
+            assertEquals(0, vectorEnv.getRedObservations()[i][Observation.TURN_NUMBER]);
+        }
+
+        vectorEnv.step(noActions, noActions);
+        for (int i = 0; i < numEnvs; i++) {
+            assertFalse(vectorEnv.getDones()[i]);
+            assertEquals(1, vectorEnv.getRedObservations()[i][Observation.TURN_NUMBER]);
+        }
+    }
+}
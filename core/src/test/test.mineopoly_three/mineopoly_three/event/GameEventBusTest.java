@@ -0,0 +1,117 @@
+package mineopoly_three.event;
+
+import mineopoly_three.game.GameConfig;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GameEventBusTest {
+    private static final int MAX_TURNS = 20;
+
+    private static TurnCompleted createEvent(int turnsPlayed) {
+        return new TurnCompleted(turnsPlayed, 0, 0);
+    }
+
+    @Test
+    public void listenersAreCalledInTheOrderTheySubscribed() {
+        GameEventBus eventBus = new GameEventBus();
+        List<String> calls = new ArrayList<>();
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, event -> calls.add("first " + event.getTurnsPlayed()));
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, event -> calls.add("second " + event.getTurnsPlayed()));
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, event -> calls.add("third " + event.getTurnsPlayed()));
+        eventBus.publish(GameEventType.TURN_COMPLETED, createEvent(1));
+        eventBus.publish(GameEventType.TURN_COMPLETED, createEvent(2));
+
+        assertEquals(Arrays.asList("first 1", "second 1", "third 1", "first 2", "second 2", "third 2"), calls);
+    }
+
+    @Test
+    public void eventsOnlyGoToListenersOfTheirType() {
+        GameEventBus eventBus = new GameEventBus();
+        List<String> calls = new ArrayList<>();
+        eventBus.subscribe(GameEventType.GAME_ENDED, event -> calls.add("game ended"));
+        eventBus.publish(GameEventType.TURN_COMPLETED, createEvent(1));
+
+        assertTrue(calls.isEmpty());
+        assertFalse(eventBus.hasListeners(GameEventType.TURN_COMPLETED));
+        assertTrue(eventBus.hasListeners(GameEventType.GAME_ENDED));
+    }
+
+    @Test
+    public void unsubscribeOnlyRemovesThatListener() {
+        GameEventBus eventBus = new GameEventBus();
+        List<String> calls = new ArrayList<>();
+        GameEventListener<TurnCompleted> first = event -> calls.add("first");
+        GameEventListener<TurnCompleted> second = event -> calls.add("second");
+        GameEventListener<TurnCompleted> third = event -> calls.add("third");
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, first);
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, second);
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, third);
+
+        assertTrue(eventBus.unsubscribe(GameEventType.TURN_COMPLETED, second));
+        assertFalse(eventBus.unsubscribe(GameEventType.TURN_COMPLETED, second));
+        eventBus.publish(GameEventType.TURN_COMPLETED, createEvent(1));
+        assertEquals(Arrays.asList("first", "third"), calls);
+    }
+
+    @Test
+    public void removingTheLastListenerLeavesNoListeners() {
+        GameEventBus eventBus = new GameEventBus();
+        GameEventListener<TurnCompleted> first = event -> { };
+        GameEventListener<TurnCompleted> second = event -> { };
+        assertFalse(eventBus.hasListeners(GameEventType.TURN_COMPLETED));
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, first);
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, second);
+
+        eventBus.unsubscribe(GameEventType.TURN_COMPLETED, first);
+        assertTrue(eventBus.hasListeners(GameEventType.TURN_COMPLETED));
+        eventBus.unsubscribe(GameEventType.TURN_COMPLETED, second);
+        assertFalse(eventBus.hasListeners(GameEventType.TURN_COMPLETED));
+    }
+
+    @Test
+    public void subscribingWhilePublishingStartsWithTheNextEvent() {
+        GameEventBus eventBus = new GameEventBus();
+        List<String> calls = new ArrayList<>();
+        GameEventListener<TurnCompleted> lateListener = event -> calls.add("late " + event.getTurnsPlayed());
+        GameEventListener<TurnCompleted> subscribingListener = new GameEventListener<TurnCompleted>() {
+            @Override
+            public void onEvent(TurnCompleted event) {
+                calls.add("subscribing " + event.getTurnsPlayed());
+                eventBus.unsubscribe(GameEventType.TURN_COMPLETED, this);
+                eventBus.subscribe(GameEventType.TURN_COMPLETED, lateListener);
+            }
+        };
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, subscribingListener);
+        eventBus.publish(GameEventType.TURN_COMPLETED, createEvent(1));
+        eventBus.publish(GameEventType.TURN_COMPLETED, createEvent(2));
+
+        assertEquals(Arrays.asList("subscribing 1", "late 2"), calls);
+    }
+
+    @Test
+    public void listenersStaySubscribedWhenTheEngineIsReset() {
+        GameEngine engine = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 0,
+                                           GameConfig.DEFAULT.withMaxTurns(MAX_TURNS));
+        List<Integer> turnsPlayed = new ArrayList<>();
+        List<Integer> gamesEndedAtTurn = new ArrayList<>();
+        engine.getEventBus().subscribe(GameEventType.TURN_COMPLETED, event -> turnsPlayed.add(event.getTurnsPlayed()));
+        engine.getEventBus().subscribe(GameEventType.GAME_ENDED,
+                                       event -> gamesEndedAtTurn.add(event.getTurnsPlayed()));
+        engine.runGame();
+        engine.reset(20, 1, new RandomStrategy(), new RandomStrategy());
+        engine.runGame();
+
+        assertEquals(2 * MAX_TURNS, turnsPlayed.size());
+        assertEquals(1, (int) turnsPlayed.get(MAX_TURNS));
+        assertEquals(Arrays.asList(MAX_TURNS, MAX_TURNS), gamesEndedAtTurn);
+    }
+}
@@ -0,0 +1,126 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.ActionPlan;
+import mineopoly_three.strategy.PlanningStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ActionPlanTest {
+    private static final int BOARD_SIZE = 14;
+    private static final long SEED = 3;
+
+    /**
+     * Paces up and down four turns at a time
+     */
+    private static class PacingStrategy implements PlanningStrategy {
+        private final int minCharge;
+        private int planCalls;
+
+        PacingStrategy(int minCharge) {
+            this.minCharge = minCharge;
+        }
+
+        @Override
+        public ActionPlan getActionPlan(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            planCalls++;
+            return new ActionPlan(TurnAction.MOVE_UP, TurnAction.MOVE_DOWN, TurnAction.MOVE_UP, TurnAction.MOVE_DOWN)
+                    .invalidateWhenChargeBelow(minCharge);
+        }
+
+        @Override
+        public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                               PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                               Random random) {
+        }
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            return getActionPlan(boardView, economy, currentCharge, isRedTurn).getActions().get(0);
+        }
+
+        @Override
+        public void onReceiveItem(InventoryItem itemReceived) {
+        }
+
+        @Override
+        public void onSoldInventory(int totalSellPrice) {
+        }
+
+        @Override
+        public String getName() {
+            return "PacingStrategy";
+        }
+
+        @Override
+        public void endRound(int pointsScored, int opponentPointsScored) {
+        }
+    }
+
+    @Test
+    public void planIsFollowedWithoutAskingAgain() {
+        PacingStrategy redStrategy = new PacingStrategy(0);
+        GameEngine engine = new GameEngine(BOARD_SIZE, redStrategy, new RandomStrategy(), SEED);
+        engine.runGame();
+
+        int turnsPlayed = engine.getRedPlayer().getAllTurnActions().size();
+        assertEquals(GameEngine.MAX_TURNS_PER_GAME, turnsPlayed);
+        assertEquals(turnsPlayed / 4, redStrategy.planCalls);
+        for (int i = 0; i < turnsPlayed; i++) {
+            TurnAction expectedAction = (i % 2 == 0) ? TurnAction.MOVE_UP : TurnAction.MOVE_DOWN;
+            assertEquals(expectedAction, engine.getRedPlayer().getAllTurnActions().get(i));
+        }
+    }
+
+    @Test
+    public void conditionEndsPlan() {
+        PacingStrategy redStrategy = new PacingStrategy(MinePlayer.MAX_ENERGY + 1);
+        GameEngine engine = new GameEngine(BOARD_SIZE, redStrategy, new RandomStrategy(), SEED);
+        engine.runGame();
+
+        // The charge is always too low to keep following a plan, so every plan only lasts one turn
+        assertEquals(GameEngine.MAX_TURNS_PER_GAME, redStrategy.planCalls);
+        assertTrue(engine.getRedPlayer().getAllTurnActions().stream().allMatch(TurnAction.MOVE_UP::equals));
+    }
+
+    @Test
+    public void packedEngineFollowsPlansTheSameWay() {
+        GameEngine engine = new GameEngine(BOARD_SIZE, new PacingStrategy(10), new RandomStrategy(), SEED);
+        engine.runGame();
+        PackedGameEngine packedEngine = new PackedGameEngine(BOARD_SIZE, new PacingStrategy(10),
+                                                             new RandomStrategy(), SEED);
+        packedEngine.runGame();
+
+        assertEquals(engine.getRedPlayer().getAllTurnActions(), packedEngine.getRedPlayer().getAllTurnActions());
+        assertEquals(engine.getBluePlayer().getAllTurnActions(), packedEngine.getBluePlayer().getAllTurnActions());
+        assertEquals(engine.getRedPlayerScore(), packedEngine.getRedPlayerScore());
+    }
+
+    @Test
+    public void plannedActionsAreCountedPerGame() {
+        GameEngine engine = new GameEngine(BOARD_SIZE, new PacingStrategy(0), new RandomStrategy(), SEED);
+        EngineMetrics firstGameMetrics = new EngineMetrics(true);
+        engine.setMetrics(firstGameMetrics);
+        engine.runGame();
+
+        engine.reset(BOARD_SIZE, SEED, false);
+        EngineMetrics secondGameMetrics = new EngineMetrics(true);
+        engine.setMetrics(secondGameMetrics);
+        engine.runGame();
+
+        // Every plan is four actions long and only the first of each comes from asking the strategy
+        long plannedPerGame = GameEngine.MAX_TURNS_PER_GAME * 3 / 4;
+        assertEquals(plannedPerGame, firstGameMetrics.getCount(EngineMetrics.Counter.PLANNED_ACTIONS));
+        assertEquals(plannedPerGame, secondGameMetrics.getCount(EngineMetrics.Counter.PLANNED_ACTIONS));
+    }
+}
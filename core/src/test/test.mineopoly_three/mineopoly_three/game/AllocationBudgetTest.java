@@ -0,0 +1,230 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tiles.ResourceTile;
+import mineopoly_three.tiles.Tile;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks how many bytes the hot paths of a game allocate against a budget for each, so allocations that creep back
+ *  into the turn loop fail the build. Bytes are counted with the per-thread allocation counter over fixed seeds and
+ *  board sizes, after each path has been warmed up so the JIT has had a chance to remove what it can.
+ * The budgets leave some room over what was measured when they were set, which is noted next to each one. Lower a
+ *  budget when its path gets cheaper, so it can't quietly get more expensive again
+ */
+public class AllocationBudgetTest {
+    private static final int[] BOARD_SIZES = {14, 32};
+    private static final long[] SEEDS = {0, 1, 2};
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 3;
+    private static final int CALLS_PER_RUN = 10000;
+
+    // Measured about 1.3KB per turn on both board sizes, with two RandomStrategy players
+    private static final long BYTES_PER_TURN = 2048;
+    // Measured about 43 bytes per tile on a 14x14 board and 38 bytes per tile on a 32x32 board
+    private static final long BYTES_PER_RESET_TILE = 100;
+    // Measured 520 to 560 bytes on the boards left at the end of a game
+    private static final long BYTES_PER_BOARD_UPDATE = 1024;
+    // Measured 88 bytes, the view itself and its copies of both players' locations
+    private static final long BYTES_PER_VIEW = 128;
+    // Measured 224 bytes
+    private static final long BYTES_PER_PRICE_COPY = 512;
+    // Measured 240 to 264 bytes for selling three items and the demand going back up
+    private static final long BYTES_PER_SALE = 512;
+    // Measured about 500 bytes, averaged over mining out every resource tile and picking up what it dropped
+    private static final long BYTES_PER_TILE_INTERACTION = 1024;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    @BeforeClass
+    public static void enableAllocationCounting() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("This JVM can't count allocated bytes", bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue("This JVM can't count allocated bytes", threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long getAllocatedBytes() {
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Warms up a path and then measures it a few times
+     *
+     * @param setUp Runs before every run of the path without being measured
+     * @param path Runs the path and returns how many times it counts for, like the number of turns in a game
+     * @return The fewest bytes allocated per count in any measured run, so a JIT compile in the middle of one
+     *          run doesn't fail the test
+     */
+    private static double measureBytesPerCall(Runnable setUp, LongSupplier path) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            setUp.run();
+            path.getAsLong();
+        }
+        double fewestBytes = Double.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            setUp.run();
+            long startBytes = getAllocatedBytes();
+            long count = path.getAsLong();
+            long bytesAllocated = getAllocatedBytes() - startBytes;
+            fewestBytes = Math.min(fewestBytes, (double) bytesAllocated / count);
+        }
+        return fewestBytes;
+    }
+
+    private static LongSupplier repeat(Runnable call) {
+        return () -> {
+            for (int i = 0; i < CALLS_PER_RUN; i++) {
+                call.run();
+            }
+            return CALLS_PER_RUN;
+        };
+    }
+
+    private static void assertWithinBudget(String path, double bytesAllocated, long budget) {
+        assertTrue(String.format("%s allocated %.1f bytes, over its budget of %d", path, bytesAllocated, budget),
+                   bytesAllocated <= budget);
+    }
+
+    private static GameEngine playGame(int boardSize, long seed) {
+        GameEngine engine = new GameEngine(boardSize, new RandomStrategy(), new RandomStrategy(), seed);
+        engine.runGame();
+        return engine;
+    }
+
+    @Test
+    public void turnsStayWithinBudget() {
+        for (int boardSize : BOARD_SIZES) {
+            GameEngine engine = playGame(boardSize, SEEDS[0]);
+            for (long seed : SEEDS) {
+                double bytesPerTurn = measureBytesPerCall(() -> engine.reset(boardSize, seed, false), () -> {
+                    engine.runGame();
+                    return engine.getRedPlayer().getAllTurnActions().size();
+                });
+                assertWithinBudget("A turn on a " + boardSize + "x" + boardSize + " board with seed " + seed,
+                                   bytesPerTurn, BYTES_PER_TURN);
+            }
+        }
+    }
+
+    @Test
+    public void resettingForANewGameStaysWithinBudget() {
+        for (int boardSize : BOARD_SIZES) {
+            GameEngine engine = playGame(boardSize, SEEDS[0]);
+            for (long seed : SEEDS) {
+                double bytesPerTile = measureBytesPerCall(() -> { }, () -> {
+                    engine.reset(boardSize, seed, false);
+                    return boardSize * boardSize;
+                });
+                assertWithinBudget("Resetting a " + boardSize + "x" + boardSize + " board for seed " + seed,
+                                   bytesPerTile, BYTES_PER_RESET_TILE);
+            }
+        }
+    }
+
+    @Test
+    public void boardUpdatesStayWithinBudget() {
+        for (int boardSize : BOARD_SIZES) {
+            for (long seed : SEEDS) {
+                GameBoard board = playGame(boardSize, seed).getBoard();
+                double bytesPerUpdate = measureBytesPerCall(() -> { }, repeat(board::update));
+                assertWithinBudget("GameBoard.update() on a " + boardSize + "x" + boardSize + " board with seed "
+                                   + seed, bytesPerUpdate, BYTES_PER_BOARD_UPDATE);
+            }
+        }
+    }
+
+    @Test
+    public void viewsStayWithinBudget() {
+        for (int boardSize : BOARD_SIZES) {
+            GameEngine engine = playGame(boardSize, SEEDS[0]);
+            GameBoard board = engine.getBoard();
+            MinePlayer redPlayer = engine.getRedPlayer();
+            MinePlayer bluePlayer = engine.getBluePlayer();
+            double bytesPerView = measureBytesPerCall(() -> { },
+                                                      repeat(() -> board.convertToView(redPlayer, bluePlayer)));
+            assertWithinBudget("GameBoard.convertToView() on a " + boardSize + "x" + boardSize + " board",
+                               bytesPerView, BYTES_PER_VIEW);
+        }
+    }
+
+    @Test
+    public void economyStaysWithinBudget() {
+        Economy economy = playGame(BOARD_SIZES[0], SEEDS[0]).getEconomy();
+        double bytesPerPriceCopy = measureBytesPerCall(() -> { }, repeat(economy::getCurrentPrices));
+        assertWithinBudget("Economy.getCurrentPrices()", bytesPerPriceCopy, BYTES_PER_PRICE_COPY);
+
+        List<InventoryItem> itemsToSell = Arrays.asList(new InventoryItem(ItemType.RUBY),
+                                                        new InventoryItem(ItemType.DIAMOND),
+                                                        new InventoryItem(ItemType.RUBY));
+        double bytesPerSale = measureBytesPerCall(() -> { }, repeat(() -> {
+            economy.sellResources(itemsToSell);
+            economy.increaseDemand();
+        }));
+        assertWithinBudget("Economy.sellResources()", bytesPerSale, BYTES_PER_SALE);
+    }
+
+    @Test
+    public void miningAndPickingUpStaysWithinBudget() {
+        for (int boardSize : BOARD_SIZES) {
+            GameEngine engine = playGame(boardSize, SEEDS[0]);
+            for (long seed : SEEDS) {
+                List<ResourceTile> resourceTiles = new ArrayList<>();
+                double bytesPerInteraction = measureBytesPerCall(() -> {
+                    engine.reset(boardSize, seed, false);
+                    resourceTiles.clear();
+                    GameBoard board = engine.getBoard();
+                    for (int x = 0; x < boardSize; x++) {
+                        for (int y = 0; y < boardSize; y++) {
+                            Tile tile = board.getTileAtLocation(x, y);
+                            if (tile instanceof ResourceTile) {
+                                resourceTiles.add((ResourceTile) tile);
+                            }
+                        }
+                    }
+                }, () -> mineAndPickUp(engine, resourceTiles));
+                assertWithinBudget("Mining and picking up on a " + boardSize + "x" + boardSize + " board with seed "
+                                   + seed, bytesPerInteraction, BYTES_PER_TILE_INTERACTION);
+            }
+        }
+    }
+
+    /**
+     * Has the red player mine out every resource tile and pick up the resource it drops, the same way a turn does
+     *
+     * @return The number of TileInteractActions performed
+     */
+    private static long mineAndPickUp(GameEngine engine, List<ResourceTile> resourceTiles) {
+        GameBoard board = engine.getBoard();
+        MinePlayer player = engine.getRedPlayer();
+        long interactions = 0;
+        for (ResourceTile resourceTile : resourceTiles) {
+            player.getCurrentTile().onExit(player);
+            resourceTile.onEnter(player);
+            player.setCurrentTile(resourceTile);
+            int turnsToMine = resourceTile.getTileResource().getTurnsToMine();
+            for (int i = 0; i < turnsToMine; i++) {
+                TurnAction.MINE.getActionToPerform().performAction(board, player, TurnAction.MINE);
+            }
+            TurnAction.PICK_UP_RESOURCE.getActionToPerform().performAction(board, player, TurnAction.PICK_UP_RESOURCE);
+            interactions += turnsToMine + 1;
+            player.getInventory().clear();
+        }
+        return interactions;
+    }
+}
@@ -0,0 +1,179 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.replay.Replay;
+import mineopoly_three.strategy.IndependentBatchStrategy;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.MyStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BatchGameEngineTest {
+    private static final int BOARD_SIZE = 14;
+    private static final int NUM_GAMES = 12;
+
+    private static long[] createSeeds() {
+        long[] seeds = new long[NUM_GAMES];
+        for (int i = 0; i < NUM_GAMES; i++) {
+            seeds[i] = 1000 + i;
+        }
+        return seeds;
+    }
+
+    private static MinePlayerStrategy[] createStrategies(boolean isMyStrategy) {
+        MinePlayerStrategy[] strategies = new MinePlayerStrategy[NUM_GAMES];
+        for (int i = 0; i < NUM_GAMES; i++) {
+            strategies[i] = isMyStrategy ? new MyStrategy() : new RandomStrategy();
+        }
+        return strategies;
+    }
+
+    private static void assertSameAsGameEngine(BatchGameEngine batchEngine, int gameIndex) {
+        GameEngine engine = new GameEngine(BOARD_SIZE, new MyStrategy(), new RandomStrategy(),
+                                           batchEngine.getRandomSeed(gameIndex));
+        engine.runGame();
+
+        String game = "game " + gameIndex;
+        Replay replay = batchEngine.getReplay(gameIndex);
+        assertEquals(game, engine.getRedPlayer().getAllTurnActions(), replay.getRedPlayerActions());
+        assertEquals(game, engine.getBluePlayer().getAllTurnActions(), replay.getBluePlayerActions());
+        assertEquals(game, engine.getRedPlayerScore(), batchEngine.getRedPlayerScore(gameIndex));
+        assertEquals(game, engine.getBluePlayerScore(), batchEngine.getBluePlayerScore(gameIndex));
+        assertEquals(game, engine.getRedPlayer().getAllTurnActions().size(), batchEngine.getTurnsPlayed(gameIndex));
+    }
+
+    @Test
+    public void batchGamesMatchGameEngineGames() {
+        BatchGameEngine batchEngine = new BatchGameEngine(BOARD_SIZE, createSeeds(),
+                                                          new IndependentBatchStrategy(createStrategies(true)),
+                                                          new IndependentBatchStrategy(createStrategies(false)));
+        batchEngine.runGames();
+
+        for (int i = 0; i < NUM_GAMES; i++) {
+            assertNull(batchEngine.getExceptionThrown(i));
+            assertSameAsGameEngine(batchEngine, i);
+        }
+    }
+
+    @Test
+    public void exceptionChoosingActionsEndsEveryRunningGame() {
+        RuntimeException strategyException = new RuntimeException("Thrown on purpose by the test");
+        IndependentBatchStrategy throwingStrategy = new IndependentBatchStrategy(createStrategies(false)) {
+            private int turnsPlayed;
+
+            @Override
+            public void getTurnActions(int numActiveGames, int[] gameIndices, PlayerBoardView[] boardViews,
+                                       Economy[] economies, int[] currentCharges, boolean isRedTurn,
+                                       TurnAction[] actionsToPerform) {
+                if (++turnsPlayed > 10) {
+                    throw strategyException;
+                }
+                super.getTurnActions(numActiveGames, gameIndices, boardViews, economies, currentCharges, isRedTurn,
+                                     actionsToPerform);
+            }
+        };
+        BatchGameEngine batchEngine = new BatchGameEngine(BOARD_SIZE, createSeeds(),
+                                                          new IndependentBatchStrategy(createStrategies(true)),
+                                                          throwingStrategy);
+        batchEngine.runGames();
+
+        for (int i = 0; i < NUM_GAMES; i++) {
+            assertSame(strategyException, batchEngine.getExceptionThrown(i));
+            assertEquals(-1, batchEngine.getBluePlayerScore(i));
+            assertTrue(batchEngine.getReplay(i).blueThrewException());
+            assertFalse(batchEngine.getReplay(i).redThrewException());
+            assertEquals(10, batchEngine.getTurnsPlayed(i));
+        }
+    }
+
+    @Test
+    public void exceptionInitializingEndsEveryGame() {
+        RuntimeException strategyException = new RuntimeException("Thrown on purpose by the test");
+        IndependentBatchStrategy throwingStrategy = new IndependentBatchStrategy(createStrategies(true)) {
+            @Override
+            public void initialize(int numGames, int boardSize, int maxInventorySize, int maxCharge,
+                                   int winningScore, PlayerBoardView[] startingBoards, Point[] startTiles,
+                                   boolean isRedPlayer, Random[] randoms) {
+                throw strategyException;
+            }
+        };
+        BatchGameEngine batchEngine = new BatchGameEngine(BOARD_SIZE, createSeeds(), throwingStrategy,
+                                                          new IndependentBatchStrategy(createStrategies(false)));
+        batchEngine.runGames();
+
+        for (int i = 0; i < NUM_GAMES; i++) {
+            assertSame(strategyException, batchEngine.getExceptionThrown(i));
+            assertEquals(-1, batchEngine.getRedPlayerScore(i));
+            assertEquals(0, batchEngine.getReplay(i).getRedPlayerActions().size());
+        }
+    }
+
+    @Test
+    public void exceptionInOneGameOnlyEndsThatGame() {
+        int failingGame = 3;
+        RuntimeException strategyException = new RuntimeException("Thrown on purpose by the test");
+        IndependentBatchStrategy throwingStrategy = new IndependentBatchStrategy(createStrategies(true)) {
+            @Override
+            public void onReceiveItem(int gameIndex, InventoryItem itemReceived) {
+                if (gameIndex == failingGame) {
+                    throw strategyException;
+                }
+                super.onReceiveItem(gameIndex, itemReceived);
+            }
+        };
+        BatchGameEngine batchEngine = new BatchGameEngine(BOARD_SIZE, createSeeds(), throwingStrategy,
+                                                          new IndependentBatchStrategy(createStrategies(false)));
+        batchEngine.runGames();
+
+        assertSame(strategyException, batchEngine.getExceptionThrown(failingGame));
+        assertEquals(-1, batchEngine.getRedPlayerScore(failingGame));
+        assertTrue(batchEngine.getReplay(failingGame).redThrewException());
+        for (int i = 0; i < NUM_GAMES; i++) {
+            if (i != failingGame) {
+                assertNull(batchEngine.getExceptionThrown(i));
+                assertSameAsGameEngine(batchEngine, i);
+            }
+        }
+    }
+
+    @Test
+    public void exceptionEndingOneGameOnlyFailsThatGame() {
+        int failingGame = 7;
+        RuntimeException strategyException = new RuntimeException("Thrown on purpose by the test");
+        IndependentBatchStrategy throwingStrategy = new IndependentBatchStrategy(createStrategies(false)) {
+            @Override
+            public void endRound(int gameIndex, int pointsScored, int opponentPointsScored) {
+                if (gameIndex == failingGame) {
+                    throw strategyException;
+                }
+                super.endRound(gameIndex, pointsScored, opponentPointsScored);
+            }
+        };
+        BatchGameEngine batchEngine = new BatchGameEngine(BOARD_SIZE, createSeeds(),
+                                                          new IndependentBatchStrategy(createStrategies(true)),
+                                                          throwingStrategy);
+        batchEngine.runGames();
+
+        assertSame(strategyException, batchEngine.getExceptionThrown(failingGame));
+        assertEquals(-1, batchEngine.getBluePlayerScore(failingGame));
+        assertTrue(batchEngine.getReplay(failingGame).blueThrewException());
+        assertFalse(batchEngine.getReplay(failingGame).redThrewException());
+        for (int i = 0; i < NUM_GAMES; i++) {
+            if (i != failingGame) {
+                assertNull(batchEngine.getExceptionThrown(i));
+                assertSameAsGameEngine(batchEngine, i);
+            }
+        }
+    }
+}
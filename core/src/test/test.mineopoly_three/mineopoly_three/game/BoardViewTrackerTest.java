@@ -0,0 +1,74 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BoardViewTrackerTest {
+    private static final int BOARD_SIZE = 14;
+
+    /**
+     * Plays randomly and writes down the items on the ground it is shown every turn, optionally moving every key of
+     *  the map it was given somewhere else afterwards
+     */
+    private static class RecordingStrategy extends RandomStrategy {
+        private final boolean changeKeys;
+        private final List<String> itemsSeen = new ArrayList<>();
+
+        RecordingStrategy(boolean changeKeys) {
+            this.changeKeys = changeKeys;
+        }
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            Map<String, Integer> itemCounts = new TreeMap<>();
+            for (Map.Entry<Point, List<InventoryItem>> itemsOnPoint : boardView.getItemsOnGround().entrySet()) {
+                Point location = itemsOnPoint.getKey();
+                itemCounts.put(location.x + "," + location.y, itemsOnPoint.getValue().size());
+            }
+            itemsSeen.add(itemCounts.toString());
+            if (changeKeys) {
+                for (Point location : boardView.getItemsOnGround().keySet()) {
+                    location.x += 1000;
+                }
+            }
+            return super.getTurnAction(boardView, economy, currentCharge, isRedTurn);
+        }
+    }
+
+    @Test
+    public void changingViewKeysDoesNotAffectTheGame() {
+        for (long seed = 0; seed < 5; seed++) {
+            RecordingStrategy redStrategy = new RecordingStrategy(false);
+            RecordingStrategy blueStrategy = new RecordingStrategy(false);
+            GameEngine engine = new GameEngine(BOARD_SIZE, redStrategy, blueStrategy, seed);
+            engine.runGame();
+
+            RecordingStrategy keyChangingRedStrategy = new RecordingStrategy(true);
+            RecordingStrategy otherBlueStrategy = new RecordingStrategy(false);
+            GameEngine keyChangingEngine = new GameEngine(BOARD_SIZE, keyChangingRedStrategy, otherBlueStrategy,
+                                                          seed);
+            keyChangingEngine.runGame();
+
+            assertTrue(engine.getBoard().getTrackedItemsOnGround().size() > 0
+                       || redStrategy.itemsSeen.stream().anyMatch(items -> !items.equals("{}")));
+            assertEquals(blueStrategy.itemsSeen, otherBlueStrategy.itemsSeen);
+            assertEquals(engine.getBoard().getTrackedItemsOnGround().keySet(),
+                         keyChangingEngine.getBoard().getTrackedItemsOnGround().keySet());
+            assertEquals(engine.getRedPlayerScore(), keyChangingEngine.getRedPlayerScore());
+            assertEquals(engine.getBluePlayerScore(), keyChangingEngine.getBluePlayerScore());
+        }
+    }
+}
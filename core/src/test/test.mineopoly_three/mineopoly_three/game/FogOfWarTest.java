@@ -0,0 +1,180 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.ActionPlan;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tiles.TileType;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntBinaryOperator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FogOfWarTest {
+    private static final int BOARD_SIZE = 14;
+    private static final int VISION_RADIUS = 2;
+
+    /**
+     * Wanders randomly, checking every view it gets against the real board
+     */
+    private static class CheckingStrategy implements MinePlayerStrategy {
+        private final RandomStrategy randomStrategy = new RandomStrategy();
+        private GameEngine engine;
+        private int viewsChecked;
+
+        @Override
+        public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                               PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                               Random random) {
+            checkView(startingBoard);
+            randomStrategy.initialize(boardSize, maxInventorySize, maxCharge, winningScore, startingBoard,
+                                      startTileLocation, isRedPlayer, random);
+        }
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            checkView(boardView);
+            return randomStrategy.getTurnAction(boardView, economy, currentCharge, isRedTurn);
+        }
+
+        private void checkView(PlayerBoardView boardView) {
+            GameBoard board = engine.getBoard();
+            Point location = boardView.getYourLocation();
+            for (int x = 0; x < BOARD_SIZE; x++) {
+                for (int y = 0; y < BOARD_SIZE; y++) {
+                    TileType actualType = board.getTileAtLocation(x, y).getType();
+                    TileType viewType = boardView.getTileTypeAtLocation(x, y);
+                    if (Math.abs(x - location.x) <= VISION_RADIUS && Math.abs(y - location.y) <= VISION_RADIUS) {
+                        assertEquals(actualType, viewType);
+                    } else if (actualType == TileType.RED_MARKET || actualType == TileType.BLUE_MARKET
+                            || actualType == TileType.RECHARGE) {
+                        assertEquals(actualType, viewType);
+                    }
+                }
+            }
+
+            Point otherLocation = boardView.getOtherPlayerLocation();
+            if (otherLocation != null) {
+                assertTrue(Math.abs(otherLocation.x - location.x) <= VISION_RADIUS);
+                assertTrue(Math.abs(otherLocation.y - location.y) <= VISION_RADIUS);
+            }
+            viewsChecked++;
+        }
+
+        @Override
+        public void onReceiveItem(InventoryItem itemReceived) {
+        }
+
+        @Override
+        public void onSoldInventory(int totalSellPrice) {
+        }
+
+        @Override
+        public String getName() {
+            return "CheckingStrategy";
+        }
+
+        @Override
+        public void endRound(int pointsScored, int opponentPointsScored) {
+        }
+    }
+
+    @Test
+    public void viewsOnlyShowWhatIsInRange() {
+        for (long seed = 0; seed < 5; seed++) {
+            CheckingStrategy redStrategy = new CheckingStrategy();
+            CheckingStrategy blueStrategy = new CheckingStrategy();
+            GameEngine engine = new GameEngine(BOARD_SIZE, redStrategy, blueStrategy, seed);
+            redStrategy.engine = engine;
+            blueStrategy.engine = engine;
+            engine.setVisionRadius(VISION_RADIUS);
+            engine.runGame();
+
+            int turnsPlayed = engine.getRedPlayer().getAllTurnActions().size();
+            assertEquals(turnsPlayed + 1, redStrategy.viewsChecked);
+            assertEquals(turnsPlayed + 1, blueStrategy.viewsChecked);
+        }
+    }
+
+    @Test
+    public void unseenTilesAreUnknown() {
+        PlayerBoardView[] startingBoard = new PlayerBoardView[1];
+        MinePlayerStrategy blueStrategy = new RandomStrategy() {
+            @Override
+            public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                                   PlayerBoardView startingView, Point startTileLocation, boolean isRedPlayer,
+                                   Random random) {
+                startingBoard[0] = startingView;
+                super.initialize(boardSize, maxInventorySize, maxCharge, winningScore, startingView,
+                                 startTileLocation, isRedPlayer, random);
+            }
+        };
+        GameEngine engine = new GameEngine(BOARD_SIZE, new RandomStrategy(), blueStrategy, 0);
+        engine.setVisionRadius(0);
+        engine.runGame();
+
+        // With a radius of 0 the blue player starts out seeing only its own tile and the tiles that never change
+        PlayerBoardView view = startingBoard[0];
+        assertNull(view.getOtherPlayerLocation());
+        Point location = view.getYourLocation();
+        assertNotEquals(TileType.UNKNOWN, view.getTileTypeAtLocation(location));
+        int unknownTiles = 0;
+        for (int x = 0; x < BOARD_SIZE; x++) {
+            for (int y = 0; y < BOARD_SIZE; y++) {
+                if (view.getTileTypeAtLocation(x, y) == TileType.UNKNOWN) {
+                    unknownTiles++;
+                }
+            }
+        }
+        assertTrue(unknownTiles > BOARD_SIZE * BOARD_SIZE / 2);
+    }
+
+    @Test
+    public void plansIgnoreWatchedTilesOutOfView() {
+        GameBoard board = new WorldGenerator(0).generateBoard(BOARD_SIZE);
+        PlayerVision vision = new PlayerVision(board, VISION_RADIUS);
+        vision.moveTo(new Point(2, 2));
+        Point visibleTile = new Point(2, 2 + VISION_RADIUS);
+        Point hiddenTile = new Point(10, 10);
+        int[][] tileStates = new int[BOARD_SIZE][BOARD_SIZE];
+        IntBinaryOperator getTileState = (x, y) -> tileStates[x][y];
+        PlanFollower foggyPlan = startWatchingPlan(getTileState, visibleTile, hiddenTile);
+        PlanFollower clearPlan = startWatchingPlan(getTileState, visibleTile, hiddenTile);
+
+        // Only a player who can see the whole board sees the hidden tile change
+        tileStates[hiddenTile.x][hiddenTile.y]++;
+        assertFalse(clearPlan.hasNextAction(MinePlayer.MAX_ENERGY, Integer.MAX_VALUE, getTileState, null));
+        assertTrue(foggyPlan.hasNextAction(MinePlayer.MAX_ENERGY, Integer.MAX_VALUE, getTileState, vision));
+        foggyPlan.nextAction();
+        foggyPlan.recordTileStates(getTileState, vision);
+        assertTrue(foggyPlan.hasNextAction(MinePlayer.MAX_ENERGY, Integer.MAX_VALUE, getTileState, vision));
+
+        // Once the tile comes into view the player sees that it changed
+        vision.moveTo(new Point(hiddenTile.x - VISION_RADIUS, hiddenTile.y));
+        assertFalse(foggyPlan.hasNextAction(MinePlayer.MAX_ENERGY, Integer.MAX_VALUE, getTileState, vision));
+
+        // A tile in view still ends a plan as soon as it changes
+        vision.moveTo(new Point(2, 2));
+        foggyPlan = startWatchingPlan(getTileState, visibleTile, hiddenTile);
+        tileStates[visibleTile.x][visibleTile.y]++;
+        assertFalse(foggyPlan.hasNextAction(MinePlayer.MAX_ENERGY, Integer.MAX_VALUE, getTileState, vision));
+    }
+
+    private static PlanFollower startWatchingPlan(IntBinaryOperator tileStates, Point... watchedTiles) {
+        PlanFollower plan = new PlanFollower();
+        plan.start(new ActionPlan(TurnAction.MOVE_UP, TurnAction.MOVE_DOWN, TurnAction.MOVE_UP, TurnAction.MOVE_DOWN)
+                           .invalidateOnTileChange(Arrays.asList(watchedTiles)), tileStates);
+        return plan;
+    }
+}
@@ -0,0 +1,182 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.event.GameEventType;
+import mineopoly_three.replay.Replay;
+import mineopoly_three.replay.ReplayStrategy;
+import mineopoly_three.strategy.MyStrategy;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GameCheckpointTest {
+    private static final int[] BOARD_SIZES = {14, 20, 26};
+    private static final int NUM_SEEDS = 4;
+    private static final int[] CHECKPOINT_TURNS = {1, 150, 401};
+    // Where the ResourcePlacement ordinal is in the config, after the magic, version and five config numbers
+    private static final int RESOURCE_PLACEMENT_OFFSET = 4 + 2 + 4 + 8 + 4 + 4 + 4;
+
+    @Test
+    public void resumedGamesMatchTheGameTheyWereWrittenFrom() throws IOException {
+        int splitsChecked = 0;
+        for (int boardSize : BOARD_SIZES) {
+            for (int seed = 0; seed < NUM_SEEDS; seed++) {
+                GameEngine recordedEngine = new GameEngine(boardSize, new MyStrategy(), new RandomStrategy(), seed);
+                recordedEngine.runGame();
+                Replay replay = recordedEngine.getReplay();
+
+                for (int checkpointTurn : CHECKPOINT_TURNS) {
+                    byte[] checkpoint = writeCheckpointAtTurn(replay, seed, checkpointTurn);
+                    if (checkpoint == null) {
+                        // The recorded game was won before this turn
+                        continue;
+                    }
+                    GameEngine resumedEngine = GameEngine.readCheckpoint(new ByteArrayInputStream(checkpoint),
+                                                                         createReplayStrategyFrom(replay, checkpointTurn),
+                                                                         createReplayStrategyFrom(replay, checkpointTurn));
+                    resumedEngine.runGame();
+
+                    String split = "board " + boardSize + ", seed " + seed + ", turn " + checkpointTurn;
+                    assertEquals(split, replay.getRedPlayerActions(),
+                                 resumedEngine.getRedPlayer().getAllTurnActions());
+                    assertEquals(split, replay.getBluePlayerActions(),
+                                 resumedEngine.getBluePlayer().getAllTurnActions());
+                    assertEquals(split, recordedEngine.getRedPlayerScore(), resumedEngine.getRedPlayerScore());
+                    assertEquals(split, recordedEngine.getBluePlayerScore(), resumedEngine.getBluePlayerScore());
+                    splitsChecked++;
+                }
+            }
+        }
+        assertTrue(splitsChecked >= BOARD_SIZES.length * NUM_SEEDS);
+    }
+
+    /**
+     * Replays a game and writes a checkpoint once the given number of turns have been played
+     *
+     * @return The checkpoint, or null if the game ended before that turn
+     */
+    private static byte[] writeCheckpointAtTurn(Replay replay, long seed, int checkpointTurn) {
+        GameEngine engine = new GameEngine(replay.getBoardSize(), new ReplayStrategy(replay),
+                                           new ReplayStrategy(replay), seed);
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        engine.getEventBus().subscribe(GameEventType.TURN_COMPLETED, turnCompleted -> {
+            if (turnCompleted.getTurnsPlayed() == checkpointTurn) {
+                try {
+                    engine.writeCheckpoint(checkpoint);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        engine.runGame();
+        return (checkpoint.size() > 0) ? checkpoint.toByteArray() : null;
+    }
+
+    private static ReplayStrategy createReplayStrategyFrom(Replay replay, int turnNumber) {
+        List<TurnAction> redActions = replay.getRedPlayerActions();
+        List<TurnAction> blueActions = replay.getBluePlayerActions();
+        return new ReplayStrategy(new Replay(replay.getBoardSize(), replay.getWorldSeed(),
+                                             new ArrayList<>(redActions.subList(turnNumber, redActions.size())),
+                                             new ArrayList<>(blueActions.subList(turnNumber, blueActions.size())),
+                                             replay.redThrewException(), replay.blueThrewException()));
+    }
+
+    @Test
+    public void badMagicIsRejected() throws IOException {
+        byte[] checkpoint = writeNewGameCheckpoint();
+        checkpoint[0] ^= 0xFF;
+        assertRejected(checkpoint, "Not a Mine-opoly checkpoint");
+    }
+
+    @Test
+    public void otherVersionsAreRejected() throws IOException {
+        byte[] checkpoint = writeNewGameCheckpoint();
+        // The low byte of the version short
+        checkpoint[5]++;
+        assertRejected(checkpoint, "Unsupported checkpoint version");
+    }
+
+    @Test
+    public void unknownResourcePlacementsAreRejected() throws IOException {
+        byte[] checkpoint = writeNewGameCheckpoint();
+        assertEquals(ResourcePlacement.SAMPLED.ordinal(), checkpoint[RESOURCE_PLACEMENT_OFFSET]);
+        checkpoint[RESOURCE_PLACEMENT_OFFSET] = (byte) ResourcePlacement.values().length;
+        assertRejected(checkpoint, "Unknown resource placement");
+    }
+
+    @Test
+    public void unknownTurnActionsAreRejected() throws IOException {
+        GameEngine engine = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 0,
+                                           GameConfig.DEFAULT.withMaxTurns(10));
+        engine.runGame();
+        byte[] checkpoint = writeCheckpoint(engine);
+        // The blue player's last TurnAction is the last byte of a checkpoint
+        checkpoint[checkpoint.length - 1] = (byte) TurnAction.values().length;
+        assertRejected(checkpoint, "Unknown turn action");
+    }
+
+    @Test
+    public void unknownItemTypesAreRejected() throws IOException {
+        GameEngine engine = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 0);
+        byte[] checkpoint = writeCheckpoint(engine);
+        // A checkpoint with no turns played ends with blue's empty action list, so the inventory count is before it
+        int inventoryEnd = checkpoint.length - 4;
+        assertEquals(0, readInt(checkpoint, inventoryEnd - 4));
+
+        // Claim one item in blue's inventory and give it a type that doesn't exist
+        byte[] corrupted = new byte[checkpoint.length + 1];
+        System.arraycopy(checkpoint, 0, corrupted, 0, inventoryEnd);
+        corrupted[inventoryEnd - 1] = 1;
+        corrupted[inventoryEnd] = (byte) 0xFF;
+        System.arraycopy(checkpoint, inventoryEnd, corrupted, inventoryEnd + 1, checkpoint.length - inventoryEnd);
+        assertRejected(corrupted, "Unknown item type");
+    }
+
+    @Test
+    public void truncatedCheckpointsAreRejected() throws IOException {
+        byte[] checkpoint = writeNewGameCheckpoint();
+        byte[] truncated = new byte[checkpoint.length / 2];
+        System.arraycopy(checkpoint, 0, truncated, 0, truncated.length);
+        try {
+            GameEngine.readCheckpoint(new ByteArrayInputStream(truncated), new RandomStrategy(), new RandomStrategy());
+            fail("A truncated checkpoint was read");
+        } catch (IOException expected) {
+            assertNotNull(expected);
+        }
+    }
+
+    private static byte[] writeNewGameCheckpoint() throws IOException {
+        return writeCheckpoint(new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 0));
+    }
+
+    private static byte[] writeCheckpoint(GameEngine engine) throws IOException {
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        engine.writeCheckpoint(checkpoint);
+        return checkpoint.toByteArray();
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static void assertRejected(byte[] checkpoint, String expectedMessage) {
+        try {
+            GameEngine.readCheckpoint(new ByteArrayInputStream(checkpoint), new RandomStrategy(), new RandomStrategy());
+            fail("Expected the checkpoint to be rejected with: " + expectedMessage);
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith(expectedMessage));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GameConfigTest {
+    @Test
+    public void winningScoreStopsAtTheLargestInt() {
+        assertEquals(30 * 14 * 14, GameConfig.DEFAULT.getMinScoreToWin(14));
+        // 30 * 8461 * 8461 is past Integer.MAX_VALUE
+        assertEquals(Integer.MAX_VALUE, GameConfig.DEFAULT.getMinScoreToWin(8461));
+        assertEquals(Integer.MAX_VALUE, GameConfig.DEFAULT.getMinScoreToWin(GameConfig.MAX_BOARD_SIZE));
+    }
+
+    @Test
+    public void sellingAHugeInventoryNeverGoesNegative() {
+        Economy economy = new Economy(new ItemType[] {ItemType.RUBY});
+        int startingPrice = economy.getCurrentPrice(ItemType.RUBY);
+        List<InventoryItem> itemsToSell = new ArrayList<>(Collections.nCopies(100, new InventoryItem(ItemType.RUBY)));
+
+        assertEquals(100 * startingPrice, economy.sellResources(itemsToSell));
+        assertEquals(0, economy.getCurrentPrice(ItemType.RUBY));
+        economy.increaseDemand();
+        assertTrue(economy.getCurrentPrice(ItemType.RUBY) > 0);
+    }
+
+    @Test
+    public void checkpointsKeepTheConfig() throws IOException {
+        GameConfig config = GameConfig.DEFAULT.withMaxTurns(50).withMaxItems(500).withMaxEnergy(20);
+        GameEngine engine = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 0, config);
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        engine.writeCheckpoint(checkpoint);
+
+        GameEngine resumedEngine = GameEngine.readCheckpoint(new ByteArrayInputStream(checkpoint.toByteArray()),
+                                                             new RandomStrategy(), new RandomStrategy());
+        assertEquals(50, resumedEngine.getConfig().getMaxTurns());
+        assertEquals(500, resumedEngine.getRedPlayer().getMaxItems());
+        assertEquals(20, resumedEngine.getBluePlayer().getMaxEnergy());
+        resumedEngine.runGame();
+        assertEquals(50, resumedEngine.getRedPlayer().getAllTurnActions().size());
+    }
+
+    @Test
+    public void checkpointsKeepInventoriesBiggerThanAShort() throws IOException {
+        int numItems = 70000;
+        GameConfig config = GameConfig.DEFAULT.withMaxItems(numItems);
+        GameEngine engine = new GameEngine(14, new RandomStrategy(), new RandomStrategy(), 0, config);
+        for (int i = 0; i < numItems; i++) {
+            assertTrue(engine.getRedPlayer().addItemToInventory(new InventoryItem(ItemType.EMERALD)));
+        }
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        engine.writeCheckpoint(checkpoint);
+
+        GameEngine resumedEngine = GameEngine.readCheckpoint(new ByteArrayInputStream(checkpoint.toByteArray()),
+                                                             new RandomStrategy(), new RandomStrategy());
+        List<InventoryItem> inventory = resumedEngine.getRedPlayer().getInventory();
+        assertEquals(numItems, inventory.size());
+        assertTrue(inventory.stream().allMatch(item -> item.getItemType() == ItemType.EMERALD));
+        assertEquals(0, resumedEngine.getBluePlayer().getInventory().size());
+    }
+}
@@ -0,0 +1,81 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.event.GameEventType;
+import mineopoly_three.strategy.MyStrategy;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class GameStateTest {
+    private static final int BOARD_SIZE = 14;
+    private static final long SEED = 3;
+    private static final int SNAPSHOT_TURN = 100;
+    private static final int TURNS_TO_STEP = 40;
+    private static final TurnAction[] ACTIONS = TurnAction.values();
+
+    /**
+     * Steps a state forward by cycling through every TurnAction, with the players a few actions apart
+     */
+    private static void stepThroughEveryAction(GameState state) {
+        for (int i = 0; i < TURNS_TO_STEP; i++) {
+            state.step(ACTIONS[i % ACTIONS.length], ACTIONS[(i + 3) % ACTIONS.length]);
+        }
+    }
+
+    @Test
+    public void steppingAForkLeavesTheSnapshotAndTheLiveGameAlone() {
+        GameEngine forkedEngine = new GameEngine(BOARD_SIZE, new MyStrategy(), new RandomStrategy(), SEED);
+        GameState[] snapshot = new GameState[1];
+        long[] snapshotHash = new long[1];
+        long[] forkHash = new long[1];
+        long[] liveHashAfterStepping = new long[1];
+        forkedEngine.getEventBus().subscribe(GameEventType.TURN_COMPLETED, turnCompleted -> {
+            if (turnCompleted.getTurnsPlayed() == SNAPSHOT_TURN) {
+                snapshot[0] = forkedEngine.createSnapshot();
+                snapshotHash[0] = snapshot[0].computeStateHash();
+
+                GameState fork = snapshot[0].fork();
+                assertEquals(snapshotHash[0], fork.computeStateHash());
+                stepThroughEveryAction(fork);
+                assertEquals(SNAPSHOT_TURN + TURNS_TO_STEP, fork.getTurnNumber());
+                forkHash[0] = fork.computeStateHash();
+                liveHashAfterStepping[0] = forkedEngine.createSnapshot().computeStateHash();
+            }
+        });
+        forkedEngine.runGame();
+        assertNull(forkedEngine.getExceptionThrown());
+
+        assertNotNull(snapshot[0]);
+        assertNotEquals(snapshotHash[0], forkHash[0]);
+        assertEquals(snapshotHash[0], snapshot[0].computeStateHash());
+        assertEquals(SNAPSHOT_TURN, snapshot[0].getTurnNumber());
+        assertEquals(snapshotHash[0], liveHashAfterStepping[0]);
+
+        // The rest of the live game plays out exactly as it does when nothing is forked
+        GameEngine engine = new GameEngine(BOARD_SIZE, new MyStrategy(), new RandomStrategy(), SEED);
+        engine.runGame();
+        assertEquals(engine.getRedPlayer().getAllTurnActions(), forkedEngine.getRedPlayer().getAllTurnActions());
+        assertEquals(engine.getBluePlayer().getAllTurnActions(), forkedEngine.getBluePlayer().getAllTurnActions());
+        assertEquals(engine.getRedPlayerScore(), forkedEngine.getRedPlayerScore());
+        assertEquals(engine.getBluePlayerScore(), forkedEngine.getBluePlayerScore());
+    }
+
+    @Test
+    public void forksOfTheSameStateStepTheSameWay() {
+        GameState state = GameState.newGame(BOARD_SIZE, SEED);
+        long startHash = state.computeStateHash();
+        GameState firstFork = state.fork();
+        GameState secondFork = state.fork();
+        stepThroughEveryAction(firstFork);
+        stepThroughEveryAction(secondFork);
+
+        assertEquals(firstFork.computeStateHash(), secondFork.computeStateHash());
+        assertEquals(startHash, state.computeStateHash());
+        assertEquals(0, state.getTurnNumber());
+    }
+}
@@ -0,0 +1,317 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.replay.MultiPlayerReplay;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MultiPlayerGameEngineTest {
+    private static final int BOARD_SIZE = 14;
+
+    /**
+     * Does nothing except take one action on one turn, and can throw instead of acting on a turn
+     */
+    private static class ScriptedStrategy implements MinePlayerStrategy {
+        private final int turnToAct;
+        private final TurnAction action;
+        private final boolean throwsInstead;
+        private int turnNumber;
+
+        private ScriptedStrategy(int turnToAct, TurnAction action, boolean throwsInstead) {
+            this.turnToAct = turnToAct;
+            this.action = action;
+            this.throwsInstead = throwsInstead;
+        }
+
+        @Override
+        public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                               PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                               Random random) {
+            if (throwsInstead && turnToAct < 0) {
+                throw new RuntimeException("Thrown on purpose by the test");
+            }
+        }
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            if (turnNumber++ != turnToAct) {
+                return null;
+            } else if (throwsInstead) {
+                throw new RuntimeException("Thrown on purpose by the test");
+            }
+            return action;
+        }
+
+        @Override
+        public void onReceiveItem(InventoryItem itemReceived) {
+        }
+
+        @Override
+        public void onSoldInventory(int totalSellPrice) {
+        }
+
+        @Override
+        public String getName() {
+            return "ScriptedStrategy";
+        }
+
+        @Override
+        public void endRound(int pointsScored, int opponentPointsScored) {
+        }
+    }
+
+    private static ScriptedStrategy createIdleStrategy() {
+        return new ScriptedStrategy(-1, null, false);
+    }
+
+    /**
+     * @return An empty tile with empty tiles on its left and right that no player starts on
+     */
+    private static Point findContestedTile(MultiPlayerGameEngine engine) {
+        GameBoard board = engine.getBoard();
+        Set<Point> startLocations = new HashSet<>();
+        for (int i = 0; i < engine.getNumPlayers(); i++) {
+            startLocations.add(engine.getPlayer(i).getCurrentTile().getLocation());
+        }
+        for (int y = 0; y < BOARD_SIZE; y++) {
+            for (int x = 1; x < BOARD_SIZE - 1; x++) {
+                boolean allEmpty = true;
+                for (int dx = -1; dx <= 1; dx++) {
+                    Tile tile = board.getTileAtLocation(x + dx, y);
+                    allEmpty &= (tile.getType() == TileType.EMPTY) && !startLocations.contains(tile.getLocation());
+                }
+                if (allEmpty) {
+                    return new Point(x, y);
+                }
+            }
+        }
+        throw new AssertionError("No free row of three empty tiles");
+    }
+
+    /**
+     * Puts two of three players on either side of one tile and has both move onto it on the same turn
+     *
+     * @return The index of the player who ends up on the tile
+     */
+    private static int playCollision(int leftPlayerIndex, int rightPlayerIndex, int collisionTurn) {
+        MinePlayerStrategy[] strategies = new MinePlayerStrategy[3];
+        for (int i = 0; i < strategies.length; i++) {
+            if (i == leftPlayerIndex) {
+                strategies[i] = new ScriptedStrategy(collisionTurn, TurnAction.MOVE_RIGHT, false);
+            } else if (i == rightPlayerIndex) {
+                strategies[i] = new ScriptedStrategy(collisionTurn, TurnAction.MOVE_LEFT, false);
+            } else {
+                strategies[i] = createIdleStrategy();
+            }
+        }
+        MultiPlayerGameEngine engine = new MultiPlayerGameEngine(BOARD_SIZE, strategies, 0);
+        Point contestedLocation = findContestedTile(engine);
+        GameBoard board = engine.getBoard();
+        engine.getPlayer(leftPlayerIndex).setCurrentTile(board.getTileAtLocation(contestedLocation.x - 1,
+                                                                                 contestedLocation.y));
+        engine.getPlayer(rightPlayerIndex).setCurrentTile(board.getTileAtLocation(contestedLocation.x + 1,
+                                                                                  contestedLocation.y));
+        engine.runGame();
+
+        MinePlayer playerOnTile = board.getTileAtLocation(contestedLocation).getPlayerOnTile();
+        assertNotNull(playerOnTile);
+        for (int i = 0; i < engine.getNumPlayers(); i++) {
+            if (engine.getPlayer(i) == playerOnTile) {
+                return i;
+            }
+        }
+        throw new AssertionError("The player on the contested tile isn't in the game");
+    }
+
+    @Test
+    public void turnOrderRotatesAndTheEarlierPlayerWinsACollision() {
+        // Turn 0 is played in the order 0, 1, 2, turn 1 in the order 1, 2, 0 and turn 2 in the order 2, 0, 1
+        assertEquals(0, playCollision(0, 1, 0));
+        assertEquals(1, playCollision(0, 1, 1));
+        assertEquals(0, playCollision(0, 1, 2));
+        assertEquals(0, playCollision(1, 0, 0));
+        assertEquals(2, playCollision(1, 2, 2));
+        assertEquals(1, playCollision(1, 2, 3));
+    }
+
+    @Test
+    public void changingPlayerLocationsDoesNotChangeOtherPlayersViews() {
+        List<Point> seenLocations = new ArrayList<>();
+        MinePlayerStrategy tamperingStrategy = new ScriptedStrategy(-1, null, false) {
+            @Override
+            public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                            boolean isRedTurn) {
+                for (Point playerLocation : boardView.getAllPlayerLocations()) {
+                    playerLocation.setLocation(-1, -1);
+                }
+                return null;
+            }
+        };
+        MinePlayerStrategy recordingStrategy = new ScriptedStrategy(-1, null, false) {
+            @Override
+            public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                            boolean isRedTurn) {
+                if (seenLocations.isEmpty()) {
+                    seenLocations.addAll(boardView.getAllPlayerLocations());
+                }
+                return null;
+            }
+        };
+        MultiPlayerGameEngine engine = new MultiPlayerGameEngine(BOARD_SIZE, new MinePlayerStrategy[]{
+                tamperingStrategy, recordingStrategy, createIdleStrategy()}, 0);
+        engine.runGame();
+
+        assertNull(engine.getExceptionThrown());
+        assertEquals(engine.getNumPlayers(), seenLocations.size());
+        for (int i = 0; i < engine.getNumPlayers(); i++) {
+            // Nobody moves, so every player is still where the recording strategy saw them
+            assertEquals(engine.getPlayer(i).getCurrentTile().getLocation(), seenLocations.get(i));
+        }
+    }
+
+    @Test
+    public void playersShareMarketsWhenThereAreMoreThanMarkets() {
+        int numPlayers = 10;
+        MinePlayerStrategy[] strategies = new MinePlayerStrategy[numPlayers];
+        for (int i = 0; i < numPlayers; i++) {
+            strategies[i] = new RandomStrategy();
+        }
+        MultiPlayerGameEngine engine = new MultiPlayerGameEngine(BOARD_SIZE, strategies, 3);
+        GameBoard board = engine.getBoard();
+        int numRedMarkets = 0;
+        for (int x = 0; x < BOARD_SIZE; x++) {
+            for (int y = 0; y < BOARD_SIZE; y++) {
+                numRedMarkets += (board.getTileAtLocation(x, y).getType() == TileType.RED_MARKET) ? 1 : 0;
+            }
+        }
+        assertTrue(numPlayers / 2 > numRedMarkets);
+
+        Set<Point> startLocations = new HashSet<>();
+        for (int i = 0; i < numPlayers; i++) {
+            MinePlayer player = engine.getPlayer(i);
+            assertEquals(i % 2 == 0, player.isRedPlayer());
+            Tile startTile = player.getCurrentTile();
+            assertTrue("Two players start at " + startTile.getLocation(), startLocations.add(startTile.getLocation()));
+
+            TileType teamMarket = player.isRedPlayer() ? TileType.RED_MARKET : TileType.BLUE_MARKET;
+            if (i / 2 < numRedMarkets) {
+                // The first players of a team get a market each
+                assertEquals(teamMarket, startTile.getType());
+            } else {
+                assertEquals(TileType.EMPTY, startTile.getType());
+            }
+        }
+        assertEquals(board.getRedStartTileLocation(), engine.getPlayer(0).getCurrentTile().getLocation());
+        assertEquals(board.getBlueStartTileLocation(), engine.getPlayer(1).getCurrentTile().getLocation());
+
+        engine.runGame();
+        assertNull(engine.getExceptionThrown());
+    }
+
+    /**
+     * Writes a replay to a file, reads it back and plays it in a new engine
+     *
+     * @return The engine that played the replay read from the file
+     */
+    private static MultiPlayerGameEngine replayThroughFile(MultiPlayerReplay replay) throws IOException {
+        File replayFile = File.createTempFile("multiplayer", ".replay");
+        MultiPlayerReplay decodedReplay;
+        try {
+            MultiPlayerReplay.encodeReplayFile(replay, replayFile.getPath());
+            decodedReplay = MultiPlayerReplay.decodeReplayFile(replayFile.getPath());
+        } finally {
+            replayFile.delete();
+        }
+
+        assertEquals(replay.getBoardSize(), decodedReplay.getBoardSize());
+        assertEquals(replay.getWorldSeed(), decodedReplay.getWorldSeed());
+        assertEquals(replay.getNumPlayers(), decodedReplay.getNumPlayers());
+        assertEquals(replay.getPlayerWhoThrewException(), decodedReplay.getPlayerWhoThrewException());
+        MinePlayerStrategy[] replayStrategies = new MinePlayerStrategy[decodedReplay.getNumPlayers()];
+        for (int i = 0; i < replayStrategies.length; i++) {
+            assertEquals(replay.getPlayerActions(i), decodedReplay.getPlayerActions(i));
+            replayStrategies[i] = decodedReplay.createReplayStrategy(i);
+        }
+        MultiPlayerGameEngine replayEngine = new MultiPlayerGameEngine(decodedReplay.getBoardSize(),
+                                                                       replayStrategies,
+                                                                       decodedReplay.getWorldSeed());
+        replayEngine.runGame();
+        return replayEngine;
+    }
+
+    private static void assertSameGame(MultiPlayerGameEngine engine, MultiPlayerGameEngine replayEngine) {
+        assertEquals(engine.getTurnNumber(), replayEngine.getTurnNumber());
+        for (int i = 0; i < engine.getNumPlayers(); i++) {
+            assertEquals(engine.getPlayer(i).getAllTurnActions(), replayEngine.getPlayer(i).getAllTurnActions());
+            assertEquals(engine.getPlayerScore(i), replayEngine.getPlayerScore(i));
+        }
+    }
+
+    @Test
+    public void replayFilesPlayBackTheSameGame() throws IOException {
+        MinePlayerStrategy[] strategies = new MinePlayerStrategy[5];
+        for (int i = 0; i < strategies.length; i++) {
+            strategies[i] = new RandomStrategy();
+        }
+        MultiPlayerGameEngine engine = new MultiPlayerGameEngine(BOARD_SIZE, strategies, 7);
+        engine.runGame();
+        assertEquals(-1, engine.getReplay().getPlayerWhoThrewException());
+
+        assertSameGame(engine, replayThroughFile(engine.getReplay()));
+    }
+
+    @Test
+    public void replayFilesKeepAnExceptionDuringTheGame() throws IOException {
+        MinePlayerStrategy[] strategies = {new RandomStrategy(), new RandomStrategy(),
+                                           new ScriptedStrategy(20, null, true), new RandomStrategy()};
+        MultiPlayerGameEngine engine = new MultiPlayerGameEngine(BOARD_SIZE, strategies, 11);
+        engine.runGame();
+        assertNotNull(engine.getExceptionThrown());
+        assertEquals(-1, engine.getPlayerScore(2));
+        MultiPlayerReplay replay = engine.getReplay();
+        assertEquals(2, replay.getPlayerWhoThrewException());
+        String[] replayLines = replay.toString().split("\r\n");
+        assertTrue(replayLines[3 + 2].endsWith(",-1"));
+
+        MultiPlayerGameEngine replayEngine = replayThroughFile(replay);
+        assertNotNull(replayEngine.getExceptionThrown());
+        assertSameGame(engine, replayEngine);
+    }
+
+    @Test
+    public void replayFilesKeepPlayersWhoNeverTookATurn() throws IOException {
+        // The second player throws while being initialized, so nobody takes a turn and the last lines are empty
+        MinePlayerStrategy[] strategies = {new RandomStrategy(), new ScriptedStrategy(-1, null, true),
+                                           new RandomStrategy()};
+        MultiPlayerGameEngine engine = new MultiPlayerGameEngine(BOARD_SIZE, strategies, 5);
+        engine.runGame();
+        assertEquals(-1, engine.getPlayerScore(1));
+        MultiPlayerReplay replay = engine.getReplay();
+        assertEquals(1, replay.getPlayerWhoThrewException());
+        assertTrue(replay.toString().endsWith("\r\n\r\n-1\r\n"));
+
+        MultiPlayerGameEngine replayEngine = replayThroughFile(replay);
+        assertEquals(-1, replayEngine.getPlayerScore(1));
+        assertSameGame(engine, replayEngine);
+    }
+}
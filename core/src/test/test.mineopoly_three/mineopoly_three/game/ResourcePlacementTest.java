@@ -0,0 +1,56 @@
+package mineopoly_three.game;
+
+import mineopoly_three.item.ItemType;
+import mineopoly_three.tiles.TileType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ResourcePlacementTest {
+    private static final int[] BOARD_SIZES = {10, 14, 33, 128};
+
+    private static int getNumResourcesToSpawn(int boardSize) {
+        int numResources = 0;
+        for (ItemType itemType : ItemType.values()) {
+            if (itemType.isResource()) {
+                numResources += (int) (boardSize * boardSize * itemType.getSpawnCountRatio());
+            }
+        }
+        return numResources;
+    }
+
+    @Test
+    public void shuffledPlacementNeverSkipsAResource() {
+        for (int boardSize : BOARD_SIZES) {
+            for (long seed = 0; seed < 5; seed++) {
+                PackedGameBoard board = new WorldGenerator(seed, ResourcePlacement.SHUFFLED)
+                        .generatePackedBoard(boardSize);
+                int numResources = 0;
+                for (int x = 0; x < boardSize; x++) {
+                    for (int y = 0; y < boardSize; y++) {
+                        TileType tileType = board.getTileTypeAtLocation(x, y);
+                        if (tileType == TileType.RESOURCE_DIAMOND || tileType == TileType.RESOURCE_EMERALD
+                                || tileType == TileType.RESOURCE_RUBY) {
+                            numResources++;
+                        }
+                    }
+                }
+                assertEquals(getNumResourcesToSpawn(boardSize), numResources);
+            }
+        }
+    }
+
+    @Test
+    public void bothBoardsGetTheSameShuffledWorld() {
+        for (int boardSize : BOARD_SIZES) {
+            GameBoard board = new WorldGenerator(7, ResourcePlacement.SHUFFLED).generateBoard(boardSize);
+            PackedGameBoard packedBoard = new WorldGenerator(7, ResourcePlacement.SHUFFLED)
+                    .generatePackedBoard(boardSize);
+            for (int x = 0; x < boardSize; x++) {
+                for (int y = 0; y < boardSize; y++) {
+                    assertEquals(board.getTileAtLocation(x, y).getType(), packedBoard.getTileTypeAtLocation(x, y));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SimultaneousTurnsTest {
+    private static final int BOARD_SIZE = 14;
+    private static final int MAX_TURNS = 50;
+
+    /**
+     * Plays randomly and remembers where it saw both players at the start of every turn
+     */
+    private static class RecordingStrategy extends RandomStrategy {
+        private final List<Point> yourLocations = new ArrayList<>();
+        private final List<Point> otherPlayerLocations = new ArrayList<>();
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            yourLocations.add(boardView.getYourLocation());
+            otherPlayerLocations.add(boardView.getOtherPlayerLocation());
+            return super.getTurnAction(boardView, economy, currentCharge, isRedTurn);
+        }
+    }
+
+    /**
+     * Does nothing except take one action on one turn, or throw on that turn instead
+     */
+    private static class ScriptedStrategy implements MinePlayerStrategy {
+        private final int turnToAct;
+        private final TurnAction action;
+        private final boolean throwsInstead;
+        private int turnNumber;
+        private boolean actedOnRedTurn;
+        private Thread actingThread;
+
+        private ScriptedStrategy(int turnToAct, TurnAction action, boolean throwsInstead) {
+            this.turnToAct = turnToAct;
+            this.action = action;
+            this.throwsInstead = throwsInstead;
+        }
+
+        @Override
+        public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                               PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                               Random random) {
+        }
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            if (turnNumber++ != turnToAct) {
+                return null;
+            }
+            actedOnRedTurn = isRedTurn;
+            actingThread = Thread.currentThread();
+            if (throwsInstead) {
+                throw new RuntimeException("Thrown on purpose by the test");
+            }
+            return action;
+        }
+
+        @Override
+        public void onReceiveItem(InventoryItem itemReceived) {
+        }
+
+        @Override
+        public void onSoldInventory(int totalSellPrice) {
+        }
+
+        @Override
+        public String getName() {
+            return "ScriptedStrategy";
+        }
+
+        @Override
+        public void endRound(int pointsScored, int opponentPointsScored) {
+        }
+    }
+
+    private static GameEngine createEngine(MinePlayerStrategy redStrategy, MinePlayerStrategy blueStrategy,
+                                           boolean simultaneousTurns) {
+        GameEngine engine = new GameEngine(BOARD_SIZE, redStrategy, blueStrategy, 0,
+                                           GameConfig.DEFAULT.withMaxTurns(MAX_TURNS));
+        engine.setSimultaneousTurns(simultaneousTurns);
+        return engine;
+    }
+
+    /**
+     * @return How many turns the second player to act saw the first player somewhere other than where the first
+     *          player saw themselves at the start of that turn
+     */
+    private static int countTurnsSeeingTheOtherMove(boolean simultaneousTurns) {
+        RecordingStrategy redStrategy = new RecordingStrategy();
+        RecordingStrategy blueStrategy = new RecordingStrategy();
+        GameEngine engine = createEngine(redStrategy, blueStrategy, simultaneousTurns);
+        engine.runGame();
+        assertNull(engine.getExceptionThrown());
+        assertEquals(MAX_TURNS, redStrategy.yourLocations.size());
+        assertEquals(MAX_TURNS, blueStrategy.yourLocations.size());
+
+        int turnsSeeingTheOtherMove = 0;
+        for (int turn = 0; turn < MAX_TURNS; turn++) {
+            // Red goes first on even turns and blue on odd turns
+            RecordingStrategy firstStrategy = (turn % 2 == 0) ? redStrategy : blueStrategy;
+            RecordingStrategy secondStrategy = (turn % 2 == 0) ? blueStrategy : redStrategy;
+            if (!firstStrategy.yourLocations.get(turn).equals(secondStrategy.otherPlayerLocations.get(turn))) {
+                turnsSeeingTheOtherMove++;
+            }
+        }
+        return turnsSeeingTheOtherMove;
+    }
+
+    @Test
+    public void bothPlayersSeeTheBoardFromBeforeTheTurn() {
+        assertEquals(0, countTurnsSeeingTheOtherMove(true));
+        // Taking turns one after the other does show the second player where the first one moved
+        assertTrue(countTurnsSeeingTheOtherMove(false) > 0);
+    }
+
+    /**
+     * @return An empty tile with empty tiles on its left and right, away from the start tiles
+     */
+    private static Point findContestedTile(GameBoard board) {
+        for (int y = 0; y < BOARD_SIZE; y++) {
+            for (int x = 1; x < BOARD_SIZE - 1; x++) {
+                boolean allEmpty = true;
+                for (int dx = -1; dx <= 1; dx++) {
+                    Point location = new Point(x + dx, y);
+                    allEmpty &= (board.getTileAtLocation(location).getType() == TileType.EMPTY)
+                            && !location.equals(board.getRedStartTileLocation())
+                            && !location.equals(board.getBlueStartTileLocation());
+                }
+                if (allEmpty) {
+                    return new Point(x, y);
+                }
+            }
+        }
+        throw new AssertionError("No free row of three empty tiles");
+    }
+
+    private static void assertCollisionWinner(int collisionTurn) {
+        ScriptedStrategy redStrategy = new ScriptedStrategy(collisionTurn, TurnAction.MOVE_RIGHT, false);
+        ScriptedStrategy blueStrategy = new ScriptedStrategy(collisionTurn, TurnAction.MOVE_LEFT, false);
+        GameEngine engine = createEngine(redStrategy, blueStrategy, true);
+        GameBoard board = engine.getBoard();
+        Point contestedLocation = findContestedTile(board);
+        engine.getRedPlayer().setCurrentTile(board.getTileAtLocation(contestedLocation.x - 1, contestedLocation.y));
+        engine.getBluePlayer().setCurrentTile(board.getTileAtLocation(contestedLocation.x + 1, contestedLocation.y));
+        engine.runGame();
+        assertNull(engine.getExceptionThrown());
+
+        // The player whose turn it is gets the tile, as isRedTurn promises
+        MinePlayer winner = redStrategy.actedOnRedTurn ? engine.getRedPlayer() : engine.getBluePlayer();
+        MinePlayer loser = redStrategy.actedOnRedTurn ? engine.getBluePlayer() : engine.getRedPlayer();
+        Tile contestedTile = board.getTileAtLocation(contestedLocation);
+        assertSame(winner, contestedTile.getPlayerOnTile());
+        assertEquals(contestedLocation, winner.getCurrentTile().getLocation());
+        assertFalse(contestedLocation.equals(loser.getCurrentTile().getLocation()));
+    }
+
+    @Test
+    public void thePlayerWhoseTurnItIsWinsACollision() {
+        assertCollisionWinner(0);
+        assertCollisionWinner(1);
+    }
+
+    @Test
+    public void exceptionsFromTheSecondPlayerAreBlamedOnThem() {
+        // Red goes first on turn 0, so blue's action is chosen on the turn executor
+        ScriptedStrategy blueStrategy = new ScriptedStrategy(0, null, true);
+        GameEngine engine = createEngine(new RandomStrategy(), blueStrategy, true);
+        engine.runGame();
+
+        assertEquals("Thrown on purpose by the test", engine.getExceptionThrown().getMessage());
+        assertNotSame(Thread.currentThread(), blueStrategy.actingThread);
+        assertEquals(-1, engine.getBluePlayerScore());
+        assertEquals(0, engine.getRedPlayerScore());
+        assertTrue(engine.getReplay().blueThrewException());
+        assertFalse(engine.getReplay().redThrewException());
+    }
+}
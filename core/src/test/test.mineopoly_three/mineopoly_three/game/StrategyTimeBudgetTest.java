@@ -0,0 +1,151 @@
+package mineopoly_three.game;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.strategy.PlayerBoardView;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class StrategyTimeBudgetTest {
+    private static final int BOARD_SIZE = 14;
+    private static final int MAX_TURNS = 10;
+
+    /**
+     * Plays randomly, but can sleep in onTimeBudget() and getTurnAction() and remembers which thread called it
+     */
+    private static class SlowStrategy extends RandomStrategy {
+        private final long budgetSleepMillis;
+        private final long turnSleepMillis;
+        private Thread initializeThread;
+        private Thread turnActionThread;
+
+        private SlowStrategy(long budgetSleepMillis, long turnSleepMillis) {
+            this.budgetSleepMillis = budgetSleepMillis;
+            this.turnSleepMillis = turnSleepMillis;
+        }
+
+        @Override
+        public void onTimeBudget(long callTimeLimitNanos, long gameTimeRemainingNanos) {
+            sleep(budgetSleepMillis);
+        }
+
+        @Override
+        public void initialize(int boardSize, int maxInventorySize, int maxCharge, int winningScore,
+                               PlayerBoardView startingBoard, Point startTileLocation, boolean isRedPlayer,
+                               Random random) {
+            initializeThread = Thread.currentThread();
+            super.initialize(boardSize, maxInventorySize, maxCharge, winningScore, startingBoard, startTileLocation,
+                             isRedPlayer, random);
+        }
+
+        @Override
+        public TurnAction getTurnAction(PlayerBoardView boardView, Economy economy, int currentCharge,
+                                        boolean isRedTurn) {
+            turnActionThread = Thread.currentThread();
+            sleep(turnSleepMillis);
+            return super.getTurnAction(boardView, economy, currentCharge, isRedTurn);
+        }
+
+        private static void sleep(long millis) {
+            if (millis <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                // The engine gave up on this call, so there is no point in finishing it
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static GameEngine createEngine(SlowStrategy redStrategy, StrategyTimeBudget timeBudget) {
+        GameEngine engine = new GameEngine(BOARD_SIZE, redStrategy, new RandomStrategy(), 0,
+                                           GameConfig.DEFAULT.withMaxTurns(MAX_TURNS));
+        engine.setTimeBudget(timeBudget);
+        return engine;
+    }
+
+    private static void assertRedTimedOut(GameEngine engine) {
+        assertTrue(String.valueOf(engine.getExceptionThrown()),
+                   engine.getExceptionThrown() instanceof StrategyTimeoutException);
+        assertEquals(-1, engine.getRedPlayerScore());
+        assertTrue(engine.getReplay().redThrewException());
+    }
+
+    @Test(timeout = 10000)
+    public void goingOverTheCallLimitEndsTheGame() {
+        GameEngine engine = createEngine(new SlowStrategy(0, 3000), StrategyTimeBudget.ofMillis(50, 5000));
+        engine.runGame();
+
+        assertRedTimedOut(engine);
+        assertEquals(0, engine.getRedPlayer().getAllTurnActions().size());
+    }
+
+    @Test(timeout = 10000)
+    public void goingOverTheGameLimitEndsTheGame() {
+        // Every call fits in the call limit, but about five of them use up the game limit
+        GameEngine engine = createEngine(new SlowStrategy(0, 20), StrategyTimeBudget.ofMillis(1000, 100));
+        engine.runGame();
+
+        assertRedTimedOut(engine);
+        int turnsPlayed = engine.getRedPlayer().getAllTurnActions().size();
+        assertTrue("Played " + turnsPlayed + " turns", turnsPlayed > 0 && turnsPlayed < MAX_TURNS);
+    }
+
+    @Test(timeout = 10000)
+    public void stallingInOnTimeBudgetEndsTheGame() {
+        GameEngine engine = createEngine(new SlowStrategy(3000, 0), StrategyTimeBudget.ofMillis(50, 200));
+        engine.runGame();
+
+        assertRedTimedOut(engine);
+        assertEquals(0, engine.getRedPlayer().getAllTurnActions().size());
+    }
+
+    @Test
+    public void unlimitedBudgetsCallStrategiesOnTheEngineThread() {
+        SlowStrategy redStrategy = new SlowStrategy(0, 0);
+        GameEngine engine = createEngine(redStrategy, StrategyTimeBudget.UNLIMITED);
+        engine.runGame();
+
+        assertNull(engine.getExceptionThrown());
+        assertSame(Thread.currentThread(), redStrategy.initializeThread);
+        assertSame(Thread.currentThread(), redStrategy.turnActionThread);
+    }
+
+    @Test
+    public void limitedBudgetsCallStrategiesOnAnotherThread() {
+        SlowStrategy redStrategy = new SlowStrategy(0, 0);
+        GameEngine engine = createEngine(redStrategy, StrategyTimeBudget.ofMillis(5000, 60000));
+        engine.runGame();
+
+        assertNull(engine.getExceptionThrown());
+        assertTrue(redStrategy.initializeThread != Thread.currentThread());
+        assertTrue(redStrategy.turnActionThread != Thread.currentThread());
+    }
+
+    @Test
+    public void everyStrategyCallIsRecorded() {
+        GameEngine engine = createEngine(new SlowStrategy(0, 0), StrategyTimeBudget.UNLIMITED);
+        engine.runGame();
+
+        // initialize(), one getTurnAction() per turn and endRound()
+        assertEquals(MAX_TURNS + 2, engine.getRedStrategyLatencies().getCount());
+        assertEquals(MAX_TURNS + 2, engine.getBlueStrategyLatencies().getCount());
+
+        engine.reset(BOARD_SIZE, 1, new SlowStrategy(0, 0), new RandomStrategy());
+        assertEquals(0, engine.getRedStrategyLatencies().getCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void limitsMustBePositive() {
+        StrategyTimeBudget.ofMillis(0, 100);
+    }
+}
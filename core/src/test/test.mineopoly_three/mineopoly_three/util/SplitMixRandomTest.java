@@ -0,0 +1,110 @@
+package mineopoly_three.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SplitMixRandomTest {
+    private static final int NUM_DRAWS = 100;
+
+    private static long[] draw(SplitMixRandom random) {
+        long[] numbers = new long[NUM_DRAWS];
+        for (int i = 0; i < NUM_DRAWS; i++) {
+            numbers[i] = random.nextLong();
+        }
+        return numbers;
+    }
+
+    @Test
+    public void sameSeedGivesTheSameSequence() {
+        assertArrayEquals(draw(new SplitMixRandom(42)), draw(new SplitMixRandom(42)));
+        assertFalse(Arrays.equals(draw(new SplitMixRandom(42)), draw(new SplitMixRandom(43))));
+    }
+
+    @Test
+    public void sameStreamIdGivesTheSameChild() {
+        SplitMixRandom parent = new SplitMixRandom(42);
+        // Splitting off another child first doesn't change what a stream id gives
+        parent.split(7);
+        assertArrayEquals(draw(new SplitMixRandom(42).split(3)), draw(parent.split(3)));
+    }
+
+    @Test
+    public void differentStreamIdsGiveDifferentSequences() {
+        SplitMixRandom parent = new SplitMixRandom(42);
+        long[] firstStream = draw(parent.split(1));
+        long[] secondStream = draw(parent.split(2));
+        assertFalse(Arrays.equals(firstStream, secondStream));
+        assertFalse(Arrays.equals(firstStream, draw(new SplitMixRandom(42))));
+    }
+
+    @Test
+    public void splittingDoesNotUseUpParentDraws() {
+        SplitMixRandom parent = new SplitMixRandom(42);
+        parent.split(1);
+        parent.split(2).nextLong();
+        assertArrayEquals(draw(new SplitMixRandom(42)), draw(parent));
+    }
+
+    @Test
+    public void copiesAndSavedStatesContinueTheSameSequence() {
+        SplitMixRandom random = new SplitMixRandom(42).split(5);
+        draw(random);
+        SplitMixRandom copy = random.copy();
+        long savedState = random.getState();
+
+        long[] expected = draw(random);
+        assertArrayEquals(expected, draw(copy));
+        random.setState(savedState);
+        assertArrayEquals(expected, draw(random));
+    }
+
+    @Test
+    public void boundedIntsStayInRange() {
+        SplitMixRandom random = new SplitMixRandom(42);
+        int[] bounds = {1, 2, 3, 7, 10, 16, 100, 1 << 20, (1 << 30) + 1, Integer.MAX_VALUE};
+        for (int bound : bounds) {
+            for (int i = 0; i < 10000; i++) {
+                int number = random.nextInt(bound);
+                assertTrue(number + " is out of range for " + bound, number >= 0 && number < bound);
+            }
+        }
+    }
+
+    @Test
+    public void boundedIntsAreSpreadEvenly() {
+        SplitMixRandom random = new SplitMixRandom(42);
+        for (int bound : new int[] {3, 8}) {
+            int[] counts = new int[bound];
+            int numDraws = 30000 * bound;
+            for (int i = 0; i < numDraws; i++) {
+                counts[random.nextInt(bound)]++;
+            }
+            for (int count : counts) {
+                // About 7 standard deviations either way
+                assertTrue("Drew " + count + " out of " + numDraws, Math.abs(count - 30000) < 1100);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void boundsMustBePositive() {
+        new SplitMixRandom(42).nextInt(0);
+    }
+
+    @Test
+    public void gameStreamsAreReproducibleAndSeparate() {
+        assertArrayEquals(draw(GameRandomStreams.forWorld(9)), draw(GameRandomStreams.forWorld(9)));
+        assertArrayEquals(draw(GameRandomStreams.forStrategy(9, GameRandomStreams.RED_PLAYER)),
+                          draw(GameRandomStreams.forStrategy(9, GameRandomStreams.RED_PLAYER)));
+        assertFalse(Arrays.equals(draw(GameRandomStreams.forStrategy(9, GameRandomStreams.RED_PLAYER)),
+                                  draw(GameRandomStreams.forStrategy(9, GameRandomStreams.BLUE_PLAYER))));
+        assertFalse(Arrays.equals(draw(GameRandomStreams.forPlayer(9, GameRandomStreams.RED_PLAYER)),
+                                  draw(GameRandomStreams.forStrategy(9, GameRandomStreams.RED_PLAYER))));
+        assertFalse(Arrays.equals(draw(GameRandomStreams.forWorld(9)), draw(GameRandomStreams.forRender(9))));
+    }
+}
@@ -7,6 +7,8 @@ import mineopoly_three.replay.ReplayIO;
 import mineopoly_three.strategy.MinePlayerStrategy;
 import mineopoly_three.strategy.MyStrategy;
 import mineopoly_three.strategy.RandomStrategy;
+import mineopoly_three.tournament.TournamentResult;
+import mineopoly_three.tournament.TournamentRunner;
 
 import javax.swing.SwingUtilities;
 
@@ -16,6 +18,7 @@ public class MineopolyMain {
     private static final int PREFERRED_GUI_WIDTH = 750;
     // Change to true to test win percent
     private static final boolean TEST_STRATEGY_WIN_PERCENT = false;
+    private static final int NUM_WIN_PERCENT_ROUNDS = 1000;
 
     // Use this if you want to view a past match replay
     private static final String savedReplayFilePath = null;
@@ -26,13 +29,12 @@ public class MineopolyMain {
 
     public static void main(String[] args) {
         if (TEST_STRATEGY_WIN_PERCENT) {
-            MinePlayerStrategy yourStrategy = new MyStrategy();
             int[] assignmentBoardSizes = new int[]{14, 20, 26, 32};
-
-            for (int testBoardSize : assignmentBoardSizes) {
-                double strategyWinPercent = getStrategyWinPercent(yourStrategy, testBoardSize);
-                System.out.println("(Board size, win percent): (" + testBoardSize + ", " + strategyWinPercent + ")");
-            }
+            TournamentRunner winPercentRunner = new TournamentRunner(MyStrategy::new, RandomStrategy::new,
+                                                                     assignmentBoardSizes, System.currentTimeMillis(),
+                                                                     NUM_WIN_PERCENT_ROUNDS);
+            TournamentResult winPercentResult = winPercentRunner.run();
+            System.out.print(winPercentResult);
         } else {
             // Not testing the win percent, show the game instead
             playGameOrReplay();
@@ -69,22 +71,4 @@ public class MineopolyMain {
             ReplayIO.writeReplayToFile(gameReplay, replayOutputFilePath);
         }
     }
-
-    private static double getStrategyWinPercent(MinePlayerStrategy yourStrategy, int boardSize) {
-        final int numTotalRounds = 1000;
-        int numRoundsWonByMinScore = 0;
-        MinePlayerStrategy randomStrategy = new RandomStrategy();
-
-        for(int i = 0; i < numTotalRounds; i++) {
-            GameEngine gameEngine = new GameEngine(boardSize, yourStrategy, randomStrategy, System.currentTimeMillis());
-            gameEngine.runGame();
-            int redScore = gameEngine.getRedPlayerScore();
-            int blueScore = gameEngine.getBluePlayerScore();
-            int minScoreToWin = gameEngine.getMinScoreToWin();
-            if (redScore - blueScore >= minScoreToWin) {
-                numRoundsWonByMinScore ++;
-            }
-        }
-        return ((double) numRoundsWonByMinScore) / numTotalRounds;
-    }
 }
\ No newline at end of file
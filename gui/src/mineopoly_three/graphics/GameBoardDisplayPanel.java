@@ -3,19 +3,17 @@ package mineopoly_three.graphics;
 import mineopoly_three.game.GameBoard;
 
 import java.awt.*;
-import java.util.Observable;
-import java.util.Observer;
 import javax.swing.*;
 
 /**
  * A panel on the JFrame for the main.game which can display the current GameBoard
  */
-public class GameBoardDisplayPanel extends JPanel implements Observer {
+public class GameBoardDisplayPanel extends JPanel {
     private GameBoard boardToRender;
-    private ImageManager imageManager;
+    private TileRenderer tileRenderer;
     private int preferredSize;
 
-    public GameBoardDisplayPanel(int preferredSize, GameBoard board, ImageManager imageManager) {
+    public GameBoardDisplayPanel(int preferredSize, GameBoard board, ImageManager imageManager, long randomSeed) {
         super();
         this.boardToRender = board;
         this.setLayout(new BorderLayout());
@@ -26,13 +24,18 @@ public class GameBoardDisplayPanel extends JPanel implements Observer {
         int imageWidth = this.preferredSize / board.getSize();
         int imageHeight = this.preferredSize / board.getSize();
         imageManager.rescaleImages(imageWidth, imageHeight);
-        this.imageManager = imageManager;
+        this.tileRenderer = new TileRenderer(imageManager, randomSeed);
     }
 
     @Override
     public void paint(Graphics g) {
         super.paint(g);
-        boardToRender.paint((Graphics2D) g, imageManager);
+        int boardSize = boardToRender.getSize();
+        for (int y = 0; y < boardSize; y++) {
+            for (int x = 0; x < boardSize; x++) {
+                tileRenderer.paint((Graphics2D) g, boardToRender.getTileAtLocation(x, y), boardSize);
+            }
+        }
     }
 
     @Override
@@ -40,8 +43,12 @@ public class GameBoardDisplayPanel extends JPanel implements Observer {
         return new Dimension(preferredSize, preferredSize);
     }
 
-    @Override
-    public void update(Observable o, Object arg) {
+    /**
+     * Repaints the board, can be subscribed to any game event as a method reference and called from any thread
+     *
+     * @param event The event that happened, which is not needed because the whole board is painted again
+     */
+    public void repaintOnEvent(Object event) {
         repaint();
     }
 }
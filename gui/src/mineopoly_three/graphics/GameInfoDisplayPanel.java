@@ -2,10 +2,8 @@ package mineopoly_three.graphics;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Observable;
-import java.util.Observer;
 
-public abstract class GameInfoDisplayPanel extends JPanel implements Observer {
+public abstract class GameInfoDisplayPanel extends JPanel {
     private static final int DEFAULT_PANEL_HEIGHT = 110;
     protected int preferredWidth;
     protected ImageManager imageManager;
@@ -42,8 +40,12 @@ public abstract class GameInfoDisplayPanel extends JPanel implements Observer {
         return new Dimension(preferredWidth, DEFAULT_PANEL_HEIGHT);
     }
 
-    @Override
-    public void update(Observable o, Object arg) {
+    /**
+     * Repaints this panel, can be subscribed to any game event as a method reference and called from any thread
+     *
+     * @param event The event that happened, which is not needed because everything is read again when painting
+     */
+    public void repaintOnEvent(Object event) {
         repaint();
     }
 }
@@ -0,0 +1,203 @@
+package mineopoly_three.graphics;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.game.MinePlayer;
+import mineopoly_three.item.InventoryItem;
+import mineopoly_three.item.ItemType;
+import mineopoly_three.tiles.CrackedTile;
+import mineopoly_three.tiles.MarketTile;
+import mineopoly_three.tiles.RechargeTile;
+import mineopoly_three.tiles.ResourceTile;
+import mineopoly_three.tiles.StoneTile;
+import mineopoly_three.tiles.Tile;
+import mineopoly_three.tiles.TileType;
+import mineopoly_three.util.GameRandomStreams;
+import mineopoly_three.util.SplitMixRandom;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders Tiles and the players standing on them. The tiles themselves only hold game state, so that the engine
+ *  never needs AWT images, and everything about how each kind of tile looks lives here
+ */
+public class TileRenderer {
+    private static final int NUM_RENDER_LAYERS = TileRenderLayer.values().length;
+    private static final Map<TurnAction, String> moveToDirectionMap = new HashMap<>();
+    static {
+        moveToDirectionMap.put(TurnAction.MOVE_UP, "back");
+        moveToDirectionMap.put(TurnAction.MOVE_DOWN, "front");
+        moveToDirectionMap.put(TurnAction.MOVE_LEFT, "left");
+        moveToDirectionMap.put(TurnAction.MOVE_RIGHT, "right");
+    }
+
+    private final ImageManager imageManager;
+    private final SplitMixRandom textureStreams;
+
+    /**
+     * @param imageManager The ImageManager object that manages all images for the JPanel component rendering tiles
+     * @param randomSeed The random seed of the game being rendered, so the same game always gets the same textures
+     */
+    public TileRenderer(ImageManager imageManager, long randomSeed) {
+        this.imageManager = imageManager;
+        this.textureStreams = GameRandomStreams.forRender(randomSeed);
+    }
+
+    /**
+     * Specifies how to render a Tile on the Graphics object passed in
+     *
+     * @param brush The Graphics object on which to render the Tile
+     * @param tile The Tile to render
+     * @param boardSize The size of the board for use in finding the starting point on the screen to render
+     */
+    public void paint(Graphics2D brush, Tile tile, int boardSize) {
+        int imageWidth = imageManager.getImageWidth();
+        int imageHeight = imageManager.getImageHeight();
+        Point screenIndex = getScreenIndexFromLocation(tile.getLocation(), imageWidth, imageHeight, boardSize);
+
+        Image[] imageOverlays = getImageOverlays(tile);
+        for (Image layerImage : imageOverlays) {
+            // Nothing is drawn if layerImage is null
+            brush.drawImage(layerImage, screenIndex.x, screenIndex.y, null);
+        }
+    }
+
+    /**
+     * Gets the Image corresponding the direction a player is currently facing
+     *
+     * @param player The player to render
+     * @return An Image for the direction the player is facing
+     */
+    public Image getPlayerImage(MinePlayer player) {
+        String playerColor = player.isRedPlayer() ? "red_bot_" : "blue_bot_";
+        String directionName = moveToDirectionMap.get(player.getLastMove());
+        return imageManager.getScaledImage(playerColor + directionName);
+    }
+
+    /**
+     * Gets the Image[] that encodes how to render a Tile
+     * Images with later TileRenderLayer values will be rendered on top of Images with earlier values
+     *
+     * @param tile The Tile to render
+     * @return The Image[] specifying the overlays to render in the order to render them
+     */
+    private Image[] getImageOverlays(Tile tile) {
+        Image[] imageOverlays = new Image[NUM_RENDER_LAYERS];
+
+        // Draw players if they're standing on this tile
+        if (tile.getPlayerOnTile() != null) {
+            imageOverlays[TileRenderLayer.LAYER_PLAYER.ordinal()] = getPlayerImage(tile.getPlayerOnTile());
+        }
+
+        // Draw the items that could be on this tile
+        for (InventoryItem item : tile.getItemsOnTile()) {
+            String itemImageName = item.getItemType().getItemImageName();
+            Image itemImage = imageManager.getScaledImage(itemImageName);
+            int itemOverlayIndex = item.getItemType() == ItemType.AUTOMINER ?
+                    TileRenderLayer.LAYER_AUTOMINER.ordinal() : TileRenderLayer.LAYER_ITEM.ordinal();
+            imageOverlays[itemOverlayIndex] = itemImage;
+        }
+
+        if (tile instanceof StoneTile) {
+            addStoneOverlays(tile, imageOverlays);
+        }
+        if (tile instanceof RechargeTile) {
+            // Add charging station on top of tile
+            imageOverlays[TileRenderLayer.LAYER_RECHARGE.ordinal()] = imageManager.getScaledImage("charging_station");
+        } else if (tile instanceof CrackedTile) {
+            imageOverlays[TileRenderLayer.LAYER_CRACK.ordinal()] = imageManager.getScaledImage("crack_3");
+        } else if (tile instanceof ResourceTile) {
+            ResourceTile resourceTile = (ResourceTile) tile;
+            // Add texture for resource
+            Image resourceTileOverlay = imageManager.getScaledImage(resourceTile.getTileResource().getTileImageName());
+            imageOverlays[TileRenderLayer.LAYER_RESOURCE_TYPE.ordinal()] = resourceTileOverlay;
+
+            // Add crack textures if this has been mined
+            Image crackOverlay = imageManager.getScaledImage("crack_" + resourceTile.getNumTimesMined());
+            imageOverlays[TileRenderLayer.LAYER_CRACK.ordinal()] = crackOverlay;
+        } else if (tile instanceof MarketTile) {
+            addMarketOverlays(tile.getType() == TileType.RED_MARKET, imageOverlays);
+        }
+        return imageOverlays;
+    }
+
+    private void addStoneOverlays(Tile tile, Image[] imageOverlays) {
+        String backgroundTileName = "stone_background";
+        if (!imageManager.hasImageWithName(backgroundTileName)) {
+            final int defaultGreyValue = 140;
+            Color backgroundColor = new Color(defaultGreyValue, defaultGreyValue, defaultGreyValue);
+            ImageIcon backgroundImage = imageManager.generateBackgroundImageIcon(backgroundColor);
+            imageManager.addImageFromIcon(backgroundTileName, backgroundImage);
+        }
+
+        // Get the randomly generated stone texturing overlay
+        Point location = tile.getLocation();
+        String stoneTexturingImageName = location.x + "_" + location.y + "_stone_texturing";
+        if (!imageManager.hasImageWithName(stoneTexturingImageName)) {
+            // Each tile has its own stream, so a tile's texture doesn't depend on which tiles were drawn before it
+            SplitMixRandom random = textureStreams.split(((long) location.x << 32) | location.y);
+            ImageIcon randomTexturing = createRandomTexturing(random, imageManager.getImageWidth(),
+                                                              imageManager.getImageHeight());
+            imageManager.addImageFromIcon(stoneTexturingImageName, randomTexturing);
+        }
+
+        imageOverlays[TileRenderLayer.LAYER_BASE.ordinal()] = imageManager.getScaledImage(backgroundTileName);
+        imageOverlays[TileRenderLayer.LAYER_TEXTURING.ordinal()] = imageManager.getScaledImage(stoneTexturingImageName);
+    }
+
+    private void addMarketOverlays(boolean isRedMarket, Image[] imageOverlays) {
+        // Base tile is just red or blue
+        String backgroundTileName = (isRedMarket) ? ("red_market_background") : ("blue_market_background");
+        if (!imageManager.hasImageWithName(backgroundTileName)) {
+            Color backgroundColor = (isRedMarket) ? (new Color(240, 72, 60)) : (new Color(50, 85, 240));
+            ImageIcon backgroundImage = imageManager.generateBackgroundImageIcon(backgroundColor);
+            imageManager.addImageFromIcon(backgroundTileName, backgroundImage);
+        }
+        imageOverlays[TileRenderLayer.LAYER_BASE.ordinal()] = imageManager.getScaledImage(backgroundTileName);
+
+        // Add player specific market overlay
+        String marketImageName = (isRedMarket) ? ("red_market") : ("blue_market");
+        imageOverlays[TileRenderLayer.LAYER_BUILDING.ordinal()] = imageManager.getScaledImage(marketImageName);
+    }
+
+    private ImageIcon createRandomTexturing(SplitMixRandom random, int imageWidth, int imageHeight) {
+        BufferedImage bufferedImage = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D imageBrush = bufferedImage.createGraphics();
+        final int numRandomTextures = 50;
+        final int minGreyValue = 90;
+        final int maxGreyValue = 140;
+        final int maxTextureSize = 4;
+
+        for (int i = 0; i < numRandomTextures; i++) {
+            int randomRGB = random.nextInt(maxGreyValue - minGreyValue) + minGreyValue;
+            Color randomGreyShade = new Color(randomRGB, randomRGB, randomRGB);
+            imageBrush.setColor(randomGreyShade);
+
+            int randomX = random.nextInt(imageWidth);
+            int randomY = random.nextInt(imageHeight);
+            int randomWidth = random.nextInt(maxTextureSize) + 1;
+            int randomHeight = random.nextInt(maxTextureSize) + 1;
+            imageBrush.fillRect(randomX, randomY, randomWidth, randomHeight);
+        }
+
+        return new ImageIcon(bufferedImage);
+    }
+
+    /**
+     * Computes the (x, y) coordinates of the pixel on the screen corresponding to the top left of a Tile
+     *
+     * @param location The location of the Tile on the board
+     * @param imageWidth The width of the image to be rendered
+     * @param imageHeight The height of the image to be rendered
+     * @param boardSize The size of the board
+     * @return The (x, y) coordinates on the screen of the top left image pixel
+     */
+    private static Point getScreenIndexFromLocation(Point location, int imageWidth, int imageHeight, int boardSize) {
+        int xScreenIndex = location.x * imageWidth;
+        int yScreenIndex = ((boardSize - 1) - location.y) * imageHeight;
+        return new Point(xScreenIndex, yScreenIndex);
+    }
+}
@@ -1,5 +1,7 @@
 package mineopoly_three.graphics;
 
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.GameEventType;
 import mineopoly_three.game.Economy;
 import mineopoly_three.game.GameBoard;
 import mineopoly_three.game.GameEngine;
@@ -51,8 +53,11 @@ public class UserInterface {
         gameDisplayFrame.add(topInfoDisplayPanel);
 
         // Create the panel that actually renders the game board
-        GameBoardDisplayPanel gameBoardDisplayPanel = new GameBoardDisplayPanel(preferredGuiWidth, board, boardImageManager);
-        engine.addObserver(gameBoardDisplayPanel);
+        GameBoardDisplayPanel gameBoardDisplayPanel = new GameBoardDisplayPanel(preferredGuiWidth, board, boardImageManager,
+                                                                                engine.getRandomSeed());
+        GameEventBus eventBus = engine.getEventBus();
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, gameBoardDisplayPanel::repaintOnEvent);
+        eventBus.subscribe(GameEventType.GAME_ENDED, gameBoardDisplayPanel::repaintOnEvent);
         gameDisplayFrame.add(gameBoardDisplayPanel);
 
         // Tell the application window to resize its contents to their preferred dimensions
@@ -72,6 +77,11 @@ public class UserInterface {
         String currentDirectoryPath = System.getProperty("user.dir");
         String[] directoriesToImages = new String[]{currentDirectoryPath, "src", "mineopoly_three", "image_files/"};
         String imagesDirectoryPath = String.join(File.separator, directoriesToImages);
+        if (!new File(imagesDirectoryPath).isDirectory()) {
+            // Running from the project root instead of the gui module
+            directoriesToImages = new String[]{currentDirectoryPath, "gui", "src", "mineopoly_three", "image_files/"};
+            imagesDirectoryPath = String.join(File.separator, directoriesToImages);
+        }
         return new ImageManager(imagesDirectoryPath);
     }
 
@@ -99,9 +109,12 @@ public class UserInterface {
         topInfoDisplayPanel.add(blueDisplayPanel);
 
         // Set these panels to update when the engine tells them something changed
-        engine.addObserver(redDisplayPanel);
-        engine.addObserver(blueDisplayPanel);
-        engine.getEconomy().addObserver(economyDisplayPanel);
+        GameEventBus eventBus = engine.getEventBus();
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, redDisplayPanel::repaintOnEvent);
+        eventBus.subscribe(GameEventType.TURN_COMPLETED, blueDisplayPanel::repaintOnEvent);
+        eventBus.subscribe(GameEventType.GAME_ENDED, redDisplayPanel::repaintOnEvent);
+        eventBus.subscribe(GameEventType.GAME_ENDED, blueDisplayPanel::repaintOnEvent);
+        eventBus.subscribe(GameEventType.PRICE_CHANGED, economyDisplayPanel::repaintOnEvent);
         return topInfoDisplayPanel;
     }
 }
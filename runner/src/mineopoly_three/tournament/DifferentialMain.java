@@ -0,0 +1,101 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.strategy.MinePlayerStrategy;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Command line entry point for checking an engine against the reference GameEngine.
+ * Usage:
+ *  DifferentialMain [--engine packed] [--threads N] [--seeds FIRST:COUNT] [--sizes 14,20,26,32]
+ *                   [--red MyStrategy] [--blue RandomStrategy]
+ * Every game is played on both engines with the state hashed after every turn, and the first turn each game
+ *  differs on is printed. The exit status is 1 if any game differs, so this can gate a build
+ */
+public class DifferentialMain {
+    private static final String USAGE = "Usage: DifferentialMain [--engine packed] [--threads N] "
+                                        + "[--seeds FIRST:COUNT] [--sizes 14,20,26,32] "
+                                        + "[--red MyStrategy] [--blue RandomStrategy]";
+
+    public static void main(String[] args) {
+        TracedEngine candidateEngine = TracedEngine.PACKED;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long firstSeed = 0;
+        int numSeeds = 1000;
+        int[] boardSizes = new int[]{14, 20, 26, 32};
+        String redStrategyName = "MyStrategy";
+        String blueStrategyName = "RandomStrategy";
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--engine":
+                        if (!value.equals(TracedEngine.PACKED.getName())) {
+                            throw new IllegalArgumentException("Unknown engine " + value);
+                        }
+                        candidateEngine = TracedEngine.PACKED;
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "--seeds":
+                        String[] seedRange = value.split(":");
+                        if (seedRange.length == 2) {
+                            firstSeed = Long.parseLong(seedRange[0]);
+                            numSeeds = Integer.parseInt(seedRange[1]);
+                        } else {
+                            numSeeds = Integer.parseInt(seedRange[0]);
+                        }
+                        break;
+                    case "--sizes":
+                        String[] sizes = value.split(",");
+                        boardSizes = new int[sizes.length];
+                        for (int j = 0; j < sizes.length; j++) {
+                            boardSizes[j] = Integer.parseInt(sizes[j].trim());
+                        }
+                        break;
+                    case "--red":
+                        redStrategyName = value;
+                        break;
+                    case "--blue":
+                        blueStrategyName = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return;
+        }
+
+        Supplier<MinePlayerStrategy> redStrategyFactory = TournamentMain.createStrategyFactory(redStrategyName);
+        Supplier<MinePlayerStrategy> blueStrategyFactory = TournamentMain.createStrategyFactory(blueStrategyName);
+        if (redStrategyFactory == null || blueStrategyFactory == null) {
+            return;
+        }
+
+        DifferentialRunner runner = new DifferentialRunner(TracedEngine.REFERENCE, candidateEngine,
+                                                           redStrategyFactory, blueStrategyFactory,
+                                                           boardSizes, firstSeed, numSeeds, threads);
+        long startNanos = System.nanoTime();
+        List<Divergence> divergences = runner.run();
+        double secondsElapsed = (System.nanoTime() - startNanos) / 1e9;
+
+        for (Divergence divergence : divergences) {
+            System.out.println(divergence);
+        }
+        System.out.println("Compared " + runner.getTotalGames() + " games on the " + TracedEngine.REFERENCE.getName()
+                           + " and " + candidateEngine.getName() + " engines in " + secondsElapsed + " seconds, "
+                           + divergences.size() + " diverged");
+        if (!divergences.isEmpty()) {
+            System.exit(1);
+        }
+    }
+}
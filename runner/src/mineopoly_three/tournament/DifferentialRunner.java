@@ -0,0 +1,101 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.strategy.MinePlayerStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Plays the same games on a reference engine and on a candidate engine and reports the first turn where each game
+ *  differs. Both engines get brand new strategies for every game, so deterministic strategies make the same choices
+ *  on both as long as the engines show them the same boards
+ */
+public class DifferentialRunner {
+    private final TracedEngine referenceEngine;
+    private final TracedEngine candidateEngine;
+    private final Supplier<MinePlayerStrategy> redStrategyFactory;
+    private final Supplier<MinePlayerStrategy> blueStrategyFactory;
+    private final int[] boardSizes;
+    private final long firstSeed;
+    private final int numSeeds;
+    private final int parallelism;
+
+    /**
+     * @param referenceEngine The engine whose rules are correct, usually TracedEngine.REFERENCE
+     * @param candidateEngine The engine being checked against it
+     * @param boardSizes Every board size to play each seed on
+     * @param firstSeed The first random seed to play
+     * @param numSeeds The number of consecutive seeds to play on each board size
+     * @param parallelism The number of worker threads to play games on
+     */
+    public DifferentialRunner(TracedEngine referenceEngine, TracedEngine candidateEngine,
+                              Supplier<MinePlayerStrategy> redStrategyFactory,
+                              Supplier<MinePlayerStrategy> blueStrategyFactory,
+                              int[] boardSizes, long firstSeed, int numSeeds, int parallelism) {
+        if (numSeeds < 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Number of seeds and parallelism must be positive");
+        }
+        this.referenceEngine = referenceEngine;
+        this.candidateEngine = candidateEngine;
+        this.redStrategyFactory = redStrategyFactory;
+        this.blueStrategyFactory = blueStrategyFactory;
+        this.boardSizes = boardSizes.clone();
+        this.firstSeed = firstSeed;
+        this.numSeeds = numSeeds;
+        this.parallelism = parallelism;
+    }
+
+    public int getTotalGames() {
+        return boardSizes.length * numSeeds;
+    }
+
+    /**
+     * Plays every game on both engines
+     *
+     * @return The first difference of every game that differs, sorted by board size and seed
+     */
+    public List<Divergence> run() {
+        ForkJoinPool gamePool = new ForkJoinPool(parallelism);
+        List<Divergence> divergences;
+        try {
+            divergences = gamePool.submit(() -> IntStream.range(0, getTotalGames())
+                                                         .parallel()
+                                                         .mapToObj(this::compareGame)
+                                                         .filter(divergence -> divergence != null)
+                                                         .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while comparing engines", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Comparing engines failed", e.getCause());
+        } finally {
+            gamePool.shutdown();
+        }
+
+        divergences = new ArrayList<>(divergences);
+        Collections.sort(divergences);
+        return divergences;
+    }
+
+    /**
+     * Plays one game on both engines
+     *
+     * @param gameIndex Which game to play, seeds vary fastest and board sizes slowest
+     * @return Where the game first differs, or null if both engines played it the same way
+     */
+    public Divergence compareGame(int gameIndex) {
+        int boardSize = boardSizes[gameIndex / numSeeds];
+        long seed = firstSeed + gameIndex % numSeeds;
+        GameTrace referenceTrace = referenceEngine.play(boardSize, seed, redStrategyFactory.get(),
+                                                        blueStrategyFactory.get());
+        GameTrace candidateTrace = candidateEngine.play(boardSize, seed, redStrategyFactory.get(),
+                                                        blueStrategyFactory.get());
+        return referenceTrace.findDivergence(candidateTrace);
+    }
+}
@@ -0,0 +1,53 @@
+package mineopoly_three.tournament;
+
+/**
+ * The first difference a DifferentialRunner found between two engines playing the same game
+ */
+public class Divergence implements Comparable<Divergence> {
+    private final int boardSize;
+    private final long seed;
+    private final int turn;
+    private final String difference;
+
+    /**
+     * @param turn The turn the games first differ on, counting from 0. A game that ends differently without any
+     *              turn differing gets the number of turns played
+     * @param difference What differs, with the reference engine's value first
+     */
+    public Divergence(int boardSize, long seed, int turn, String difference) {
+        this.boardSize = boardSize;
+        this.seed = seed;
+        this.turn = turn;
+        this.difference = difference;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public String getDifference() {
+        return difference;
+    }
+
+    @Override
+    public int compareTo(Divergence otherDivergence) {
+        if (boardSize != otherDivergence.boardSize) {
+            return Integer.compare(boardSize, otherDivergence.boardSize);
+        }
+        return Long.compare(seed, otherDivergence.seed);
+    }
+
+    @Override
+    public String toString() {
+        return "Board size " + boardSize + ", seed " + seed + ": first differs on turn " + turn + " (" + difference
+               + ")";
+    }
+}
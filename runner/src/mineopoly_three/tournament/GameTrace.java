@@ -0,0 +1,172 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.action.TurnAction;
+import mineopoly_three.event.GameEventBus;
+import mineopoly_three.event.GameEventType;
+import mineopoly_three.game.GameState;
+import mineopoly_three.game.MinePlayer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Everything a DifferentialRunner compares about one game: the state hash after every turn (see
+ *  GameState.computeStateHash()), both players' actions, the final scores and what a strategy threw, if anything.
+ * A TracedEngine adds a hash after every turn while the game is played, then finishes the trace with the result
+ */
+public class GameTrace {
+    private final int boardSize;
+    private final long seed;
+    private long[] turnHashes;
+    private int numTurns;
+    private int redScore;
+    private int bluePlayerScore;
+    private List<TurnAction> redActions;
+    private List<TurnAction> blueActions;
+    private String errorThrown;
+
+    public GameTrace(int boardSize, long seed) {
+        this.boardSize = boardSize;
+        this.seed = seed;
+        this.turnHashes = new long[64];
+        this.numTurns = 0;
+        this.redActions = Collections.emptyList();
+        this.blueActions = Collections.emptyList();
+    }
+
+    /**
+     * Plays one whole game and records its trace, the same way for every engine. The engine's parts are passed in
+     *  separately, since the engines share no common type
+     *
+     * @param eventBus The bus the engine publishes a TurnCompleted event to after every turn
+     * @param snapshots Creates a snapshot of the game's state, to hash after every turn
+     * @param runGame Plays the whole game
+     * @param exceptionThrown Gets the exception a strategy threw that ended the game, if any
+     * @param redPlayer The engine's red player
+     * @param bluePlayer The engine's blue player
+     * @return The trace of the game, even if a strategy threw something that ended it
+     */
+    static GameTrace record(int boardSize, long seed, GameEventBus eventBus, Supplier<GameState> snapshots,
+                            Runnable runGame, Supplier<Exception> exceptionThrown, MinePlayer redPlayer,
+                            MinePlayer bluePlayer) {
+        GameTrace trace = new GameTrace(boardSize, seed);
+        eventBus.subscribe(GameEventType.TURN_COMPLETED,
+                           event -> trace.addTurnHash(snapshots.get().computeStateHash()));
+        Throwable errorThrown = null;
+        try {
+            runGame.run();
+        } catch (RuntimeException | Error e) {
+            // Errors like a StackOverflowError in a strategy get past runGame(), the other engine should match
+            errorThrown = e;
+        }
+        if (errorThrown == null) {
+            errorThrown = exceptionThrown.get();
+        }
+        trace.finish(redPlayer.getScore(), bluePlayer.getScore(), redPlayer.getAllTurnActions(),
+                     bluePlayer.getAllTurnActions(), errorThrown);
+        return trace;
+    }
+
+    /**
+     * @param stateHash The hash of the game's state right after the next turn
+     */
+    public void addTurnHash(long stateHash) {
+        if (numTurns == turnHashes.length) {
+            turnHashes = Arrays.copyOf(turnHashes, numTurns * 2);
+        }
+        turnHashes[numTurns++] = stateHash;
+    }
+
+    /**
+     * Records how the game ended
+     *
+     * @param errorThrown Whatever a strategy threw that ended the game, or null if the game ended normally
+     */
+    public void finish(int redScore, int blueScore, List<TurnAction> redActions, List<TurnAction> blueActions,
+                       Throwable errorThrown) {
+        this.redScore = redScore;
+        this.bluePlayerScore = blueScore;
+        this.redActions = new ArrayList<>(redActions);
+        this.blueActions = new ArrayList<>(blueActions);
+        this.errorThrown = (errorThrown == null) ? null : errorThrown.getClass().getName();
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getNumTurns() {
+        return numTurns;
+    }
+
+    public int getRedScore() {
+        return redScore;
+    }
+
+    public int getBlueScore() {
+        return bluePlayerScore;
+    }
+
+    /**
+     * Compares this trace turn by turn with a trace of the same game from another engine
+     *
+     * @param otherTrace The trace of the other engine's game
+     * @return Where the games first differ, or null if they were the same all the way through
+     */
+    public Divergence findDivergence(GameTrace otherTrace) {
+        int maxTurns = Math.max(Math.max(numTurns, otherTrace.numTurns),
+                                Math.max(Math.max(redActions.size(), otherTrace.redActions.size()),
+                                         Math.max(blueActions.size(), otherTrace.blueActions.size())));
+        for (int turn = 0; turn < maxTurns; turn++) {
+            // Actions come first, a different action explains the different state it leads to
+            String difference = describeDifference("red action", getAction(redActions, turn),
+                                                   getAction(otherTrace.redActions, turn));
+            if (difference == null) {
+                difference = describeDifference("blue action", getAction(blueActions, turn),
+                                                getAction(otherTrace.blueActions, turn));
+            }
+            if (difference == null) {
+                difference = describeDifference("state hash", getTurnHash(turn), otherTrace.getTurnHash(turn));
+            }
+            if (difference != null) {
+                return new Divergence(boardSize, seed, turn, difference);
+            }
+        }
+
+        String difference = describeDifference("red score", redScore, otherTrace.redScore);
+        if (difference == null) {
+            difference = describeDifference("blue score", bluePlayerScore, otherTrace.bluePlayerScore);
+        }
+        if (difference == null) {
+            difference = describeDifference("error", errorThrown, otherTrace.errorThrown);
+        }
+        return (difference == null) ? null : new Divergence(boardSize, seed, maxTurns, difference);
+    }
+
+    private static String getAction(List<TurnAction> actions, int turn) {
+        if (turn >= actions.size()) {
+            return "no turn";
+        }
+        TurnAction action = actions.get(turn);
+        return (action == null) ? "nothing" : action.name();
+    }
+
+    private String getTurnHash(int turn) {
+        return (turn < numTurns) ? Long.toHexString(turnHashes[turn]) : "no turn";
+    }
+
+    private static String describeDifference(String name, Object value, Object otherValue) {
+        if (Objects.equals(value, otherValue)) {
+            return null;
+        }
+        return name + " " + value + " vs " + otherValue;
+    }
+}
@@ -0,0 +1,203 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.game.GameConfig;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.MinePlayer;
+import mineopoly_three.game.PackedGameEngine;
+import mineopoly_three.game.ResourcePlacement;
+import mineopoly_three.strategy.MinePlayerStrategy;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Command line entry point for playing games far past the normal limits, to find where the engines slow down or
+ *  run out of memory.
+ * Usage:
+ *  StressMain [--size 2048] [--turns 1000000] [--items 10000] [--energy 80] [--score-per-tile 30] [--games 1]
+ *             [--seed 0] [--engine reference|packed] [--placement shuffled|sampled] [--red RandomStrategy]
+ *             [--blue RandomStrategy]
+ * The games are played one after another on this thread with a GameConfig built from the options. For every game
+ *  the turns played, the time taken, the turns per second and the heap it used are printed. Peak heap is the sum of
+ *  the peaks of every heap pool during the game, retained heap is what is still used by the finished game after a
+ *  full GC, and allocated is everything the game allocated. Give the JVM a big enough -Xmx for the board size, a
+ *  2048x2048 game peaked at about 600MB on the reference engine and about 100MB on the packed one.
+ * Worlds are generated with ResourcePlacement.SHUFFLED unless --placement sampled asks for the normal worlds, which
+ *  take much longer to generate on boards this big
+ */
+public class StressMain {
+    private static final String USAGE = "Usage: StressMain [--size 2048] [--turns 1000000] [--items 10000] "
+                                        + "[--energy 80] [--score-per-tile 30] [--games 1] [--seed 0] "
+                                        + "[--engine reference|packed] [--placement shuffled|sampled] "
+                                        + "[--red RandomStrategy] [--blue RandomStrategy]";
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    public static void main(String[] args) {
+        int boardSize = 2048;
+        int numGames = 1;
+        long firstSeed = 0;
+        boolean usePackedEngine = false;
+        String redStrategyName = "RandomStrategy";
+        String blueStrategyName = "RandomStrategy";
+        GameConfig config = GameConfig.DEFAULT.withMaxTurns(1_000_000).withMaxItems(10_000)
+                                              .withResourcePlacement(ResourcePlacement.SHUFFLED);
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--size":
+                        boardSize = Integer.parseInt(value);
+                        break;
+                    case "--turns":
+                        config = config.withMaxTurns(Integer.parseInt(value));
+                        break;
+                    case "--items":
+                        config = config.withMaxItems(Integer.parseInt(value));
+                        break;
+                    case "--energy":
+                        config = config.withMaxEnergy(Integer.parseInt(value));
+                        break;
+                    case "--score-per-tile":
+                        config = config.withWinningScorePerTile(Integer.parseInt(value));
+                        break;
+                    case "--games":
+                        numGames = Integer.parseInt(value);
+                        break;
+                    case "--seed":
+                        firstSeed = Long.parseLong(value);
+                        break;
+                    case "--engine":
+                        if (value.equals("packed")) {
+                            usePackedEngine = true;
+                        } else if (value.equals("reference")) {
+                            usePackedEngine = false;
+                        } else {
+                            throw new IllegalArgumentException("Unknown engine " + value);
+                        }
+                        break;
+                    case "--placement":
+                        config = config.withResourcePlacement(ResourcePlacement.valueOf(value.toUpperCase()));
+                        break;
+                    case "--red":
+                        redStrategyName = value;
+                        break;
+                    case "--blue":
+                        blueStrategyName = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (boardSize < GameConfig.MIN_BOARD_SIZE || boardSize > GameConfig.MAX_BOARD_SIZE) {
+                throw new IllegalArgumentException("Board size must be between " + GameConfig.MIN_BOARD_SIZE
+                                                   + " and " + GameConfig.MAX_BOARD_SIZE);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return;
+        }
+
+        Supplier<MinePlayerStrategy> redStrategyFactory = TournamentMain.createStrategyFactory(redStrategyName);
+        Supplier<MinePlayerStrategy> blueStrategyFactory = TournamentMain.createStrategyFactory(blueStrategyName);
+        if (redStrategyFactory == null || blueStrategyFactory == null) {
+            return;
+        }
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = null;
+        if (threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+            allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        System.out.println("Playing " + numGames + " game(s) on a " + boardSize + "x" + boardSize + " board with the "
+                           + (usePackedEngine ? "packed" : "reference") + " engine, up to " + config.getMaxTurns()
+                           + " turns, " + config.getMaxItems() + " items, " + config.getMaxEnergy() + " energy and "
+                           + config.getResourcePlacement().name().toLowerCase() + " resources");
+        for (int gameIndex = 0; gameIndex < numGames; gameIndex++) {
+            long seed = firstSeed + gameIndex;
+            long baselineHeap = getHeapUsedAfterGc();
+            resetHeapPeaks();
+            long startAllocated = (allocationBean != null) ? getAllocatedBytes(allocationBean) : 0;
+            long startNanos = System.nanoTime();
+
+            MinePlayer redPlayer;
+            Exception exceptionThrown;
+            Object engine;
+            if (usePackedEngine) {
+                PackedGameEngine packedEngine = new PackedGameEngine(boardSize, redStrategyFactory.get(),
+                                                                     blueStrategyFactory.get(), seed, config);
+                packedEngine.runGame();
+                redPlayer = packedEngine.getRedPlayer();
+                exceptionThrown = packedEngine.getExceptionThrown();
+                engine = packedEngine;
+            } else {
+                GameEngine referenceEngine = new GameEngine(boardSize, redStrategyFactory.get(),
+                                                            blueStrategyFactory.get(), seed, config);
+                referenceEngine.runGame();
+                redPlayer = referenceEngine.getRedPlayer();
+                exceptionThrown = referenceEngine.getExceptionThrown();
+                engine = referenceEngine;
+            }
+
+            double secondsElapsed = (System.nanoTime() - startNanos) / 1e9;
+            long allocatedBytes = (allocationBean != null) ? getAllocatedBytes(allocationBean) - startAllocated : -1;
+            long peakHeap = getHeapPeaks() - baselineHeap;
+            long retainedHeap = getHeapUsedAfterGc() - baselineHeap;
+            int turnsPlayed = redPlayer.getAllTurnActions().size();
+            System.out.println(String.format("Game %d (seed %d): %d turns in %.2f s, %.0f turns/s, "
+                                             + "peak heap %.1f MB, retained heap %.1f MB, allocated %s",
+                                             gameIndex, seed, turnsPlayed, secondsElapsed,
+                                             turnsPlayed / secondsElapsed, peakHeap / BYTES_PER_MEGABYTE,
+                                             retainedHeap / BYTES_PER_MEGABYTE,
+                                             (allocatedBytes >= 0)
+                                                     ? String.format("%.1f MB", allocatedBytes / BYTES_PER_MEGABYTE)
+                                                     : "unknown"));
+            if (exceptionThrown != null) {
+                System.err.println("Game " + gameIndex + " ended with an exception from a strategy");
+                exceptionThrown.printStackTrace();
+            }
+            // Keeps the finished game reachable until its retained heap has been measured
+            engine.hashCode();
+        }
+    }
+
+    private static long getAllocatedBytes(com.sun.management.ThreadMXBean allocationBean) {
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static long getHeapUsedAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static List<MemoryPoolMXBean> getHeapPools() {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans();
+        heapPools.removeIf(pool -> pool.getType() != MemoryType.HEAP);
+        return heapPools;
+    }
+
+    private static void resetHeapPeaks() {
+        for (MemoryPoolMXBean heapPool : getHeapPools()) {
+            heapPool.resetPeakUsage();
+        }
+    }
+
+    private static long getHeapPeaks() {
+        long peakUsed = 0;
+        for (MemoryPoolMXBean heapPool : getHeapPools()) {
+            peakUsed += heapPool.getPeakUsage().getUsed();
+        }
+        return peakUsed;
+    }
+}
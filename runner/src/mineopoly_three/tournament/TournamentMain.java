@@ -0,0 +1,253 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.game.EngineMetrics;
+import mineopoly_three.game.StrategyTimeBudget;
+import mineopoly_three.jfr.GameFlightRecorder;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.util.LatencyHistogram;
+import mineopoly_three.util.VirtualThreads;
+
+import java.io.Closeable;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Command line entry point for running a batch of headless games without editing MineopolyMain.
+ * Usage:
+ *  TournamentMain [--threads N] [--seeds FIRST:COUNT] [--sizes 14,20,26,32] [--output results.csv]
+ *                 [--red MyStrategy] [--blue RandomStrategy] [--call-millis MS] [--game-millis MS]
+ *                 [--metrics metrics.json] [--turns sequential|simultaneous] [--virtual-threads MAX_GAMES]
+ *                 [--jfr recording.jfr] [--vision RADIUS]
+ * Strategy names without a package are looked up in mineopoly_three.strategy. Strategies have no time limits
+ *  unless --call-millis or --game-millis is given. Engine metrics are only collected with --metrics, and are written
+ *  as CSV if the file name ends in .csv and as JSON otherwise. With --turns simultaneous both strategies choose their
+ *  action from the same board at the same time instead of the second player seeing the first player's move.
+ *  With --virtual-threads every game runs on its own virtual thread, up to MAX_GAMES at once, instead of on
+ *  --threads worker threads. With --jfr the Mine-opoly flight recorder events of every game are recorded to a file.
+ *  With --vision strategies only see the tiles within RADIUS of their robot and remember the rest as they last saw it
+ */
+public class TournamentMain {
+    private static final String DEFAULT_STRATEGY_PACKAGE = "mineopoly_three.strategy.";
+    private static final String USAGE = "Usage: TournamentMain [--threads N] [--seeds FIRST:COUNT] "
+                                        + "[--sizes 14,20,26,32] [--output results.csv] "
+                                        + "[--red MyStrategy] [--blue RandomStrategy] "
+                                        + "[--call-millis MS] [--game-millis MS] [--metrics metrics.json] "
+                                        + "[--turns sequential|simultaneous] [--virtual-threads MAX_GAMES] "
+                                        + "[--jfr recording.jfr] [--vision RADIUS]";
+
+    public static void main(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        long firstSeed = 0;
+        int numSeeds = 1000;
+        int[] boardSizes = new int[]{14, 20, 26, 32};
+        String outputFilePath = null;
+        String metricsFilePath = null;
+        String recordingFilePath = null;
+        String redStrategyName = "MyStrategy";
+        String blueStrategyName = "RandomStrategy";
+        long callMillis = Long.MAX_VALUE;
+        long gameMillis = Long.MAX_VALUE;
+        StrategyTimeBudget timeBudget = StrategyTimeBudget.UNLIMITED;
+        boolean simultaneousTurns = false;
+        int maxVirtualThreadGames = 0;
+        int visionRadius = -1;
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "--seeds":
+                        String[] seedRange = value.split(":");
+                        if (seedRange.length == 2) {
+                            firstSeed = Long.parseLong(seedRange[0]);
+                            numSeeds = Integer.parseInt(seedRange[1]);
+                        } else {
+                            numSeeds = Integer.parseInt(seedRange[0]);
+                        }
+                        break;
+                    case "--sizes":
+                        String[] sizes = value.split(",");
+                        boardSizes = new int[sizes.length];
+                        for (int j = 0; j < sizes.length; j++) {
+                            boardSizes[j] = Integer.parseInt(sizes[j].trim());
+                        }
+                        break;
+                    case "--output":
+                        outputFilePath = value;
+                        break;
+                    case "--red":
+                        redStrategyName = value;
+                        break;
+                    case "--blue":
+                        blueStrategyName = value;
+                        break;
+                    case "--metrics":
+                        metricsFilePath = value;
+                        break;
+                    case "--jfr":
+                        if (!GameFlightRecorder.isAvailable()) {
+                            throw new IllegalArgumentException("--jfr needs a JVM with Java Flight Recorder");
+                        }
+                        recordingFilePath = value;
+                        break;
+                    case "--call-millis":
+                        callMillis = Long.parseLong(value);
+                        break;
+                    case "--game-millis":
+                        gameMillis = Long.parseLong(value);
+                        break;
+                    case "--turns":
+                        if (!value.equals("sequential") && !value.equals("simultaneous")) {
+                            throw new IllegalArgumentException("Unknown turn mode " + value);
+                        }
+                        simultaneousTurns = value.equals("simultaneous");
+                        break;
+                    case "--virtual-threads":
+                        maxVirtualThreadGames = Integer.parseInt(value);
+                        if (maxVirtualThreadGames <= 0) {
+                            throw new IllegalArgumentException("--virtual-threads must be positive");
+                        }
+                        break;
+                    case "--vision":
+                        visionRadius = Integer.parseInt(value);
+                        if (visionRadius < 0) {
+                            throw new IllegalArgumentException("--vision can't be negative");
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (callMillis != Long.MAX_VALUE || gameMillis != Long.MAX_VALUE) {
+                timeBudget = StrategyTimeBudget.ofMillis(callMillis, gameMillis);
+            }
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is also an IllegalArgumentException
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return;
+        }
+
+        Supplier<MinePlayerStrategy> redStrategyFactory = createStrategyFactory(redStrategyName);
+        Supplier<MinePlayerStrategy> blueStrategyFactory = createStrategyFactory(blueStrategyName);
+        if (redStrategyFactory == null || blueStrategyFactory == null) {
+            return;
+        }
+
+        TournamentRunner runner;
+        try {
+            runner = new TournamentRunner(redStrategyFactory, blueStrategyFactory, boardSizes, firstSeed, numSeeds,
+                                          threads);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return;
+        }
+        runner.setTimeBudget(timeBudget);
+        runner.setSimultaneousTurns(simultaneousTurns);
+        runner.setVisionRadius(visionRadius);
+        if (maxVirtualThreadGames > 0) {
+            runner.setVirtualThreads(true, maxVirtualThreadGames);
+        }
+        EngineMetrics metrics = (metricsFilePath != null) ? new EngineMetrics(true) : EngineMetrics.DISABLED;
+        runner.setMetrics(metrics);
+        Closeable recording = null;
+        if (recordingFilePath != null) {
+            try {
+                recording = GameFlightRecorder.startRecording(recordingFilePath);
+            } catch (IOException e) {
+                System.err.println("Could not start recording to " + recordingFilePath);
+                e.printStackTrace();
+            }
+        }
+        TournamentResult result = runner.run();
+        if (recording != null) {
+            try {
+                recording.close();
+            } catch (IOException e) {
+                System.err.println("There was an error writing the flight recording");
+                e.printStackTrace();
+            }
+        }
+        double secondsElapsed = result.getElapsedNanos() / 1e9;
+
+        System.out.print(result);
+        String threadDescription;
+        if (maxVirtualThreadGames > 0) {
+            threadDescription = (VirtualThreads.isSupported() ? "virtual threads" : "platform threads (no virtual "
+                                 + "threads in this JVM)") + " with up to " + maxVirtualThreadGames + " at once";
+        } else {
+            threadDescription = threads + " threads";
+        }
+        System.out.println("Played " + result.getTotalGamesPlayed() + " games on " + threadDescription + " in "
+                           + secondsElapsed + " seconds (" + String.format("%.1f", result.getGamesPerSecond())
+                           + " games per second)");
+        for (Map.Entry<String, LatencyHistogram> strategyLatencies : result.getStrategyLatencies().entrySet()) {
+            LatencyHistogram latencies = strategyLatencies.getValue();
+            System.out.println(strategyLatencies.getKey() + " call latency in microseconds over "
+                               + latencies.getCount() + " calls: p50 " + latencies.getPercentileNanos(50) / 1000
+                               + ", p90 " + latencies.getPercentileNanos(90) / 1000
+                               + ", p99 " + latencies.getPercentileNanos(99) / 1000
+                               + ", max " + latencies.getMaxNanos() / 1000);
+        }
+
+        if (outputFilePath != null) {
+            try (Writer resultWriter = new FileWriter(outputFilePath)) {
+                result.writeCsv(resultWriter);
+            } catch (IOException e) {
+                System.err.println("There was an error writing the tournament results");
+                e.printStackTrace();
+            }
+        }
+
+        if (metricsFilePath != null) {
+            try (Writer metricsWriter = new FileWriter(metricsFilePath)) {
+                if (metricsFilePath.endsWith(".csv")) {
+                    metrics.writeCsv(metricsWriter);
+                } else {
+                    metrics.writeJson(metricsWriter);
+                }
+            } catch (IOException e) {
+                System.err.println("There was an error writing the engine metrics");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Creates a factory that instantiates a new strategy of the named class every time it is called
+     *
+     * @param strategyName A simple class name in mineopoly_three.strategy, or a fully qualified class name
+     * @return A Supplier of new strategy objects, or null if the class could not be loaded
+     */
+    static Supplier<MinePlayerStrategy> createStrategyFactory(String strategyName) {
+        String className = strategyName.contains(".") ? strategyName : DEFAULT_STRATEGY_PACKAGE + strategyName;
+        final Class<? extends MinePlayerStrategy> strategyClass;
+        try {
+            strategyClass = Class.forName(className).asSubclass(MinePlayerStrategy.class);
+            // Fail now instead of on a worker thread if the class can't be instantiated
+            strategyClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            System.err.println("Could not create a strategy from " + className);
+            e.printStackTrace();
+            return null;
+        }
+
+        return () -> {
+            try {
+                return strategyClass.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create a strategy from " + className, e);
+            }
+        };
+    }
+}
@@ -0,0 +1,194 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the outcome of every game played in a tournament. Games are played on many threads at once, so
+ *  all counters are LongAdders which can be incremented concurrently without locking
+ */
+public class TournamentResult {
+    private final int[] boardSizes;
+    private final BoardSizeResult[] resultsPerBoardSize;
+    private final Map<String, LatencyHistogram> strategyLatencies;
+    private volatile long elapsedNanos;
+
+    public TournamentResult(int[] boardSizes) {
+        this.boardSizes = boardSizes.clone();
+        this.resultsPerBoardSize = new BoardSizeResult[boardSizes.length];
+        for (int i = 0; i < resultsPerBoardSize.length; i++) {
+            resultsPerBoardSize[i] = new BoardSizeResult();
+        }
+        this.strategyLatencies = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Records the result of a single finished game. Safe to call from any thread
+     *
+     * @param boardSizeIndex The index into the board sizes this tournament was created with
+     * @param redScore The final score of the red player
+     * @param blueScore The final score of the blue player
+     * @param minScoreToWin The score needed to immediately win the game
+     * @param exceptionThrown True if either strategy threw an exception during the game
+     */
+    protected void recordGame(int boardSizeIndex, int redScore, int blueScore, int minScoreToWin,
+                              boolean exceptionThrown) {
+        BoardSizeResult result = resultsPerBoardSize[boardSizeIndex];
+        result.gamesPlayed.increment();
+        result.totalRedScore.add(redScore);
+        result.totalBlueScore.add(blueScore);
+
+        if (exceptionThrown) {
+            result.exceptions.increment();
+        }
+        if (redScore - blueScore >= minScoreToWin) {
+            result.redWinsByMinScore.increment();
+        }
+        if (redScore > blueScore) {
+            result.redWins.increment();
+        } else if (blueScore > redScore) {
+            result.blueWins.increment();
+        } else {
+            result.ties.increment();
+        }
+    }
+
+    /**
+     * Adds the strategy call latencies of one game to the totals for a strategy. Safe to call from any thread
+     *
+     * @param strategyName The name of the strategy the latencies were measured for
+     * @param gameLatencies How long each of the strategy's calls took in a game
+     */
+    protected void recordStrategyLatencies(String strategyName, LatencyHistogram gameLatencies) {
+        strategyLatencies.computeIfAbsent(strategyName, name -> new LatencyHistogram()).merge(gameLatencies);
+    }
+
+    /**
+     * @return The latencies of every strategy call made in this tournament, by strategy name in sorted order
+     */
+    public Map<String, LatencyHistogram> getStrategyLatencies() {
+        return Collections.unmodifiableMap(new TreeMap<>(strategyLatencies));
+    }
+
+    /**
+     * Records how long the whole tournament took to play, from the first game starting to the last game finishing
+     */
+    protected void recordElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getTotalGamesPlayed() {
+        long totalGamesPlayed = 0;
+        for (BoardSizeResult result : resultsPerBoardSize) {
+            totalGamesPlayed += result.gamesPlayed.sum();
+        }
+        return totalGamesPlayed;
+    }
+
+    /**
+     * @return The number of games finished per second of the tournament's elapsed time, or 0 if it wasn't recorded
+     */
+    public double getGamesPerSecond() {
+        return (elapsedNanos == 0) ? 0 : getTotalGamesPlayed() / (elapsedNanos / 1e9);
+    }
+
+    public int[] getBoardSizes() {
+        return boardSizes.clone();
+    }
+
+    public long getGamesPlayed(int boardSizeIndex) {
+        return resultsPerBoardSize[boardSizeIndex].gamesPlayed.sum();
+    }
+
+    public long getRedWins(int boardSizeIndex) {
+        return resultsPerBoardSize[boardSizeIndex].redWins.sum();
+    }
+
+    public long getBlueWins(int boardSizeIndex) {
+        return resultsPerBoardSize[boardSizeIndex].blueWins.sum();
+    }
+
+    public long getTies(int boardSizeIndex) {
+        return resultsPerBoardSize[boardSizeIndex].ties.sum();
+    }
+
+    public long getExceptions(int boardSizeIndex) {
+        return resultsPerBoardSize[boardSizeIndex].exceptions.sum();
+    }
+
+    /**
+     * Gets the fraction of games on a board size where the red player beat the blue player by at least
+     *  the minimum score to win. This is the same metric the assignment uses to grade a strategy
+     *
+     * @param boardSizeIndex The index into the board sizes this tournament was created with
+     * @return The win percent of the red player as a value between 0 and 1
+     */
+    public double getRedWinPercentByMinScore(int boardSizeIndex) {
+        BoardSizeResult result = resultsPerBoardSize[boardSizeIndex];
+        long gamesPlayed = result.gamesPlayed.sum();
+        if (gamesPlayed == 0) {
+            return 0;
+        }
+        return ((double) result.redWinsByMinScore.sum()) / gamesPlayed;
+    }
+
+    public double getAverageRedScore(int boardSizeIndex) {
+        BoardSizeResult result = resultsPerBoardSize[boardSizeIndex];
+        long gamesPlayed = result.gamesPlayed.sum();
+        return (gamesPlayed == 0) ? 0 : ((double) result.totalRedScore.sum()) / gamesPlayed;
+    }
+
+    public double getAverageBlueScore(int boardSizeIndex) {
+        BoardSizeResult result = resultsPerBoardSize[boardSizeIndex];
+        long gamesPlayed = result.gamesPlayed.sum();
+        return (gamesPlayed == 0) ? 0 : ((double) result.totalBlueScore.sum()) / gamesPlayed;
+    }
+
+    /**
+     * Writes one CSV row per board size with the counts collected so far
+     *
+     * @param writer The Writer to write the CSV to, it will not be closed
+     * @throws IOException If there is an issue writing to the Writer
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write("board_size,games,red_wins,blue_wins,ties,exceptions,red_win_percent_by_min_score,"
+                     + "average_red_score,average_blue_score\n");
+        for (int i = 0; i < boardSizes.length; i++) {
+            writer.write(boardSizes[i] + "," + getGamesPlayed(i) + "," + getRedWins(i) + "," + getBlueWins(i) + ","
+                         + getTies(i) + "," + getExceptions(i) + "," + getRedWinPercentByMinScore(i) + ","
+                         + getAverageRedScore(i) + "," + getAverageBlueScore(i) + "\n");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder resultBuilder = new StringBuilder();
+        for (int i = 0; i < boardSizes.length; i++) {
+            resultBuilder.append("(Board size, win percent): (").append(boardSizes[i]).append(", ")
+                         .append(getRedWinPercentByMinScore(i)).append(")\n");
+        }
+        return resultBuilder.toString();
+    }
+
+    private static class BoardSizeResult {
+        private final LongAdder gamesPlayed = new LongAdder();
+        private final LongAdder redWins = new LongAdder();
+        private final LongAdder blueWins = new LongAdder();
+        private final LongAdder ties = new LongAdder();
+        private final LongAdder redWinsByMinScore = new LongAdder();
+        private final LongAdder exceptions = new LongAdder();
+        private final LongAdder totalRedScore = new LongAdder();
+        private final LongAdder totalBlueScore = new LongAdder();
+    }
+}
@@ -0,0 +1,264 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.game.EngineMetrics;
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.StrategyTimeBudget;
+import mineopoly_three.strategy.MinePlayerStrategy;
+import mineopoly_three.util.VirtualThreads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Plays every combination of board size and seed in a range between two strategies, spreading the games across
+ *  a work-stealing ForkJoinPool. Strategies hold state between turns, so every game gets brand new strategy
+ *  objects from the factories instead of sharing one instance between threads. Each worker thread resets and
+ *  reuses one GameEngine for all of its games.
+ * With virtual threads turned on every game gets its own virtual thread instead, which suits strategies that block
+ *  on sleeps or other processes: a blocked game gives up its core to another game rather than holding a worker.
+ *  Idle GameEngines are kept in a pool to be reset and reused by whichever game starts next
+ */
+public class TournamentRunner {
+    // Games end early once a player reaches minScoreToWin, so split all the way down to single games and let
+    //  idle workers steal whatever is left instead of handing each thread a fixed chunk
+    private static final int GAMES_PER_TASK = 1;
+
+    private final Supplier<MinePlayerStrategy> redStrategyFactory;
+    private final Supplier<MinePlayerStrategy> blueStrategyFactory;
+    private final int[] boardSizes;
+    private final long firstSeed;
+    private final int numSeeds;
+    private final int totalGames;
+    private final int parallelism;
+    private StrategyTimeBudget timeBudget;
+    private EngineMetrics metrics;
+    private boolean simultaneousTurns;
+    private int visionRadius;
+    private boolean useVirtualThreads;
+    private int maxConcurrentGames;
+
+    /**
+     * @param redStrategyFactory Creates a new red player strategy for each game
+     * @param blueStrategyFactory Creates a new blue player strategy for each game
+     * @param boardSizes Every board size to play games on
+     * @param firstSeed The first random seed to play on each board size
+     * @param numSeeds The number of consecutive seeds, starting at firstSeed, to play on each board size
+     * @param parallelism The number of worker threads to play games on
+     * @throws IllegalArgumentException If there are no board sizes or seeds, or more games than fit in an int
+     */
+    public TournamentRunner(Supplier<MinePlayerStrategy> redStrategyFactory,
+                            Supplier<MinePlayerStrategy> blueStrategyFactory,
+                            int[] boardSizes, long firstSeed, int numSeeds, int parallelism) {
+        if (numSeeds <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Number of seeds and parallelism must be positive");
+        } else if (boardSizes == null || boardSizes.length == 0) {
+            throw new IllegalArgumentException("At least one board size is needed");
+        }
+        try {
+            this.totalGames = Math.multiplyExact(boardSizes.length, numSeeds);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Too many games, " + boardSizes.length + " board sizes with "
+                                               + numSeeds + " seeds each", e);
+        }
+        this.redStrategyFactory = redStrategyFactory;
+        this.blueStrategyFactory = blueStrategyFactory;
+        this.boardSizes = boardSizes.clone();
+        this.firstSeed = firstSeed;
+        this.numSeeds = numSeeds;
+        this.parallelism = parallelism;
+        this.timeBudget = StrategyTimeBudget.UNLIMITED;
+        this.metrics = EngineMetrics.DISABLED;
+        this.visionRadius = -1;
+        this.useVirtualThreads = false;
+        this.maxConcurrentGames = parallelism;
+    }
+
+    public TournamentRunner(Supplier<MinePlayerStrategy> redStrategyFactory,
+                            Supplier<MinePlayerStrategy> blueStrategyFactory,
+                            int[] boardSizes, long firstSeed, int numSeeds) {
+        this(redStrategyFactory, blueStrategyFactory, boardSizes, firstSeed, numSeeds,
+             Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param timeBudget How long strategies may take to respond in every game of this tournament
+     */
+    public void setTimeBudget(StrategyTimeBudget timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * @param simultaneousTurns True to have both strategies choose their actions at the same time in every game,
+     *                           see GameEngine.setSimultaneousTurns()
+     */
+    public void setSimultaneousTurns(boolean simultaneousTurns) {
+        this.simultaneousTurns = simultaneousTurns;
+    }
+
+    /**
+     * @param visionRadius How many tiles away from their robot strategies can see in every game, or a negative
+     *                      number to see the whole board, see GameEngine.setVisionRadius()
+     */
+    public void setVisionRadius(int visionRadius) {
+        this.visionRadius = visionRadius;
+    }
+
+    /**
+     * Plays every game on its own virtual thread instead of on the worker threads of a ForkJoinPool, and makes the
+     *  strategy calls that need their own thread on virtual threads too. Falls back to one platform thread per game
+     *  on JVMs without virtual threads
+     *
+     * @param useVirtualThreads True to play games on virtual threads
+     * @param maxConcurrentGames The most games to play at the same time, which can be far more than the number
+     *                            of cores when strategies spend most of their time blocked
+     */
+    public void setVirtualThreads(boolean useVirtualThreads, int maxConcurrentGames) {
+        if (maxConcurrentGames <= 0) {
+            throw new IllegalArgumentException("Maximum number of concurrent games must be positive");
+        }
+        this.useVirtualThreads = useVirtualThreads;
+        this.maxConcurrentGames = maxConcurrentGames;
+    }
+
+    /**
+     * @param metrics Where to add the engine metrics of every game in this tournament
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Plays every game in this tournament and blocks until they have all finished
+     *
+     * @return The combined results of every game played
+     */
+    public TournamentResult run() {
+        TournamentResult result = new TournamentResult(boardSizes);
+
+        long startTime = System.nanoTime();
+        if (useVirtualThreads) {
+            runOnVirtualThreads(result);
+        } else {
+            ThreadLocal<GameEngine> workerEngines = new ThreadLocal<>();
+            ForkJoinPool gamePool = new ForkJoinPool(parallelism);
+            try {
+                gamePool.invoke(new GameRangeTask(result, workerEngines, 0, totalGames));
+            } finally {
+                gamePool.shutdown();
+            }
+        }
+        result.recordElapsedNanos(System.nanoTime() - startTime);
+        return result;
+    }
+
+    private void runOnVirtualThreads(TournamentResult result) {
+        Queue<GameEngine> idleEngines = new ConcurrentLinkedQueue<>();
+        Semaphore gameSlots = new Semaphore(maxConcurrentGames);
+        List<Future<?>> gameResults = new ArrayList<>(totalGames);
+        ExecutorService gameExecutor = Executors.newCachedThreadPool(VirtualThreads.newThreadFactory("Game"));
+        try {
+            for (int i = 0; i < totalGames; i++) {
+                int gameIndex = i;
+                // Wait for a running game to finish before starting another once the limit is reached
+                gameSlots.acquireUninterruptibly();
+                gameResults.add(gameExecutor.submit(() -> {
+                    try {
+                        idleEngines.offer(playGame(result, idleEngines.poll(), gameIndex));
+                    } finally {
+                        gameSlots.release();
+                    }
+                }));
+            }
+
+            for (Future<?> gameResult : gameResults) {
+                gameResult.get();
+            }
+        } catch (ExecutionException e) {
+            // Exceptions thrown by strategies are caught by the engine, so anything here is a problem with the runner
+            throw new IllegalStateException("A tournament game failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for tournament games", e);
+        } finally {
+            gameExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param gameEngine An engine that finished a previous game of this tournament to reset and reuse, or null
+     * @return The engine the game was played on, which can be passed back in for another game
+     */
+    private GameEngine playGame(TournamentResult result, GameEngine gameEngine, int gameIndex) {
+        int boardSizeIndex = gameIndex / numSeeds;
+        long seed = firstSeed + (gameIndex % numSeeds);
+
+        // Games next to each other are usually on the same board size, which reset() can reuse almost entirely
+        if (gameEngine == null) {
+            gameEngine = new GameEngine(boardSizes[boardSizeIndex], redStrategyFactory.get(),
+                                        blueStrategyFactory.get(), seed);
+            gameEngine.setTimeBudget(timeBudget);
+            gameEngine.setSimultaneousTurns(simultaneousTurns);
+            gameEngine.setVisionRadius(visionRadius);
+            gameEngine.setVirtualStrategyThreads(useVirtualThreads);
+        } else {
+            gameEngine.reset(boardSizes[boardSizeIndex], seed, redStrategyFactory.get(), blueStrategyFactory.get());
+        }
+        // Each game collects into its own metrics so worker threads don't contend on the shared histograms
+        EngineMetrics gameMetrics = metrics.isEnabled() ? new EngineMetrics(true) : EngineMetrics.DISABLED;
+        gameEngine.setMetrics(gameMetrics);
+        gameEngine.runGame();
+        metrics.merge(gameMetrics);
+
+        boolean exceptionThrown = (gameEngine.getExceptionThrown() != null);
+        result.recordGame(boardSizeIndex, gameEngine.getRedPlayerScore(), gameEngine.getBluePlayerScore(),
+                          gameEngine.getMinScoreToWin(), exceptionThrown);
+        result.recordStrategyLatencies(gameEngine.getRedPlayer().getStrategy().getName(),
+                                       gameEngine.getRedStrategyLatencies());
+        result.recordStrategyLatencies(gameEngine.getBluePlayer().getStrategy().getName(),
+                                       gameEngine.getBlueStrategyLatencies());
+        return gameEngine;
+    }
+
+    /**
+     * Plays the games with indices in [startGameIndex, endGameIndex), splitting in half until few enough are left
+     */
+    private class GameRangeTask extends RecursiveAction {
+        private final TournamentResult result;
+        private final ThreadLocal<GameEngine> workerEngines;
+        private final int startGameIndex;
+        private final int endGameIndex;
+
+        private GameRangeTask(TournamentResult result, ThreadLocal<GameEngine> workerEngines, int startGameIndex,
+                              int endGameIndex) {
+            this.result = result;
+            this.workerEngines = workerEngines;
+            this.startGameIndex = startGameIndex;
+            this.endGameIndex = endGameIndex;
+        }
+
+        @Override
+        protected void compute() {
+            int numGames = endGameIndex - startGameIndex;
+            if (numGames <= GAMES_PER_TASK) {
+                for (int gameIndex = startGameIndex; gameIndex < endGameIndex; gameIndex++) {
+                    workerEngines.set(playGame(result, workerEngines.get(), gameIndex));
+                }
+                return;
+            }
+
+            int middleGameIndex = startGameIndex + (numGames / 2);
+            invokeAll(new GameRangeTask(result, workerEngines, startGameIndex, middleGameIndex),
+                      new GameRangeTask(result, workerEngines, middleGameIndex, endGameIndex));
+        }
+    }
+}
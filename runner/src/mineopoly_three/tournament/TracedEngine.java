@@ -0,0 +1,64 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.game.GameEngine;
+import mineopoly_three.game.PackedGameEngine;
+import mineopoly_three.strategy.MinePlayerStrategy;
+
+/**
+ * An engine that a DifferentialRunner can compare against another one. It plays a game and records a GameTrace of
+ *  it, so any alternative engine implementation can be checked against the reference GameEngine
+ */
+public interface TracedEngine {
+
+    /**
+     * @return A short name for this engine to use in reports
+     */
+    String getName();
+
+    /**
+     * Plays one whole game and records the state hash after every turn
+     *
+     * @param boardSize The size of the board to play on
+     * @param seed The random seed of the game
+     * @param redStrategy A new strategy for the red player
+     * @param blueStrategy A new strategy for the blue player
+     * @return The trace of the game, even if a strategy threw something that ended it
+     */
+    GameTrace play(int boardSize, long seed, MinePlayerStrategy redStrategy, MinePlayerStrategy blueStrategy);
+
+    /**
+     * The reference GameEngine, the rules every other engine has to match
+     */
+    TracedEngine REFERENCE = new TracedEngine() {
+        @Override
+        public String getName() {
+            return "reference";
+        }
+
+        @Override
+        public GameTrace play(int boardSize, long seed, MinePlayerStrategy redStrategy,
+                              MinePlayerStrategy blueStrategy) {
+            GameEngine engine = new GameEngine(boardSize, redStrategy, blueStrategy, seed);
+            return GameTrace.record(boardSize, seed, engine.getEventBus(), engine::createSnapshot, engine::runGame,
+                                    engine::getExceptionThrown, engine.getRedPlayer(), engine.getBluePlayer());
+        }
+    };
+
+    /**
+     * The PackedGameEngine, which plays on primitive arrays instead of Tile objects
+     */
+    TracedEngine PACKED = new TracedEngine() {
+        @Override
+        public String getName() {
+            return "packed";
+        }
+
+        @Override
+        public GameTrace play(int boardSize, long seed, MinePlayerStrategy redStrategy,
+                              MinePlayerStrategy blueStrategy) {
+            PackedGameEngine engine = new PackedGameEngine(boardSize, redStrategy, blueStrategy, seed);
+            return GameTrace.record(boardSize, seed, engine.getEventBus(), engine::createSnapshot, engine::runGame,
+                                    engine::getExceptionThrown, engine.getRedPlayer(), engine.getBluePlayer());
+        }
+    };
+}
@@ -0,0 +1,30 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.strategy.MyStrategy;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class EngineDifferentialTest {
+
+    @Test
+    public void packedEngineMatchesReferenceEngine() {
+        DifferentialRunner runner = new DifferentialRunner(TracedEngine.REFERENCE, TracedEngine.PACKED,
+                                                           MyStrategy::new, RandomStrategy::new,
+                                                           new int[]{14, 26}, 0, 20, 2);
+        assertEquals(Collections.emptyList(), runner.run());
+    }
+
+    @Test
+    public void differentGamesDiverge() {
+        GameTrace trace = TracedEngine.REFERENCE.play(14, 1, new MyStrategy(), new RandomStrategy());
+        GameTrace otherTrace = TracedEngine.REFERENCE.play(14, 2, new MyStrategy(), new RandomStrategy());
+        Divergence divergence = trace.findDivergence(otherTrace);
+        assertNotNull(divergence);
+        assertEquals(0, divergence.getTurn());
+    }
+}
@@ -0,0 +1,76 @@
+package mineopoly_three.tournament;
+
+import mineopoly_three.strategy.MyStrategy;
+import mineopoly_three.strategy.RandomStrategy;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TournamentRunnerTest {
+    private static final int[] BOARD_SIZES = {14, 20};
+    private static final int NUM_SEEDS = 3;
+    private static final int PARALLELISM = 2;
+
+    private static TournamentRunner createTournament(boolean useVirtualThreads) {
+        TournamentRunner runner = new TournamentRunner(MyStrategy::new, RandomStrategy::new, BOARD_SIZES, 0,
+                                                       NUM_SEEDS, PARALLELISM);
+        runner.setVirtualThreads(useVirtualThreads, PARALLELISM);
+        return runner;
+    }
+
+    private static void assertEveryGamePlayed(TournamentResult result) {
+        assertEquals(BOARD_SIZES.length * NUM_SEEDS, result.getTotalGamesPlayed());
+        for (int i = 0; i < BOARD_SIZES.length; i++) {
+            assertEquals(NUM_SEEDS, result.getGamesPlayed(i));
+            assertEquals(NUM_SEEDS, result.getRedWins(i) + result.getBlueWins(i) + result.getTies(i));
+            assertEquals(0, result.getExceptions(i));
+        }
+    }
+
+    private static void assertSameResults(TournamentResult expected, TournamentResult actual) {
+        for (int i = 0; i < BOARD_SIZES.length; i++) {
+            assertEquals(expected.getRedWins(i), actual.getRedWins(i));
+            assertEquals(expected.getBlueWins(i), actual.getBlueWins(i));
+            assertEquals(expected.getTies(i), actual.getTies(i));
+            assertEquals(expected.getRedWinPercentByMinScore(i), actual.getRedWinPercentByMinScore(i), 0);
+            assertEquals(expected.getAverageRedScore(i), actual.getAverageRedScore(i), 0);
+            assertEquals(expected.getAverageBlueScore(i), actual.getAverageBlueScore(i), 0);
+        }
+    }
+
+    @Test
+    public void tournamentsPlayEveryGameTheSameWay() {
+        TournamentResult result = createTournament(false).run();
+        assertEveryGamePlayed(result);
+        assertSameResults(result, createTournament(false).run());
+    }
+
+    @Test
+    public void virtualThreadTournamentsPlayEveryGameTheSameWay() {
+        TournamentResult result = createTournament(true).run();
+        assertEveryGamePlayed(result);
+        assertSameResults(result, createTournament(true).run());
+        // Where the games were played doesn't change how they went
+        assertSameResults(createTournament(false).run(), result);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSeedsAreRejected() {
+        new TournamentRunner(MyStrategy::new, RandomStrategy::new, new int[]{14}, 0, 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingBoardSizesAreRejected() {
+        new TournamentRunner(MyStrategy::new, RandomStrategy::new, null, 0, 10, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noBoardSizesAreRejected() {
+        new TournamentRunner(MyStrategy::new, RandomStrategy::new, new int[0], 0, 10, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void moreGamesThanFitInAnIntAreRejected() {
+        new TournamentRunner(MyStrategy::new, RandomStrategy::new, new int[]{14, 20, 26}, 0, Integer.MAX_VALUE, 1);
+    }
+}